@@ -19,24 +19,43 @@ package com.solace.ep.asyncapi.accessor.v2;
 
 import java.util.Map;
 import java.util.StringTokenizer;
+import java.util.concurrent.ConcurrentHashMap;
 
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLParser;
 import com.google.gson.Gson;
 import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import com.google.gson.JsonSyntaxException;
 
+import org.yaml.snakeyaml.LoaderOptions;
+
 import lombok.extern.slf4j.Slf4j;
 
 /**
  * Class to read content of asyncapi document parsed using Gson
  * to a JsonObject
+ * 
+ * Message, channel, and schema views returned by the accessor refer to the parsed
+ * document in place and share this accessor to resolve references; none of them
+ * copy or modify the document.
+ * 
+ * References are resolved once per document: repeated $ref values return the same
+ * resolved object, message view, and serialized schema.
  */
 @Slf4j
 public class AsyncApiAccessor {
+
+    private static final Gson GSON = new Gson();
+
+    // The spec is already held in memory as a String, or is streamed from a file,
+    // so the default SnakeYAML document size limit (3 MB) would only reject large specs
+    static final YAMLFactory YAML_FACTORY = YAMLFactory.builder()
+        .loaderOptions(yamlLoaderOptions())
+        .build();
     
     protected JsonObject root;
 
@@ -48,6 +67,15 @@ public class AsyncApiAccessor {
 
     protected Map<String, JsonElement> channels;
 
+    // Resolution caches keyed by $ref path, e.g. '#/components/messages/OrderCreated'
+    private final Map<String, JsonObject> resolvedReferences = new ConcurrentHashMap<>();
+
+    private final Map<String, AsyncApiMessage> messageViews = new ConcurrentHashMap<>();
+
+    private final Map<String, String> schemaStrings = new ConcurrentHashMap<>();
+
+    private final Map<String, String> payloadStrings = new ConcurrentHashMap<>();
+
     public AsyncApiAccessor( JsonObject asyncApiRoot ) throws IllegalArgumentException {
         if (asyncApiRoot == null) {
             throw new IllegalArgumentException( "AsyncApi input cannot be null" );
@@ -61,25 +89,21 @@ public class AsyncApiAccessor {
 
     public static JsonObject parseAsyncApi( String asyncApi ) throws Exception {
 
-        try {
-            JsonElement jsonElement = JsonParser.parseString(asyncApi);
-            if ( jsonElement != null && jsonElement.isJsonObject() ) {
-                return jsonElement.getAsJsonObject();
+        if ( isJsonContent(asyncApi) ) {
+            try {
+                JsonElement jsonElement = JsonParser.parseString(asyncApi);
+                if ( jsonElement != null && jsonElement.isJsonObject() ) {
+                    return jsonElement.getAsJsonObject();
+                }
+            } catch ( JsonSyntaxException jsexc ) {
+                log.debug( "Failed to parse AsyncApi as JSON; re-trying as YAML" );
+            } catch ( Exception exc ) {
+                log.warn( "Caught exception parsing AsyncApi: {}", exc.getMessage() );
             }
-        } catch ( JsonSyntaxException jsexc ) {
-            log.debug( "Failed to parse AsyncApi as JSON; re-trying as YAML" );
-        } catch ( Exception exc ) {
-            log.warn( "Caught exception parsing AsyncApi: {}", exc.getMessage() );
         }
 
         try {
-            ObjectMapper yamlReader = new ObjectMapper( new YAMLFactory() );
-            Object parsedYamlObj = yamlReader.readValue(asyncApi, Object.class);
-
-            ObjectMapper jsonWriter = new ObjectMapper();
-            String jsonAsyncApi = jsonWriter.writeValueAsString(parsedYamlObj);
-
-            JsonElement jsonElement = JsonParser.parseString(jsonAsyncApi);
+            JsonElement jsonElement = parseYaml(asyncApi);
             if ( jsonElement != null && jsonElement.isJsonObject() ) {
                 return jsonElement.getAsJsonObject();
             }
@@ -97,6 +121,45 @@ public class AsyncApiAccessor {
         return null;
     }
 
+    private static LoaderOptions yamlLoaderOptions() {
+        final LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(Integer.MAX_VALUE);
+        return loaderOptions;
+    }
+
+    /**
+     * Check the first character of the input to decide which parser to try first.
+     * JSON documents start with '{', '[' or a comment; anything else is parsed as YAML.
+     * @param asyncApi
+     * @return
+     */
+    private static boolean isJsonContent( String asyncApi ) {
+        for (int i = 0; i < asyncApi.length(); i++) {
+            final char c = asyncApi.charAt(i);
+            if (Character.isWhitespace(c) || c == '\uFEFF') {
+                continue;
+            }
+            return c == '{' || c == '[' || c == '/';
+        }
+        return false;
+    }
+
+    /**
+     * Build a Gson tree directly from the YAML parser events in a single pass,
+     * without converting the document to JSON text first
+     * @param asyncApi
+     * @return
+     * @throws Exception
+     */
+    private static JsonElement parseYaml( String asyncApi ) throws Exception {
+        try (YAMLParser parser = YAML_FACTORY.createParser(asyncApi)) {
+            if (parser.nextToken() == null) {
+                throw new JsonParseException(parser, "No content to map due to end-of-input");
+            }
+            return AsyncApiStreamReader.readTreeValue(parser);
+        }
+    }
+
     public AsyncApiInfo getInfo() throws Exception {
         if (info == null) {
             info = new AsyncApiInfo( getFieldAsReference(AsyncApiFieldConstants.API_INFO) );
@@ -117,6 +180,11 @@ public class AsyncApiAccessor {
 
     private JsonObject getFieldAsReference( String referencePath ) throws Exception {
 
+        final JsonObject resolved = resolvedReferences.get(referencePath);
+        if (resolved != null) {
+            return resolved;
+        }
+
         JsonObject node = root;
         StringTokenizer t = new StringTokenizer(referencePath, "/");
 
@@ -137,30 +205,69 @@ public class AsyncApiAccessor {
             }
             node = node.getAsJsonObject( s );
         }
+        if (node != null) {
+            resolvedReferences.put(referencePath, node);
+        }
         return node;
     }
 
     public AsyncApiMessage getMessageAsReference( String referencePath ) throws Exception {
+        final AsyncApiMessage cachedMessage = messageViews.get(referencePath);
+        if (cachedMessage != null) {
+            return cachedMessage;
+        }
         JsonObject messageObject = getFieldAsReference(referencePath);
         final String messageName = AsyncApiUtils.getLastElementFromRefString(referencePath);
 
-        return new AsyncApiMessage(messageObject, new AsyncApiAccessor(root.deepCopy()), messageName);
+        return internMessage(referencePath, new AsyncApiMessage(messageObject, this, messageName));
     }
 
     public AsyncApiMessage getMessageByName( String messageName ) throws Exception {
+        final String referencePath = AsyncApiFieldConstants.API_MESSAGES + "/" + messageName;
+        final AsyncApiMessage cachedMessage = messageViews.get(referencePath);
+        if (cachedMessage != null) {
+            return cachedMessage;
+        }
         JsonElement messageElement = getMessages().get(messageName);
         if ( !messageElement.isJsonObject() ) {
             throw new Exception( String.format("Element components.messages.[%s] is invalid", messageName) );
         }
         JsonObject messageObject = messageElement.getAsJsonObject();
-        return new AsyncApiMessage(messageObject, new AsyncApiAccessor(root.deepCopy()), messageName);
+        return internMessage(referencePath, new AsyncApiMessage(messageObject, this, messageName));
+    }
+
+    private AsyncApiMessage internMessage( final String referencePath, final AsyncApiMessage message ) {
+        final AsyncApiMessage existing = messageViews.putIfAbsent(referencePath, message);
+        return existing != null ? existing : message;
     }
 
     public String getSchemaByReference( String referencePath ) throws Exception {
+        final String cachedSchema = schemaStrings.get(referencePath);
+        if (cachedSchema != null) {
+            return cachedSchema;
+        }
         JsonObject schemaObject = getFieldAsReference(referencePath);
 
-        Gson gson = new Gson();
-        return gson.toJson(schemaObject);
+        final String schema = GSON.toJson(schemaObject);
+        schemaStrings.put(referencePath, schema);
+        return schema;
+    }
+
+    /**
+     * Retrieves a schema used as a message payload. Definitions within the schema
+     * are made relative to the schema instead of the asyncapi.
+     * @param referencePath
+     * @return
+     * @throws Exception
+     */
+    public String getPayloadSchemaByReference( String referencePath ) throws Exception {
+        final String cachedPayload = payloadStrings.get(referencePath);
+        if (cachedPayload != null) {
+            return cachedPayload;
+        }
+        final String payload = AsyncApiUtils.refactorJsonSchemaDefinitions(getSchemaByReference(referencePath), referencePath);
+        payloadStrings.put(referencePath, payload);
+        return payload;
     }
 
     /**
@@ -181,10 +288,16 @@ public class AsyncApiAccessor {
         if ( !schemaElement.isJsonObject() ) {
             throw new Exception( String.format("Element components.schemas.[%s] is invalid", schemaName) );
         }
+        final String referencePath = AsyncApiFieldConstants.API_SCHEMAS + "/" + schemaName;
+        final String cachedSchema = schemaStrings.get(referencePath);
+        if (cachedSchema != null) {
+            return cachedSchema;
+        }
         JsonObject schemaObject = schemaElement.getAsJsonObject();
 
-        Gson gson = new Gson();
-        return gson.toJson(schemaObject);
+        final String schema = GSON.toJson(schemaObject);
+        schemaStrings.put(referencePath, schema);
+        return schema;
     }
 
     public Map<String, JsonElement> getSchemas() throws Exception {
@@ -139,6 +139,16 @@ public class AsyncApiChannel {
         }
     }
 
+    /**
+     * Get the messages of the publish or subscribe operation of the channel.
+     * A message given as oneOf returns one AsyncApiMessage per entry: entries with $ref resolve
+     * to the referenced message, inline entries are named by their "name" field or DefaultMessageName.
+     * Up to version 1.1.1 a oneOf returned a single DefaultMessageName message, so the importer
+     * mapped each oneOf channel to one event; it now maps one event per message of the oneOf.
+     * @param operationType - AsyncApiFieldConstants.OP_PUBLISH or OP_SUBSCRIBE
+     * @return Messages of the operation; empty if the channel has no such operation or message
+     * @throws Exception
+     */
     public List<AsyncApiMessage> getOpMessages( String operationType ) throws Exception {
         if ( operationType != AsyncApiFieldConstants.OP_PUBLISH && operationType != AsyncApiFieldConstants.OP_SUBSCRIBE ) {
             return null;
@@ -169,8 +179,12 @@ public class AsyncApiChannel {
                         msgList.add( this.asyncApi.getMessageAsReference( refElement.getAsString() ) );
                     }
                 // throw new Exception( "$ref element for message is not property formatted" );
+                } else {
+                    final AsyncApiMessage inlineMessage = new AsyncApiMessage(m, asyncApi, null);
+                    msgList.add( inlineMessage.getMessageName() != null ? inlineMessage : new AsyncApiMessage(m, asyncApi, "DefaultMessageName") );
                 }
             }
+            return msgList;
         }
         // Not sure we can ever get here with a proper AsyncApi 
         return Collections.singletonList( new AsyncApiMessage(message, asyncApi, "DefaultMessageName") );
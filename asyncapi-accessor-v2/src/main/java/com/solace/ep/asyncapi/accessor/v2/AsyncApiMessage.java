@@ -28,6 +28,8 @@ import com.google.gson.JsonObject;
  * parsed as Gson 'JsonObject'
  */
 public class AsyncApiMessage {
+
+    private static final Gson GSON = new Gson();
     
     private JsonObject asyncApiMessage;
 
@@ -35,6 +37,9 @@ public class AsyncApiMessage {
 
     private String messageName;
 
+    // Serialized payload; messages are shared by every channel that references them
+    private String payloadAsString;
+
     /**
      * Public constructor - requires the message object as JsonObject and 
      * AsyncApiAccessor of the root document to extract references
@@ -172,35 +177,45 @@ public class AsyncApiMessage {
 
     /**
      * Get the contents of the message payload schema as a String
-     * This method will resolve message payloads defined as a reference '$ref' element
+     * This method will resolve message payloads defined as a reference '$ref' element.
+     * A payload defined as a string (e.g. a non-JSON schema) is returned as is.
      * @return
      * @throws Exception
      */
     public String getPayloadAsString() throws Exception {
-        JsonObject payload = asyncApiMessage.getAsJsonObject( AsyncApiFieldConstants.API_PAYLOAD );
-        if ( payload == null ) {
+        if ( payloadAsString != null ) {
+            return payloadAsString;
+        }
+        JsonElement payloadElement = asyncApiMessage.get( AsyncApiFieldConstants.API_PAYLOAD );
+        if ( payloadElement == null || payloadElement.isJsonNull() ) {
             return null;
         }
+        if ( payloadElement.isJsonPrimitive() ) {
+            payloadAsString = payloadElement.getAsString();
+            return payloadAsString;
+        }
+        JsonObject payload = payloadElement.getAsJsonObject();
         if ( payload.has(AsyncApiFieldConstants.API_$REF) ) {
             JsonElement refElement = payload.get( AsyncApiFieldConstants.API_$REF );
             if ( refElement.isJsonPrimitive() ) {
-                String schemaString = this.asyncApi.getSchemaByReference( refElement.getAsString() );
-                // Following line makes schema definitions relative to schema instead of AsyncApi
-                return AsyncApiUtils.refactorJsonSchemaDefinitions(schemaString, refElement.getAsString());
+                // Schema definitions are made relative to schema instead of AsyncApi
+                payloadAsString = this.asyncApi.getPayloadSchemaByReference( refElement.getAsString() );
+                return payloadAsString;
             } else {
                 throw new Exception( "$ref element for message is not property formatted" );
             }
         }
 
-        Gson gson = new Gson();
-        return gson.toJson(payload);
+        payloadAsString = GSON.toJson(payload);
+        return payloadAsString;
     }
 
     public String getPayloadRef() {
-        JsonObject payload = asyncApiMessage.getAsJsonObject( AsyncApiFieldConstants.API_PAYLOAD );
-        if ( payload == null ) {
+        JsonElement payloadElement = asyncApiMessage.get( AsyncApiFieldConstants.API_PAYLOAD );
+        if ( payloadElement == null || !payloadElement.isJsonObject() ) {
             return null;
         }
+        JsonObject payload = payloadElement.getAsJsonObject();
         if ( payload.has(AsyncApiFieldConstants.API_$REF) ) {
             JsonElement refElement = payload.get( AsyncApiFieldConstants.API_$REF );
             if ( refElement.isJsonPrimitive() ) {
@@ -0,0 +1,267 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.accessor.v2;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Base64;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.dataformat.yaml.YAMLParser;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
+import com.google.gson.stream.JsonReader;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Class to read an AsyncApi document from a file without holding the whole
+ * document in memory. The file is read twice:
+ * - readAccessor() parses everything except the 'channels' object, so that
+ *   components referenced by channels can be resolved
+ * - forEachChannel() streams the 'channels' object and parses one channel at a time
+ * Heap use is bounded by the document without its channels plus the largest channel.
+ * JSON and YAML files are supported.
+ */
+@Slf4j
+public class AsyncApiStreamReader {
+
+    private static final String CHANNELS = "channels";
+
+    private final Path asyncApiFile;
+
+    /**
+     * Callback for each channel read from the document
+     */
+    @FunctionalInterface
+    public interface ChannelVisitor {
+        void visitChannel( String channelName, JsonObject channel ) throws Exception;
+    }
+
+    public AsyncApiStreamReader( final Path asyncApiFile ) {
+        if (asyncApiFile == null) {
+            throw new IllegalArgumentException( "AsyncApi file cannot be null" );
+        }
+        this.asyncApiFile = asyncApiFile;
+    }
+
+    /**
+     * Parse the document without the content of 'channels'. The 'channels' field
+     * is present in the returned accessor as an empty object.
+     * @return Accessor for the document without channels
+     * @throws Exception
+     */
+    public AsyncApiAccessor readAccessor() throws Exception {
+        try (BufferedReader reader = openReader()) {
+            final JsonObject root = isJsonContent(reader) ? readRootJson(reader) : readRootYaml(reader);
+            return new AsyncApiAccessor(root);
+        } catch ( IOException ioexc ) {
+            log.error( "Failed to read AsyncApi file [{}]: {}", asyncApiFile, ioexc.getMessage() );
+            throw ioexc;
+        }
+    }
+
+    /**
+     * Read the 'channels' object of the document one channel at a time,
+     * in document order. Each channel can be discarded once visited.
+     * @param visitor
+     * @return Number of channels visited
+     * @throws Exception
+     */
+    public int forEachChannel( final ChannelVisitor visitor ) throws Exception {
+        try (BufferedReader reader = openReader()) {
+            return isJsonContent(reader) ? forEachChannelJson(reader, visitor) : forEachChannelYaml(reader, visitor);
+        } catch ( IOException ioexc ) {
+            log.error( "Failed to read AsyncApi file [{}]: {}", asyncApiFile, ioexc.getMessage() );
+            throw ioexc;
+        }
+    }
+
+    private BufferedReader openReader() throws IOException {
+        return Files.newBufferedReader(asyncApiFile, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Skip leading white space and check the first character of the document.
+     * JSON documents start with '{' or a comment; anything else is parsed as YAML.
+     */
+    private static boolean isJsonContent( final BufferedReader reader ) throws IOException {
+        reader.mark(1);
+        int c = reader.read();
+        while (c != -1 && (Character.isWhitespace(c) || c == '\uFEFF')) {
+            reader.mark(1);
+            c = reader.read();
+        }
+        reader.reset();
+        return c == '{' || c == '/';
+    }
+
+    // JSON is read with Gson so that the tree is identical to AsyncApiAccessor.parseAsyncApi()
+
+    private static JsonObject readRootJson( final BufferedReader reader ) throws IOException {
+        final JsonReader jsonReader = new JsonReader(reader);
+        jsonReader.setLenient(true);
+        final JsonObject root = new JsonObject();
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            final String fieldName = jsonReader.nextName();
+            if (fieldName.equals(CHANNELS)) {
+                jsonReader.skipValue();
+                root.add(fieldName, new JsonObject());
+            } else {
+                root.add(fieldName, JsonParser.parseReader(jsonReader));
+            }
+        }
+        jsonReader.endObject();
+        return root;
+    }
+
+    private static int forEachChannelJson( final BufferedReader reader, final ChannelVisitor visitor ) throws Exception {
+        final JsonReader jsonReader = new JsonReader(reader);
+        jsonReader.setLenient(true);
+        int channelCount = 0;
+        jsonReader.beginObject();
+        while (jsonReader.hasNext()) {
+            final String fieldName = jsonReader.nextName();
+            if (!fieldName.equals(CHANNELS) || jsonReader.peek() != com.google.gson.stream.JsonToken.BEGIN_OBJECT) {
+                jsonReader.skipValue();
+                continue;
+            }
+            jsonReader.beginObject();
+            while (jsonReader.hasNext()) {
+                final String channelName = jsonReader.nextName();
+                visitChannel(visitor, channelName, JsonParser.parseReader(jsonReader));
+                channelCount++;
+            }
+            jsonReader.endObject();
+        }
+        return channelCount;
+    }
+
+    private static JsonObject readRootYaml( final BufferedReader reader ) throws IOException {
+        try (YAMLParser parser = openYamlParser(reader)) {
+            final JsonObject root = new JsonObject();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                parser.nextToken();
+                if (fieldName.equals(CHANNELS)) {
+                    parser.skipChildren();
+                    root.add(fieldName, new JsonObject());
+                } else {
+                    root.add(fieldName, readTreeValue(parser));
+                }
+            }
+            return root;
+        }
+    }
+
+    private static int forEachChannelYaml( final BufferedReader reader, final ChannelVisitor visitor ) throws Exception {
+        int channelCount = 0;
+        try (YAMLParser parser = openYamlParser(reader)) {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                final String fieldName = parser.currentName();
+                if (parser.nextToken() != JsonToken.START_OBJECT ||
+                        !fieldName.equals(CHANNELS)) {
+                    parser.skipChildren();
+                    continue;
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String channelName = parser.currentName();
+                    parser.nextToken();
+                    visitChannel(visitor, channelName, readTreeValue(parser));
+                    channelCount++;
+                }
+            }
+        }
+        return channelCount;
+    }
+
+    private static YAMLParser openYamlParser( final BufferedReader reader ) throws IOException {
+        final YAMLParser parser = AsyncApiAccessor.YAML_FACTORY.createParser(reader);
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            parser.close();
+            throw new JsonParseException(parser, "AsyncApi document is not an object");
+        }
+        return parser;
+    }
+
+    private static void visitChannel(
+        final ChannelVisitor visitor,
+        final String channelName,
+        final JsonElement channel
+    ) throws Exception
+    {
+        if (!channel.isJsonObject()) {
+            throw new Exception( String.format("Channel [%s] content is invalid", channelName) );
+        }
+        visitor.visitChannel(channelName, channel.getAsJsonObject());
+    }
+
+    /**
+     * Build a Gson tree for the value at the current token of a YAML parser.
+     * The parser is left on the last token of the value.
+     * @param parser
+     * @return
+     * @throws IOException
+     */
+    static JsonElement readTreeValue( YAMLParser parser ) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                final JsonObject object = new JsonObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String fieldName = parser.currentName();
+                    parser.nextToken();
+                    object.add(fieldName, readTreeValue(parser));
+                }
+                return object;
+            case START_ARRAY:
+                final JsonArray array = new JsonArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    array.add(readTreeValue(parser));
+                }
+                return array;
+            case VALUE_STRING:
+                return new JsonPrimitive(parser.getText());
+            case VALUE_NUMBER_INT:
+                return new JsonPrimitive(parser.getNumberValue());
+            case VALUE_NUMBER_FLOAT:
+                return new JsonPrimitive(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return new JsonPrimitive(true);
+            case VALUE_FALSE:
+                return new JsonPrimitive(false);
+            case VALUE_NULL:
+                return JsonNull.INSTANCE;
+            case VALUE_EMBEDDED_OBJECT:
+                final Object embedded = parser.getEmbeddedObject();
+                if (embedded instanceof byte[]) {
+                    return new JsonPrimitive(Base64.getEncoder().encodeToString((byte[]) embedded));
+                }
+                return embedded == null ? JsonNull.INSTANCE : new JsonPrimitive(embedded.toString());
+            default:
+                throw new JsonParseException(parser, "Unexpected token in AsyncApi content: " + parser.currentToken());
+        }
+    }
+}
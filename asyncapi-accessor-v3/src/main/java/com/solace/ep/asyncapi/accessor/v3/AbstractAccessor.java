@@ -34,14 +34,28 @@ public abstract class AbstractAccessor {
     // e.g. info, channel, message object, etc.
     protected JsonObject leafSpec;
 
+    // References resolved in rootSpec; shared with views created from this object
+    protected final ReferenceCache referenceCache;
+
     /**
      * Use this constructor for any lower levels than root
      * rootSpec - The entire AsyncApi specification
      * leafSpec - Child Json object of interest
      */
     protected AbstractAccessor( final JsonObject rootSpec, final JsonObject leafSpec ) {
+        this(rootSpec, leafSpec, new ReferenceCache());
+    }
+
+    /**
+     * Use this constructor for views created by another accessor of the same spec
+     * rootSpec - The entire AsyncApi specification
+     * leafSpec - Child Json object of interest
+     * referenceCache - Cache of the accessor creating the view
+     */
+    AbstractAccessor( final JsonObject rootSpec, final JsonObject leafSpec, final ReferenceCache referenceCache ) {
         this.rootSpec = rootSpec;
         this.leafSpec = leafSpec;
+        this.referenceCache = referenceCache;
     }
 
     /**
@@ -52,8 +66,7 @@ public abstract class AbstractAccessor {
      * @param rootAndLeafSpec
      */
     protected AbstractAccessor( final JsonObject rootAndLeafSpec ) {
-        this.rootSpec = rootAndLeafSpec;
-        this.leafSpec = rootAndLeafSpec;
+        this(rootAndLeafSpec, rootAndLeafSpec, new ReferenceCache());
     }
 
     /**
@@ -79,12 +92,21 @@ public abstract class AbstractAccessor {
      * Return a referenced field as JsonObject
      * Reference path form: #/path/to/field - Reference will be resolved from AsyncApi root
      * Reference path form: path/to/field - Reference will be resolved at current object level
+     * References from the root are resolved once per spec
      * @param referencePath
      * @return
      * @throws Exception
      */
     public JsonObject getObjectFieldByReference( final String referencePath ) throws Exception {
 
+        final boolean fromRoot = referencePath.startsWith("#");
+        if (fromRoot) {
+            final JsonObject resolved = referenceCache.resolvedObjects.get(referencePath);
+            if (resolved != null) {
+                return resolved;
+            }
+        }
+
         JsonObject node = null;
         final StringTokenizer t = new StringTokenizer(referencePath, "/");
 
@@ -92,13 +114,13 @@ public abstract class AbstractAccessor {
         while ( t.hasMoreTokens() ) {
             String s = t.nextToken();
             if (firstToken) {
+                firstToken = false;
                 if ( s.contentEquals("#")) {
                     node = this.rootSpec;
                     continue;
                 } else {
                     node = this.leafSpec;
                 }
-                firstToken = false;
             }
             if ( !node.has(s) ) {
                 throw new Exception(String.format(
@@ -108,6 +130,9 @@ public abstract class AbstractAccessor {
             }
             node = node.getAsJsonObject( s );
         }
+        if (fromRoot && node != null) {
+            referenceCache.resolvedObjects.put(referencePath, node);
+        }
         return node;
     }
 
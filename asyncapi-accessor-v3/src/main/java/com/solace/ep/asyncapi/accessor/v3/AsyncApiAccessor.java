@@ -17,21 +17,36 @@
 
 package com.solace.ep.asyncapi.accessor.v3;
 
+import java.io.IOException;
+import java.util.Base64;
 import java.util.HashMap;
 import java.util.Map;
 
+import com.fasterxml.jackson.core.JsonParseException;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.core.JsonToken;
 import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.fasterxml.jackson.dataformat.yaml.YAMLParser;
+import com.google.gson.JsonArray;
 import com.google.gson.JsonElement;
+import com.google.gson.JsonNull;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
+import com.google.gson.JsonPrimitive;
 import com.google.gson.JsonSyntaxException;
 
+import org.yaml.snakeyaml.LoaderOptions;
+
 import lombok.extern.slf4j.Slf4j;
 
 @Slf4j
 public class AsyncApiAccessor extends AbstractAccessor {
+
+    // The spec is already held in memory as a String, so the default SnakeYAML
+    // document size limit (3 MB) would only reject large specs
+    private static final YAMLFactory YAML_FACTORY = YAMLFactory.builder()
+        .loaderOptions(yamlLoaderOptions())
+        .build();
     
     private Map<String, AsyncApiOperation> operationsMap = null;
 
@@ -102,25 +117,21 @@ public class AsyncApiAccessor extends AbstractAccessor {
      */
     public static JsonObject parseAsyncApi( String asyncApi ) throws Exception {
 
-        try {
-            JsonElement jsonElement = JsonParser.parseString(asyncApi);
-            if ( jsonElement != null && jsonElement.isJsonObject() ) {
-                return jsonElement.getAsJsonObject();
+        if ( isJsonContent(asyncApi) ) {
+            try {
+                JsonElement jsonElement = JsonParser.parseString(asyncApi);
+                if ( jsonElement != null && jsonElement.isJsonObject() ) {
+                    return jsonElement.getAsJsonObject();
+                }
+            } catch ( JsonSyntaxException jsexc ) {
+                log.debug( "Failed to parse AsyncApi as JSON; re-trying as YAML" );
+            } catch ( Exception exc ) {
+                log.warn( "Caught exception parsing AsyncApi: {}", exc.getMessage() );
             }
-        } catch ( JsonSyntaxException jsexc ) {
-            log.debug( "Failed to parse AsyncApi as JSON; re-trying as YAML" );
-        } catch ( Exception exc ) {
-            log.warn( "Caught exception parsing AsyncApi: {}", exc.getMessage() );
         }
 
         try {
-            ObjectMapper yamlReader = new ObjectMapper( new YAMLFactory() );
-            Object parsedYamlObj = yamlReader.readValue(asyncApi, Object.class);
-
-            ObjectMapper jsonWriter = new ObjectMapper();
-            String jsonAsyncApi = jsonWriter.writeValueAsString(parsedYamlObj);
-
-            JsonElement jsonElement = JsonParser.parseString(jsonAsyncApi);
+            JsonElement jsonElement = parseYaml(asyncApi);
             if ( jsonElement != null && jsonElement.isJsonObject() ) {
                 return jsonElement.getAsJsonObject();
             }
@@ -137,6 +148,84 @@ public class AsyncApiAccessor extends AbstractAccessor {
         return null;
     }
 
+    private static LoaderOptions yamlLoaderOptions() {
+        final LoaderOptions loaderOptions = new LoaderOptions();
+        loaderOptions.setCodePointLimit(Integer.MAX_VALUE);
+        return loaderOptions;
+    }
+
+    /**
+     * Check the first character of the input to decide which parser to try first.
+     * JSON documents start with '{', '[' or a comment; anything else is parsed as YAML.
+     * @param asyncApi
+     * @return
+     */
+    private static boolean isJsonContent( String asyncApi ) {
+        for (int i = 0; i < asyncApi.length(); i++) {
+            final char c = asyncApi.charAt(i);
+            if (Character.isWhitespace(c) || c == '\uFEFF') {
+                continue;
+            }
+            return c == '{' || c == '[' || c == '/';
+        }
+        return false;
+    }
+
+    /**
+     * Build a Gson tree directly from the YAML parser events in a single pass,
+     * without converting the document to JSON text first
+     * @param asyncApi
+     * @return
+     * @throws Exception
+     */
+    private static JsonElement parseYaml( String asyncApi ) throws Exception {
+        try (YAMLParser parser = YAML_FACTORY.createParser(asyncApi)) {
+            if (parser.nextToken() == null) {
+                throw new JsonParseException(parser, "No content to map due to end-of-input");
+            }
+            return readYamlValue(parser);
+        }
+    }
+
+    private static JsonElement readYamlValue( YAMLParser parser ) throws IOException {
+        switch (parser.currentToken()) {
+            case START_OBJECT:
+                final JsonObject object = new JsonObject();
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    final String fieldName = parser.currentName();
+                    parser.nextToken();
+                    object.add(fieldName, readYamlValue(parser));
+                }
+                return object;
+            case START_ARRAY:
+                final JsonArray array = new JsonArray();
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    array.add(readYamlValue(parser));
+                }
+                return array;
+            case VALUE_STRING:
+                return new JsonPrimitive(parser.getText());
+            case VALUE_NUMBER_INT:
+                return new JsonPrimitive(parser.getNumberValue());
+            case VALUE_NUMBER_FLOAT:
+                return new JsonPrimitive(parser.getDoubleValue());
+            case VALUE_TRUE:
+                return new JsonPrimitive(true);
+            case VALUE_FALSE:
+                return new JsonPrimitive(false);
+            case VALUE_NULL:
+                return JsonNull.INSTANCE;
+            case VALUE_EMBEDDED_OBJECT:
+                final Object embedded = parser.getEmbeddedObject();
+                if (embedded instanceof byte[]) {
+                    return new JsonPrimitive(Base64.getEncoder().encodeToString((byte[]) embedded));
+                }
+                return embedded == null ? JsonNull.INSTANCE : new JsonPrimitive(embedded.toString());
+            default:
+                throw new JsonParseException(parser, "Unexpected token in YAML content: " + parser.currentToken());
+        }
+    }
+
     /**
      * Get Operations from AsyncApi
      * @return Map of Operation IDs --> Operations
@@ -152,7 +241,7 @@ public class AsyncApiAccessor extends AbstractAccessor {
         final Map<String, JsonElement> mapOfOpsJsonObjects = operations.asMap();
         for ( Map.Entry<String, JsonElement> entry : mapOfOpsJsonObjects.entrySet() ) {
             final String opName = entry.getKey();
-            final AsyncApiOperation op = new AsyncApiOperation(opName, this.rootSpec, entry.getValue().getAsJsonObject());
+            final AsyncApiOperation op = new AsyncApiOperation(opName, this.rootSpec, entry.getValue().getAsJsonObject(), this.referenceCache);
             ops.put(opName, op);
         }
         this.operationsMap = ops;
@@ -174,7 +263,9 @@ public class AsyncApiAccessor extends AbstractAccessor {
         final Map<String, JsonElement> mapOfChsJsonObjects = channels.asMap();
         for ( Map.Entry<String, JsonElement> entry : mapOfChsJsonObjects.entrySet() ) {
             final String chName = entry.getKey();
-            final AsyncApiChannel channel = new AsyncApiChannel(chName, this.rootSpec, entry.getValue().getAsJsonObject());
+            final AsyncApiChannel channel = referenceCache.intern(
+                AsyncApiFieldConstants.API_CHANNELS + "/" + chName,
+                new AsyncApiChannel(chName, this.rootSpec, entry.getValue().getAsJsonObject(), this.referenceCache));
             chs.put(chName, channel);
         }
         this.channelsMap = chs;
@@ -196,7 +287,9 @@ public class AsyncApiAccessor extends AbstractAccessor {
         final Map<String, JsonElement> mapOfSchsJsonObjects = schemas.asMap();
         for ( Map.Entry<String, JsonElement> entry : mapOfSchsJsonObjects.entrySet() ) {
             final String schemaName = entry.getKey();
-            final AsyncApiSchema schema = new AsyncApiSchema(schemaName, this.rootSpec, entry.getValue().getAsJsonObject());
+            final AsyncApiSchema schema = referenceCache.intern(
+                AsyncApiFieldConstants.API_SCHEMAS + "/" + schemaName,
+                new AsyncApiSchema(schemaName, this.rootSpec, entry.getValue().getAsJsonObject(), this.referenceCache));
             schs.put(schemaName, schema);
         }
         this.schemasMap = schs;
@@ -218,7 +311,9 @@ public class AsyncApiAccessor extends AbstractAccessor {
         final Map<String, JsonElement> mapOfMessageJsonObjects = messages.asMap();
         for ( Map.Entry<String, JsonElement> entry : mapOfMessageJsonObjects.entrySet() ) {
             final String messageName = entry.getKey();
-            final AsyncApiMessage message = new AsyncApiMessage(messageName, this.rootSpec, entry.getValue().getAsJsonObject());
+            final AsyncApiMessage message = referenceCache.intern(
+                AsyncApiFieldConstants.API_MESSAGES + "/" + messageName,
+                new AsyncApiMessage(messageName, this.rootSpec, entry.getValue().getAsJsonObject(), this.referenceCache));
             newMessagesMap.put(messageName, message);
         }
         this.messagesMap = newMessagesMap;
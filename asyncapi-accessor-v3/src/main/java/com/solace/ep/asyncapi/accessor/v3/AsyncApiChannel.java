@@ -59,6 +59,12 @@ public class AsyncApiChannel extends AbstractAccessor {
         this.channelName = channelName;
     }
 
+    AsyncApiChannel(final String channelName, final JsonObject rootSpec, final JsonObject leafSpec, final ReferenceCache referenceCache)
+    {
+        super(rootSpec, leafSpec, referenceCache);
+        this.channelName = channelName;
+    }
+
     public String getAddress() throws Exception
     {
         return getStringFieldByName("address");
@@ -75,8 +81,16 @@ public class AsyncApiChannel extends AbstractAccessor {
         final Map<String, JsonElement> messagesJsonObjMap = messages.asMap();
         for ( Map.Entry<String, JsonElement> entry : messagesJsonObjMap.entrySet() ) {
             final String msgName = entry.getKey();
-            final JsonObject messageAsJsonObject = getResolvedJsonObject(entry.getValue().getAsJsonObject());
-            final AsyncApiMessage message = new AsyncApiMessage(msgName, this.rootSpec, messageAsJsonObject);
+            final JsonObject messageElt = entry.getValue().getAsJsonObject();
+            final JsonObject messageAsJsonObject = getResolvedJsonObject(messageElt);
+            AsyncApiMessage message = new AsyncApiMessage(msgName, this.rootSpec, messageAsJsonObject, this.referenceCache);
+            if (messageElt.has("$ref")) {
+                // Share the message view with other channels if it is referenced by its own name
+                final String refString = messageElt.get("$ref").getAsString();
+                if (msgName.equals(AsyncApiUtils.getLastElementFromRefString(refString))) {
+                    message = referenceCache.intern(refString, message);
+                }
+            }
             newChannelMessages.put(msgName, message);
         }
 
@@ -17,14 +17,20 @@
 
 package com.solace.ep.asyncapi.accessor.v3;
 
+import com.google.gson.Gson;
+import com.google.gson.JsonElement;
 import com.google.gson.JsonObject;
 
 import lombok.Getter;
 
 public class AsyncApiMessage extends AbstractAccessor {
 
+    private static final Gson GSON = new Gson();
+
     @Getter
     private String messageName;
+
+    private String payloadAsString;
     
     /**
      * Constructor for AsyncApiMessage
@@ -38,6 +44,12 @@ public class AsyncApiMessage extends AbstractAccessor {
         this.messageName = name;
     }
 
+    AsyncApiMessage( final String name, final JsonObject rootSpec, final JsonObject leafSpec, final ReferenceCache referenceCache )
+    {
+        super(rootSpec, leafSpec, referenceCache);
+        this.messageName = name;
+    }
+
     public String getName() throws Exception
     {
         return getStringFieldByName("name");
@@ -68,4 +80,37 @@ public class AsyncApiMessage extends AbstractAccessor {
         }
         return getStringFieldByReference("#/defaultContentType");
     }
+
+    /**
+     * Get the message payload as a String. A payload defined as '$ref' is resolved,
+     * and definitions in the schema are made relative to the schema instead of AsyncApi.
+     * Payloads referenced by more than one message are serialized once per spec.
+     * Returns NULL if the message has no payload.
+     * @return
+     * @throws Exception
+     */
+    public String getPayloadAsString() throws Exception
+    {
+        if (payloadAsString != null) {
+            return payloadAsString;
+        }
+        final JsonObject payload = getObjectFieldByName(AsyncApiFieldConstants.API_PAYLOAD);
+        if (payload == null) {
+            return null;
+        }
+        final JsonElement refElement = payload.get(AsyncApiFieldConstants.API_$REF);
+        if (refElement == null) {
+            payloadAsString = GSON.toJson(payload);
+            return payloadAsString;
+        }
+        final String refPath = refElement.getAsString();
+        String serialized = referenceCache.serialized.get(refPath);
+        if (serialized == null) {
+            serialized = AsyncApiUtils.refactorJsonSchemaDefinitions(
+                GSON.toJson(getObjectFieldByReference(refPath)), refPath);
+            referenceCache.serialized.put(refPath, serialized);
+        }
+        payloadAsString = serialized;
+        return payloadAsString;
+    }
 }
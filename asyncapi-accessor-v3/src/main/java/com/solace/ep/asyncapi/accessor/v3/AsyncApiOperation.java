@@ -38,6 +38,12 @@ public class AsyncApiOperation extends AbstractAccessor {
         this.operationName = name;
     }
 
+    AsyncApiOperation(final String name, final JsonObject rootSpec, final JsonObject leafSpec, final ReferenceCache referenceCache)
+    {
+        super(rootSpec, leafSpec, referenceCache);
+        this.operationName = name;
+    }
+
     /**
      * Check if Operation action is receive
      * @return 'True' if operation action is 'receive'
@@ -86,10 +92,10 @@ public class AsyncApiOperation extends AbstractAccessor {
             throw new Exception(String.format("Channel for Operation [%s] is blank", operationName));
         }
         if (channelElt.has("$ref")) {
-            final String refString = getStringFieldByName("$ref");
+            final String refString = channelElt.get("$ref").getAsString();
             final String channelName = AsyncApiUtils.getLastElementFromRefString(refString);
             final JsonObject channelObject = getResolvedJsonObject(channelElt);
-            return new AsyncApiChannel(channelName, this.rootSpec, channelObject);
+            return referenceCache.intern(refString, new AsyncApiChannel(channelName, this.rootSpec, channelObject, this.referenceCache));
         }
         // TODO - Determine if channel can be returned in-line
         return null;
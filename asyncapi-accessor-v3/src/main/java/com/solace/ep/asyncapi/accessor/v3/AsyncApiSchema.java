@@ -39,6 +39,12 @@
          this.schemaName = schemaName;
      }
  
+     AsyncApiSchema(final String schemaName, final JsonObject rootSpec, final JsonObject leafSpec, final ReferenceCache referenceCache)
+     {
+         super(rootSpec, leafSpec, referenceCache);
+         this.schemaName = schemaName;
+     }
+ 
      public AsyncApiSchema(final JsonObject rootSpec, final JsonObject leafSpec)
      {
          super(rootSpec, leafSpec);
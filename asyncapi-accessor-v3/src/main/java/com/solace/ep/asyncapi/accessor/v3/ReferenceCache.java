@@ -0,0 +1,53 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package com.solace.ep.asyncapi.accessor.v3;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import com.google.gson.JsonObject;
+
+/**
+ * References resolved in one AsyncApi document. Shared by the AsyncApiAccessor and
+ * every channel, operation, message and schema view created from it, so that a
+ * $ref used by many channels is resolved and serialized once.
+ * Entries are keyed by root reference path, e.g. '#/components/messages/OrderCreated'
+ */
+class ReferenceCache {
+
+    // Resolved JsonObject for each reference path
+    final Map<String, JsonObject> resolvedObjects = new ConcurrentHashMap<>();
+
+    // Channel, message and schema views for each reference path
+    final Map<String, AbstractAccessor> views = new ConcurrentHashMap<>();
+
+    // Serialized JSON of referenced objects, e.g. message payloads
+    final Map<String, String> serialized = new ConcurrentHashMap<>();
+
+    /**
+     * Return the view already cached for the reference path if it is of the same type,
+     * otherwise cache and return the view passed in
+     */
+    @SuppressWarnings("unchecked")
+    <T extends AbstractAccessor> T intern( final String referencePath, final T view ) {
+        final AbstractAccessor existing = views.putIfAbsent(referencePath, view);
+        if (existing != null && existing.getClass() == view.getClass()) {
+            return (T) existing;
+        }
+        return view;
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import com.google.gson.JsonObject;
+import com.solace.ep.asyncapi.accessor.v2.AsyncApiAccessor;
+import com.solace.ep.asyncapi.importer.mapper.AsyncApiV2ToDto;
+import com.solace.ep.asyncapi.importer.model.dto.DtoResultSet;
+import com.solace.ep.asyncapi.testkit.SpecFormat;
+
+/**
+ * Parse and map of the bundled ASAPIO (AsyncApi 2.x) specs with accessor-v2, as done by
+ * AsyncApiImporter before any call to Event Portal.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessorV2ParseMapBenchmark {
+
+    /**
+     * Bundled spec, from asyncapi-importer-core/src/test/resources/asyncapi/asapio
+     */
+    @Param({"SALESORDER_CHANGE", "sales-order", "GL_ACCOUNTS_CHANGE", "MATERIAL_CHANGE", "PM_NOTIFICATIONS_CHANGE"})
+    public String spec;
+
+    @Param({"JSON", "YAML"})
+    public SpecFormat format;
+
+    /**
+     * Number of copies of each channel in the spec
+     */
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    /**
+     * Threads used by parseAndMap to map channels, e.g. -p mappingParallelism=1,8.
+     * Above 1, the allocation metric does not include allocation by the mapping threads.
+     */
+    @Param({"1"})
+    public int mappingParallelism;
+
+    private String asyncApi;
+
+    private int channels;
+
+    @Setup
+    public void setup(final BenchmarkParams params) throws Exception
+    {
+        final JsonObject scaled = AsyncApiSpecs.scale(AsyncApiSpecs.load(AsyncApiSpecs.V2_SPECS + spec + ".json"), scale);
+        channels = AsyncApiSpecs.countChannels(scaled);
+        asyncApi = AsyncApiSpecs.render(scaled, format);
+        ParseMapMetrics.measureRetainedHeap(params.getBenchmark().endsWith(".parse") ? this::parse : this::parseAndMap);
+    }
+
+    @Benchmark
+    public JsonObject parse() throws Exception
+    {
+        final long start = ParseMapMetrics.allocationStart();
+        final JsonObject parsed = AsyncApiAccessor.parseAsyncApi(asyncApi);
+        ParseMapMetrics.allocationEnd(start, channels);
+        return parsed;
+    }
+
+    @Benchmark
+    public DtoResultSet parseAndMap() throws Exception
+    {
+        final long start = ParseMapMetrics.allocationStart();
+        final AsyncApiV2ToDto mapper = new AsyncApiV2ToDto(
+            new AsyncApiAccessor(AsyncApiAccessor.parseAsyncApi(asyncApi)), "benchmarkDomainId", "benchmarkDomain");
+        mapper.setMappingParallelism(mappingParallelism);
+        final DtoResultSet mapped = mapper.mapAsyncApiToDto();
+        ParseMapMetrics.allocationEnd(start, channels);
+        return mapped;
+    }
+}
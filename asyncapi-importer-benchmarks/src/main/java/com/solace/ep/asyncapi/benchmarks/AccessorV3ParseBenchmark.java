@@ -0,0 +1,107 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.BenchmarkParams;
+
+import com.google.gson.JsonObject;
+import com.solace.ep.asyncapi.accessor.v3.AsyncApiAccessor;
+import com.solace.ep.asyncapi.accessor.v3.AsyncApiChannel;
+import com.solace.ep.asyncapi.accessor.v3.AsyncApiOperation;
+import com.solace.ep.asyncapi.testkit.SpecFormat;
+
+/**
+ * Parse of the bundled AsyncApi 3.x specs with accessor-v3. There is no v3 to DTO mapper yet,
+ * so parseAndWalk reads every channel, operation and schema through the accessor and
+ * resolves the message references of each channel, as a mapper would.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AccessorV3ParseBenchmark {
+
+    /**
+     * Bundled spec, from asyncapi-accessor-v3/src/test/resources/asyncapi
+     */
+    @Param({"GG_ORDERS", "MortgageLoan"})
+    public String spec;
+
+    @Param({"JSON", "YAML"})
+    public SpecFormat format;
+
+    /**
+     * Number of copies of each channel in the spec
+     */
+    @Param({"1", "10", "100"})
+    public int scale;
+
+    private String asyncApi;
+
+    private int channels;
+
+    @Setup
+    public void setup(final BenchmarkParams params) throws Exception
+    {
+        final JsonObject scaled = AsyncApiSpecs.scale(AsyncApiSpecs.load(AsyncApiSpecs.V3_SPECS + spec + ".yaml"), scale);
+        channels = AsyncApiSpecs.countChannels(scaled);
+        asyncApi = AsyncApiSpecs.render(scaled, format);
+        ParseMapMetrics.measureRetainedHeap(params.getBenchmark().endsWith(".parse") ? this::parse : this::parseAndWalk);
+    }
+
+    @Benchmark
+    public JsonObject parse() throws Exception
+    {
+        final long start = ParseMapMetrics.allocationStart();
+        final JsonObject parsed = AsyncApiAccessor.parseAsyncApi(asyncApi);
+        ParseMapMetrics.allocationEnd(start, channels);
+        return parsed;
+    }
+
+    @Benchmark
+    public AsyncApiAccessor parseAndWalk() throws Exception
+    {
+        final long start = ParseMapMetrics.allocationStart();
+        final AsyncApiAccessor accessor = new AsyncApiAccessor(asyncApi);
+        for (AsyncApiChannel channel : accessor.getChannels().values()) {
+            channel.getAddress();
+            channel.getChannelMessages();
+        }
+        for (AsyncApiOperation operation : accessor.getOperations().values()) {
+            operation.getAction();
+        }
+        accessor.getSchemas();
+        ParseMapMetrics.allocationEnd(start, channels);
+        return accessor;
+    }
+}
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.benchmarks;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonPrimitive;
+import com.solace.ep.asyncapi.accessor.v2.AsyncApiAccessor;
+import com.solace.ep.asyncapi.testkit.SpecFormat;
+
+/**
+ * Loads the AsyncApi specs bundled with the benchmarks and builds scaled versions of them.
+ *
+ * The specs are copied from the test resources of asyncapi-importer-core (v2, ASAPIO) and
+ * asyncapi-accessor-v3 at build time; see the resources section of the module pom.
+ */
+public final class AsyncApiSpecs {
+
+    public static final String V2_SPECS = "/specs/v2/";
+
+    public static final String V3_SPECS = "/specs/v3/";
+
+    private AsyncApiSpecs() {}
+
+    /**
+     * Load and parse a bundled spec. JSON and YAML resources are both accepted.
+     * @param resourcePath - e.g. V2_SPECS + "sales-order.json"
+     * @return Parsed spec
+     * @throws Exception
+     */
+    public static JsonObject load(final String resourcePath) throws Exception
+    {
+        try (InputStream in = AsyncApiSpecs.class.getResourceAsStream(resourcePath)) {
+            if (in == null) {
+                throw new IllegalArgumentException("Spec not found: " + resourcePath);
+            }
+            return AsyncApiAccessor.parseAsyncApi(new String(in.readAllBytes(), StandardCharsets.UTF_8));
+        }
+    }
+
+    /**
+     * Multiply the channels of a spec. Every channel, operation, component message and component
+     * schema is copied (factor - 1) times. Names, topic addresses, event names and $ref values in
+     * each copy are given the suffix of the copy so that copies map to distinct Event Portal objects.
+     * @param spec - parsed spec; not modified
+     * @param factor - 1 returns an unmodified copy of the spec
+     * @return Scaled spec
+     */
+    public static JsonObject scale(final JsonObject spec, final int factor)
+    {
+        final JsonObject scaled = spec.deepCopy();
+        if (factor <= 1) {
+            return scaled;
+        }
+        final boolean v3 = scaled.has("asyncapi") && scaled.get("asyncapi").getAsString().startsWith("3");
+        final JsonObject components = scaled.getAsJsonObject("components");
+        copySection(scaled.getAsJsonObject("channels"), factor, !v3, v3);
+        copySection(scaled.getAsJsonObject("operations"), factor, false, false);
+        if (components != null) {
+            copySection(components.getAsJsonObject("messages"), factor, false, false);
+            copySection(components.getAsJsonObject("schemas"), factor, false, false);
+        }
+        return scaled;
+    }
+
+    /**
+     * @param spec
+     * @return Number of channels in the spec
+     */
+    public static int countChannels(final JsonObject spec)
+    {
+        final JsonObject channels = spec.getAsJsonObject("channels");
+        return channels == null ? 0 : channels.size();
+    }
+
+    /**
+     * Write a spec in the given text form
+     * @param spec
+     * @param format
+     * @return Spec as JSON or YAML text
+     * @throws Exception
+     */
+    public static String render(final JsonObject spec, final SpecFormat format) throws Exception
+    {
+        return format.write(spec);
+    }
+
+    /**
+     * Add (factor - 1) copies of every entry of a section, e.g. 'channels' or 'components/schemas'.
+     * v2 channel names are topic addresses, so those copies get an extra topic level instead of a
+     * name suffix; v3 channels keep an address field, which is given the extra level.
+     */
+    private static void copySection(
+        final JsonObject section,
+        final int factor,
+        final boolean keyIsTopic,
+        final boolean hasAddress
+    )
+    {
+        if (section == null) {
+            return;
+        }
+        final List<Map.Entry<String, JsonElement>> originals = new ArrayList<>(section.entrySet());
+        for (int copy = 2; copy <= factor; copy++) {
+            for (Map.Entry<String, JsonElement> entry : originals) {
+                final JsonElement value = rename(entry.getValue().deepCopy(), copy);
+                if (hasAddress && value.isJsonObject() && value.getAsJsonObject().has("address")) {
+                    final JsonObject channel = value.getAsJsonObject();
+                    channel.addProperty("address", channel.get("address").getAsString() + topicSuffix(copy));
+                }
+                section.add(keyIsTopic ? entry.getKey() + topicSuffix(copy) : entry.getKey() + copySuffix(copy), value);
+            }
+        }
+    }
+
+    /**
+     * Recursively apply the copy suffix to names and local references
+     */
+    private static JsonElement rename(final JsonElement element, final int copy)
+    {
+        if (element.isJsonArray()) {
+            final JsonArray array = element.getAsJsonArray();
+            for (int i = 0; i < array.size(); i++) {
+                array.set(i, rename(array.get(i), copy));
+            }
+        } else if (element.isJsonObject()) {
+            final JsonObject object = element.getAsJsonObject();
+            for (Map.Entry<String, JsonElement> entry : object.entrySet()) {
+                final JsonElement value = entry.getValue();
+                if (value.isJsonPrimitive() && value.getAsJsonPrimitive().isString()) {
+                    switch (entry.getKey()) {
+                        case "$ref":
+                            entry.setValue(new JsonPrimitive(renameRef(value.getAsString(), copy)));
+                            break;
+                        case "name":
+                        case "title":
+                        case "x-ep-event-name":
+                            entry.setValue(new JsonPrimitive(value.getAsString() + copySuffix(copy)));
+                            break;
+                        default:
+                            break;
+                    }
+                } else {
+                    entry.setValue(rename(value, copy));
+                }
+            }
+        }
+        return element;
+    }
+
+    /**
+     * '#/channels/X/..', '#/operations/X/..', '#/components/messages/X' and '#/components/schemas/X'
+     * are pointed at the copy of X. Other references are shared by all copies.
+     */
+    private static String renameRef(final String ref, final int copy)
+    {
+        final String[] path = ref.split("/", -1);
+        if (path.length > 2 && path[0].equals("#") && (path[1].equals("channels") || path[1].equals("operations"))) {
+            path[2] = path[2] + copySuffix(copy);
+        } else if (path.length > 3 && path[0].equals("#") && path[1].equals("components") &&
+                (path[2].equals("messages") || path[2].equals("schemas"))) {
+            path[3] = path[3] + copySuffix(copy);
+        } else {
+            return ref;
+        }
+        return String.join("/", path);
+    }
+
+    private static String copySuffix(final int copy)
+    {
+        return "_" + copy;
+    }
+
+    private static String topicSuffix(final int copy)
+    {
+        return "/copy" + copy;
+    }
+}
@@ -0,0 +1,149 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import com.solace.cloud.ep.designer.model.Address;
+import com.solace.cloud.ep.designer.model.AddressLevel;
+import com.solace.cloud.ep.designer.model.DeliveryDescriptor;
+import com.solace.ep.asyncapi.importer.model.dto.EventVersionDto;
+
+/**
+ * Generates deterministic inputs for benchmarks
+ */
+public final class BenchmarkData {
+
+    private BenchmarkData() {}
+
+    /**
+     * JSON schema with the given number of properties, formatted with indentation as found in
+     * AsyncAPI specs. Every tenth property is a nested object of five properties.
+     * @param properties - number of top level properties
+     * @param seed
+     * @return JSON schema text
+     */
+    public static String jsonSchema(final int properties, final long seed)
+    {
+        final Random random = new Random(seed);
+        final StringBuilder sb = new StringBuilder(properties * 96);
+        sb.append("{\n  \"$schema\": \"http://json-schema.org/draft-07/schema#\",\n  \"type\": \"object\",\n  \"properties\": {\n");
+        for (int i = 0; i < properties; i++) {
+            if (i > 0) {
+                sb.append(",\n");
+            }
+            sb.append("    \"property").append(i).append("\": ");
+            if (i % 10 == 9) {
+                sb.append("{\n      \"type\": \"object\",\n      \"properties\": {\n");
+                for (int j = 0; j < 5; j++) {
+                    sb.append(j > 0 ? ",\n" : "").append("        \"nested").append(j).append("\": ");
+                    appendScalarProperty(sb, random);
+                }
+                sb.append("\n      }\n    }");
+            } else {
+                appendScalarProperty(sb, random);
+            }
+        }
+        sb.append("\n  },\n  \"required\": [\"property0\"]\n}\n");
+        return sb.toString();
+    }
+
+    private static void appendScalarProperty(final StringBuilder sb, final Random random)
+    {
+        switch (random.nextInt(4)) {
+            case 0:
+                sb.append("{ \"type\": \"string\", \"maxLength\": ").append(16 + random.nextInt(240)).append(" }");
+                break;
+            case 1:
+                sb.append("{ \"type\": \"integer\", \"minimum\": 0 }");
+                break;
+            case 2:
+                sb.append("{ \"type\": \"number\", \"description\": \"Measured value ").append(random.nextInt(1000)).append("\" }");
+                break;
+            default:
+                sb.append("{ \"type\": \"boolean\" }");
+        }
+    }
+
+    /**
+     * @param cardinality - number of values
+     * @return Enum values VALUE_0 .. VALUE_n-1
+     */
+    public static List<String> enumValues(final int cardinality)
+    {
+        final List<String> values = new ArrayList<>(cardinality);
+        for (int i = 0; i < cardinality; i++) {
+            values.add("VALUE_" + i);
+        }
+        return values;
+    }
+
+    /**
+     * DTO delivery descriptor for a topic of the given depth. Every third level is a
+     * variable, and every other variable references an enum version.
+     * @param depth - number of topic levels
+     */
+    public static EventVersionDto.DeliveryDescriptor dtoDeliveryDescriptor(final int depth)
+    {
+        final EventVersionDto.DeliveryDescriptor dd = new EventVersionDto.DeliveryDescriptor();
+        dd.getAddress().setAddressType("topic");
+        dd.getAddress().setType("address");
+        for (int i = 0; i < depth; i++) {
+            final EventVersionDto.TopicAddressLevel level = new EventVersionDto.TopicAddressLevel();
+            if (i % 3 == 2) {
+                level.setName("var" + i);
+                level.setAddressLevelType("variable");
+                if (i % 6 == 2) {
+                    level.setHasEnum(true);
+                    level.setEnumVersionId("enumVersion" + i);
+                }
+            } else {
+                level.setName("level" + i);
+                level.setAddressLevelType("literal");
+            }
+            dd.getAddress().getAddressLevels().add(level);
+        }
+        return dd;
+    }
+
+    /**
+     * Event Portal delivery descriptor with the same topic as dtoDeliveryDescriptor(depth)
+     * @param depth - number of topic levels
+     */
+    public static DeliveryDescriptor epDeliveryDescriptor(final int depth)
+    {
+        final Address address = new Address();
+        address.setId("address" + depth);
+        address.setType("address");
+        address.setAddressType(Address.AddressTypeEnum.fromValue("topic"));
+        address.setAddressLevels(new ArrayList<>());
+        for (EventVersionDto.TopicAddressLevel dtoLevel : dtoDeliveryDescriptor(depth).getAddress().getAddressLevels()) {
+            final AddressLevel level = new AddressLevel();
+            level.setName(dtoLevel.getName());
+            level.setAddressLevelType(AddressLevel.AddressLevelTypeEnum.fromValue(dtoLevel.getAddressLevelType()));
+            level.setEnumVersionId(dtoLevel.getEnumVersionId());
+            address.addAddressLevelsItem(level);
+        }
+        final DeliveryDescriptor dd = new DeliveryDescriptor();
+        dd.setBrokerType("solace");
+        dd.setAddress(address);
+        return dd;
+    }
+}
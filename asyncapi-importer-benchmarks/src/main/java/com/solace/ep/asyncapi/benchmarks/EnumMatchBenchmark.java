@@ -0,0 +1,92 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.solace.ep.asyncapi.importer.util.EventPortalModelUtils;
+
+/**
+ * Enum values comparison, called for every enum version considered for a match
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EnumMatchBenchmark {
+
+    /**
+     * Number of values in the enum
+     */
+    @Param({"10", "100", "1000"})
+    public int enumCardinality;
+
+    private List<String> values;
+
+    private List<String> sameValues;
+
+    private List<String> reversedValues;
+
+    private List<String> lastValueDiffers;
+
+    @Setup
+    public void setup()
+    {
+        values = BenchmarkData.enumValues(enumCardinality);
+        sameValues = new ArrayList<>(values);
+        reversedValues = new ArrayList<>(values);
+        Collections.reverse(reversedValues);
+        lastValueDiffers = new ArrayList<>(values);
+        lastValueDiffers.set(enumCardinality - 1, "OTHER");
+    }
+
+    @Benchmark
+    public boolean valuesListsMatchSameOrder()
+    {
+        return EventPortalModelUtils.valuesListsMatch(values, sameValues);
+    }
+
+    @Benchmark
+    public boolean valuesListsMatchReversedOrder()
+    {
+        return EventPortalModelUtils.valuesListsMatch(values, reversedValues);
+    }
+
+    @Benchmark
+    public boolean valuesListsMatchLastValueDiffers()
+    {
+        return EventPortalModelUtils.valuesListsMatch(values, lastValueDiffers);
+    }
+}
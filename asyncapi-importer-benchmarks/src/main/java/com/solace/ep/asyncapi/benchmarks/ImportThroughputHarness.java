@@ -0,0 +1,315 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.benchmarks;
+
+import java.io.FileOutputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonObject;
+import com.solace.ep.asyncapi.importer.AsyncApiImporter;
+import com.solace.ep.asyncapi.importer.mapper.AsyncApiV2ToDto;
+import com.solace.ep.asyncapi.importer.model.dto.DtoResultSet;
+import com.solace.ep.asyncapi.testkit.AsyncApiSpecGenerator;
+import com.solace.ep.asyncapi.testkit.EpSimulator;
+import com.solace.ep.asyncapi.testkit.EpSimulatorConfig;
+import com.solace.ep.asyncapi.testkit.EpSimulatorStore.ObjectType;
+import com.solace.ep.asyncapi.testkit.LatencyDistribution;
+
+/**
+ * End-to-end import throughput harness. Runs AsyncApiImporter.execImportOperation against an
+ * EpSimulator for every combination of the swept settings and writes one JSON object per run
+ * (JSON Lines) with wall time per phase, REST calls by endpoint and calls per imported object.
+ *
+ * Settings are passed as key=value arguments; list settings take comma separated values:
+ *
+ *   java -cp target/benchmarks.jar com.solace.ep.asyncapi.benchmarks.ImportThroughputHarness \
+ *       channels=100,1000 threads=1,8,32 prePopulated=0,1 latencyMs=20 out=import-scaling.jsonl
+ */
+public class ImportThroughputHarness {
+
+    private static final String APP_DOMAIN_NAME = "Import Throughput Harness";
+
+    private static final String BEARER_TOKEN = "harness-token";
+
+    private static final Gson GSON = new Gson();
+
+    /**
+     * Settings with their defaults. List settings are swept; the others apply to every run.
+     */
+    private final Map<String, String> settings = new LinkedHashMap<>();
+
+    public ImportThroughputHarness()
+    {
+        settings.put("channels", "10,100,1000");    // channels in the spec; one event per channel
+        settings.put("schemas", "0");               // distinct schemas; 0 for one per channel
+        settings.put("enums", "4");                 // distinct enums used as topic parameters
+        settings.put("prePopulated", "0,1");        // fraction of the spec imported before the measured run
+        settings.put("threads", "1,8,32");          // importer thread pool size
+        settings.put("latencyMs", "20");            // simulated Event Portal response time
+        settings.put("enumCardinality", "10");
+        settings.put("parametersPerChannel", "2");
+        settings.put("domainSnapshot", "false");
+        settings.put("application", "false");
+        settings.put("eventApi", "false");
+        settings.put("repeat", "1");
+        settings.put("seed", "1");
+        settings.put("out", "");                    // output file; stdout if empty
+    }
+
+    public static void main(String[] args) throws Exception
+    {
+        final ImportThroughputHarness harness = new ImportThroughputHarness();
+        try {
+            harness.parseArguments(args);
+        } catch (IllegalArgumentException exc) {
+            System.err.println(exc.getMessage());
+            System.err.println("Settings and defaults: " + harness.settings);
+            System.exit(1);
+        }
+        harness.run();
+    }
+
+    /**
+     * Apply key=value arguments to the settings
+     * @param args
+     */
+    public void parseArguments(final String[] args)
+    {
+        for (String arg : args) {
+            final int separator = arg.indexOf('=');
+            if (separator < 1 || !settings.containsKey(arg.substring(0, separator))) {
+                throw new IllegalArgumentException("Invalid argument: " + arg);
+            }
+            settings.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+    }
+
+    /**
+     * Run every combination of the swept settings, writing one report line per run
+     * @throws Exception
+     */
+    public void run() throws Exception
+    {
+        final String outFile = settings.get("out");
+        try (OutputStream stream = outFile.isBlank() ? null : new FileOutputStream(outFile)) {
+            final PrintStream out = stream == null ? System.out : new PrintStream(stream, true, StandardCharsets.UTF_8);
+            for (int channels : intList("channels")) {
+                for (int schemas : intList("schemas")) {
+                    for (int enums : intList("enums")) {
+                        for (double prePopulated : doubleList("prePopulated")) {
+                            for (int threads : intList("threads")) {
+                                for (int latencyMs : intList("latencyMs")) {
+                                    for (int run = 1; run <= Integer.parseInt(settings.get("repeat")); run++) {
+                                        final Scenario scenario = new Scenario(channels, schemas == 0 ? channels : schemas,
+                                            enums, prePopulated, threads, latencyMs, run);
+                                        out.println(GSON.toJson(runScenario(scenario)));
+                                    }
+                                }
+                            }
+                        }
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * Import into a new simulator: pre-populate the application domain, then measure the import of the full spec
+     * @param scenario
+     * @return Report for the run
+     */
+    public JsonObject runScenario(final Scenario scenario)
+    {
+        final JsonObject report = scenario.toJson();
+        final boolean importApplication = Boolean.parseBoolean(settings.get("application"));
+        final boolean importEventApi = Boolean.parseBoolean(settings.get("eventApi"));
+
+        final AsyncApiSpecGenerator generator = new AsyncApiSpecGenerator();
+        generator.setSeed(Long.parseLong(settings.get("seed")));
+        generator.setSchemas(scenario.schemas);
+        generator.setEnums(scenario.enums);
+        generator.setEnumCardinality(Integer.parseInt(settings.get("enumCardinality")));
+        generator.setParametersPerChannel(Integer.parseInt(settings.get("parametersPerChannel")));
+
+        final EpSimulatorConfig config = new EpSimulatorConfig();
+        try (EpSimulator simulator = new EpSimulator(config).start()) {
+            simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+
+            final int prePopulatedChannels = (int) Math.round(scenario.channels * scenario.prePopulated);
+            if (prePopulatedChannels > 0) {
+                generator.setChannels(prePopulatedChannels);
+                newImporter(generator.generate(), simulator, scenario, importApplication, importEventApi).execImportOperation();
+            }
+            final Map<ObjectType, Integer> countsBefore = storeCounts(simulator);
+
+            generator.setChannels(scenario.channels);
+            final String spec = generator.generate();
+            final AsyncApiImporter importer = newImporter(spec, simulator, scenario, importApplication, importEventApi);
+            config.setReadLatency(LatencyDistribution.fixed(scenario.latencyMs));
+            config.setWriteLatency(LatencyDistribution.fixed(scenario.latencyMs));
+            simulator.resetStats();
+
+            final long start = System.nanoTime();
+            try {
+                importer.execImportOperation();
+            } catch (Exception exc) {
+                report.addProperty("error", String.valueOf(exc.getMessage()));
+            }
+            final long wallMillis = (System.nanoTime() - start) / 1_000_000L;
+
+            final int objects = countImportedObjects(spec, importApplication, importEventApi);
+            report.addProperty("wallMillis", wallMillis);
+            report.add("phaseMillis", GSON.toJsonTree(importer.getPhaseTimings()));
+            report.addProperty("objects", objects);
+            report.add("created", createdObjects(countsBefore, storeCounts(simulator)));
+            report.addProperty("requests", simulator.getRequestCount());
+            report.addProperty("callsPerObject", objects == 0 ? 0.0 : (double) simulator.getRequestCount() / objects);
+            report.addProperty("objectsPerSecond", wallMillis == 0 ? 0.0 : objects * 1000.0 / wallMillis);
+            report.addProperty("peakConcurrency", simulator.getPeakConcurrency());
+            report.addProperty("throttled", simulator.getThrottledCount());
+            report.add("requestsByRoute", GSON.toJsonTree(simulator.getRequestCountsByRoute()));
+        } catch (Exception exc) {
+            report.addProperty("error", String.valueOf(exc.getMessage()));
+        }
+        return report;
+    }
+
+    private AsyncApiImporter newImporter(
+        final String spec,
+        final EpSimulator simulator,
+        final Scenario scenario,
+        final boolean importApplication,
+        final boolean importEventApi
+    ) throws Exception
+    {
+        final AsyncApiImporter importer = new AsyncApiImporter(
+            null, APP_DOMAIN_NAME, BEARER_TOKEN, spec, simulator.getBaseUrl(), "MAJOR",
+            false, importApplication, importEventApi
+        );
+        importer.setImporterThreadPoolSize(scenario.threads);
+        importer.setUseDomainSnapshot(Boolean.parseBoolean(settings.get("domainSnapshot")));
+        return importer;
+    }
+
+    /**
+     * Number of objects in the spec the importer matches or creates: enums, schemas, events,
+     * and the application and event API when imported
+     */
+    private static int countImportedObjects(final String spec, final boolean importApplication, final boolean importEventApi)
+    {
+        try {
+            final DtoResultSet dtos = AsyncApiV2ToDto.mapAsyncApiToDto(spec, "count", APP_DOMAIN_NAME);
+            return dtos.getMapEnums().size() + dtos.getMapSchemas().size() + dtos.getMapEvents().size() +
+                (importApplication ? 1 : 0) + (importEventApi ? 1 : 0);
+        } catch (Exception exc) {
+            return 0;
+        }
+    }
+
+    private static Map<ObjectType, Integer> storeCounts(final EpSimulator simulator)
+    {
+        final Map<ObjectType, Integer> counts = new EnumMap<>(ObjectType.class);
+        for (ObjectType type : ObjectType.values()) {
+            counts.put(type, simulator.getStore().count(type));
+        }
+        return counts;
+    }
+
+    private static JsonObject createdObjects(final Map<ObjectType, Integer> before, final Map<ObjectType, Integer> after)
+    {
+        final JsonObject created = new JsonObject();
+        for (ObjectType type : ObjectType.values()) {
+            if (type != ObjectType.APPLICATION_DOMAINS) {
+                created.addProperty(type.getPath(), after.get(type) - before.get(type));
+            }
+        }
+        return created;
+    }
+
+    private List<Integer> intList(final String setting)
+    {
+        final List<Integer> values = new ArrayList<>();
+        for (String value : settings.get(setting).split(",")) {
+            values.add(Integer.valueOf(value.trim()));
+        }
+        return values;
+    }
+
+    private List<Double> doubleList(final String setting)
+    {
+        final List<Double> values = new ArrayList<>();
+        for (String value : settings.get(setting).split(",")) {
+            values.add(Double.valueOf(value.trim()));
+        }
+        return values;
+    }
+
+    /**
+     * One combination of the swept settings
+     */
+    public static class Scenario {
+
+        private final int channels;
+        private final int schemas;
+        private final int enums;
+        private final double prePopulated;
+        private final int threads;
+        private final int latencyMs;
+        private final int run;
+
+        public Scenario(
+            final int channels,
+            final int schemas,
+            final int enums,
+            final double prePopulated,
+            final int threads,
+            final int latencyMs,
+            final int run
+        )
+        {
+            this.channels = channels;
+            this.schemas = schemas;
+            this.enums = enums;
+            this.prePopulated = prePopulated;
+            this.threads = threads;
+            this.latencyMs = latencyMs;
+            this.run = run;
+        }
+
+        JsonObject toJson()
+        {
+            final JsonObject json = new JsonObject();
+            json.addProperty("channels", channels);
+            json.addProperty("schemas", schemas);
+            json.addProperty("enums", enums);
+            json.addProperty("prePopulated", prePopulated);
+            json.addProperty("threads", threads);
+            json.addProperty("latencyMs", latencyMs);
+            json.addProperty("run", run);
+            return json;
+        }
+    }
+}
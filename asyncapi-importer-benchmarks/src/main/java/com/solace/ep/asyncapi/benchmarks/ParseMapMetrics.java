@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.benchmarks;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryMXBean;
+import java.lang.ref.Reference;
+import java.util.concurrent.Callable;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Per-channel allocation and retained heap of parse and map benchmarks.
+ * Benchmarks record into this class and ParseMapProfiler reports the values with each iteration.
+ */
+public final class ParseMapMetrics {
+
+    private static final int RETAINED_HEAP_SAMPLES = 3;
+
+    private static final com.sun.management.ThreadMXBean THREADS =
+        (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+
+    private static final LongAdder allocatedBytes = new LongAdder();
+
+    private static final LongAdder channelsProcessed = new LongAdder();
+
+    private static volatile long retainedHeapBytes = -1L;
+
+    private ParseMapMetrics() {}
+
+    /**
+     * Call before the measured operation
+     * @return Bytes allocated by the current thread so far
+     */
+    public static long allocationStart()
+    {
+        return THREADS.getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Call after the measured operation
+     * @param start - value returned by allocationStart()
+     * @param channels - number of channels in the spec processed by the operation
+     */
+    public static void allocationEnd(final long start, final int channels)
+    {
+        allocatedBytes.add(THREADS.getCurrentThreadAllocatedBytes() - start);
+        channelsProcessed.add(channels);
+    }
+
+    /**
+     * Measure heap retained by the result of an operation: used heap after GC while the result
+     * is reachable, less used heap after GC before the operation. The smallest of a few samples
+     * is kept to filter out unrelated garbage. Call from a setup method, not while measuring.
+     * @param operation
+     * @throws Exception
+     */
+    public static void measureRetainedHeap(final Callable<?> operation) throws Exception
+    {
+        final MemoryMXBean memory = ManagementFactory.getMemoryMXBean();
+        long smallest = Long.MAX_VALUE;
+        for (int i = 0; i < RETAINED_HEAP_SAMPLES; i++) {
+            final long before = usedHeapAfterGc(memory);
+            final Object result = operation.call();
+            final long after = usedHeapAfterGc(memory);
+            Reference.reachabilityFence(result);
+            smallest = Math.min(smallest, after - before);
+        }
+        retainedHeapBytes = Math.max(0L, smallest);
+    }
+
+    /**
+     * @return Average bytes allocated per channel since the last reset, NaN if nothing was recorded
+     */
+    static double getAllocatedBytesPerChannel()
+    {
+        final long channels = channelsProcessed.sum();
+        return channels == 0 ? Double.NaN : (double) allocatedBytes.sum() / channels;
+    }
+
+    /**
+     * @return Retained heap measured by the last call to measureRetainedHeap, -1 if never measured
+     */
+    static long getRetainedHeapBytes()
+    {
+        return retainedHeapBytes;
+    }
+
+    static void resetAllocation()
+    {
+        allocatedBytes.reset();
+        channelsProcessed.reset();
+    }
+
+    private static long usedHeapAfterGc(final MemoryMXBean memory)
+    {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+        }
+        return memory.getHeapMemoryUsage().getUsed();
+    }
+}
@@ -0,0 +1,72 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.benchmarks;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+/**
+ * Adds the values recorded in ParseMapMetrics to the results of each iteration:
+ *
+ *   parse.alloc.bytes.per.channel - bytes allocated per channel of the spec
+ *   parse.retained.heap           - heap retained by the result of one operation
+ *
+ * Benchmarks that do not record metrics get no additional results.
+ */
+public class ParseMapProfiler implements InternalProfiler {
+
+    @Override
+    public String getDescription()
+    {
+        return "Allocation per AsyncApi channel and heap retained by the parsed or mapped result";
+    }
+
+    @Override
+    public void beforeIteration(final BenchmarkParams benchmarkParams, final IterationParams iterationParams)
+    {
+        ParseMapMetrics.resetAllocation();
+    }
+
+    @Override
+    public Collection<? extends Result> afterIteration(
+        final BenchmarkParams benchmarkParams,
+        final IterationParams iterationParams,
+        final IterationResult result
+    )
+    {
+        final List<ScalarResult> results = new ArrayList<>();
+        final double bytesPerChannel = ParseMapMetrics.getAllocatedBytesPerChannel();
+        if (!Double.isNaN(bytesPerChannel)) {
+            results.add(new ScalarResult("parse.alloc.bytes.per.channel", bytesPerChannel, "B/channel", AggregationPolicy.AVG));
+        }
+        final long retainedHeapBytes = ParseMapMetrics.getRetainedHeapBytes();
+        if (retainedHeapBytes >= 0) {
+            results.add(new ScalarResult("parse.retained.heap", retainedHeapBytes, "B", AggregationPolicy.AVG));
+        }
+        return results;
+    }
+}
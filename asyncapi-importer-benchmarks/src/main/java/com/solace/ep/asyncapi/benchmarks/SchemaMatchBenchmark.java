@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.solace.ep.asyncapi.importer.util.EventPortalModelUtils;
+
+/**
+ * Schema content comparison: every schema version considered for a match is reserialized
+ * (or hashed) before comparison with the schema in the spec.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SchemaMatchBenchmark {
+
+    /**
+     * Number of top level properties in the schema
+     */
+    @Param({"10", "100", "1000"})
+    public int schemaProperties;
+
+    private String schema;
+
+    @Setup
+    public void setup()
+    {
+        schema = BenchmarkData.jsonSchema(schemaProperties, 42L);
+    }
+
+    @Benchmark
+    public String reserializeJsonSchema() throws Exception
+    {
+        return EventPortalModelUtils.reserializeJsonSchema(schema);
+    }
+
+    @Benchmark
+    public String computeSchemaContentHash() throws Exception
+    {
+        return EventPortalModelUtils.computeSchemaContentHash(schema);
+    }
+}
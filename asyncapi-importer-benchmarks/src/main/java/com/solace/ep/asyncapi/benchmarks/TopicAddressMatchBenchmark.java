@@ -0,0 +1,97 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.benchmarks;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.solace.cloud.ep.designer.model.DeliveryDescriptor;
+import com.solace.ep.asyncapi.importer.model.dto.EventVersionDto;
+import com.solace.ep.asyncapi.importer.util.EventPortalModelUtils;
+
+/**
+ * Topic address comparison and mapping, run for every event version considered for a match
+ * and for every event version checked during cascade update
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TopicAddressMatchBenchmark {
+
+    /**
+     * Number of levels in the topic address
+     */
+    @Param({"3", "8", "16"})
+    public int topicDepth;
+
+    private EventVersionDto.DeliveryDescriptor descriptor;
+
+    private EventVersionDto.DeliveryDescriptor sameDescriptor;
+
+    private EventVersionDto.DeliveryDescriptor lastLevelDiffers;
+
+    private DeliveryDescriptor epDescriptor;
+
+    @Setup
+    public void setup()
+    {
+        descriptor = BenchmarkData.dtoDeliveryDescriptor(topicDepth);
+        sameDescriptor = BenchmarkData.dtoDeliveryDescriptor(topicDepth);
+        lastLevelDiffers = BenchmarkData.dtoDeliveryDescriptor(topicDepth);
+        lastLevelDiffers.getAddress().getAddressLevels().get(topicDepth - 1).setName("other");
+        epDescriptor = BenchmarkData.epDeliveryDescriptor(topicDepth);
+    }
+
+    @Benchmark
+    public boolean deliveryDescriptorsMatch()
+    {
+        return EventPortalModelUtils.deliveryDescriptorsMatch(descriptor, sameDescriptor);
+    }
+
+    @Benchmark
+    public boolean topicAddressesMatch()
+    {
+        return EventPortalModelUtils.topicAddressesMatch(descriptor.getAddress(), sameDescriptor.getAddress());
+    }
+
+    @Benchmark
+    public boolean topicAddressesMatchLastLevelDiffers()
+    {
+        return EventPortalModelUtils.topicAddressesMatch(descriptor.getAddress(), lastLevelDiffers.getAddress());
+    }
+
+    @Benchmark
+    public EventVersionDto.DeliveryDescriptor mapEpEventVersionToDtoDeliveryDescriptor()
+    {
+        return EventPortalModelUtils.mapEpEventVersionToDtoDeliveryDescriptor(epDescriptor);
+    }
+}
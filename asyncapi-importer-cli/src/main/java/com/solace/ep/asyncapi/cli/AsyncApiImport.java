@@ -37,7 +37,7 @@ import com.solace.ep.asyncapi.importer.AsyncApiImporter;
  */
 public class AsyncApiImport {
 
-    private static final String CMD_LINE_SYNTAX = "asyncapi-import -a ASYNCAPI_TO_IMPORT -d APP_DOMAIN -t EP_TOKEN [-u BASE_URL] [-m | -i | -p] [-e] [-z]\n";
+    private static final String CMD_LINE_SYNTAX = "asyncapi-import -a ASYNCAPI_TO_IMPORT -d APP_DOMAIN -t EP_TOKEN [-u BASE_URL] [-m | -i | -p] [-e] [-z] [-s] [-w THREADS] [-v] [-l]\n";
 
     public static void main(String[] args) 
     {
@@ -50,6 +50,13 @@ public class AsyncApiImport {
         Option opCascadeUpdate = new Option("z", "cascade-update", false, "Cascade update linked objects\nSee documentation for more info\n");
         Option opImportEventApi = new Option("e", "import-eventapi", false, "Create an Event API in Event Portal with the events in the AsyncAPI spec");
         Option opImportApplication = new Option("n", "import-application", false, "Create an Application template in Event Portal with the events in the AsyncAPI spec");
+        Option opThreads = new Option("w", "worker-threads", true, "Number of threads used to call Event Portal concurrently\n");
+        Option opDomainSnapshot = new Option("s", "domain-snapshot", false, "Load all objects in the target Application Domain up front\nReduces calls to Event Portal for large specs\n");
+        Option opCacheFile = new Option("f", "cache-file", true, "Local cache file for the Application Domain\nOnly objects changed in Event Portal are\n re-read on subsequent runs\n");
+        Option opRefreshCache = new Option("r", "refresh-cache", false, "Ignore existing cache file contents and\n reload the full Application Domain\n");
+        Option opVirtualThreads = new Option("v", "virtual-threads", false, "Run each import task on a virtual thread (Java 21+)\n--worker-threads limits concurrent EP calls\n");
+        Option opAdaptiveConcurrency = new Option("c", "adaptive-concurrency", false, "Adjust worker threads to Event Portal response times\nStarts at --worker-threads, halves when throttled\n");
+        Option opLowMemory = new Option("l", "low-memory", false, "Stream the AsyncApi spec file channel by channel\nBounds memory use for very large specs\n");
 
         Option opVersionMajor = new Option("m", "version-major", false, "Increment MAJOR version of SemVer (DEFAULT)\n");
         Option opVersionMinor = new Option("i", "version-minor", false, "Increment MINOR version of SemVer\n");
@@ -75,7 +82,14 @@ public class AsyncApiImport {
                 .addOption(opHelp)
                 .addOption(opCascadeUpdate)
                 .addOption(opImportApplication)
-                .addOption(opImportEventApi);
+                .addOption(opImportEventApi)
+                .addOption(opDomainSnapshot)
+                .addOption(opThreads)
+                .addOption(opAdaptiveConcurrency)
+                .addOption(opVirtualThreads)
+                .addOption(opCacheFile)
+                .addOption(opRefreshCache)
+                .addOption(opLowMemory);
 
         // Collect Option values
         String appDomainName;
@@ -86,6 +100,13 @@ public class AsyncApiImport {
         boolean cascadeUpdate;
         boolean importApplication;
         boolean importEventApi;
+        boolean domainSnapshot;
+        Integer workerThreads;
+        boolean adaptiveConcurrency;
+        boolean virtualThreads;
+        String cacheFile;
+        boolean refreshCache;
+        boolean lowMemory;
         
         // Parse out options
         try {
@@ -116,7 +137,14 @@ public class AsyncApiImport {
             cascadeUpdate = commandLine.hasOption("z");
             importApplication = commandLine.hasOption("n");
             importEventApi = commandLine.hasOption("e");
-        } catch (ParseException parseExc) {
+            domainSnapshot = commandLine.hasOption("s");
+            workerThreads = commandLine.hasOption("w") ? Integer.valueOf(commandLine.getOptionValue("w")) : null;
+            adaptiveConcurrency = commandLine.hasOption("c");
+            virtualThreads = commandLine.hasOption("v");
+            cacheFile = commandLine.hasOption("f") ? commandLine.getOptionValue("f") : null;
+            refreshCache = commandLine.hasOption("r");
+            lowMemory = commandLine.hasOption("l");
+        } catch (ParseException | NumberFormatException parseExc) {
             System.out.println("Error parsing out options: " + parseExc.getLocalizedMessage() + "\n");
             displayHelp(options);
             return;
@@ -131,9 +159,10 @@ public class AsyncApiImport {
         );
 
         try {
-            final String asyncApiContent = getFileAsString(asyncapiSpecFile);
+            // In low memory mode the importer streams the file instead of reading it here
+            final String asyncApiContent = lowMemory ? null : getFileAsString(asyncapiSpecFile);
 
-            AsyncApiImporter.execImportOperation(
+            final AsyncApiImporter importer = new AsyncApiImporter(
                 null,
                 appDomainName, 
                 epToken, 
@@ -144,6 +173,14 @@ public class AsyncApiImport {
                 importApplication,
                 importEventApi
             );
+            importer.setUseDomainSnapshot(domainSnapshot);
+            importer.setImporterThreadPoolSize(workerThreads);
+            importer.setAdaptiveConcurrency(adaptiveConcurrency);
+            importer.setUseVirtualThreads(virtualThreads);
+            importer.setDomainCacheFile(cacheFile);
+            importer.setRefreshDomainCache(refreshCache);
+            importer.setStreamingSpecFile(lowMemory ? asyncapiSpecFile : null);
+            importer.execImportOperation();
             
             System.out.println(
                 "\n####  ASYNCAPI SPEC IMPORT COMPLETE  ####\n"
@@ -17,12 +17,23 @@
 
 package com.solace.ep.asyncapi.importer;
 
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+
 import com.solace.ep.asyncapi.accessor.v2.AsyncApiAccessor;
+import com.solace.ep.asyncapi.accessor.v2.AsyncApiStreamReader;
+import com.solace.ep.asyncapi.importer.client.EpCallPermits;
+import com.solace.ep.asyncapi.importer.client.EpConcurrencyLimiter;
+import com.solace.ep.asyncapi.importer.client.EpDomainSnapshotCache;
 import com.solace.ep.asyncapi.importer.client.EventPortalClientApi;
 import com.solace.ep.asyncapi.importer.mapper.AsyncApiV2ToDto;
 import com.solace.ep.asyncapi.importer.model.dto.DtoResultSet;
 import com.solace.ep.asyncapi.importer.util.EventPortalModelUtils;
 
+import lombok.Getter;
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -31,6 +42,14 @@ import lombok.extern.slf4j.Slf4j;
  */
 @Slf4j
 public class AsyncApiImporter {
+
+    // Phases of an import operation reported by getPhaseTimings()
+    public static final String PHASE_PARSE = "parse";
+    public static final String PHASE_CONNECT = "connect";
+    public static final String PHASE_DOMAIN_SNAPSHOT = "domainSnapshot";
+    public static final String PHASE_MAP = "map";
+    public static final String PHASE_IMPORT = "import";
+    public static final String PHASE_CASCADE_UPDATE = "cascadeUpdate";
     
     private String applicationDomainId;
 
@@ -50,6 +69,88 @@ public class AsyncApiImporter {
 
     private boolean importEventApi;
 
+    /**
+     * Set to TRUE to bulk load the target application domain from Event Portal before matching.
+     * Reduces the number of REST calls when importing specs with many objects.
+     */
+    @Setter
+    private boolean useDomainSnapshot = false;
+
+    /**
+     * Path of a local cache file for the domain snapshot. When set, the snapshot is loaded from
+     * the cache and refreshed for objects changed in Event Portal, then written back after import.
+     * Implies useDomainSnapshot.
+     */
+    @Setter
+    private String domainCacheFile;
+
+    /**
+     * Set to TRUE to ignore an existing domain cache file and load the full domain
+     */
+    @Setter
+    private boolean refreshDomainCache = false;
+
+    /**
+     * Path of an AsyncApi file to import in streaming mode. When set, the spec is read from
+     * the file channel by channel instead of from asyncApiSpecToImport, which can be null.
+     * Heap use is bounded by the spec without its channels, the largest channel, and the
+     * mapped objects, instead of by the whole document.
+     */
+    @Setter
+    private String streamingSpecFile;
+
+    /**
+     * Number of threads used to map the channels of the spec to Event Portal objects.
+     * The mapped objects are the same as with serial mapping. Defaults to 1 (serial);
+     * not used with streamingSpecFile.
+     */
+    @Setter
+    private Integer mappingParallelism;
+
+    /**
+     * Number of threads used to call Event Portal concurrently during import.
+     * Uses EpImportOperator.DEFAULT_IMPORTER_THREADPOOL_SZ if not set.
+     */
+    @Setter
+    private Integer importerThreadPoolSize;
+
+    /**
+     * Set to TRUE to size the importer thread pool dynamically: the number of threads
+     * is increased while Event Portal response times are flat and halved when requests
+     * are throttled. importerThreadPoolSize is used as the starting size.
+     */
+    @Setter
+    private boolean adaptiveConcurrency = false;
+
+    /**
+     * Concurrency controller used by the last import operation when adaptiveConcurrency is set.
+     * Exposes the final limit and adjustment history for diagnostics.
+     */
+    @Getter
+    private EpConcurrencyLimiter concurrencyLimiter;
+
+    /**
+     * Executor used to run import tasks, e.g. to share one executor across many imports.
+     * It is not shut down by the importer. Concurrent calls to Event Portal are bounded by
+     * importerThreadPoolSize (or the adaptive concurrency limit) instead of the number of threads.
+     */
+    @Setter
+    private ExecutorService executorService;
+
+    /**
+     * Set to TRUE to run each import task on its own virtual thread (Java 21 or later).
+     * Concurrent calls to Event Portal are bounded by importerThreadPoolSize (or the adaptive
+     * concurrency limit). Ignored if executorService is set.
+     */
+    @Setter
+    private boolean useVirtualThreads = false;
+
+    // Phase name --> wall time in milliseconds, in execution order
+    private final Map<String, Long> phaseTimings = new LinkedHashMap<>();
+
+    // Object description --> error for objects that failed or were skipped by the last import operation
+    private final Map<String, Throwable> importErrors = new LinkedHashMap<>();
+
     /**
      * @param applicationDomainName - Name of Application Domain in Event Portal where objects represented in the AsyncApi spec will be imported.
      * @param eventPortalBearerToken - Event Portal Bearer Token, must have read and write privileges
@@ -233,11 +334,23 @@ public class AsyncApiImporter {
     /**
      * Invoke AsyncApi import operation for this AsyncApiImporter object
      * @param operationId - Unique identifier for the import operation; used to capture logs
-     * @throws Exception
+     * @throws Exception if the import fails, including when any object could not be imported or updated.
+     * The objects imported successfully are kept in Event Portal; see getImportErrors()
      */
     public void execImportOperation(Integer operationId) throws Exception
     {
-        final AsyncApiAccessor asyncApiAccessor = new AsyncApiAccessor( AsyncApiAccessor.parseAsyncApi(asyncApiSpecToImport) );
+        phaseTimings.clear();
+        synchronized (importErrors) {
+            importErrors.clear();
+        }
+        long phaseStart = System.nanoTime();
+
+        final AsyncApiStreamReader specStreamReader = streamingSpecFile != null && !streamingSpecFile.isBlank() ?
+            new AsyncApiStreamReader(Path.of(streamingSpecFile)) : null;
+        final AsyncApiAccessor asyncApiAccessor = specStreamReader != null ?
+            specStreamReader.readAccessor() :
+            new AsyncApiAccessor( AsyncApiAccessor.parseAsyncApi(asyncApiSpecToImport) );
+        phaseStart = recordPhase(PHASE_PARSE, phaseStart);
 
         EventPortalClientApi importClient;
         if (this.applicationDomainId == null || this.applicationDomainId.isBlank()) {
@@ -257,61 +370,132 @@ public class AsyncApiImporter {
             );
             this.applicationDomainName = importClient.getAppDomainName();
         }
+        phaseStart = recordPhase(PHASE_CONNECT, phaseStart);
+
+        final int maxConcurrentCalls = importerThreadPoolSize != null && importerThreadPoolSize > 0 ?
+            importerThreadPoolSize : EpImportOperator.DEFAULT_IMPORTER_THREADPOOL_SZ;
+        if (adaptiveConcurrency) {
+            // The client bounds calls from every thread, including paging threads, by the adaptive limit
+            this.concurrencyLimiter = new EpConcurrencyLimiter(maxConcurrentCalls);
+            importClient.setConcurrencyLimiter(concurrencyLimiter);
+        }
+
+        // Thread-per-task and shared executors do not bound concurrency, so calls to EP are bounded by permits
+        final ExecutorService virtualThreadExecutor = executorService == null && useVirtualThreads ?
+            EpImportOperator.newVirtualThreadExecutor() : null;
+        final ExecutorService taskExecutor = executorService != null ? executorService : virtualThreadExecutor;
+        if (taskExecutor != null && concurrencyLimiter == null) {
+            importClient.setCallPermits(new EpCallPermits(maxConcurrentCalls));
+        }
+
+        final EpDomainSnapshotCache domainCache = domainCacheFile != null && !domainCacheFile.isBlank() ?
+            new EpDomainSnapshotCache(Path.of(domainCacheFile)) : null;
+        phaseStart = System.nanoTime();
+        if (domainCache != null) {
+            importClient.loadDomainSnapshot(domainCache, refreshDomainCache);
+            phaseStart = recordPhase(PHASE_DOMAIN_SNAPSHOT, phaseStart);
+        } else if (useDomainSnapshot) {
+            importClient.loadDomainSnapshot();
+            phaseStart = recordPhase(PHASE_DOMAIN_SNAPSHOT, phaseStart);
+        }
 
         final AsyncApiV2ToDto asyncApiToDtoMapper = new AsyncApiV2ToDto(
             asyncApiAccessor, 
             applicationDomainId, 
             applicationDomainName
         );
+        if (mappingParallelism != null) {
+            asyncApiToDtoMapper.setMappingParallelism(mappingParallelism);
+        }
 
-        final DtoResultSet mappedResults = asyncApiToDtoMapper.mapAsyncApiToDto();
+        final DtoResultSet mappedResults = specStreamReader != null ?
+            asyncApiToDtoMapper.mapAsyncApiToDto(specStreamReader) :
+            asyncApiToDtoMapper.mapAsyncApiToDto();
         if (! EventPortalModelUtils.versionCountsValid(mappedResults)) {
             throw new Exception("Input from the AsyncApi spec was found to be invalid -- EXITING");
         }
+        phaseStart = recordPhase(PHASE_MAP, phaseStart);
 
-        final EpImportOperator importOperator = new EpImportOperator(mappedResults, importClient, operationId);
+        final EpImportOperator importOperator = taskExecutor != null ?
+            new EpImportOperator(mappedResults, importClient, operationId, taskExecutor) :
+            new EpImportOperator(mappedResults, importClient, operationId, importerThreadPoolSize);
 
         try {
-            importOperator.matchEpEnums();
-
-            importOperator.matchEpSchemas();
-
-            importOperator.importEnums();
-
-            importOperator.importSchemas();
-
-            importOperator.matchEpEvents();
-
-            importOperator.importEvents();
-
-            if (importApplication) 
-            {
-                importOperator.matchEpApplications();
-
-                importOperator.importApplications();
-            }
-
-            if (importEventApi) {
-                importOperator.matchEpEventApis();
-
-                importOperator.importEventApis();
-            }
+            // Each object is matched and imported as soon as the objects it references are imported
+            importOperator.importByDependencyGraph(importApplication, importEventApi);
+            phaseStart = recordPhase(PHASE_IMPORT, phaseStart);
 
             if (performCascadeUpdate)
             {
-                importOperator.cascadeUpdateEvents();
-
-                if (importApplication) {
-                    importOperator.cascadeUpdateApplications();
-                }
+                importOperator.cascadeUpdate(importApplication, importEventApi);
+                phaseStart = recordPhase(PHASE_CASCADE_UPDATE, phaseStart);
+            }
 
-                if (importEventApi) {
-                    importOperator.cascadeUpdateEventApis();
+            final Map<String, Throwable> operationErrors = importOperator.getImportErrors();
+            if (! operationErrors.isEmpty()) {
+                synchronized (importErrors) {
+                    importErrors.putAll(operationErrors);
                 }
+                log.error("{} objects could not be imported or updated: {}", operationErrors.size(), operationErrors.keySet());
+                throw new Exception(String.format(
+                    "Import to application domain [%s] failed: %d objects could not be imported or updated: %s",
+                    applicationDomainName, operationErrors.size(), operationErrors.keySet()));
             }
         } finally {
             // Shutdown the thread pool to allow the JVM to exit
             importOperator.shutdown();
+            if (virtualThreadExecutor != null) {
+                virtualThreadExecutor.shutdown();
+            }
+            if (domainCache != null) {
+                // Record objects and versions created by this import
+                importClient.saveDomainSnapshot(domainCache);
+            }
+            log.debug("EP read requests executed: {}; coalesced with identical in-flight requests: {}",
+                importClient.getRequestCoalescer().getRequestCount(),
+                importClient.getRequestCoalescer().getCoalescedCount());
+            if (importClient.getRetryPolicy() != null && importClient.getRetryPolicy().getRetryCount() > 0) {
+                log.info("EP calls retried: {}", importClient.getRetryPolicy());
+            }
+            if (concurrencyLimiter != null) {
+                log.debug("Final EP concurrency limit: {}; adjustments: {}",
+                    concurrencyLimiter.getLimit(), concurrencyLimiter.getAdjustmentHistory());
+            }
+            log.debug("Import phase timings (ms): {}", phaseTimings);
+        }
+    }
+
+    /**
+     * Wall time of each phase of the last import operation, in execution order.
+     * Phases not run (e.g. cascade update when not requested) are absent; a phase
+     * that failed is absent along with all later phases.
+     * @return Phase name --> milliseconds
+     */
+    public Map<String, Long> getPhaseTimings()
+    {
+        synchronized (phaseTimings) {
+            return new LinkedHashMap<>(phaseTimings);
+        }
+    }
+
+    /**
+     * Objects that failed to import or update, or were skipped because an object they
+     * reference failed, during the last import operation. Empty if the import succeeded.
+     * @return Object description --> error
+     */
+    public Map<String, Throwable> getImportErrors()
+    {
+        synchronized (importErrors) {
+            return new LinkedHashMap<>(importErrors);
+        }
+    }
+
+    private long recordPhase(final String phase, final long startNanos)
+    {
+        final long now = System.nanoTime();
+        synchronized (phaseTimings) {
+            phaseTimings.put(phase, (now - startNanos) / 1_000_000L);
         }
+        return now;
     }
 }
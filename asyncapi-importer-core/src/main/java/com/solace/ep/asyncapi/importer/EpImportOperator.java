@@ -17,6 +17,8 @@
 
 package com.solace.ep.asyncapi.importer;
 
+import com.solace.ep.asyncapi.importer.client.EpConcurrencyLimiter;
+import com.solace.ep.asyncapi.importer.client.EpMatchResult;
 import com.solace.ep.asyncapi.importer.client.EventPortalClientApi;
 import com.solace.ep.asyncapi.importer.model.dto.ApplicationDto;
 import com.solace.ep.asyncapi.importer.model.dto.ApplicationVersionDto;
@@ -34,17 +36,26 @@ import com.solace.ep.asyncapi.importer.util.EventPortalModelUtils;
 import lombok.Getter;
 import lombok.extern.slf4j.Slf4j;
 
+import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.Future;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
 
 import com.solace.cloud.ep.designer.model.Application;
 import com.solace.cloud.ep.designer.model.ApplicationVersion;
@@ -60,7 +71,7 @@ import com.solace.cloud.ep.designer.model.TopicAddressEnumVersion;
 @Slf4j
 public class EpImportOperator {
 
-    private static final int DEFAULT_IMPORTER_THREADPOOL_SZ = 8;
+    public static final int DEFAULT_IMPORTER_THREADPOOL_SZ = 8;
 
     public static final String OPERATOR_ID_PREFIX = "ImportOp";
 
@@ -77,8 +88,21 @@ public class EpImportOperator {
 
     private Map<String, String> incrementedEventVersions = new ConcurrentHashMap<>();
 
+    // Event versions replaced by the cascade update; keys are also in incrementedEventVersions
+    private Map<String, EventVersion> cascadeReplacedEventVersions = new ConcurrentHashMap<>();
+
     private final ExecutorService executor;
 
+    // False when the executor was supplied by the caller; it is then left running on shutdown
+    private final boolean ownsExecutor;
+
+    /**
+     * Objects that failed to match, import, or cascade update, keyed by object description
+     */
+    private final Map<String, Throwable> importErrors = Collections.synchronizedMap(new LinkedHashMap<>());
+
+    private final IntConsumer poolSizeListener;
+
     private final int operationId;
 
     public static String getOperatorIdPrefix(int operationId) {
@@ -89,12 +113,37 @@ public class EpImportOperator {
         DtoResultSet dtoResultSetToUpdate,
         EventPortalClientApi client,
         final Integer operationId) throws Exception
+    {
+        this(dtoResultSetToUpdate, client, operationId, (Integer) null);
+    }
+
+    /**
+     * @param dtoResultSetToUpdate
+     * @param client
+     * @param operationId - Unique identifier for the import operation; used to name threads
+     * @param threadPoolSize - Number of threads used to call Event Portal concurrently.
+     * Defaults to DEFAULT_IMPORTER_THREADPOOL_SZ if null or less than 1
+     * @throws Exception
+     */
+    public EpImportOperator(
+        DtoResultSet dtoResultSetToUpdate,
+        EventPortalClientApi client,
+        final Integer operationId,
+        final Integer threadPoolSize) throws Exception
     {
         this.epClient = client;
         this.dtoResultSet = dtoResultSetToUpdate;
         this.operationId = operationId != null ? operationId : defaultOperationIdCounter++;
-        this.executor = Executors.newFixedThreadPool(
-            DEFAULT_IMPORTER_THREADPOOL_SZ, 
+        final EpConcurrencyLimiter limiter = client.getConcurrencyLimiter();
+        final int poolSize = limiter != null ? limiter.getLimit() :
+            (threadPoolSize != null && threadPoolSize > 0 ? threadPoolSize : DEFAULT_IMPORTER_THREADPOOL_SZ);
+        this.ownsExecutor = true;
+        this.executor = new ThreadPoolExecutor(
+            poolSize,
+            poolSize,
+            0L,
+            TimeUnit.MILLISECONDS,
+            new LinkedBlockingQueue<>(),
             r -> {
                 Thread t = new Thread(r);
                 t.setName(OPERATOR_ID_PREFIX + this.operationId + "-" + t.getId());
@@ -102,6 +151,112 @@ public class EpImportOperator {
                 return t;
             }
         );
+        if (limiter != null) {
+            // Pool width follows the adaptive concurrency limit
+            this.poolSizeListener = this::resizeThreadPool;
+            limiter.addLimitListener(poolSizeListener);
+        } else {
+            this.poolSizeListener = null;
+        }
+    }
+
+    /**
+     * Run import tasks on an executor supplied by the caller, e.g. to share one executor across
+     * many imports or to run each task on a virtual thread. The executor is not shut down by
+     * shutdown(). Thread-per-task executors do not bound concurrency; set EpCallPermits on the
+     * client to limit the number of concurrent calls to Event Portal.
+     * @param dtoResultSetToUpdate
+     * @param client
+     * @param operationId - Unique identifier for the import operation
+     * @param executor - Executor used to run import tasks
+     * @throws Exception
+     */
+    public EpImportOperator(
+        DtoResultSet dtoResultSetToUpdate,
+        EventPortalClientApi client,
+        final Integer operationId,
+        final ExecutorService executor) throws Exception
+    {
+        if (executor == null) {
+            throw new IllegalArgumentException("executor must not be null");
+        }
+        this.epClient = client;
+        this.dtoResultSet = dtoResultSetToUpdate;
+        this.operationId = operationId != null ? operationId : defaultOperationIdCounter++;
+        this.executor = executor;
+        this.ownsExecutor = false;
+        this.poolSizeListener = null;
+    }
+
+    /**
+     * Create an executor that starts a new virtual thread for each task.
+     * Virtual threads require Java 21 or later; the executor is created reflectively so that
+     * the importer can still be built and run on Java 17.
+     * @return Virtual thread per task executor
+     * @throws UnsupportedOperationException if virtual threads are not available in this JVM
+     */
+    public static ExecutorService newVirtualThreadExecutor()
+    {
+        try {
+            final Method factory = Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return (ExecutorService) factory.invoke(null);
+        } catch (NoSuchMethodException e) {
+            throw new UnsupportedOperationException(
+                "Virtual threads require Java 21 or later; running on Java " + Runtime.version().feature());
+        } catch (ReflectiveOperationException e) {
+            throw new UnsupportedOperationException("Unable to create virtual thread executor", e);
+        }
+    }
+
+    /**
+     * @return True if this JVM supports virtual threads
+     */
+    public static boolean isVirtualThreadSupported()
+    {
+        try {
+            Executors.class.getMethod("newVirtualThreadPerTaskExecutor");
+            return true;
+        } catch (NoSuchMethodException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Objects that failed to match, import, or cascade update during this operation.
+     * Errors from each concurrent phase are listed in the order the objects were submitted.
+     * @return Map of object description to error
+     */
+    public Map<String, Throwable> getImportErrors() {
+        synchronized (importErrors) {
+            return new LinkedHashMap<>(importErrors);
+        }
+    }
+
+    /**
+     * @return Current number of threads used to call Event Portal, or the number of client
+     * call permits when using a supplied executor; -1 if concurrency is not bounded
+     */
+    public int getThreadPoolSize() {
+        if (ownsExecutor) {
+            return ((ThreadPoolExecutor) executor).getMaximumPoolSize();
+        }
+        return epClient.getCallPermits() != null ? epClient.getCallPermits().getPermits() : -1;
+    }
+
+    private synchronized void resizeThreadPool(final int newSize) {
+        final ThreadPoolExecutor executor = (ThreadPoolExecutor) this.executor;
+        if (executor.isShutdown() || newSize == executor.getMaximumPoolSize()) {
+            return;
+        }
+        // Core size must never exceed max size
+        if (newSize > executor.getMaximumPoolSize()) {
+            executor.setMaximumPoolSize(newSize);
+            executor.setCorePoolSize(newSize);
+        } else {
+            executor.setCorePoolSize(newSize);
+            executor.setMaximumPoolSize(newSize);
+        }
+        log.debug("{} thread pool resized to {}", getOperatorIdPrefix(operationId), newSize);
     }
 
     public EpImportOperator(
@@ -112,6 +267,12 @@ public class EpImportOperator {
     }
 
     public void shutdown() {
+        if (poolSizeListener != null) {
+            epClient.getConcurrencyLimiter().removeLimitListener(poolSizeListener);
+        }
+        if (!ownsExecutor) {
+            return;
+        }
         executor.shutdown();
         try {
             if (!executor.awaitTermination(12, TimeUnit.SECONDS)) {
@@ -123,13 +284,200 @@ public class EpImportOperator {
         }
     }
 
+    /**
+     * Unit of work for a node in the import dependency graph
+     */
+    @FunctionalInterface
+    private interface ImportTask {
+        void run() throws Exception;
+    }
+
+    /**
+     * Match and import all objects in the result set, scheduling each object as soon as the
+     * objects it references have been imported instead of waiting for whole phases to complete:
+     * - Enums and schemas have no dependencies and start immediately
+     * - Each event starts when the schemas and enums referenced by its versions are imported
+     * - Applications and event APIs start when the events they publish or consume are imported
+     * All nodes run on the importer thread pool. If an object fails to import, objects that
+     * depend on it are skipped and reported.
+     * @param includeApplications - match and import applications
+     * @param includeEventApis - match and import event APIs
+     * @throws Exception
+     */
+    public void importByDependencyGraph(
+        final boolean includeApplications,
+        final boolean includeEventApis
+    ) throws Exception
+    {
+        final long startMillis = System.currentTimeMillis();
+        final Map<String, CompletableFuture<Void>> nodes = new LinkedHashMap<>();
+
+        // Resolve all enum names with batched queries up front; an enum that cannot be used
+        // fails its node, and with it the events that reference the enum
+        final Map<String, Exception> enumLookupErrors = new LinkedHashMap<>();
+        final Map<String, TopicAddressEnum> epEnumsByName = epClient.getTopicAddressEnumsByName(dtoResultSet.getMapEnums().keySet(), enumLookupErrors);
+
+        final Map<EnumVersionDto, CompletableFuture<Void>> enumVersionNodes = new IdentityHashMap<>();
+        dtoResultSet.getMapEnums().forEach( (enumName, enumDto) -> {
+            final CompletableFuture<Void> enumNode = scheduleNode("enum " + enumName, Collections.emptyList(), () -> {
+                if (enumLookupErrors.containsKey(enumName)) {
+                    throw enumLookupErrors.get(enumName);
+                }
+                matchToEpEnumObject(enumName, enumDto, epEnumsByName.get(enumName));
+                importEnumObject(enumName, enumDto);
+            });
+            nodes.put("enum " + enumName, enumNode);
+            enumDto.getEnumVersions().forEach( enumVersionDto -> enumVersionNodes.put(enumVersionDto, enumNode) );
+        });
+
+        final Map<SchemaVersionDto, CompletableFuture<Void>> schemaVersionNodes = new IdentityHashMap<>();
+        dtoResultSet.getMapSchemas().forEach( (schemaName, schemaDto) -> {
+            final CompletableFuture<Void> schemaNode = scheduleNode("schema " + schemaName, Collections.emptyList(), () -> {
+                matchToEpSchemaObject(schemaName, schemaDto);
+                importSchemaObject(schemaName, schemaDto);
+            });
+            nodes.put("schema " + schemaName, schemaNode);
+            schemaDto.getSchemaVersions().forEach( schemaVersionDto -> schemaVersionNodes.put(schemaVersionDto, schemaNode) );
+        });
+
+        // Only events published or consumed are referenced by application and event API versions
+        final List<CompletableFuture<Void>> referencedEventNodes = new ArrayList<>();
+        dtoResultSet.getMapEvents().forEach( (eventName, eventDto) -> {
+            final Set<CompletableFuture<Void>> inputs = Collections.newSetFromMap(new IdentityHashMap<>());
+            eventDto.getEventVersions().forEach( eventVersionDto -> {
+                if (eventVersionDto.getSchemaVersionDto() != null && schemaVersionNodes.containsKey(eventVersionDto.getSchemaVersionDto())) {
+                    inputs.add(schemaVersionNodes.get(eventVersionDto.getSchemaVersionDto()));
+                }
+                eventVersionDto.getDeliveryDescriptor().getAddress().getAddressLevels().forEach( level -> {
+                    if (level.getHasEnum() && enumVersionNodes.containsKey(level.getEnumVersionDto())) {
+                        inputs.add(enumVersionNodes.get(level.getEnumVersionDto()));
+                    }
+                });
+            });
+            final CompletableFuture<Void> eventNode = scheduleNode("event " + eventName, new ArrayList<>(inputs), () -> {
+                updateEventIdentifiers(eventDto);
+                matchToEpEventObject(eventName, eventDto);
+                importEventObject(eventName, eventDto);
+            });
+            nodes.put("event " + eventName, eventNode);
+            if (eventDto.getPublishedEvent() || eventDto.getConsumedEvent()) {
+                referencedEventNodes.add(eventNode);
+            }
+        });
+
+        if (includeApplications) {
+            dtoResultSet.getMapApplications().forEach( (appName, appDto) -> {
+                nodes.put("application " + appName, scheduleNode("application " + appName, referencedEventNodes, () -> {
+                    updateApplicationIdentifiers(appDto);
+                    matchToEpApplicationObject(appName, appDto);
+                    importApplicationObject(appName, appDto);
+                }));
+            });
+        }
+        if (includeEventApis) {
+            dtoResultSet.getMapEventApis().forEach( (apiName, apiDto) -> {
+                nodes.put("event api " + apiName, scheduleNode("event api " + apiName, referencedEventNodes, () -> {
+                    updateEventApiIdentifiers(apiDto);
+                    matchToEpEventApiObject(apiName, apiDto);
+                    importEventApiObject(apiName, apiDto);
+                }));
+            });
+        }
+
+        // Wait for every node, whether completed normally or exceptionally
+        CompletableFuture.allOf(nodes.values().toArray(new CompletableFuture<?>[0])).handle( (result, failure) -> null ).get();
+
+        final List<String> failedNodes = new ArrayList<>();
+        nodes.forEach( (description, node) -> {
+            if (node.isCompletedExceptionally()) {
+                failedNodes.add(description);
+            }
+        });
+        if (failedNodes.isEmpty()) {
+            log.info("Imported {} objects in {} ms", nodes.size(), System.currentTimeMillis() - startMillis);
+        } else {
+            log.error("Import completed in {} ms with {} of {} objects failed or skipped: {}",
+                System.currentTimeMillis() - startMillis, failedNodes.size(), nodes.size(), failedNodes);
+        }
+    }
+
+    /**
+     * Schedule task on the thread pool once all inputs have completed normally.
+     * Completes exceptionally if the task fails or if any input failed, in which case the task is skipped.
+     * Failed and skipped tasks are both recorded in the import errors.
+     */
+    private CompletableFuture<Void> scheduleNode(
+        final String description,
+        final List<CompletableFuture<Void>> inputs,
+        final ImportTask task
+    )
+    {
+        final CompletableFuture<Void> inputsDone = inputs.isEmpty() ?
+            CompletableFuture.completedFuture(null) :
+            CompletableFuture.allOf(inputs.toArray(new CompletableFuture<?>[0]));
+
+        return inputsDone.handleAsync( (ignored, inputFailure) -> {
+            if (inputFailure != null) {
+                log.error("Skipped {}: an object it references failed to import", description);
+                importErrors.put(description, new Exception(String.format(
+                    "Skipped %s: an object it references failed to import", description), inputFailure));
+                throw new CompletionException(inputFailure);
+            }
+            try {
+                task.run();
+            } catch (Exception e) {
+                log.error("Failed to import {}", description, e);
+                importErrors.put(description, e);
+                throw new CompletionException(e);
+            }
+            return null;
+        }, executor);
+    }
+
+    /**
+     * Run one task per object on the thread pool and wait for all of them to complete.
+     * Results are collected in the order the tasks were submitted. A failed task is logged
+     * and recorded in the import errors without stopping the remaining tasks.
+     * @param action - description of the action for logging, e.g. "match application"
+     * @param tasks - task for each object keyed by object name, in submission order
+     * @return Number of tasks that failed
+     * @throws Exception if interrupted while waiting
+     */
+    private int runConcurrently(
+        final String action,
+        final Map<String, ImportTask> tasks
+    ) throws Exception
+    {
+        final Map<String, Future<?>> futures = new LinkedHashMap<>();
+        tasks.forEach( (objectName, task) -> futures.put(objectName, executor.submit(() -> {
+            task.run();
+            return null;
+        })));
+
+        int failed = 0;
+        for (Map.Entry<String, Future<?>> future : futures.entrySet()) {
+            try {
+                future.getValue().get(); // wait for each task to complete
+            } catch (ExecutionException e) {
+                failed++;
+                log.error("Failed to {} {}", action, future.getKey(), e.getCause());
+                importErrors.put(action + " " + future.getKey(), e.getCause());
+            }
+        }
+        if (failed > 0) {
+            log.error("Failed to {} {} of {} objects", action, failed, tasks.size());
+        }
+        return failed;
+    }
+
     public void matchEpApplications() throws Exception
     {
         updateApplicationIdentifiers();
 
-        for (Map.Entry<String, ApplicationDto> appEntry : dtoResultSet.getMapApplications().entrySet()) {
-            matchToEpApplicationObject(appEntry.getKey(), appEntry.getValue());
-        }
+        final Map<String, ImportTask> tasks = new LinkedHashMap<>();
+        dtoResultSet.getMapApplications().forEach( (appName, appDto) ->
+            tasks.put(appName, () -> matchToEpApplicationObject(appName, appDto)) );
+        runConcurrently("match application", tasks);
     }
 
     /**
@@ -139,20 +487,24 @@ public class EpImportOperator {
      * the import operation.
      */
     private void updateApplicationIdentifiers() {
-        dtoResultSet.getMapApplications().forEach( ( appName, appDto ) -> {
-            appDto.getApplicationVersions().forEach( appVersionDto -> {
-                appVersionDto.setDeclaredProducedEventVersionIds(getPublishedEventIdsFromResults());
-                appVersionDto.setDeclaredConsumedEventVersionIds(getConsumedEventIdsFromResults());
-            } );
+        dtoResultSet.getMapApplications().forEach( ( appName, appDto ) -> updateApplicationIdentifiers(appDto) );
+    }
+
+    private void updateApplicationIdentifiers(final ApplicationDto appDto) {
+        appDto.getApplicationVersions().forEach( appVersionDto -> {
+            appVersionDto.setDeclaredProducedEventVersionIds(getPublishedEventIdsFromResults());
+            appVersionDto.setDeclaredConsumedEventVersionIds(getConsumedEventIdsFromResults());
         } );
     }
 
     private void updateEventApiIdentifiers() {
-        dtoResultSet.getMapEventApis().forEach( ( apiName, apiDto ) -> {
-            apiDto.getEventApiVersions().forEach( apiVersionDto -> {
-                apiVersionDto.setProducedEventVersionIds(getConsumedEventIdsFromResults());
-                apiVersionDto.setConsumedEventVersionIds(getPublishedEventIdsFromResults());
-            } );
+        dtoResultSet.getMapEventApis().forEach( ( apiName, apiDto ) -> updateEventApiIdentifiers(apiDto) );
+    }
+
+    private void updateEventApiIdentifiers(final EventApiDto apiDto) {
+        apiDto.getEventApiVersions().forEach( apiVersionDto -> {
+            apiVersionDto.setProducedEventVersionIds(getConsumedEventIdsFromResults());
+            apiVersionDto.setConsumedEventVersionIds(getPublishedEventIdsFromResults());
         } );
     }
 
@@ -186,19 +538,20 @@ public class EpImportOperator {
     ) throws Exception
     {
         // final ApplicationVersion epAppVersion = epClient.getApplicationVersionByProducedEvents(
-        final ApplicationVersion epAppVersion = epClient.getApplicationVersionByAllEvents(
+        final EpMatchResult<ApplicationVersion> matchResult = epClient.matchApplicationVersionByAllEvents(
             appId, 
             appVersionDto.getDeclaredProducedEventVersionIds(),
             appVersionDto.getDeclaredConsumedEventVersionIds()
         );
+        final ApplicationVersion epAppVersion = matchResult.getMatch();
         if (epAppVersion != null) {
             appVersionDto.setMatchFound(true);
             appVersionDto.setEpApplicationVersion(epAppVersion);
             log.info("Application version [{}] found in Event Portal", epAppVersion.getVersion());
         } else {
             log.info("Matching Application version not found in Event Portal");
-            if (epClient.getCachedLatestApplicationVersion() != null) {
-                appVersionDto.setEpApplicationVersion(epClient.getCachedLatestApplicationVersion());
+            if (matchResult.getLatest() != null) {
+                appVersionDto.setEpApplicationVersion(matchResult.getLatest());
                 appVersionDto.setLastestVersionFound(true);
                 if (appVersionDto.getEpApplicationVersion().getStateId().contentEquals("1")) {
                     appVersionDto.setLatestVersionFoundInDraftState(true);
@@ -241,9 +594,10 @@ public class EpImportOperator {
     public void matchEpEventApis() throws Exception {
         updateEventApiIdentifiers();
 
-        for (Map.Entry<String, EventApiDto> apiEntry : dtoResultSet.getMapEventApis().entrySet()) {
-            matchToEpEventApiObject(apiEntry.getKey(), apiEntry.getValue());
-        }
+        final Map<String, ImportTask> tasks = new LinkedHashMap<>();
+        dtoResultSet.getMapEventApis().forEach( (apiName, apiDto) ->
+            tasks.put(apiName, () -> matchToEpEventApiObject(apiName, apiDto)) );
+        runConcurrently("match event api", tasks);
     }
 
     private void matchToEpEventApiObject(
@@ -276,19 +630,20 @@ public class EpImportOperator {
     ) throws Exception
     {
         // final ApplicationVersion epAppVersion = epClient.getApplicationVersionByProducedEvents(
-        final EventApiVersion epEventApiVersion = epClient.getEventApiVersionByAllEvents(
+        final EpMatchResult<EventApiVersion> matchResult = epClient.matchEventApiVersionByAllEvents(
             eventApiId,
             apiVersionDto.getProducedEventVersionIds(),
             apiVersionDto.getConsumedEventVersionIds()
         );
+        final EventApiVersion epEventApiVersion = matchResult.getMatch();
         if (epEventApiVersion != null) {
             apiVersionDto.setMatchFound(true);
             apiVersionDto.setEpEventApiVersion(epEventApiVersion);
             log.info("Event API version [{}] found in Event Portal", epEventApiVersion.getVersion());
         } else {
             log.info("Matching Event API version not found in Event Portal");
-            if (epClient.getCachedLatestEventApiVersion() != null) {
-                apiVersionDto.setEpEventApiVersion(epClient.getCachedLatestEventApiVersion());
+            if (matchResult.getLatest() != null) {
+                apiVersionDto.setEpEventApiVersion(matchResult.getLatest());
                 apiVersionDto.setLastestVersionFound(true);
                 if (apiVersionDto.getEpEventApiVersion().getStateId().contentEquals("1")) {
                     apiVersionDto.setLatestVersionFoundInDraftState(true);
@@ -299,20 +654,10 @@ public class EpImportOperator {
 
     public void matchEpSchemas() throws Exception
     {
-        List<Future<?>> futures = new ArrayList<>();
-        for (Map.Entry<String, SchemaDto> schemaEntry : dtoResultSet.getMapSchemas().entrySet()) {
-            futures.add(executor.submit(() -> {
-                try {
-                    matchToEpSchemaObject(schemaEntry.getKey(), schemaEntry.getValue());
-                } catch (Exception e) {
-                    log.error("Failed to match schema {}", schemaEntry.getKey(), e);
-                }
-            }));
-        }
-
-        for (Future<?> future : futures) {
-            future.get(); // wait for each task to complete
-        }
+        final Map<String, ImportTask> tasks = new LinkedHashMap<>();
+        dtoResultSet.getMapSchemas().forEach( (schemaName, dto) ->
+            tasks.put(schemaName, () -> matchToEpSchemaObject(schemaName, dto)) );
+        runConcurrently("match schema", tasks);
     }
 
     private void matchToEpSchemaObject(
@@ -342,17 +687,24 @@ public class EpImportOperator {
         final String schemaId
     ) throws Exception
     {
-        SchemaVersion sv = epClient.getSchemaVersionByContent(schemaId, schemaVersionDto.getContent());
+        final String contentHash = schemaVersionDto.getContentHash() != null ?
+            schemaVersionDto.getContentHash() :
+            EventPortalModelUtils.computeSchemaContentHashOrNull(schemaVersionDto.getContent());
+        // Content that cannot be hashed is matched by comparing content
+        final EpMatchResult<SchemaVersion> matchResult = contentHash != null ?
+            epClient.matchSchemaVersionByContentHash(schemaId, contentHash) :
+            epClient.matchSchemaVersionByContent(schemaId, schemaVersionDto.getContent());
+        final SchemaVersion sv = matchResult.getMatch();
         if (sv != null) {
             schemaVersionDto.setMatchFound(true);
             schemaVersionDto.setEpSchemaVersion(sv);
             log.info("Schema version [{}] matching import content found to exist", sv.getVersion());
         } else {
             log.info("Schema version matching import content not found in Event Portal");
-            if (epClient.getCachedLatestSchemaVersion() != null) {
-                schemaVersionDto.setEpSchemaVersion(epClient.getCachedLatestSchemaVersion());
+            if (matchResult.getLatest() != null) {
+                schemaVersionDto.setEpSchemaVersion(matchResult.getLatest());
                 schemaVersionDto.setLastestVersionFound(true);
-                if (epClient.getCachedLatestSchemaVersion().getStateId().contentEquals("1")) {
+                if (matchResult.getLatest().getStateId().contentEquals("1")) {
                     schemaVersionDto.setLatestVersionFoundInDraftState(true);
                 }
             }
@@ -361,27 +713,26 @@ public class EpImportOperator {
 
     public void matchEpEnums() throws Exception
     {
-        List<Future<?>> futures = new ArrayList<>();
-        for (Map.Entry<String, EnumDto> enumEntry : dtoResultSet.getMapEnums().entrySet()) {
-            futures.add(executor.submit(() -> {
-                try {
-                    matchToEpEnumObject(enumEntry.getKey(), enumEntry.getValue());
-                } catch (Exception e) {
-                    log.error("Failed to match enum {}", enumEntry.getKey(), e);
+        // Resolve all enum names with batched queries, then match versions per enum
+        final Map<String, Exception> enumLookupErrors = new LinkedHashMap<>();
+        final Map<String, TopicAddressEnum> epEnumsByName = epClient.getTopicAddressEnumsByName(dtoResultSet.getMapEnums().keySet(), enumLookupErrors);
+
+        final Map<String, ImportTask> tasks = new LinkedHashMap<>();
+        dtoResultSet.getMapEnums().forEach( (enumName, dto) ->
+            tasks.put(enumName, () -> {
+                if (enumLookupErrors.containsKey(enumName)) {
+                    throw enumLookupErrors.get(enumName);
                 }
-            }));
-        }
-
-        for (Future<?> future : futures) {
-            future.get(); // wait for each task to complete
-        }
+                matchToEpEnumObject(enumName, dto, epEnumsByName.get(enumName));
+            }) );
+        runConcurrently("match enum", tasks);
     }
 
     private void matchToEpEnumObject(
         final String enumName, 
-        final EnumDto enumDto ) throws Exception
+        final EnumDto enumDto,
+        final TopicAddressEnum topicAddressEnum ) throws Exception
     {
-        final TopicAddressEnum topicAddressEnum = epClient.getTopicAddressEnumByName(enumName);
         if (topicAddressEnum == null) {
             enumDto.setMatchFound(false);
             log.info("Enum Object Name [{}] not found in Event Portal", enumName);
@@ -403,17 +754,18 @@ public class EpImportOperator {
         final String enumId
     ) throws Exception
     {
-        TopicAddressEnumVersion ev = epClient.getTopicAddressEnumVersionByContent(enumId, enumVersionDto.getValuesAsStringList());
+        final EpMatchResult<TopicAddressEnumVersion> matchResult = epClient.matchTopicAddressEnumVersionByContent(enumId, enumVersionDto.getValuesAsStringList());
+        final TopicAddressEnumVersion ev = matchResult.getMatch();
         if (ev != null) {
             enumVersionDto.setMatchFound(true);
             enumVersionDto.setEpEnumVersion(ev);
             log.info("Enum version [{}] matching import content found to exist", ev.getVersion());
         } else {
             log.info("Enum version matching import content not found in Event Portal");
-            if (epClient.getCachedLatestEnumVersion() != null) {
-                enumVersionDto.setEpEnumVersion(epClient.getCachedLatestEnumVersion());
+            if (matchResult.getLatest() != null) {
+                enumVersionDto.setEpEnumVersion(matchResult.getLatest());
                 enumVersionDto.setLastestVersionFound(true);
-                if (epClient.getCachedLatestEnumVersion().getStateId().contentEquals("1")) {
+                if (matchResult.getLatest().getStateId().contentEquals("1")) {
                     enumVersionDto.setLatestVersionFoundInDraftState(true);
                 }
             }
@@ -425,36 +777,29 @@ public class EpImportOperator {
         updateEventIdentifiers();   // Must update events + event versions with schemaVersionIds
                                     // and enumVersionIds discovered or created earlier
 
-        List<Future<?>> futures = new ArrayList<>();
-        for (Map.Entry<String, EventDto> eventEntry : dtoResultSet.getMapEvents().entrySet() ) {
-            futures.add(executor.submit(() -> {
-                try {
-                    matchToEpEventObject(eventEntry.getKey(), eventEntry.getValue());
-                } catch (Exception e) {
-                    log.error("Failed to match event {}", eventEntry.getKey(), e);
-                }
-            }));
-        }
-
-        for (Future<?> future : futures) {
-            future.get(); // wait for each task to complete
-        }
+        final Map<String, ImportTask> tasks = new LinkedHashMap<>();
+        dtoResultSet.getMapEvents().forEach( (eventName, dto) ->
+            tasks.put(eventName, () -> matchToEpEventObject(eventName, dto)) );
+        runConcurrently("match event", tasks);
     }
 
     private void updateEventIdentifiers()
     {
-        dtoResultSet.getMapEvents().forEach( ( eventName, eventDto ) -> {
-            eventDto.getEventVersions().forEach( eventVersion -> {
-                final String schemaVersionId = eventVersion.getSchemaVersionDto().getId();
-                if (schemaVersionId != null && !schemaVersionId.isBlank()) {
-                    eventVersion.setSchemaVersionId(schemaVersionId);
+        dtoResultSet.getMapEvents().forEach( ( eventName, eventDto ) -> updateEventIdentifiers(eventDto) );
+    }
+
+    private void updateEventIdentifiers(final EventDto eventDto)
+    {
+        eventDto.getEventVersions().forEach( eventVersion -> {
+            final String schemaVersionId = eventVersion.getSchemaVersionDto().getId();
+            if (schemaVersionId != null && !schemaVersionId.isBlank()) {
+                eventVersion.setSchemaVersionId(schemaVersionId);
+            }
+            eventVersion.getDeliveryDescriptor().getAddress().getAddressLevels().forEach( level -> {
+                if ( level.getHasEnum() ) {
+                    final String enumVersionId = level.getEnumVersionDto().getId();
+                    level.setEnumVersionId(enumVersionId);
                 }
-                eventVersion.getDeliveryDescriptor().getAddress().getAddressLevels().forEach( level -> {
-                    if ( level.getHasEnum() ) {
-                        final String enumVersionId = level.getEnumVersionDto().getId();
-                        level.setEnumVersionId(enumVersionId);
-                    }
-                });
             });
         });
     }
@@ -488,15 +833,16 @@ public class EpImportOperator {
     {
         final String schemaVersionId = eventVersionDto.getSchemaVersionId();
         final EventVersionDto.DeliveryDescriptor deliveryDescriptor = eventVersionDto.getDeliveryDescriptor();
-        EventVersion epEventVersion = epClient.getEventVersionBySchemaIdAndDeliveryDescriptor(eventId, schemaVersionId, deliveryDescriptor);
+        final EpMatchResult<EventVersion> matchResult = epClient.matchEventVersionBySchemaIdAndDeliveryDescriptor(eventId, schemaVersionId, deliveryDescriptor);
+        final EventVersion epEventVersion = matchResult.getMatch();
         if (epEventVersion != null) {
             eventVersionDto.setMatchFound(true);
             eventVersionDto.setEpEventVersion(epEventVersion);
             log.info("Event version [{}] matching import content found to exist", epEventVersion.getVersion());
         } else {
             log.info("Event version matching import content not found in Event Portal");
-            if (epClient.getCachedLatestEventVersion() != null) {
-                eventVersionDto.setEpEventVersion(epClient.getCachedLatestEventVersion());
+            if (matchResult.getLatest() != null) {
+                eventVersionDto.setEpEventVersion(matchResult.getLatest());
                 eventVersionDto.setLastestVersionFound(true);
                 if (eventVersionDto.getEpEventVersion().getStateId().contentEquals("1")) {
                     eventVersionDto.setLatestVersionFoundInDraftState(true);
@@ -507,9 +853,10 @@ public class EpImportOperator {
 
     public void importApplications() throws Exception
     {
-        for (Map.Entry<String, ApplicationDto> appEntry : dtoResultSet.getMapApplications().entrySet()) {
-            importApplicationObject(appEntry.getKey(), appEntry.getValue());
-        }
+        final Map<String, ImportTask> tasks = new LinkedHashMap<>();
+        dtoResultSet.getMapApplications().forEach( (appName, appDto) ->
+            tasks.put(appName, () -> importApplicationObject(appName, appDto)) );
+        runConcurrently("import application", tasks);
     }
 
     private void importApplicationObject(
@@ -575,9 +922,10 @@ public class EpImportOperator {
 
     public void importEventApis() throws Exception
     {
-        for (Map.Entry<String, EventApiDto> apiEntry : dtoResultSet.getMapEventApis().entrySet()) {
-            importEventApiObject(apiEntry.getKey(), apiEntry.getValue());
-        }
+        final Map<String, ImportTask> tasks = new LinkedHashMap<>();
+        dtoResultSet.getMapEventApis().forEach( (apiName, apiDto) ->
+            tasks.put(apiName, () -> importEventApiObject(apiName, apiDto)) );
+        runConcurrently("import event api", tasks);
     }
     
     private void importEventApiObject(
@@ -643,20 +991,10 @@ public class EpImportOperator {
 
     public void importSchemas() throws Exception
     {
-        List<Future<?>> futures = new ArrayList<>();
-        for (Map.Entry<String, SchemaDto> schemaEntry : dtoResultSet.getMapSchemas().entrySet()) {
-            futures.add(executor.submit(() -> {
-                try {
-                    importSchemaObject(schemaEntry.getKey(), schemaEntry.getValue());
-                } catch (Exception e) {
-                    log.error("Failed to import schema {}", schemaEntry.getKey(), e);
-                }
-            }));
-        }
-
-        for (Future<?> future : futures) {
-            future.get(); // wait for each task to complete
-        }
+        final Map<String, ImportTask> tasks = new LinkedHashMap<>();
+        dtoResultSet.getMapSchemas().forEach( (schemaName, dto) ->
+            tasks.put(schemaName, () -> importSchemaObject(schemaName, dto)) );
+        runConcurrently("import schema", tasks);
     }
 
     private void importSchemaObject(
@@ -726,20 +1064,10 @@ public class EpImportOperator {
 
     public void importEnums() throws Exception
     {
-        List<Future<?>> futures = new ArrayList<>();
-        for (Map.Entry<String, EnumDto> enumEntry : dtoResultSet.getMapEnums().entrySet()) {
-            futures.add(executor.submit(() -> {
-                try {
-                    importEnumObject(enumEntry.getKey(), enumEntry.getValue());
-                } catch (Exception e) {
-                    log.error("Failed to import enum {}", enumEntry.getKey(), e);
-                }
-            }));
-        }
-
-        for (Future<?> future : futures) {
-            future.get(); // wait for each task to complete
-        }
+        final Map<String, ImportTask> tasks = new LinkedHashMap<>();
+        dtoResultSet.getMapEnums().forEach( (enumName, dto) ->
+            tasks.put(enumName, () -> importEnumObject(enumName, dto)) );
+        runConcurrently("import enum", tasks);
     }
 
     private void importEnumObject(
@@ -813,20 +1141,10 @@ public class EpImportOperator {
 
     public void importEvents() throws Exception
     {
-        List<Future<?>> futures = new ArrayList<>();
-        for (Map.Entry<String, EventDto> eventEntry : dtoResultSet.getMapEvents().entrySet()) {
-            futures.add(executor.submit(() -> {
-                try {
-                    importEventObject(eventEntry.getKey(), eventEntry.getValue());
-                } catch (Exception e) {
-                    log.error("Failed to import event {}", eventEntry.getKey(), e);
-                }
-            }));
-        }
-
-        for (Future<?> future : futures) {
-            future.get(); // wait for each task to complete
-        }
+        final Map<String, ImportTask> tasks = new LinkedHashMap<>();
+        dtoResultSet.getMapEvents().forEach( (eventName, dto) ->
+            tasks.put(eventName, () -> importEventObject(eventName, dto)) );
+        runConcurrently("import event", tasks);
     }
 
     private void importEventObject(
@@ -896,231 +1214,347 @@ public class EpImportOperator {
         eventVersionDto.setVersion(epEventVersion.getVersion());
     }
 
-    public void cascadeUpdateEvents() throws Exception
+    /**
+     * Cascade update all objects affected by versions created during the import operation.
+     * Only versions referencing a schema, enum, or event version replaced by the import are
+     * retrieved, from the domain snapshot if loaded or else by the references Event Portal
+     * records on the replaced versions; unrelated objects in the domain are not read.
+     * The full set of affected versions is computed before any write is made, then written in waves:
+     * 1. Event versions referencing incremented schema or enum versions
+     * 2. Application and Event API versions referencing incremented event versions,
+     *    including event versions created in wave 1
+     * Versions within a wave are updated concurrently.
+     * @param includeApplications - cascade update application versions
+     * @param includeEventApis - cascade update event API versions
+     * @throws Exception
+     */
+    public void cascadeUpdate(final boolean includeApplications, final boolean includeEventApis) throws Exception
     {
-        final Map<String, String> eventIds = epClient.getAllEventIds();
-        final List<EventVersion> latestEventVersions = Collections.synchronizedList(new ArrayList<>());
-
-        List<Future<?>> lookupVersionFutures = new ArrayList<>();
-        for (Map.Entry<String, String> entry : eventIds.entrySet()) {
-            lookupVersionFutures.add(executor.submit(() -> {
-                try {
-                    final EventVersion eventVersion = epClient.getLastEventVersion(entry.getKey());
-                    if (eventVersion != null && ! incrementedEventVersions.containsKey(eventVersion.getId())) {
-                        latestEventVersions.add(eventVersion);
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to get last event version for event {}", entry.getValue(), e);
-                }
-            }));
-        }
+        cascadeUpdate(true, includeApplications, includeEventApis);
+    }
 
-        for (Future<?> future : lookupVersionFutures) {
-            future.get(); // wait for each task to complete
-        }
+    public void cascadeUpdateEvents() throws Exception
+    {
+        cascadeUpdate(true, false, false);
+    }
 
-        List<Future<?>> updateVersionFutures = new ArrayList<>();
-        for (EventVersion ev : latestEventVersions) {
-            updateVersionFutures.add(executor.submit(() -> {
-                try {
-                    boolean changeFound = false;
-                    EventVersionDto.DeliveryDescriptor ddDto = EventPortalModelUtils.mapEpEventVersionToDtoDeliveryDescriptor(ev.getDeliveryDescriptor());
-                    String schemaVersionId = ev.getSchemaVersionId();
-                    final String semVer = ev.getVersion();
-                    if ( incrementedSchemaVersions.containsKey(schemaVersionId) ) {
-                        changeFound = true;
-                        schemaVersionId = incrementedSchemaVersions.get(schemaVersionId);
-                    }
-                    for ( EventVersionDto.TopicAddressLevel level : ddDto.getAddress().getAddressLevels() ) {
-                        if (level.getHasEnum() && incrementedEnumVersions.containsKey(level.getEnumVersionId())) {
-                            changeFound = true;
-                            level.setEnumVersionId(incrementedEnumVersions.get(level.getEnumVersionId()));
-                        }
-                    }
-                    if (changeFound) {
-                        EventVersion updatedEventVersion;
-                        String op = "";
-                        if (ev.getStateId().contentEquals("1")) {
-                            updatedEventVersion = epClient.updateEventVersion(
-                                ev.getId(), 
-                                schemaVersionId, 
-                                ddDto
-                            );
-                            op = "UPDATED existing";
-                        } else {
-                            updatedEventVersion = epClient.createEventVersion(
-                                ev.getEventId(), eventIds.get(ev.getEventId()), schemaVersionId, ddDto, semVer);
-                            if (updatedEventVersion != null) {
-                                incrementedEventVersions.put( ev.getId(), updatedEventVersion.getId() );
-                            }
-                            op = "CREATED new";
-                        }
-                        log.info(
-                            "CASCADE UPDATE -- {} event version [{}] for Event: [{}]",
-                            op,
-                            updatedEventVersion.getVersion(),
-                            eventIds.get(ev.getEventId())
-                        );
-                    }
-                } catch (Exception e) {
-                    log.error("Failed to cascade update event {}", ev.getId(), e);
-                }
-            }));
-        }
+    /**
+     * This method will update existing event api versions (stateId == "1") or
+     * Create new event api versions (stateId > 1)
+     * of the last event api version if any eventId referenced by the event api version
+     * was updated as a result of the import operation.
+     * @throws Exception
+     */
+    public void cascadeUpdateEventApis() throws Exception
+    {
+        cascadeUpdate(false, false, true);
+    }
 
-        for (Future<?> future : updateVersionFutures) {
-            future.get(); // wait for each task to complete
-        }
+    /**
+     * This method will update existing application versions (stateId == "1") or
+     * Create new application versions (stateId > 1)
+     * of the last application version if any eventId referenced by the app version
+     * was updated as a result of the import operation.
+     * @throws Exception
+     */
+    public void cascadeUpdateApplications() throws Exception
+    {
+        cascadeUpdate(false, true, false);
     }
 
-    public void cascadeUpdateEventApis() throws Exception
+    private void cascadeUpdate(
+        final boolean includeEvents,
+        final boolean includeApplications,
+        final boolean includeEventApis
+    ) throws Exception
     {
-        final Map<String, String> eventApiIds = epClient.getAllEventApiIds();
-        final List<EventApiVersion> latestEventApiVersions = new ArrayList<>();
-        String thisEventApiVersionId = "";
+        if (incrementedSchemaVersions.isEmpty() && incrementedEnumVersions.isEmpty() && incrementedEventVersions.isEmpty()) {
+            log.info("CASCADE UPDATE -- no versions replaced by the import; nothing to update");
+            return;
+        }
 
-        for (Map.Entry<String, EventApiDto> entry : dtoResultSet.getMapEventApis().entrySet()) {
-            EventApiVersionDto eventApiVersionDto = entry.getValue().getEventApiVersions().get(0);
-            if (eventApiVersionDto != null) {
-                thisEventApiVersionId = eventApiVersionDto.getId();
+        // Look up only the versions referencing a version replaced by the import
+        final Map<String, String> eventIds = new ConcurrentHashMap<>();
+        final List<EventVersion> affectedEventVersions = new ArrayList<>();
+        if (includeEvents && (!incrementedSchemaVersions.isEmpty() || !incrementedEnumVersions.isEmpty())) {
+            for (EventVersion ev : epClient.getLatestEventVersionsReferencing(getReplacedSchemaVersions(), getReplacedEnumVersions(), eventIds)) {
+                if (! incrementedEventVersions.containsKey(ev.getId())) {
+                    affectedEventVersions.add(ev);
+                }
             }
-            break;
         }
 
-        for (Map.Entry<String, String> entry : eventApiIds.entrySet()) {
-            final EventApiVersion eventApiVersion = epClient.getLastEventApiVersion(entry.getKey());
-            if (eventApiVersion != null && ! thisEventApiVersionId.contentEquals(eventApiVersion.getId())) {
-                latestEventApiVersions.add(eventApiVersion);
+        // Draft versions are updated in place and keep their ID; others are replaced by a new version
+        final List<EventVersion> replacedEventVersions = getReplacedEventVersions();
+        for (EventVersion ev : affectedEventVersions) {
+            if (! ev.getStateId().contentEquals("1")) {
+                replacedEventVersions.add(ev);
             }
         }
 
-        for (EventApiVersion eav : latestEventApiVersions) {
-            boolean changeFound = false;
-            final List<String> eavProducedEventVersions = eav.getProducedEventVersionIds();
-            final List<String> eavConsumedEventVersions = eav.getConsumedEventVersionIds();
-            final String semVer = eav.getVersion();
-            final List<String> updatedEavProducedEventVersions = new ArrayList<>();
-            final List<String> updatedEavConsumedEventVersions = new ArrayList<>();
-            for (String eavEventVersion : eavProducedEventVersions) {
-                if (incrementedEventVersions.containsKey(eavEventVersion)) {
-                    changeFound = true;
-                    updatedEavProducedEventVersions.add(incrementedEventVersions.get(eavEventVersion));
-                } else {
-                    updatedEavProducedEventVersions.add(eavEventVersion);
+        final Map<String, String> applicationIds = new ConcurrentHashMap<>();
+        final String thisApplicationVersionId = getImportedApplicationVersionId();
+        final List<ApplicationVersion> affectedApplicationVersions = new ArrayList<>();
+        if (includeApplications && !replacedEventVersions.isEmpty()) {
+            for (ApplicationVersion av : epClient.getLatestApplicationVersionsReferencing(replacedEventVersions, applicationIds)) {
+                if (! thisApplicationVersionId.contentEquals(av.getId())) {
+                    affectedApplicationVersions.add(av);
                 }
             }
-            for (String eavEventVersion : eavConsumedEventVersions) {
-                if (incrementedEventVersions.containsKey(eavEventVersion)) {
-                    changeFound = true;
-                    updatedEavConsumedEventVersions.add(incrementedEventVersions.get(eavEventVersion));
-                } else {
-                    updatedEavConsumedEventVersions.add(eavEventVersion);
-                }
-            }
-            if (changeFound) {
-                EventApiVersion updatedEventApiVersion;
-                String op = "";
-                if (eav.getStateId().contentEquals("1")) {
-                    updatedEventApiVersion = epClient.updateEventApiVersion(
-                        eav.getId(), updatedEavProducedEventVersions, updatedEavConsumedEventVersions
-                    );
-                    op = "UPDATED existing";
-                } else {
-                    updatedEventApiVersion = epClient.createEventApiVersion(
-                        eav.getEventApiId(),
-                        eventApiIds.get(eav.getEventApiId()),
-                        updatedEavProducedEventVersions, updatedEavConsumedEventVersions,
-                        semVer
-                    );
-                    op = "CREATED new";
+        }
+
+        final Map<String, String> eventApiIds = new ConcurrentHashMap<>();
+        final String thisEventApiVersionId = getImportedEventApiVersionId();
+        final List<EventApiVersion> affectedEventApiVersions = new ArrayList<>();
+        if (includeEventApis && !replacedEventVersions.isEmpty()) {
+            for (EventApiVersion eav : epClient.getLatestEventApiVersionsReferencing(replacedEventVersions, eventApiIds)) {
+                if (! thisEventApiVersionId.contentEquals(eav.getId())) {
+                    affectedEventApiVersions.add(eav);
                 }
-                log.info(
-                    "CASCADE UPDATE -- {} event api version [{}] for Event API: [{}]", 
-                    op, 
-                    updatedEventApiVersion.getVersion(), 
-                    eventApiIds.get(eav.getEventApiId())
-                );
             }
         }
+
+        log.info(
+            "CASCADE UPDATE -- {} event versions, {} application versions, {} event api versions affected",
+            affectedEventVersions.size(), affectedApplicationVersions.size(), affectedEventApiVersions.size()
+        );
+
+        // Wave 1: event versions
+        final Map<String, ImportTask> eventTasks = new LinkedHashMap<>();
+        for (EventVersion ev : affectedEventVersions) {
+            eventTasks.put(ev.getId(), () -> cascadeUpdateEventVersion(ev, eventIds));
+        }
+        runConcurrently("cascade update event version", eventTasks);
+
+        // Wave 2: application and event api versions
+        final Map<String, ImportTask> referencingTasks = new LinkedHashMap<>();
+        for (ApplicationVersion av : affectedApplicationVersions) {
+            referencingTasks.put("application version " + av.getId(), () -> cascadeUpdateApplicationVersion(av, applicationIds));
+        }
+        for (EventApiVersion eav : affectedEventApiVersions) {
+            referencingTasks.put("event api version " + eav.getId(), () -> cascadeUpdateEventApiVersion(eav, eventApiIds));
+        }
+        runConcurrently("cascade update", referencingTasks);
     }
 
     /**
-     * This method will update existing application versions (stateId == "1") or
-     * Create new application versions (stateId > 1)
-     * of the last application version if any eventId referenced by the app version
-     * was updated as a result of the import operation.
-     * @throws Exception
+     * @return Schema versions matched by the import and replaced by a new version
      */
-    public void cascadeUpdateApplications() throws Exception
+    private List<SchemaVersion> getReplacedSchemaVersions()
+    {
+        final List<SchemaVersion> replaced = new ArrayList<>();
+        dtoResultSet.getMapSchemas().values().forEach( schemaDto -> schemaDto.getSchemaVersions().forEach( svDto -> {
+            if (svDto.getEpSchemaVersion() != null && incrementedSchemaVersions.containsKey(svDto.getEpSchemaVersion().getId())) {
+                replaced.add(svDto.getEpSchemaVersion());
+            }
+        }));
+        return replaced;
+    }
+
+    /**
+     * @return Enum versions matched by the import and replaced by a new version
+     */
+    private List<TopicAddressEnumVersion> getReplacedEnumVersions()
+    {
+        final List<TopicAddressEnumVersion> replaced = new ArrayList<>();
+        dtoResultSet.getMapEnums().values().forEach( enumDto -> enumDto.getEnumVersions().forEach( evDto -> {
+            if (evDto.getEpEnumVersion() != null && incrementedEnumVersions.containsKey(evDto.getEpEnumVersion().getId())) {
+                replaced.add(evDto.getEpEnumVersion());
+            }
+        }));
+        return replaced;
+    }
+
+    /**
+     * @return Event versions replaced by a new version, whether matched by the import or
+     * found by an earlier cascade update of events
+     */
+    private List<EventVersion> getReplacedEventVersions()
     {
-        final Map<String, String> applicationIds = epClient.getAllApplicationIds();
-        final List<ApplicationVersion> latestApplicationVersions = new ArrayList<>();
-        String thisApplicationVersionId = "";
-        // String thisApplicationName = "UNKNOWN";
+        final Map<String, EventVersion> replaced = new LinkedHashMap<>();
+        dtoResultSet.getMapEvents().values().forEach( eventDto -> eventDto.getEventVersions().forEach( evDto -> {
+            if (evDto.getEpEventVersion() != null && incrementedEventVersions.containsKey(evDto.getEpEventVersion().getId())) {
+                replaced.put(evDto.getEpEventVersion().getId(), evDto.getEpEventVersion());
+            }
+        }));
+        cascadeReplacedEventVersions.forEach(replaced::putIfAbsent);
+        return new ArrayList<>(replaced.values());
+    }
 
+    private String getImportedApplicationVersionId()
+    {
         for (Map.Entry<String, ApplicationDto> entry : dtoResultSet.getMapApplications().entrySet()) {
-            // thisApplicationName = entry.getKey();
             ApplicationVersionDto appVersionDto = entry.getValue().getApplicationVersions().get(0);
-            if (appVersionDto != null) {
-                thisApplicationVersionId = appVersionDto.getId();
+            if (appVersionDto != null && appVersionDto.getId() != null) {
+                return appVersionDto.getId();
             }
             break;
         }
+        return "";
+    }
 
-        for (Map.Entry<String, String> entry : applicationIds.entrySet()) {
-            final ApplicationVersion applicationVersion = epClient.getLastApplicationVersion(entry.getKey());
-            if (applicationVersion != null && ! thisApplicationVersionId.contentEquals(applicationVersion.getId())) {
-                latestApplicationVersions.add(applicationVersion);
+    private String getImportedEventApiVersionId()
+    {
+        for (Map.Entry<String, EventApiDto> entry : dtoResultSet.getMapEventApis().entrySet()) {
+            EventApiVersionDto eventApiVersionDto = entry.getValue().getEventApiVersions().get(0);
+            if (eventApiVersionDto != null && eventApiVersionDto.getId() != null) {
+                return eventApiVersionDto.getId();
             }
+            break;
         }
+        return "";
+    }
 
-        for (ApplicationVersion av : latestApplicationVersions) {
-            boolean changeFound = false;
-            final List<String> avProducedEventVersions = av.getDeclaredProducedEventVersionIds();
-            final List<String> avConsumedEventVersions = av.getDeclaredConsumedEventVersionIds();
-            final String semVer = av.getVersion();
-            final List<String> updatedAvProducedEventVersions = new ArrayList<>();
-            final List<String> updatedAvConsumedEventVersions = new ArrayList<>();
-            for (String avEventVersion : avProducedEventVersions) {
-                if (incrementedEventVersions.containsKey(avEventVersion)) {
-                    changeFound = true;
-                    updatedAvProducedEventVersions.add(incrementedEventVersions.get(avEventVersion));
-                } else {
-                    updatedAvProducedEventVersions.add(avEventVersion);
-                }
+    private void cascadeUpdateEventVersion(
+        final EventVersion ev,
+        final Map<String, String> eventIds
+    ) throws Exception
+    {
+        boolean changeFound = false;
+        EventVersionDto.DeliveryDescriptor ddDto = EventPortalModelUtils.mapEpEventVersionToDtoDeliveryDescriptor(ev.getDeliveryDescriptor());
+        String schemaVersionId = ev.getSchemaVersionId();
+        final String semVer = ev.getVersion();
+        if ( incrementedSchemaVersions.containsKey(schemaVersionId) ) {
+            changeFound = true;
+            schemaVersionId = incrementedSchemaVersions.get(schemaVersionId);
+        }
+        for ( EventVersionDto.TopicAddressLevel level : ddDto.getAddress().getAddressLevels() ) {
+            if (level.getHasEnum() && incrementedEnumVersions.containsKey(level.getEnumVersionId())) {
+                changeFound = true;
+                level.setEnumVersionId(incrementedEnumVersions.get(level.getEnumVersionId()));
             }
-            for (String avEventVersion : avConsumedEventVersions) {
-                if (incrementedEventVersions.containsKey(avEventVersion)) {
-                    changeFound = true;
-                    updatedAvConsumedEventVersions.add(incrementedEventVersions.get(avEventVersion));
-                } else {
-                    updatedAvConsumedEventVersions.add(avEventVersion);
+        }
+        if (changeFound) {
+            EventVersion updatedEventVersion;
+            String op = "";
+            if (ev.getStateId().contentEquals("1")) {
+                updatedEventVersion = epClient.updateEventVersion(
+                    ev.getId(), 
+                    schemaVersionId, 
+                    ddDto
+                );
+                op = "UPDATED existing";
+            } else {
+                updatedEventVersion = epClient.createEventVersion(
+                    ev.getEventId(), eventIds.get(ev.getEventId()), schemaVersionId, ddDto, semVer);
+                if (updatedEventVersion != null) {
+                    cascadeReplacedEventVersions.put( ev.getId(), ev );
+                    incrementedEventVersions.put( ev.getId(), updatedEventVersion.getId() );
                 }
+                op = "CREATED new";
             }
-            if (changeFound) {
-                ApplicationVersion updatedApplicationVersion;
-                String op = "";
-                if (av.getStateId().contentEquals("1")) {
-                    updatedApplicationVersion = epClient.updateApplicationVersion(
-                        av.getId(), updatedAvProducedEventVersions, updatedAvConsumedEventVersions
-                    );
-                    op = "UPDATED existing";
-                } else {
-                    updatedApplicationVersion = epClient.createApplicationVersion(
-                        av.getApplicationId(),
-                        applicationIds.get(av.getApplicationId()),
-                        updatedAvProducedEventVersions, updatedAvConsumedEventVersions,
-                        semVer
-                    );
-                    op = "CREATED new";
-                }
-                log.info(
-                    "CASCADE UPDATE -- {} application version [{}] for Application: [{}]", 
-                    op, 
-                    updatedApplicationVersion.getVersion(), 
-                    applicationIds.get(av.getApplicationId())
+            log.info(
+                "CASCADE UPDATE -- {} event version [{}] for Event: [{}]",
+                op,
+                updatedEventVersion.getVersion(),
+                eventIds.get(ev.getEventId())
+            );
+        }
+    }
+
+    private void cascadeUpdateEventApiVersion(
+        final EventApiVersion eav,
+        final Map<String, String> eventApiIds
+    ) throws Exception
+    {
+        boolean changeFound = false;
+        final List<String> eavProducedEventVersions = eav.getProducedEventVersionIds();
+        final List<String> eavConsumedEventVersions = eav.getConsumedEventVersionIds();
+        final String semVer = eav.getVersion();
+        final List<String> updatedEavProducedEventVersions = new ArrayList<>();
+        final List<String> updatedEavConsumedEventVersions = new ArrayList<>();
+        for (String eavEventVersion : eavProducedEventVersions) {
+            if (incrementedEventVersions.containsKey(eavEventVersion)) {
+                changeFound = true;
+                updatedEavProducedEventVersions.add(incrementedEventVersions.get(eavEventVersion));
+            } else {
+                updatedEavProducedEventVersions.add(eavEventVersion);
+            }
+        }
+        for (String eavEventVersion : eavConsumedEventVersions) {
+            if (incrementedEventVersions.containsKey(eavEventVersion)) {
+                changeFound = true;
+                updatedEavConsumedEventVersions.add(incrementedEventVersions.get(eavEventVersion));
+            } else {
+                updatedEavConsumedEventVersions.add(eavEventVersion);
+            }
+        }
+        if (changeFound) {
+            EventApiVersion updatedEventApiVersion;
+            String op = "";
+            if (eav.getStateId().contentEquals("1")) {
+                updatedEventApiVersion = epClient.updateEventApiVersion(
+                    eav.getId(), updatedEavProducedEventVersions, updatedEavConsumedEventVersions
+                );
+                op = "UPDATED existing";
+            } else {
+                updatedEventApiVersion = epClient.createEventApiVersion(
+                    eav.getEventApiId(),
+                    eventApiIds.get(eav.getEventApiId()),
+                    updatedEavProducedEventVersions, updatedEavConsumedEventVersions,
+                    semVer
+                );
+                op = "CREATED new";
+            }
+            log.info(
+                "CASCADE UPDATE -- {} event api version [{}] for Event API: [{}]", 
+                op, 
+                updatedEventApiVersion.getVersion(), 
+                eventApiIds.get(eav.getEventApiId())
+            );
+        }
+    }
+
+    private void cascadeUpdateApplicationVersion(
+        final ApplicationVersion av,
+        final Map<String, String> applicationIds
+    ) throws Exception
+    {
+        boolean changeFound = false;
+        final List<String> avProducedEventVersions = av.getDeclaredProducedEventVersionIds();
+        final List<String> avConsumedEventVersions = av.getDeclaredConsumedEventVersionIds();
+        final String semVer = av.getVersion();
+        final List<String> updatedAvProducedEventVersions = new ArrayList<>();
+        final List<String> updatedAvConsumedEventVersions = new ArrayList<>();
+        for (String avEventVersion : avProducedEventVersions) {
+            if (incrementedEventVersions.containsKey(avEventVersion)) {
+                changeFound = true;
+                updatedAvProducedEventVersions.add(incrementedEventVersions.get(avEventVersion));
+            } else {
+                updatedAvProducedEventVersions.add(avEventVersion);
+            }
+        }
+        for (String avEventVersion : avConsumedEventVersions) {
+            if (incrementedEventVersions.containsKey(avEventVersion)) {
+                changeFound = true;
+                updatedAvConsumedEventVersions.add(incrementedEventVersions.get(avEventVersion));
+            } else {
+                updatedAvConsumedEventVersions.add(avEventVersion);
+            }
+        }
+        if (changeFound) {
+            ApplicationVersion updatedApplicationVersion;
+            String op = "";
+            if (av.getStateId().contentEquals("1")) {
+                updatedApplicationVersion = epClient.updateApplicationVersion(
+                    av.getId(), updatedAvProducedEventVersions, updatedAvConsumedEventVersions
+                );
+                op = "UPDATED existing";
+            } else {
+                updatedApplicationVersion = epClient.createApplicationVersion(
+                    av.getApplicationId(),
+                    applicationIds.get(av.getApplicationId()),
+                    updatedAvProducedEventVersions, updatedAvConsumedEventVersions,
+                    semVer
                 );
+                op = "CREATED new";
             }
+            log.info(
+                "CASCADE UPDATE -- {} application version [{}] for Application: [{}]", 
+                op, 
+                updatedApplicationVersion.getVersion(), 
+                applicationIds.get(av.getApplicationId())
+            );
         }
     }
 }
@@ -0,0 +1,157 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import java.util.concurrent.Semaphore;
+import java.util.function.IntConsumer;
+
+/**
+ * Bounds the number of concurrent REST calls made to Event Portal, independent of the
+ * number of threads making them. Used when import tasks run on virtual threads or on an
+ * executor shared with other work, and for paged list queries, where the number of threads
+ * does not limit the load placed on Event Portal.
+ *
+ * The number of permits can be changed while calls are in flight; permits created with
+ * forLimiter() follow the limit of an EpConcurrencyLimiter. When reduced, calls already in
+ * flight complete normally and new calls wait until the number in flight is below the new limit.
+ */
+public class EpCallPermits {
+
+    /**
+     * Exposes Semaphore.reducePermits
+     */
+    private static class ResizableSemaphore extends Semaphore {
+        ResizableSemaphore(final int permits) {
+            super(permits, true);
+        }
+
+        void reduce(final int reduction) {
+            reducePermits(reduction);
+        }
+    }
+
+    private final ResizableSemaphore semaphore;
+
+    private int permits;
+
+    private EpConcurrencyLimiter limiter;
+
+    private IntConsumer limitListener;
+
+    /**
+     * @param permits - max number of concurrent calls; at least 1
+     */
+    public EpCallPermits(final int permits)
+    {
+        this.permits = Math.max(1, permits);
+        this.semaphore = new ResizableSemaphore(this.permits);
+    }
+
+    /**
+     * Create permits that follow the concurrency limit of limiter: the number of permits
+     * starts at the current limit and changes each time the limit changes
+     * @param limiter
+     * @return Permits registered as a listener of limiter; see detach()
+     */
+    public static EpCallPermits forLimiter(final EpConcurrencyLimiter limiter)
+    {
+        final EpCallPermits callPermits = new EpCallPermits(limiter.getLimit());
+        synchronized (callPermits) {
+            callPermits.limiter = limiter;
+            callPermits.limitListener = callPermits::setPermits;
+        }
+        limiter.addLimitListener(callPermits.limitListener);
+        // Pick up a change made before the listener was registered
+        callPermits.setPermits(limiter.getLimit());
+        return callPermits;
+    }
+
+    /**
+     * Stop following the limiter these permits were created for; no effect if created with a fixed number
+     */
+    public synchronized void detach()
+    {
+        if (limiter != null) {
+            limiter.removeLimitListener(limitListener);
+            limiter = null;
+            limitListener = null;
+        }
+    }
+
+    /**
+     * @return True if created by forLimiter() and not detached
+     */
+    public synchronized boolean isFollowingLimiter()
+    {
+        return limiter != null;
+    }
+
+    /**
+     * Wait for a permit to call Event Portal
+     * @throws InterruptedException
+     */
+    public void acquire() throws InterruptedException
+    {
+        semaphore.acquire();
+    }
+
+    /**
+     * Return a permit acquired with acquire()
+     */
+    public void release()
+    {
+        semaphore.release();
+    }
+
+    /**
+     * Change the max number of concurrent calls
+     * @param newPermits - at least 1
+     */
+    public synchronized void setPermits(final int newPermits)
+    {
+        final int target = Math.max(1, newPermits);
+        if (target > permits) {
+            semaphore.release(target - permits);
+        } else if (target < permits) {
+            semaphore.reduce(permits - target);
+        }
+        permits = target;
+    }
+
+    /**
+     * @return Max number of concurrent calls
+     */
+    public synchronized int getPermits()
+    {
+        return permits;
+    }
+
+    /**
+     * @return Number of calls that may start without waiting; negative after a reduction while calls are in flight
+     */
+    public int getAvailablePermits()
+    {
+        return semaphore.availablePermits();
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("permits=%d, available=%d", getPermits(), getAvailablePermits());
+    }
+}
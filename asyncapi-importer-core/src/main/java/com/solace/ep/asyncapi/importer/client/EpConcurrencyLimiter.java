@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.IntConsumer;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * AIMD (additive increase / multiplicative decrease) controller for the number of
+ * concurrent Event Portal requests.
+ *
+ * Responses are evaluated in windows of `limit` samples. At the end of a window:
+ * - If any response was throttled (HTTP 429 or 503) the limit is halved
+ * - Else if average latency of the window is within `latencyTolerance` of the best
+ *   observed average latency, the limit is increased by 1
+ * - Else the limit is held
+ *
+ * Throttled responses halve the limit immediately rather than waiting for the end of the
+ * window; further throttled responses are ignored until a full window has completed at
+ * the reduced limit, so that a burst of 429s results in a single decrease.
+ *
+ * Listeners are notified on every change of the limit, e.g. to resize a thread pool.
+ * Notifications are delivered one at a time with the limit current at delivery, so the last
+ * notification a listener receives always carries the latest limit.
+ */
+@Slf4j
+public class EpConcurrencyLimiter {
+
+    public static final int DEFAULT_MIN_LIMIT = 1;
+
+    public static final int DEFAULT_MAX_LIMIT = 64;
+
+    public static final double DEFAULT_LATENCY_TOLERANCE = 1.5;
+
+    // Best observed latency drifts upward slowly so that a single fast window does not pin the baseline forever
+    private static final double BASELINE_DRIFT = 1.02;
+
+    private static final int MAX_HISTORY = 200;
+
+    /**
+     * A single change of the concurrency limit
+     */
+    @Getter
+    @AllArgsConstructor
+    public static class Adjustment {
+        private final long timestampMillis;
+        private final int previousLimit;
+        private final int newLimit;
+        private final String reason;
+        private final double avgLatencyMillis;
+
+        @Override
+        public String toString() {
+            return String.format("%d: %d -> %d (%s, avg latency %.1f ms)",
+                timestampMillis, previousLimit, newLimit, reason, avgLatencyMillis);
+        }
+    }
+
+    @Getter
+    private final int minLimit;
+
+    @Getter
+    private final int maxLimit;
+
+    @Getter
+    private final double latencyTolerance;
+
+    private volatile int limit;
+
+    private final List<IntConsumer> listeners = new CopyOnWriteArrayList<>();
+
+    // Serializes notifications without holding the lock guarding window state
+    private final Object notifyLock = new Object();
+
+    private final Deque<Adjustment> history = new ArrayDeque<>();
+
+    // Window state; guarded by this
+    private int windowSamples = 0;
+
+    private long windowLatencyNanos = 0;
+
+    private boolean windowThrottled = false;
+
+    private boolean inCooldown = false;
+
+    private double baselineLatencyNanos = Double.MAX_VALUE;
+
+    public EpConcurrencyLimiter( final int initialLimit )
+    {
+        this(initialLimit, DEFAULT_MIN_LIMIT, DEFAULT_MAX_LIMIT, DEFAULT_LATENCY_TOLERANCE);
+    }
+
+    /**
+     * @param initialLimit - starting number of concurrent requests
+     * @param minLimit - limit is never decreased below this value
+     * @param maxLimit - limit is never increased above this value
+     * @param latencyTolerance - ratio of window latency to best observed latency considered flat; e.g. 1.5
+     */
+    public EpConcurrencyLimiter(
+        final int initialLimit,
+        final int minLimit,
+        final int maxLimit,
+        final double latencyTolerance
+    )
+    {
+        this.minLimit = Math.max(1, minLimit);
+        this.maxLimit = Math.max(this.minLimit, maxLimit);
+        this.latencyTolerance = Math.max(1.0, latencyTolerance);
+        this.limit = Math.max(this.minLimit, Math.min(this.maxLimit, initialLimit));
+    }
+
+    /**
+     * @return Current concurrency limit
+     */
+    public int getLimit()
+    {
+        return limit;
+    }
+
+    /**
+     * Register a listener called with the current limit each time the limit changes
+     * @param listener
+     */
+    public void addLimitListener( final IntConsumer listener )
+    {
+        listeners.add(listener);
+    }
+
+    public void removeLimitListener( final IntConsumer listener )
+    {
+        listeners.remove(listener);
+    }
+
+    /**
+     * @return Limit changes, oldest first; the most recent 200 are retained
+     */
+    public synchronized List<Adjustment> getAdjustmentHistory()
+    {
+        return new ArrayList<>(history);
+    }
+
+    /**
+     * Record a completed request
+     * @param latencyNanos - elapsed time of the request
+     * @param throttled - true if Event Portal responded with 429 or 503
+     */
+    public void recordResponse( final long latencyNanos, final boolean throttled )
+    {
+        int newLimit = -1;
+        synchronized (this) {
+            windowSamples++;
+            windowLatencyNanos += latencyNanos;
+            if (throttled && !inCooldown) {
+                newLimit = adjust(Math.max(minLimit, limit / 2), "throttled");
+                inCooldown = true;
+                resetWindow();
+            } else {
+                // Throttling that persists through a full window after a decrease halves the limit again
+                windowThrottled |= throttled;
+                if (windowSamples >= limit) {
+                    newLimit = completeWindow();
+                }
+            }
+        }
+        if (newLimit > 0) {
+            notifyListeners();
+        }
+    }
+
+    /**
+     * Convenience method to record a request by HTTP status code
+     * @param latencyNanos
+     * @param httpStatusCode - HTTP status code of the response, or 0 if no response was received
+     */
+    public void recordResponse( final long latencyNanos, final int httpStatusCode )
+    {
+        recordResponse(latencyNanos, isThrottleStatus(httpStatusCode));
+    }
+
+    public static boolean isThrottleStatus( final int httpStatusCode )
+    {
+        return httpStatusCode == 429 || httpStatusCode == 503;
+    }
+
+    // Returns new limit if changed, else -1
+    private int completeWindow()
+    {
+        final double avgLatencyNanos = (double) windowLatencyNanos / windowSamples;
+        int newLimit = -1;
+
+        if (windowThrottled) {
+            newLimit = adjust(Math.max(minLimit, limit / 2), "throttled");
+        } else {
+            baselineLatencyNanos = Math.min(baselineLatencyNanos * BASELINE_DRIFT, avgLatencyNanos);
+            if (avgLatencyNanos <= baselineLatencyNanos * latencyTolerance && limit < maxLimit) {
+                newLimit = adjust(limit + 1, "latency flat");
+            }
+        }
+        inCooldown = false;
+        resetWindow();
+        return newLimit;
+    }
+
+    private int adjust( final int newLimit, final String reason )
+    {
+        if (newLimit == limit) {
+            return -1;
+        }
+        final double avgLatencyMillis = windowSamples == 0 ? 0.0 : (double) windowLatencyNanos / windowSamples / 1_000_000.0;
+        final Adjustment adjustment = new Adjustment(System.currentTimeMillis(), limit, newLimit, reason, avgLatencyMillis);
+        history.addLast(adjustment);
+        while (history.size() > MAX_HISTORY) {
+            history.removeFirst();
+        }
+        log.debug("EP concurrency limit adjusted {}", adjustment);
+        limit = newLimit;
+        return newLimit;
+    }
+
+    private void resetWindow()
+    {
+        windowSamples = 0;
+        windowLatencyNanos = 0;
+        windowThrottled = false;
+    }
+
+    private void notifyListeners()
+    {
+        synchronized (notifyLock) {
+            // Read under notifyLock: a concurrent adjustment notifies after this one with its own limit
+            final int currentLimit = limit;
+            for (IntConsumer listener : listeners) {
+                try {
+                    listener.accept(currentLimit);
+                } catch (Exception exc) {
+                    log.warn("Error notifying concurrency limit listener", exc);
+                }
+            }
+        }
+    }
+
+    @Override
+    public synchronized String toString()
+    {
+        return String.format("EpConcurrencyLimiter[limit=%d, min=%d, max=%d, adjustments=%d]",
+            limit, minLimit, maxLimit, history.size());
+    }
+}
@@ -0,0 +1,403 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Function;
+
+import com.solace.cloud.ep.designer.model.Application;
+import com.solace.cloud.ep.designer.model.ApplicationVersion;
+import com.solace.cloud.ep.designer.model.Event;
+import com.solace.cloud.ep.designer.model.EventApi;
+import com.solace.cloud.ep.designer.model.EventApiVersion;
+import com.solace.cloud.ep.designer.model.EventVersion;
+import com.solace.cloud.ep.designer.model.SchemaObject;
+import com.solace.cloud.ep.designer.model.SchemaVersion;
+import com.solace.cloud.ep.designer.model.TopicAddressEnum;
+import com.solace.cloud.ep.designer.model.TopicAddressEnumVersion;
+
+import lombok.Getter;
+
+/**
+ * In-memory copy of the Event Portal objects and versions in one application domain.
+ * Populated in bulk by EventPortalClientApi.loadDomainSnapshot() so that match operations
+ * can be served without a REST call per object. Objects and versions created or updated
+ * through the client after loading are recorded here to keep the snapshot current for the
+ * duration of an import operation.
+ *
+ * Versions for each parent object are held in the order returned by Event Portal: latest first.
+ * Newly created versions are inserted at the head of the list.
+ */
+public class EpDomainSnapshot {
+
+    @Getter
+    private final String appDomainId;
+
+    @Getter
+    private final long loadedAtMillis;
+
+    private final ObjectIndex<SchemaObject, SchemaVersion> schemas =
+        new ObjectIndex<>(SchemaObject::getId, SchemaObject::getName, SchemaVersion::getId, SchemaVersion::getSchemaId);
+
+    // schemaId --> (content hash --> schema version); built on first lookup of each schema
+    private final Map<String, Map<String, SchemaVersion>> schemaVersionsByContentHash = new ConcurrentHashMap<>();
+
+    private final ObjectIndex<TopicAddressEnum, TopicAddressEnumVersion> enums =
+        new ObjectIndex<>(TopicAddressEnum::getId, TopicAddressEnum::getName, TopicAddressEnumVersion::getId, TopicAddressEnumVersion::getEnumId);
+
+    private final ObjectIndex<Event, EventVersion> events =
+        new ObjectIndex<>(Event::getId, Event::getName, EventVersion::getId, EventVersion::getEventId);
+
+    private final ObjectIndex<Application, ApplicationVersion> applications =
+        new ObjectIndex<>(Application::getId, Application::getName, ApplicationVersion::getId, ApplicationVersion::getApplicationId);
+
+    private final ObjectIndex<EventApi, EventApiVersion> eventApis =
+        new ObjectIndex<>(EventApi::getId, EventApi::getName, EventApiVersion::getId, EventApiVersion::getEventApiId);
+
+    public EpDomainSnapshot( final String appDomainId )
+    {
+        this.appDomainId = appDomainId;
+        this.loadedAtMillis = System.currentTimeMillis();
+    }
+
+    // Schemas
+
+    public SchemaObject getSchemaByName( final String schemaName ) {
+        return schemas.getByName(schemaName);
+    }
+
+    public SchemaObject getSchemaById( final String schemaId ) {
+        return schemas.getById(schemaId);
+    }
+
+    public Collection<SchemaObject> getSchemas() {
+        return schemas.getObjects();
+    }
+
+    public List<SchemaVersion> getSchemaVersions( final String schemaId ) {
+        return schemas.getVersions(schemaId);
+    }
+
+    public void putSchema( final SchemaObject schemaObject ) {
+        schemas.putObject(schemaObject);
+    }
+
+    /**
+     * Find the latest schema version of schemaId with the given content hash
+     * @param schemaId
+     * @param contentHash - hash of the content to match
+     * @param hashOf - computes content hash of a schema version, called once per version when the index is built
+     * @return Matching SchemaVersion or null if not found
+     */
+    public SchemaVersion getSchemaVersionByContentHash(
+        final String schemaId,
+        final String contentHash,
+        final Function<SchemaVersion, String> hashOf
+    )
+    {
+        if (schemaId == null || contentHash == null) {
+            return null;
+        }
+        return schemaVersionsByContentHash.computeIfAbsent(schemaId, id -> {
+            final Map<String, SchemaVersion> index = new HashMap<>();
+            // Versions are latest first, keep the latest version for duplicate content
+            schemas.getVersions(id).forEach( sv -> index.putIfAbsent(hashOf.apply(sv), sv) );
+            return index;
+        }).get(contentHash);
+    }
+
+    public void putSchemaVersion( final SchemaVersion schemaVersion ) {
+        schemas.putVersion(schemaVersion);
+        if (schemaVersion != null) {
+            schemaVersionsByContentHash.remove(schemaVersion.getSchemaId());
+        }
+    }
+
+    // Enums
+
+    public TopicAddressEnum getEnumByName( final String enumName ) {
+        return enums.getByName(enumName);
+    }
+
+    public TopicAddressEnum getEnumById( final String enumId ) {
+        return enums.getById(enumId);
+    }
+
+    public Collection<TopicAddressEnum> getEnums() {
+        return enums.getObjects();
+    }
+
+    public List<TopicAddressEnumVersion> getEnumVersions( final String enumId ) {
+        return enums.getVersions(enumId);
+    }
+
+    public void putEnum( final TopicAddressEnum topicAddressEnum ) {
+        enums.putObject(topicAddressEnum);
+    }
+
+    public void putEnumVersion( final TopicAddressEnumVersion enumVersion ) {
+        enums.putVersion(enumVersion);
+    }
+
+    // Events
+
+    public Event getEventByName( final String eventName ) {
+        return events.getByName(eventName);
+    }
+
+    public Event getEventById( final String eventId ) {
+        return events.getById(eventId);
+    }
+
+    public Collection<Event> getEvents() {
+        return events.getObjects();
+    }
+
+    public List<EventVersion> getEventVersions( final String eventId ) {
+        return events.getVersions(eventId);
+    }
+
+    public void putEvent( final Event event ) {
+        events.putObject(event);
+    }
+
+    public void putEventVersion( final EventVersion eventVersion ) {
+        events.putVersion(eventVersion);
+    }
+
+    // Applications
+
+    public Application getApplicationByName( final String appName ) {
+        return applications.getByName(appName);
+    }
+
+    public Application getApplicationById( final String appId ) {
+        return applications.getById(appId);
+    }
+
+    public Collection<Application> getApplications() {
+        return applications.getObjects();
+    }
+
+    public List<ApplicationVersion> getApplicationVersions( final String appId ) {
+        return applications.getVersions(appId);
+    }
+
+    public void putApplication( final Application application ) {
+        applications.putObject(application);
+    }
+
+    public void putApplicationVersion( final ApplicationVersion applicationVersion ) {
+        applications.putVersion(applicationVersion);
+    }
+
+    // Event APIs
+
+    public EventApi getEventApiByName( final String eventApiName ) {
+        return eventApis.getByName(eventApiName);
+    }
+
+    public EventApi getEventApiById( final String eventApiId ) {
+        return eventApis.getById(eventApiId);
+    }
+
+    public Collection<EventApi> getEventApis() {
+        return eventApis.getObjects();
+    }
+
+    public List<EventApiVersion> getEventApiVersions( final String eventApiId ) {
+        return eventApis.getVersions(eventApiId);
+    }
+
+    public void putEventApi( final EventApi eventApi ) {
+        eventApis.putObject(eventApi);
+    }
+
+    public void putEventApiVersion( final EventApiVersion eventApiVersion ) {
+        eventApis.putVersion(eventApiVersion);
+    }
+
+    /**
+     * Versions returned by bulk load are appended in the order received (latest first).
+     * Only used while populating the snapshot.
+     */
+    void addLoadedSchemaVersion( final SchemaVersion schemaVersion ) {
+        schemas.appendVersion(schemaVersion);
+        schemaVersionsByContentHash.remove(schemaVersion.getSchemaId());
+    }
+
+    void addLoadedEnumVersion( final TopicAddressEnumVersion enumVersion ) {
+        enums.appendVersion(enumVersion);
+    }
+
+    void addLoadedEventVersion( final EventVersion eventVersion ) {
+        events.appendVersion(eventVersion);
+    }
+
+    void addLoadedApplicationVersion( final ApplicationVersion applicationVersion ) {
+        applications.appendVersion(applicationVersion);
+    }
+
+    void addLoadedEventApiVersion( final EventApiVersion eventApiVersion ) {
+        eventApis.appendVersion(eventApiVersion);
+    }
+
+    /**
+     * All versions of each type, grouped by parent in latest-first order.
+     * Used to persist the snapshot.
+     */
+    List<SchemaVersion> getAllSchemaVersions() {
+        return schemas.allVersions();
+    }
+
+    List<TopicAddressEnumVersion> getAllEnumVersions() {
+        return enums.allVersions();
+    }
+
+    List<EventVersion> getAllEventVersions() {
+        return events.allVersions();
+    }
+
+    List<ApplicationVersion> getAllApplicationVersions() {
+        return applications.allVersions();
+    }
+
+    List<EventApiVersion> getAllEventApiVersions() {
+        return eventApis.allVersions();
+    }
+
+    @Override
+    public String toString() {
+        return String.format(
+            "EpDomainSnapshot[appDomainId=%s, schemas=%d/%d, enums=%d/%d, events=%d/%d, applications=%d/%d, eventApis=%d/%d]",
+            appDomainId,
+            schemas.objectCount(), schemas.versionCount(),
+            enums.objectCount(), enums.versionCount(),
+            events.objectCount(), events.versionCount(),
+            applications.objectCount(), applications.versionCount(),
+            eventApis.objectCount(), eventApis.versionCount()
+        );
+    }
+
+    /**
+     * Name index and parentId --> versions index for one EP object type
+     */
+    private static class ObjectIndex<O, V> {
+
+        private final Function<O, String> objectId;
+
+        private final Function<O, String> objectName;
+
+        private final Function<V, String> versionId;
+
+        private final Function<V, String> versionParentId;
+
+        private final Map<String, O> objectsByName = new ConcurrentHashMap<>();
+
+        private final Map<String, O> objectsById = new ConcurrentHashMap<>();
+
+        private final Map<String, List<V>> versionsByParentId = new ConcurrentHashMap<>();
+
+        ObjectIndex(
+            final Function<O, String> objectId,
+            final Function<O, String> objectName,
+            final Function<V, String> versionId,
+            final Function<V, String> versionParentId
+        )
+        {
+            this.objectId = objectId;
+            this.objectName = objectName;
+            this.versionId = versionId;
+            this.versionParentId = versionParentId;
+        }
+
+        O getByName( final String name ) {
+            return name == null ? null : objectsByName.get(name);
+        }
+
+        O getById( final String id ) {
+            return id == null ? null : objectsById.get(id);
+        }
+
+        Collection<O> getObjects() {
+            return Collections.unmodifiableCollection(objectsById.values());
+        }
+
+        List<V> getVersions( final String parentId ) {
+            final List<V> versions = parentId == null ? null : versionsByParentId.get(parentId);
+            return versions == null ? Collections.emptyList() : Collections.unmodifiableList(versions);
+        }
+
+        void putObject( final O object ) {
+            if (object == null) {
+                return;
+            }
+            objectsByName.put(objectName.apply(object), object);
+            objectsById.put(objectId.apply(object), object);
+        }
+
+        void appendVersion( final V version ) {
+            versionsFor(version).add(version);
+        }
+
+        /**
+         * Replace version with the same ID if present, otherwise insert as the latest version
+         */
+        void putVersion( final V version ) {
+            if (version == null) {
+                return;
+            }
+            final List<V> versions = versionsFor(version);
+            final String id = versionId.apply(version);
+            synchronized (versions) {
+                for (int idx = 0; idx < versions.size(); idx++) {
+                    if (versionId.apply(versions.get(idx)).contentEquals(id)) {
+                        versions.set(idx, version);
+                        return;
+                    }
+                }
+                versions.add(0, version);
+            }
+        }
+
+        private List<V> versionsFor( final V version ) {
+            return versionsByParentId.computeIfAbsent(versionParentId.apply(version), k -> new CopyOnWriteArrayList<>());
+        }
+
+        List<V> allVersions() {
+            final List<V> all = new ArrayList<>();
+            versionsByParentId.values().forEach( all::addAll );
+            return all;
+        }
+
+        int objectCount() {
+            return objectsById.size();
+        }
+
+        int versionCount() {
+            return versionsByParentId.values().stream().mapToInt(List::size).sum();
+        }
+    }
+}
@@ -0,0 +1,271 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.FileLock;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonParseException;
+import com.solace.cloud.ep.designer.model.Application;
+import com.solace.cloud.ep.designer.model.ApplicationVersion;
+import com.solace.cloud.ep.designer.model.Event;
+import com.solace.cloud.ep.designer.model.EventApi;
+import com.solace.cloud.ep.designer.model.EventApiVersion;
+import com.solace.cloud.ep.designer.model.EventVersion;
+import com.solace.cloud.ep.designer.model.SchemaObject;
+import com.solace.cloud.ep.designer.model.SchemaVersion;
+import com.solace.cloud.ep.designer.model.TopicAddressEnum;
+import com.solace.cloud.ep.designer.model.TopicAddressEnumVersion;
+
+import lombok.Getter;
+import lombok.Setter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Persists an EpDomainSnapshot to a local gzipped JSON file so that subsequent runs against the
+ * same application domain can start from the cached objects and versions and refresh only the
+ * objects that changed in Event Portal. Normalized schema content hashes are stored alongside
+ * so that cached schema versions do not need to be re-parsed.
+ *
+ * The file carries a format version; files written by a different format version, for a different
+ * Event Portal URL or application domain, or older than maxAgeMillis are ignored.
+ *
+ * Writes go to a temporary file in the same directory which is then atomically renamed over the
+ * cache file, so concurrent readers always see a complete file. Concurrent writers are serialized
+ * with a lock on a sibling ".lock" file.
+ */
+@Slf4j
+public class EpDomainSnapshotCache {
+
+    /**
+     * Increment when the layout of the cache file or the schema content hash algorithm changes
+     */
+    public static final int FORMAT_VERSION = 1;
+
+    public static final long DEFAULT_MAX_AGE_MILLIS = 60L * 60L * 1000L;
+
+    private static final Gson GSON = new Gson();
+
+    @Getter
+    private final Path cacheFile;
+
+    /**
+     * Cache files older than this are ignored. Cached Draft versions are always retrieved again,
+     * and versions of objects whose latest version changed are retrieved on every load.
+     */
+    @Getter
+    @Setter
+    private long maxAgeMillis = DEFAULT_MAX_AGE_MILLIS;
+
+    /**
+     * Contents of a cache file read from disk
+     */
+    @Getter
+    public static class CachedDomain {
+        private final EpDomainSnapshot snapshot;
+        private final Map<String, String> schemaContentHashes;
+        private final long savedAtMillis;
+
+        CachedDomain(final EpDomainSnapshot snapshot, final Map<String, String> schemaContentHashes, final long savedAtMillis) {
+            this.snapshot = snapshot;
+            this.schemaContentHashes = schemaContentHashes;
+            this.savedAtMillis = savedAtMillis;
+        }
+    }
+
+    // Serialized layout of the cache file
+    private static class CacheFileContents {
+        int formatVersion;
+        String baseUrl;
+        String appDomainId;
+        long savedAtMillis;
+        List<SchemaObject> schemas;
+        List<SchemaVersion> schemaVersions;
+        List<TopicAddressEnum> enums;
+        List<TopicAddressEnumVersion> enumVersions;
+        List<Event> events;
+        List<EventVersion> eventVersions;
+        List<Application> applications;
+        List<ApplicationVersion> applicationVersions;
+        List<EventApi> eventApis;
+        List<EventApiVersion> eventApiVersions;
+        Map<String, String> schemaContentHashes;
+    }
+
+    public EpDomainSnapshotCache( final Path cacheFile )
+    {
+        this.cacheFile = cacheFile;
+    }
+
+    /**
+     * Read the cache file
+     * @param baseUrl - Event Portal base URL the snapshot must have been loaded from
+     * @param appDomainId - Application domain the snapshot must contain
+     * @return Cached domain, or null if the file does not exist or is not usable
+     */
+    public CachedDomain read( final String baseUrl, final String appDomainId )
+    {
+        final CacheFileContents contents;
+        try (Reader reader = new BufferedReader(new InputStreamReader(
+                new GZIPInputStream(Files.newInputStream(cacheFile)), StandardCharsets.UTF_8))) {
+            contents = GSON.fromJson(reader, CacheFileContents.class);
+        } catch (NoSuchFileException nsfe) {
+            log.info("Domain cache file [{}] not found", cacheFile);
+            return null;
+        } catch (IOException | JsonParseException exc) {
+            log.warn("Ignoring unreadable domain cache file [{}]: {}", cacheFile, exc.getMessage());
+            return null;
+        }
+
+        if (contents == null || contents.formatVersion != FORMAT_VERSION) {
+            log.info("Ignoring domain cache file [{}] with format version {}; expected {}",
+                cacheFile, contents == null ? null : contents.formatVersion, FORMAT_VERSION);
+            return null;
+        }
+        if (!String.valueOf(baseUrl).equals(contents.baseUrl) || !String.valueOf(appDomainId).equals(contents.appDomainId)) {
+            log.info("Ignoring domain cache file [{}] written for a different Event Portal URL or application domain", cacheFile);
+            return null;
+        }
+        final long ageMillis = System.currentTimeMillis() - contents.savedAtMillis;
+        if (ageMillis < 0 || ageMillis > maxAgeMillis) {
+            log.info("Ignoring expired domain cache file [{}]; age = {} s", cacheFile, ageMillis / 1000);
+            return null;
+        }
+
+        final EpDomainSnapshot snapshot = new EpDomainSnapshot(appDomainId);
+        forEach(contents.schemas, snapshot::putSchema);
+        forEach(contents.schemaVersions, snapshot::addLoadedSchemaVersion);
+        forEach(contents.enums, snapshot::putEnum);
+        forEach(contents.enumVersions, snapshot::addLoadedEnumVersion);
+        forEach(contents.events, snapshot::putEvent);
+        forEach(contents.eventVersions, snapshot::addLoadedEventVersion);
+        forEach(contents.applications, snapshot::putApplication);
+        forEach(contents.applicationVersions, snapshot::addLoadedApplicationVersion);
+        forEach(contents.eventApis, snapshot::putEventApi);
+        forEach(contents.eventApiVersions, snapshot::addLoadedEventApiVersion);
+
+        log.info("Read {} from domain cache file [{}] saved {} s ago", snapshot, cacheFile, ageMillis / 1000);
+        return new CachedDomain(
+            snapshot,
+            contents.schemaContentHashes != null ? contents.schemaContentHashes : new HashMap<>(),
+            contents.savedAtMillis
+        );
+    }
+
+    /**
+     * Write the snapshot to the cache file, replacing any previous contents
+     * @param baseUrl - Event Portal base URL the snapshot was loaded from
+     * @param snapshot
+     * @param schemaContentHashes - normalized content hashes of schema versions in the snapshot
+     * @throws IOException
+     */
+    public void write(
+        final String baseUrl,
+        final EpDomainSnapshot snapshot,
+        final Map<String, String> schemaContentHashes
+    ) throws IOException
+    {
+        final CacheFileContents contents = new CacheFileContents();
+        contents.formatVersion = FORMAT_VERSION;
+        contents.baseUrl = baseUrl;
+        contents.appDomainId = snapshot.getAppDomainId();
+        contents.savedAtMillis = System.currentTimeMillis();
+        contents.schemas = new ArrayList<>(snapshot.getSchemas());
+        contents.schemaVersions = snapshot.getAllSchemaVersions();
+        contents.enums = new ArrayList<>(snapshot.getEnums());
+        contents.enumVersions = snapshot.getAllEnumVersions();
+        contents.events = new ArrayList<>(snapshot.getEvents());
+        contents.eventVersions = snapshot.getAllEventVersions();
+        contents.applications = new ArrayList<>(snapshot.getApplications());
+        contents.applicationVersions = snapshot.getAllApplicationVersions();
+        contents.eventApis = new ArrayList<>(snapshot.getEventApis());
+        contents.eventApiVersions = snapshot.getAllEventApiVersions();
+        contents.schemaContentHashes = schemaContentHashes;
+
+        final Path directory = cacheFile.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+
+        try (FileChannel lockChannel = FileChannel.open(lockFile(), StandardOpenOption.CREATE, StandardOpenOption.WRITE)) {
+            final FileLock lock = lockChannel.lock();
+            final Path tempFile = Files.createTempFile(directory, cacheFile.getFileName().toString(), ".tmp");
+            try {
+                try (Writer writer = new BufferedWriter(new OutputStreamWriter(
+                        new GZIPOutputStream(Files.newOutputStream(tempFile)), StandardCharsets.UTF_8))) {
+                    GSON.toJson(contents, writer);
+                }
+                try {
+                    Files.move(tempFile, cacheFile, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+                } catch (AtomicMoveNotSupportedException amnse) {
+                    Files.move(tempFile, cacheFile, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                try {
+                    Files.deleteIfExists(tempFile);
+                } finally {
+                    lock.release();
+                }
+            }
+        }
+        log.info("Wrote {} to domain cache file [{}]", snapshot, cacheFile);
+    }
+
+    /**
+     * Delete the cache file so that the next load reads the full domain from Event Portal
+     * @throws IOException
+     */
+    public void invalidate() throws IOException
+    {
+        if (Files.deleteIfExists(cacheFile)) {
+            log.info("Deleted domain cache file [{}]", cacheFile);
+        }
+    }
+
+    private Path lockFile()
+    {
+        return cacheFile.resolveSibling(cacheFile.getFileName().toString() + ".lock");
+    }
+
+    private static <T> void forEach( final List<T> items, final Consumer<T> action )
+    {
+        if (items != null) {
+            items.forEach(action);
+        }
+    }
+}
@@ -0,0 +1,45 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import lombok.Getter;
+
+/**
+ * Result of a version lookup in Event Portal.
+ * `match` is the version matching the lookup criteria, null if not found.
+ * `latest` is the latest version of the parent object, null if the object has no versions.
+ * Both are returned from the same lookup so that results are consistent when lookups
+ * run concurrently.
+ */
+@Getter
+public class EpMatchResult<V> {
+
+    private final V match;
+
+    private final V latest;
+
+    public EpMatchResult( final V match, final V latest )
+    {
+        this.match = match;
+        this.latest = latest;
+    }
+
+    public boolean isMatchFound() {
+        return match != null;
+    }
+}
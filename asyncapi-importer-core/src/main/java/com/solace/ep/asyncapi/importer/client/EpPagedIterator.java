@@ -0,0 +1,266 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+/**
+ * Lazily iterates over the items of a paged Event Portal list query.
+ * Page 1 is fetched on the first call to hasNext(); once the total number of pages is known
+ * the following pages are requested concurrently on the executor, at most `maxPagesInFlight`
+ * ahead of the page being consumed. Items are always returned in page order.
+ *
+ * Close the iterator (or use findFirst) to cancel outstanding page requests when the caller
+ * stops before the last page. Page requests that have not started are cancelled; requests already
+ * running are left to complete and their responses discarded. Running requests are not interrupted,
+ * as the same call may be shared with other callers through an EpRequestCoalescer.
+ *
+ * @param <R> Response type returned for a page
+ * @param <T> Item type contained in the response
+ */
+public class EpPagedIterator<R, T> implements Iterator<T>, AutoCloseable {
+
+    /**
+     * Executes the REST call for one page. Page numbers start at 1.
+     */
+    @FunctionalInterface
+    public interface PageFetcher<R> {
+        R fetchPage(int pageNumber) throws Exception;
+    }
+
+    /**
+     * Unchecked wrapper for errors encountered fetching a page while iterating
+     */
+    public static class EpPagingException extends RuntimeException {
+        public EpPagingException(final String message, final Throwable cause) {
+            super(message, cause);
+        }
+    }
+
+    private final PageFetcher<R> fetcher;
+
+    private final Function<R, List<T>> dataOf;
+
+    private final Function<R, Integer> totalPagesOf;
+
+    private final ExecutorService executor;
+
+    private final int maxPagesInFlight;
+
+    private final Deque<Future<R>> pagesInFlight = new ArrayDeque<>();
+
+    private Iterator<T> currentPage = Collections.emptyIterator();
+
+    private int totalPages = 0;
+
+    private int nextPageToRequest = 1;
+
+    private int nextPageToConsume = 1;
+
+    private boolean finished = false;
+
+    /**
+     * @param fetcher - executes the REST call for a page number
+     * @param dataOf - extracts the list of items from a page response
+     * @param totalPagesOf - extracts total number of pages from a page response; null is treated as 1
+     * @param executor - runs requests for pages 2..N; if null, pages are fetched serially on the calling thread
+     * @param maxPagesInFlight - max number of pages requested ahead of the page being consumed
+     */
+    public EpPagedIterator(
+        final PageFetcher<R> fetcher,
+        final Function<R, List<T>> dataOf,
+        final Function<R, Integer> totalPagesOf,
+        final ExecutorService executor,
+        final int maxPagesInFlight
+    )
+    {
+        this.fetcher = fetcher;
+        this.dataOf = dataOf;
+        this.totalPagesOf = totalPagesOf;
+        this.executor = executor;
+        this.maxPagesInFlight = Math.max(1, maxPagesInFlight);
+    }
+
+    @Override
+    public boolean hasNext()
+    {
+        while (!currentPage.hasNext()) {
+            if (finished || !advancePage()) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    @Override
+    public T next()
+    {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        return currentPage.next();
+    }
+
+    /**
+     * Returns the first item matching the predicate and cancels any outstanding page requests
+     * @param predicate
+     * @return Matching item or null if not found
+     */
+    public T findFirst(final Predicate<T> predicate)
+    {
+        try {
+            while (hasNext()) {
+                final T item = next();
+                if (predicate.test(item)) {
+                    return item;
+                }
+            }
+            return null;
+        } finally {
+            close();
+        }
+    }
+
+    /**
+     * Consume all remaining items into a list
+     * @return
+     */
+    public List<T> toList()
+    {
+        final List<T> items = new ArrayList<>();
+        try {
+            forEachRemaining(items::add);
+        } finally {
+            close();
+        }
+        return items;
+    }
+
+    /**
+     * Remaining items as a sequential, ordered stream. Closing the stream cancels outstanding page requests.
+     * @return
+     */
+    public Stream<T> stream()
+    {
+        return StreamSupport.stream(
+            Spliterators.spliteratorUnknownSize(this, Spliterator.ORDERED | Spliterator.NONNULL),
+            false
+        ).onClose(this::close);
+    }
+
+    /**
+     * Total number of pages reported by Event Portal; 0 until the first page has been fetched
+     * @return
+     */
+    public int getTotalPages()
+    {
+        return totalPages;
+    }
+
+    @Override
+    public void close()
+    {
+        finished = true;
+        currentPage = Collections.emptyIterator();
+        Future<R> pending;
+        while ((pending = pagesInFlight.poll()) != null) {
+            // Do not interrupt: a running fetch may be shared with other iterators
+            pending.cancel(false);
+        }
+    }
+
+    private boolean advancePage()
+    {
+        if (nextPageToConsume > 1 && nextPageToConsume > totalPages) {
+            finished = true;
+            return false;
+        }
+        final R response;
+        if (nextPageToConsume == 1) {
+            response = fetch(1);
+            final Integer reportedPages = response == null ? null : totalPagesOf.apply(response);
+            totalPages = reportedPages == null || reportedPages < 1 ? 1 : reportedPages;
+            nextPageToRequest = 2;
+        } else if (executor == null) {
+            response = fetch(nextPageToConsume);
+        } else {
+            response = await(pagesInFlight.poll(), nextPageToConsume);
+        }
+        nextPageToConsume++;
+        requestPagesAhead();
+
+        final List<T> data = response == null ? null : dataOf.apply(response);
+        if (data == null || data.isEmpty()) {
+            // An empty page means the end of the result set, even if more pages were reported
+            close();
+            return false;
+        }
+        currentPage = data.iterator();
+        return true;
+    }
+
+    private void requestPagesAhead()
+    {
+        if (executor == null) {
+            return;
+        }
+        while (pagesInFlight.size() < maxPagesInFlight && nextPageToRequest <= totalPages) {
+            final int pageNumber = nextPageToRequest++;
+            pagesInFlight.add(executor.submit(() -> fetcher.fetchPage(pageNumber)));
+        }
+    }
+
+    private R fetch(final int pageNumber)
+    {
+        try {
+            return fetcher.fetchPage(pageNumber);
+        } catch (Exception exc) {
+            close();
+            throw new EpPagingException("Error retrieving page " + pageNumber, exc);
+        }
+    }
+
+    private R await(final Future<R> future, final int pageNumber)
+    {
+        try {
+            return future.get();
+        } catch (ExecutionException exc) {
+            close();
+            throw new EpPagingException("Error retrieving page " + pageNumber, exc.getCause());
+        } catch (InterruptedException exc) {
+            close();
+            Thread.currentThread().interrupt();
+            throw new EpPagingException("Interrupted waiting for page " + pageNumber, exc);
+        }
+    }
+}
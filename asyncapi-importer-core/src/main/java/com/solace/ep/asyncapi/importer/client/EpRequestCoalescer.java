@@ -0,0 +1,163 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import java.io.InterruptedIOException;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicLong;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Collapses identical read requests that are in flight at the same time into a single call.
+ * The first caller for a key executes the request on its own thread; callers arriving with
+ * the same key before it completes wait for and share its result (or its exception).
+ * An interruption or cancellation of the first caller is not shared; waiting callers then
+ * execute the request themselves.
+ * The key is released as soon as the request completes, so results are never cached
+ * beyond the lifetime of the call.
+ *
+ * Only use for idempotent reads. Shared response objects must be treated as read-only.
+ */
+@Slf4j
+public class EpRequestCoalescer {
+
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private final AtomicLong coalescedCount = new AtomicLong();
+
+    /**
+     * Execute request, or join an identical request already in flight.
+     * If the request being joined is abandoned because its caller was interrupted or cancelled,
+     * the waiting callers do not share that outcome; they execute the request again themselves.
+     * @param <T>
+     * @param requestKey - identifies the request; must include every parameter that affects the response
+     * @param request - executes the REST call
+     * @return Response of the request
+     * @throws Exception thrown by the request
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(final String requestKey, final Callable<T> request) throws Exception
+    {
+        while (true) {
+            final CompletableFuture<Object> ownFuture = new CompletableFuture<>();
+            final CompletableFuture<Object> existing = inFlight.putIfAbsent(requestKey, ownFuture);
+
+            if (existing == null) {
+                return executeOwn(requestKey, request, ownFuture);
+            }
+
+            coalescedCount.incrementAndGet();
+            log.trace("Joining in-flight request [{}]", requestKey);
+            try {
+                return (T) await(existing);
+            } catch (CancellationException exc) {
+                // Caller executing the request was interrupted or cancelled; not our outcome to share
+                coalescedCount.decrementAndGet();
+                log.debug("In-flight request [{}] was abandoned by its caller; executing it again", requestKey);
+            }
+        }
+    }
+
+    /**
+     * @return Number of requests executed
+     */
+    public long getRequestCount()
+    {
+        return requestCount.get();
+    }
+
+    /**
+     * @return Number of requests that joined an identical in-flight request instead of executing
+     */
+    public long getCoalescedCount()
+    {
+        return coalescedCount.get();
+    }
+
+    private <T> T executeOwn(final String requestKey, final Callable<T> request, final CompletableFuture<Object> ownFuture) throws Exception
+    {
+        requestCount.incrementAndGet();
+        final T response;
+        try {
+            response = request.call();
+        } catch (Exception exc) {
+            release(requestKey, ownFuture, exc);
+            throw exc;
+        } catch (Error err) {
+            release(requestKey, ownFuture, err);
+            throw err;
+        }
+        inFlight.remove(requestKey, ownFuture);
+        ownFuture.complete(response);
+        return response;
+    }
+
+    /**
+     * Release the key of a failed request and pass the failure to waiting callers.
+     * The key is removed first, so callers retrying after an interruption do not find the failed request.
+     */
+    private void release(final String requestKey, final CompletableFuture<Object> ownFuture, final Throwable failure)
+    {
+        inFlight.remove(requestKey, ownFuture);
+        if (isInterruption(failure)) {
+            ownFuture.cancel(false);
+        } else {
+            ownFuture.completeExceptionally(failure);
+        }
+    }
+
+    /**
+     * @return True if the request failed because the calling thread was interrupted or its task cancelled
+     */
+    private static boolean isInterruption(final Throwable failure)
+    {
+        if (Thread.currentThread().isInterrupted()) {
+            return true;
+        }
+        for (Throwable t = failure; t != null; t = t.getCause()) {
+            if (t instanceof InterruptedException || t instanceof InterruptedIOException || t instanceof CancellationException) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static Object await(final CompletableFuture<Object> future) throws Exception
+    {
+        try {
+            return future.get();
+        } catch (ExecutionException exc) {
+            final Throwable cause = exc.getCause();
+            if (cause instanceof Exception) {
+                throw (Exception) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw exc;
+        }
+    }
+}
@@ -0,0 +1,346 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.format.DateTimeParseException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+import com.solace.cloud.ep.designer.ApiException;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Retries failed Event Portal REST calls with exponential backoff and full jitter.
+ *
+ * Idempotent reads are retried on HTTP 429, HTTP 5xx and I/O errors (no response received).
+ * Non-idempotent writes are retried only on HTTP 429, where Event Portal has rejected the
+ * request without processing it; retrying a write after a 5xx or a lost response risks
+ * creating a duplicate object.
+ *
+ * If the response carries a Retry-After header the call is retried after the requested delay
+ * (capped at maxDelay) instead of the computed backoff.
+ *
+ * All calls through one policy instance share a retry budget: at most
+ * `minRetries + retryRatio * requests` retries are made over the life of the policy, so that
+ * a sustained outage fails fast instead of multiplying load on Event Portal.
+ * Each EventPortalClientApi creates its own policy and AsyncApiImporter uses one client per
+ * import; an EventPortalAsyncClientApi uses the policy of the client it is built from, so sync
+ * and async calls of an import draw on the same budget.
+ */
+@Slf4j
+public class EpRetryPolicy {
+
+    public static final int DEFAULT_MAX_ATTEMPTS = 5;
+
+    public static final long DEFAULT_BASE_DELAY_MILLIS = 250;
+
+    public static final long DEFAULT_MAX_DELAY_MILLIS = 30_000;
+
+    public static final int DEFAULT_MIN_RETRIES = 20;
+
+    public static final double DEFAULT_RETRY_RATIO = 0.2;
+
+    private static final String RETRY_AFTER_HEADER = "Retry-After";
+
+    @Getter
+    private final int maxAttempts;
+
+    @Getter
+    private final long baseDelayMillis;
+
+    @Getter
+    private final long maxDelayMillis;
+
+    private final int minRetries;
+
+    private final double retryRatio;
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private final AtomicLong retryCount = new AtomicLong();
+
+    private final AtomicLong budgetExhaustedCount = new AtomicLong();
+
+    public EpRetryPolicy()
+    {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_BASE_DELAY_MILLIS, DEFAULT_MAX_DELAY_MILLIS, DEFAULT_MIN_RETRIES, DEFAULT_RETRY_RATIO);
+    }
+
+    /**
+     * @param maxAttempts - max number of attempts per call, including the first
+     * @param baseDelayMillis - backoff cap for the first retry; doubled on each subsequent retry
+     * @param maxDelayMillis - upper limit for any single delay, including Retry-After
+     * @param minRetries - retries always available in the shared budget
+     * @param retryRatio - additional retries allowed in the shared budget per request made
+     */
+    public EpRetryPolicy(
+        final int maxAttempts,
+        final long baseDelayMillis,
+        final long maxDelayMillis,
+        final int minRetries,
+        final double retryRatio
+    )
+    {
+        this.maxAttempts = Math.max(1, maxAttempts);
+        this.baseDelayMillis = Math.max(1, baseDelayMillis);
+        this.maxDelayMillis = Math.max(this.baseDelayMillis, maxDelayMillis);
+        this.minRetries = Math.max(0, minRetries);
+        this.retryRatio = Math.max(0.0, retryRatio);
+    }
+
+    /**
+     * Execute call, retrying retryable failures
+     * @param <T>
+     * @param operation - name of the operation, used for logging
+     * @param idempotent - true for reads; false for creates and updates
+     * @param call - executes the REST call
+     * @return Response of the call
+     * @throws Exception - last exception thrown by call when not retryable or retries are exhausted
+     */
+    public <T> T execute(final String operation, final boolean idempotent, final Callable<T> call) throws Exception
+    {
+        requestCount.incrementAndGet();
+        int attempt = 1;
+        while (true) {
+            try {
+                return call.call();
+            } catch (Exception exc) {
+                // An interrupted caller has abandoned the call; do not spend the retry budget on it
+                if (attempt >= maxAttempts || Thread.currentThread().isInterrupted() || !isRetryable(exc, idempotent)) {
+                    throw exc;
+                }
+                if (!acquireRetry()) {
+                    log.warn("EP retry budget exhausted; not retrying {} after attempt {}", operation, attempt);
+                    throw exc;
+                }
+                final long delayMillis = computeDelayMillis(exc, attempt);
+                log.info("Retrying {} in {} ms after attempt {} failed: {}", operation, delayMillis, attempt, describe(exc));
+                Thread.sleep(delayMillis);
+                attempt++;
+            }
+        }
+    }
+
+    /**
+     * Execute an asynchronous call, retrying retryable failures. Backoff delays are scheduled
+     * instead of blocking a thread, and share the retry budget with synchronous calls.
+     * @param <T>
+     * @param operation - name of the operation, used for logging
+     * @param idempotent - true for reads; false for creates and updates
+     * @param call - starts one attempt of the REST call
+     * @return Future completed with the response, or exceptionally with the last failure
+     * when not retryable or retries are exhausted. Cancelling it cancels the attempt in flight.
+     */
+    public <T> CompletableFuture<T> executeAsync(
+        final String operation,
+        final boolean idempotent,
+        final Supplier<CompletableFuture<T>> call
+    )
+    {
+        requestCount.incrementAndGet();
+        final CompletableFuture<T> result = new CompletableFuture<>();
+        attemptAsync(operation, idempotent, call, 1, result);
+        return result;
+    }
+
+    private <T> void attemptAsync(
+        final String operation,
+        final boolean idempotent,
+        final Supplier<CompletableFuture<T>> call,
+        final int attempt,
+        final CompletableFuture<T> result
+    )
+    {
+        if (result.isDone()) {
+            // Cancelled by the caller while waiting to retry
+            return;
+        }
+        final CompletableFuture<T> response;
+        try {
+            response = call.get();
+        } catch (Exception exc) {
+            result.completeExceptionally(exc);
+            return;
+        }
+        // Cancelling the result cancels the attempt in flight
+        result.whenComplete( (value, failure) -> {
+            if (result.isCancelled()) {
+                response.cancel(true);
+            }
+        });
+        response.whenComplete( (value, failure) -> {
+            if (failure == null) {
+                result.complete(value);
+                return;
+            }
+            final Throwable cause = failure instanceof CompletionException && failure.getCause() != null ? failure.getCause() : failure;
+            if (!(cause instanceof Exception) || attempt >= maxAttempts || !isRetryable((Exception) cause, idempotent)) {
+                result.completeExceptionally(cause);
+                return;
+            }
+            if (!acquireRetry()) {
+                log.warn("EP retry budget exhausted; not retrying {} after attempt {}", operation, attempt);
+                result.completeExceptionally(cause);
+                return;
+            }
+            final long delayMillis = computeDelayMillis((Exception) cause, attempt);
+            log.info("Retrying {} in {} ms after attempt {} failed: {}", operation, delayMillis, attempt, describe((Exception) cause));
+            CompletableFuture.delayedExecutor(delayMillis, TimeUnit.MILLISECONDS)
+                .execute(() -> attemptAsync(operation, idempotent, call, attempt + 1, result));
+        });
+    }
+
+    /**
+     * @return Total number of calls executed through this policy
+     */
+    public long getRequestCount()
+    {
+        return requestCount.get();
+    }
+
+    /**
+     * @return Total number of retries made
+     */
+    public long getRetryCount()
+    {
+        return retryCount.get();
+    }
+
+    /**
+     * @return Number of retryable failures not retried because the retry budget was exhausted
+     */
+    public long getBudgetExhaustedCount()
+    {
+        return budgetExhaustedCount.get();
+    }
+
+    /**
+     * Reads are retried on 429, 5xx and I/O errors; writes on 429 only
+     */
+    static boolean isRetryable(final Exception exc, final boolean idempotent)
+    {
+        if (exc instanceof ApiException) {
+            final int code = ((ApiException) exc).getCode();
+            if (code == 429) {
+                return true;
+            }
+            if (!idempotent) {
+                return false;
+            }
+            if (code >= 500 && code <= 599) {
+                return true;
+            }
+            // code == 0 --> no HTTP response was received
+            return code == 0 && exc.getCause() instanceof IOException;
+        }
+        return idempotent && exc instanceof IOException;
+    }
+
+    private boolean acquireRetry()
+    {
+        while (true) {
+            final long retries = retryCount.get();
+            final double allowed = minRetries + retryRatio * requestCount.get();
+            if (retries >= allowed) {
+                budgetExhaustedCount.incrementAndGet();
+                return false;
+            }
+            if (retryCount.compareAndSet(retries, retries + 1)) {
+                return true;
+            }
+        }
+    }
+
+    long computeDelayMillis(final Exception exc, final int attempt)
+    {
+        final Long retryAfterMillis = exc instanceof ApiException ? parseRetryAfterMillis((ApiException) exc) : null;
+        if (retryAfterMillis != null) {
+            return Math.min(maxDelayMillis, Math.max(0, retryAfterMillis));
+        }
+        // Full jitter: uniform random delay between 0 and the exponential cap
+        final long cap = Math.min(maxDelayMillis, baseDelayMillis << Math.min(attempt - 1, 30));
+        return ThreadLocalRandom.current().nextLong(cap + 1);
+    }
+
+    /**
+     * Parse Retry-After header as delay-seconds or HTTP-date
+     * @return Delay in milliseconds, or null if header is absent or invalid;
+     * Long.MAX_VALUE if delay-seconds is too large to express in milliseconds
+     */
+    static Long parseRetryAfterMillis(final ApiException exc)
+    {
+        final Map<String, List<String>> headers = exc.getResponseHeaders();
+        if (headers == null) {
+            return null;
+        }
+        String value = null;
+        for (Map.Entry<String, List<String>> header : headers.entrySet()) {
+            if (RETRY_AFTER_HEADER.equalsIgnoreCase(header.getKey()) && header.getValue() != null && !header.getValue().isEmpty()) {
+                value = header.getValue().get(0);
+                break;
+            }
+        }
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        value = value.trim();
+        if (value.chars().allMatch(Character::isDigit)) {
+            try {
+                return Math.multiplyExact(Long.parseLong(value), 1000L);
+            } catch (NumberFormatException | ArithmeticException overflow) {
+                // Overflow; capped at maxDelay by the caller
+                return Long.MAX_VALUE;
+            }
+        }
+        try {
+            final ZonedDateTime retryAt = ZonedDateTime.parse(value, DateTimeFormatter.RFC_1123_DATE_TIME);
+            return Duration.between(ZonedDateTime.now(retryAt.getZone()), retryAt).toMillis();
+        } catch (DateTimeParseException dtpe) {
+            log.debug("Ignoring invalid Retry-After header value [{}]", value);
+            return null;
+        }
+    }
+
+    private static String describe(final Exception exc)
+    {
+        if (exc instanceof ApiException) {
+            return "HTTP " + ((ApiException) exc).getCode() + (exc.getMessage() != null ? " " + exc.getMessage() : "");
+        }
+        return exc.toString();
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("EpRetryPolicy[requests=%d, retries=%d, budgetExhausted=%d]",
+            requestCount.get(), retryCount.get(), budgetExhaustedCount.get());
+    }
+}
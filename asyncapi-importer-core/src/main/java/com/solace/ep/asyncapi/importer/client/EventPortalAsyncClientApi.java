@@ -0,0 +1,510 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.Function;
+import java.util.function.IntFunction;
+
+import com.solace.cloud.ep.designer.ApiCallback;
+import com.solace.cloud.ep.designer.ApiException;
+import com.solace.cloud.ep.designer.api.ApplicationsApi;
+import com.solace.cloud.ep.designer.api.EnumsApi;
+import com.solace.cloud.ep.designer.api.EventApisApi;
+import com.solace.cloud.ep.designer.api.EventsApi;
+import com.solace.cloud.ep.designer.api.SchemasApi;
+import com.solace.cloud.ep.designer.model.Application;
+import com.solace.cloud.ep.designer.model.ApplicationResponse;
+import com.solace.cloud.ep.designer.model.ApplicationVersion;
+import com.solace.cloud.ep.designer.model.ApplicationVersionResponse;
+import com.solace.cloud.ep.designer.model.ApplicationVersionsResponse;
+import com.solace.cloud.ep.designer.model.ApplicationsResponse;
+import com.solace.cloud.ep.designer.model.Event;
+import com.solace.cloud.ep.designer.model.EventApi;
+import com.solace.cloud.ep.designer.model.EventApiResponse;
+import com.solace.cloud.ep.designer.model.EventApiVersion;
+import com.solace.cloud.ep.designer.model.EventApiVersionResponse;
+import com.solace.cloud.ep.designer.model.EventApiVersionsResponse;
+import com.solace.cloud.ep.designer.model.EventApisResponse;
+import com.solace.cloud.ep.designer.model.EventResponse;
+import com.solace.cloud.ep.designer.model.EventVersion;
+import com.solace.cloud.ep.designer.model.EventVersionResponse;
+import com.solace.cloud.ep.designer.model.EventVersionsResponse;
+import com.solace.cloud.ep.designer.model.EventsResponse;
+import com.solace.cloud.ep.designer.model.SchemaObject;
+import com.solace.cloud.ep.designer.model.SchemaResponse;
+import com.solace.cloud.ep.designer.model.SchemaVersion;
+import com.solace.cloud.ep.designer.model.SchemaVersionResponse;
+import com.solace.cloud.ep.designer.model.SchemaVersionsResponse;
+import com.solace.cloud.ep.designer.model.SchemasResponse;
+import com.solace.cloud.ep.designer.model.TopicAddressEnum;
+import com.solace.cloud.ep.designer.model.TopicAddressEnumResponse;
+import com.solace.cloud.ep.designer.model.TopicAddressEnumVersion;
+import com.solace.cloud.ep.designer.model.TopicAddressEnumVersionResponse;
+import com.solace.cloud.ep.designer.model.TopicAddressEnumVersionsResponse;
+import com.solace.cloud.ep.designer.model.TopicAddressEnumsResponse;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+import okhttp3.Call;
+import okhttp3.Dispatcher;
+
+/**
+ * Asynchronous counterpart to EventPortalClientApi. Each lookup and create starts the REST call
+ * using the SDK's OkHttp async support and returns a CompletableFuture, so that lookups can be
+ * composed without dedicating a thread to each request, e.g.:
+ *
+ *   asyncClient.getSchemaObjectByName(name)
+ *       .thenCompose(schema -> asyncClient.getSchemaVersions(schema.getId()))
+ *       .thenApply(versions -> findMatch(versions));
+ *
+ * The async client shares the ApiClient, application domain, retry policy, and concurrency
+ * limiter of the EventPortalClientApi it is created from. Requests in flight are bounded by
+ * the OkHttp dispatcher rather than by threads; requests over the limit are queued without
+ * blocking. Futures complete on OkHttp dispatcher threads, so dependent stages should not block.
+ * Cancelling a future returned by this class cancels its HTTP calls in flight; cancelling a
+ * stage composed from it does not.
+ *
+ * Lookups always call Event Portal; the domain snapshot and request coalescing of the
+ * synchronous client are not used.
+ */
+@Slf4j
+public class EventPortalAsyncClientApi {
+
+    public static final int DEFAULT_MAX_REQUESTS_IN_FLIGHT = 16;
+
+    private static final int PAGE_SZ_OBJECT = 10;
+
+    /**
+     * Starts one attempt of an SDK *Async call
+     */
+    @FunctionalInterface
+    public interface AsyncCall<T> {
+        Call start(ApiCallback<T> callback) throws ApiException;
+    }
+
+    @Getter
+    private final EventPortalClientApi client;
+
+    private final String appDomainId;
+
+    private final SchemasApi schemasApi;
+
+    private final EnumsApi enumsApi;
+
+    private final EventsApi eventsApi;
+
+    private final ApplicationsApi applicationsApi;
+
+    private final EventApisApi eventApisApi;
+
+    /**
+     * @param client - configured synchronous client; its ApiClient and application domain are used
+     */
+    public EventPortalAsyncClientApi(final EventPortalClientApi client)
+    {
+        this(client, DEFAULT_MAX_REQUESTS_IN_FLIGHT);
+    }
+
+    /**
+     * @param client - configured synchronous client; its ApiClient and application domain are used
+     * @param maxRequestsInFlight - max number of async requests executing at the same time
+     */
+    public EventPortalAsyncClientApi(final EventPortalClientApi client, final int maxRequestsInFlight)
+    {
+        this.client = client;
+        this.appDomainId = client.getAppDomainId();
+        this.schemasApi = new SchemasApi(client.getApiClient());
+        this.enumsApi = new EnumsApi(client.getApiClient());
+        this.eventsApi = new EventsApi(client.getApiClient());
+        this.applicationsApi = new ApplicationsApi(client.getApiClient());
+        this.eventApisApi = new EventApisApi(client.getApiClient());
+        setMaxRequestsInFlight(maxRequestsInFlight);
+    }
+
+    /**
+     * Change the max number of async requests executing at the same time; synchronous calls are not affected
+     * @param maxRequestsInFlight - at least 1
+     */
+    public void setMaxRequestsInFlight(final int maxRequestsInFlight)
+    {
+        final Dispatcher dispatcher = client.getApiClient().getHttpClient().dispatcher();
+        // All requests go to the same host, so the per-host limit is the effective limit
+        dispatcher.setMaxRequests(Math.max(1, maxRequestsInFlight));
+        dispatcher.setMaxRequestsPerHost(Math.max(1, maxRequestsInFlight));
+    }
+
+    /**
+     * @return Max number of async requests executing at the same time
+     */
+    public int getMaxRequestsInFlight()
+    {
+        return client.getApiClient().getHttpClient().dispatcher().getMaxRequestsPerHost();
+    }
+
+    /**
+     * Find Schema object by name in the application domain
+     * @param schemaName
+     * @return Future completed with the SchemaObject, or null if not found
+     */
+    public CompletableFuture<SchemaObject> getSchemaObjectByName(final String schemaName)
+    {
+        return mapResponse(callEp("getSchemas", true,
+            (ApiCallback<SchemasResponse> cb) -> schemasApi.getSchemasAsync(PAGE_SZ_OBJECT, 1, schemaName, null, appDomainId, null, null, null, null, null, cb)
+        ), response -> singleResult(response.getData(), "Schema", schemaName) );
+    }
+
+    /**
+     * Retrieve all versions of a schema; pages after the first are requested concurrently
+     * @param schemaId
+     * @return Future completed with versions in the order returned by Event Portal
+     */
+    public CompletableFuture<List<SchemaVersion>> getSchemaVersions(final String schemaId)
+    {
+        return getAllPages("getSchemaVersions",
+            page -> cb -> schemasApi.getSchemaVersionsAsync(client.getListPageSize(), page, Set.of(schemaId), null, null, cb),
+            SchemaVersionsResponse::getData,
+            response -> response.getMeta().getPagination().getTotalPages()
+        );
+    }
+
+    /**
+     * Find TopicAddressEnum by name. Enum names are unique across the account; the future
+     * completes exceptionally if the enum exists in a different application domain.
+     * @param topicAddressEnumName
+     * @return Future completed with the TopicAddressEnum, or null if not found
+     */
+    public CompletableFuture<TopicAddressEnum> getTopicAddressEnumByName(final String topicAddressEnumName)
+    {
+        return mapResponse(callEp("getEnums", true,
+            (ApiCallback<TopicAddressEnumsResponse> cb) -> enumsApi.getEnumsAsync(PAGE_SZ_OBJECT, 1, null, null, null, List.of(topicAddressEnumName), null, null, null, cb)
+        ), response -> {
+            final TopicAddressEnum topicAddressEnum = singleResult(response.getData(), "TopicAddressEnum", topicAddressEnumName);
+            if (topicAddressEnum != null && !appDomainId.contentEquals(topicAddressEnum.getApplicationDomainId())) {
+                throw new IllegalStateException(
+                    "Topic Parameter Enum [" + topicAddressEnumName + "] was found to exist outside of the target app domain for import [" + client.getAppDomainName() + "]");
+            }
+            return topicAddressEnum;
+        });
+    }
+
+    /**
+     * Retrieve all versions of a TopicAddressEnum; pages after the first are requested concurrently
+     * @param topicAddressEnumId
+     * @return Future completed with versions in the order returned by Event Portal
+     */
+    public CompletableFuture<List<TopicAddressEnumVersion>> getEnumVersions(final String topicAddressEnumId)
+    {
+        return getAllPages("getEnumVersions",
+            page -> cb -> enumsApi.getEnumVersionsAsync(client.getListPageSize(), page, Set.of(topicAddressEnumId), null, cb),
+            TopicAddressEnumVersionsResponse::getData,
+            response -> response.getMeta().getPagination().getTotalPages()
+        );
+    }
+
+    /**
+     * Find Event by name in the application domain
+     * @param eventName
+     * @return Future completed with the Event, or null if not found
+     */
+    public CompletableFuture<Event> getEventByName(final String eventName)
+    {
+        return mapResponse(callEp("getEvents", true,
+            (ApiCallback<EventsResponse> cb) -> eventsApi.getEventsAsync(PAGE_SZ_OBJECT, 1, eventName, null, null, appDomainId, null, null, null, null, cb)
+        ), response -> singleResult(response.getData(), "Event", eventName) );
+    }
+
+    /**
+     * Retrieve all versions of an Event; pages after the first are requested concurrently
+     * @param eventId
+     * @return Future completed with versions in the order returned by Event Portal
+     */
+    public CompletableFuture<List<EventVersion>> getEventVersions(final String eventId)
+    {
+        return getAllPages("getEventVersions",
+            page -> cb -> eventsApi.getEventVersionsAsync(client.getListPageSize(), page, Set.of(eventId), null, null, null, null, cb),
+            EventVersionsResponse::getData,
+            response -> response.getMeta().getPagination().getTotalPages()
+        );
+    }
+
+    /**
+     * Find Application by name in the application domain
+     * @param appName
+     * @return Future completed with the Application, or null if not found
+     */
+    public CompletableFuture<Application> getApplicationByName(final String appName)
+    {
+        return mapResponse(callEp("getApplications", true,
+            (ApiCallback<ApplicationsResponse> cb) -> applicationsApi.getApplicationsAsync(PAGE_SZ_OBJECT, 1, appName, appDomainId, null, null, null, null, cb)
+        ), response -> singleResult(response.getData(), "Application", appName) );
+    }
+
+    /**
+     * Retrieve all versions of an Application; pages after the first are requested concurrently
+     * @param applicationId
+     * @return Future completed with versions in the order returned by Event Portal
+     */
+    public CompletableFuture<List<ApplicationVersion>> getApplicationVersions(final String applicationId)
+    {
+        return getAllPages("getApplicationVersions",
+            page -> cb -> applicationsApi.getApplicationVersionsAsync(client.getListPageSize(), page, Set.of(applicationId), null, null, null, cb),
+            ApplicationVersionsResponse::getData,
+            response -> response.getMeta().getPagination().getTotalPages()
+        );
+    }
+
+    /**
+     * Find Event API by name in the application domain
+     * @param eventApiName
+     * @return Future completed with the EventApi, or null if not found
+     */
+    public CompletableFuture<EventApi> getEventApiByName(final String eventApiName)
+    {
+        return mapResponse(callEp("getEventApis", true,
+            (ApiCallback<EventApisResponse> cb) -> eventApisApi.getEventApisAsync(PAGE_SZ_OBJECT, 1, eventApiName, null, appDomainId, null, null, null, null, null, null, null, cb)
+        ), response -> singleResult(response.getData(), "EventApi", eventApiName) );
+    }
+
+    /**
+     * Retrieve all versions of an Event API; pages after the first are requested concurrently
+     * @param eventApiId
+     * @return Future completed with versions in the order returned by Event Portal
+     */
+    public CompletableFuture<List<EventApiVersion>> getEventApiVersions(final String eventApiId)
+    {
+        return getAllPages("getEventApiVersions",
+            page -> cb -> eventApisApi.getEventApiVersionsAsync(client.getListPageSize(), page, Set.of(eventApiId), null, null, null, null, cb),
+            EventApiVersionsResponse::getData,
+            response -> response.getMeta().getPagination().getTotalPages()
+        );
+    }
+
+    public CompletableFuture<SchemaObject> createSchema(final SchemaObject schemaObject)
+    {
+        return mapResponse(callEp("createSchema", false, (ApiCallback<SchemaResponse> cb) -> schemasApi.createSchemaAsync(schemaObject, cb)),
+            response -> response.getData() );
+    }
+
+    public CompletableFuture<SchemaVersion> createSchemaVersion(final SchemaVersion schemaVersion)
+    {
+        return mapResponse(callEp("createSchemaVersion", false, (ApiCallback<SchemaVersionResponse> cb) -> schemasApi.createSchemaVersionAsync(schemaVersion, cb)),
+            response -> response.getData() );
+    }
+
+    public CompletableFuture<TopicAddressEnum> createEnum(final TopicAddressEnum topicAddressEnum)
+    {
+        return mapResponse(callEp("createEnum", false, (ApiCallback<TopicAddressEnumResponse> cb) -> enumsApi.createEnumAsync(topicAddressEnum, cb)),
+            response -> response.getData() );
+    }
+
+    public CompletableFuture<TopicAddressEnumVersion> createEnumVersion(final TopicAddressEnumVersion enumVersion)
+    {
+        return mapResponse(callEp("createEnumVersion", false, (ApiCallback<TopicAddressEnumVersionResponse> cb) -> enumsApi.createEnumVersionAsync(enumVersion, cb)),
+            response -> response.getData() );
+    }
+
+    public CompletableFuture<Event> createEvent(final Event event)
+    {
+        return mapResponse(callEp("createEvent", false, (ApiCallback<EventResponse> cb) -> eventsApi.createEventAsync(event, cb)),
+            response -> response.getData() );
+    }
+
+    public CompletableFuture<EventVersion> createEventVersion(final EventVersion eventVersion)
+    {
+        return mapResponse(callEp("createEventVersion", false, (ApiCallback<EventVersionResponse> cb) -> eventsApi.createEventVersionAsync(eventVersion, cb)),
+            response -> response.getData() );
+    }
+
+    public CompletableFuture<Application> createApplication(final Application application)
+    {
+        return mapResponse(callEp("createApplication", false, (ApiCallback<ApplicationResponse> cb) -> applicationsApi.createApplicationAsync(application, cb)),
+            response -> response.getData() );
+    }
+
+    public CompletableFuture<ApplicationVersion> createApplicationVersion(final ApplicationVersion applicationVersion)
+    {
+        return mapResponse(callEp("createApplicationVersion", false, (ApiCallback<ApplicationVersionResponse> cb) -> applicationsApi.createApplicationVersionAsync(applicationVersion, cb)),
+            response -> response.getData() );
+    }
+
+    public CompletableFuture<EventApi> createEventApi(final EventApi eventApi)
+    {
+        return mapResponse(callEp("createEventApi", false, (ApiCallback<EventApiResponse> cb) -> eventApisApi.createEventApiAsync(eventApi, cb)),
+            response -> response.getData() );
+    }
+
+    public CompletableFuture<EventApiVersion> createEventApiVersion(final EventApiVersion eventApiVersion)
+    {
+        return mapResponse(callEp("createEventApiVersion", false, (ApiCallback<EventApiVersionResponse> cb) -> eventApisApi.createEventApiVersionAsync(eventApiVersion, cb)),
+            response -> response.getData() );
+    }
+
+    /**
+     * Fetch page 1, then request the remaining pages concurrently and concatenate them in page order.
+     * Cancelling the returned future cancels the page requests in flight.
+     */
+    private <R, T> CompletableFuture<List<T>> getAllPages(
+        final String operation,
+        final IntFunction<AsyncCall<R>> pageCall,
+        final Function<R, List<T>> dataOf,
+        final Function<R, Integer> totalPagesOf
+    )
+    {
+        final CompletableFuture<R> firstPageRequest = callEp(operation, true, pageCall.apply(1));
+        // Requests for pages after the first; guarded by itself together with cancelled
+        final List<CompletableFuture<R>> pageRequests = new ArrayList<>();
+        final AtomicBoolean cancelled = new AtomicBoolean(false);
+
+        final CompletableFuture<List<T>> result = firstPageRequest.thenCompose( firstPage -> {
+            final Integer reportedPages = firstPage == null ? null : totalPagesOf.apply(firstPage);
+            final int totalPages = reportedPages == null || reportedPages < 1 ? 1 : reportedPages;
+            final List<CompletableFuture<R>> pages = new ArrayList<>(totalPages);
+            pages.add(CompletableFuture.completedFuture(firstPage));
+            synchronized (pageRequests) {
+                if (cancelled.get()) {
+                    return CompletableFuture.failedFuture(new CancellationException());
+                }
+                for (int page = 2; page <= totalPages; page++) {
+                    final CompletableFuture<R> pageRequest = callEp(operation, true, pageCall.apply(page));
+                    pageRequests.add(pageRequest);
+                    pages.add(pageRequest);
+                }
+            }
+            return CompletableFuture.allOf(pages.toArray(new CompletableFuture<?>[0])).thenApply( ignored -> {
+                final List<T> items = new ArrayList<>();
+                for (CompletableFuture<R> page : pages) {
+                    final List<T> data = page.join() == null ? null : dataOf.apply(page.join());
+                    if (data == null || data.isEmpty()) {
+                        // An empty page means the end of the result set, even if more pages were reported
+                        break;
+                    }
+                    items.addAll(data);
+                }
+                return items;
+            });
+        });
+
+        // Cancelling the result cancels the page requests in flight
+        result.whenComplete( (items, failure) -> {
+            if (result.isCancelled()) {
+                firstPageRequest.cancel(true);
+                synchronized (pageRequests) {
+                    cancelled.set(true);
+                    pageRequests.forEach( pageRequest -> pageRequest.cancel(true) );
+                }
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Map the response of a call; cancelling the returned future cancels the call
+     */
+    private static <R, T> CompletableFuture<T> mapResponse(final CompletableFuture<R> call, final Function<R, T> mapper)
+    {
+        final CompletableFuture<T> result = call.thenApply(mapper);
+        result.whenComplete( (value, failure) -> {
+            if (result.isCancelled()) {
+                call.cancel(true);
+            }
+        });
+        return result;
+    }
+
+    /**
+     * Start an async REST call, retrying according to the retry policy of the client if one is configured
+     * @param operation - name of the operation, used for logging
+     * @param idempotent - true for reads; writes are only retried if rejected by throttling
+     */
+    private <T> CompletableFuture<T> callEp(final String operation, final boolean idempotent, final AsyncCall<T> call)
+    {
+        final EpRetryPolicy policy = client.getRetryPolicy();
+        if (policy == null) {
+            return startCall(call);
+        }
+        return policy.executeAsync(operation, idempotent, () -> startCall(call));
+    }
+
+    /**
+     * Start a single attempt of a REST call, reporting latency and throttling to the
+     * concurrency limiter of the client if one is configured.
+     * Cancelling the returned future cancels the HTTP call.
+     */
+    private <T> CompletableFuture<T> startCall(final AsyncCall<T> call)
+    {
+        final CompletableFuture<T> future = new CompletableFuture<>();
+        final EpConcurrencyLimiter limiter = client.getConcurrencyLimiter();
+        final long startNanos = System.nanoTime();
+        try {
+            final Call httpCall = call.start(new ApiCallback<T>() {
+                @Override
+                public void onSuccess(T result, int statusCode, Map<String, List<String>> responseHeaders) {
+                    if (limiter != null) {
+                        limiter.recordResponse(System.nanoTime() - startNanos, false);
+                    }
+                    future.complete(result);
+                }
+
+                @Override
+                public void onFailure(ApiException e, int statusCode, Map<String, List<String>> responseHeaders) {
+                    if (limiter != null) {
+                        limiter.recordResponse(System.nanoTime() - startNanos, e.getCode());
+                    }
+                    future.completeExceptionally(e);
+                }
+
+                @Override
+                public void onUploadProgress(long bytesWritten, long contentLength, boolean done) {
+                }
+
+                @Override
+                public void onDownloadProgress(long bytesRead, long contentLength, boolean done) {
+                }
+            });
+            if (httpCall != null) {
+                future.whenComplete( (result, failure) -> {
+                    if (future.isCancelled()) {
+                        httpCall.cancel();
+                    }
+                });
+            }
+        } catch (ApiException exc) {
+            future.completeExceptionally(exc);
+        }
+        return future;
+    }
+
+    private static <T> T singleResult(final List<T> data, final String objectType, final String name)
+    {
+        if (data == null || data.isEmpty()) {
+            log.debug("{} name = [{}] not found", objectType, name);
+            return null;
+        }
+        if (data.size() > 1) {
+            throw new IllegalStateException("Returned > 1 " + objectType + " objects for name = " + name);
+        }
+        return data.get(0);
+    }
+}
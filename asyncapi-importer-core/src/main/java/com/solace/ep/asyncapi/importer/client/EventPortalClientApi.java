@@ -18,14 +18,28 @@
 package com.solace.ep.asyncapi.importer.client;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Matcher;
 import java.util.regex.Pattern;
 
 import com.solace.cloud.ep.designer.ApiClient;
+import com.solace.cloud.ep.designer.ApiException;
 import com.solace.cloud.ep.designer.api.ApplicationDomainsApi;
 import com.solace.cloud.ep.designer.api.ApplicationsApi;
 import com.solace.cloud.ep.designer.api.EnumsApi;
@@ -33,6 +47,7 @@ import com.solace.cloud.ep.designer.api.EventApisApi;
 import com.solace.cloud.ep.designer.api.EventsApi;
 import com.solace.cloud.ep.designer.api.SchemasApi;
 import com.solace.cloud.ep.designer.auth.HttpBearerAuth;
+import com.solace.cloud.ep.designer.model.AddressLevel;
 import com.solace.cloud.ep.designer.model.Application;
 import com.solace.cloud.ep.designer.model.ApplicationDomain;
 import com.solace.cloud.ep.designer.model.ApplicationDomainResponse;
@@ -83,7 +98,13 @@ public class EventPortalClientApi {
     private static final String DEFAULT_BASE_URL_PATH = "https://api.solace.cloud";
 
     private static final int    PAGE_SZ_OBJECT = 10,
-                                PAGE_SZ_VERSION = 20;
+                                PAGE_SZ_VERSION = 20,
+                                PAGE_SZ_MAX = 100;
+
+    private static final int    DEFAULT_PAGES_IN_FLIGHT = 4;
+
+    // Max number of IDs or names to pass in a single list query
+    private static final int    ID_CHUNK_SZ = 50;
 
     private String baseUrlPath;
 
@@ -103,21 +124,78 @@ public class EventPortalClientApi {
     @Getter
     private ApplicationDomain applicationDomain;
 
-    // TODO - Concurrent - Change the cached values from single objects to ConcurrentHashMap<String(Id), Object>
+    // Latest version found by lookups or created by this client, keyed by parent object ID
+    private final Map<String, SchemaVersion> latestSchemaVersions = new ConcurrentHashMap<>();
+
+    private final Map<String, TopicAddressEnumVersion> latestEnumVersions = new ConcurrentHashMap<>();
+
+    private final Map<String, EventVersion> latestEventVersions = new ConcurrentHashMap<>();
+
+    private final Map<String, ApplicationVersion> latestApplicationVersions = new ConcurrentHashMap<>();
+
+    private final Map<String, EventApiVersion> latestEventApiVersions = new ConcurrentHashMap<>();
+
+    /**
+     * Page size used when listing all objects in the application domain
+     */
+    @Getter
+    private int listPageSize = PAGE_SZ_MAX;
+
+    /**
+     * Page size used when searching versions of an object for a match
+     */
+    @Getter
+    private int versionPageSize = PAGE_SZ_VERSION;
+
+    /**
+     * Max number of pages of a single list query requested concurrently
+     */
+    @Getter
+    @Setter
+    private int maxPagesInFlight = DEFAULT_PAGES_IN_FLIGHT;
+
+    private volatile ExecutorService pagingExecutor;
+
+    /**
+     * Collapses identical concurrent read requests into a single REST call
+     */
     @Getter
-    private SchemaVersion cachedLatestSchemaVersion;
+    private final EpRequestCoalescer requestCoalescer = new EpRequestCoalescer();
 
+    /**
+     * When set, latency and throttling of every REST call are reported to the limiter,
+     * and call permits following its limit bound the calls made from all threads
+     */
     @Getter
-    private TopicAddressEnumVersion cachedLatestEnumVersion;
+    private volatile EpConcurrencyLimiter concurrencyLimiter;
 
+    /**
+     * Retry policy applied to every REST call; set to null to disable retries.
+     * The retry budget is shared by all calls made through this client.
+     */
     @Getter
-    private EventVersion cachedLatestEventVersion;
+    @Setter
+    private volatile EpRetryPolicy retryPolicy = new EpRetryPolicy();
 
+    /**
+     * When set, bounds the number of REST calls in flight across all threads using this client,
+     * including the threads fetching pages of list queries.
+     * Permits are held only for the duration of a single attempt, not while waiting to retry.
+     * Set automatically by setConcurrencyLimiter().
+     */
     @Getter
-    private ApplicationVersion cachedLatestApplicationVersion;
+    @Setter
+    private volatile EpCallPermits callPermits;
+
+    // SchemaVersion ID + updatedTime --> content hash; avoids re-parsing EP schema content on repeated lookups
+    private final Map<String, String> schemaVersionContentHashes = new ConcurrentHashMap<>();
 
+    /**
+     * When not null, lookups are served from this snapshot instead of calling Event Portal.
+     * See loadDomainSnapshot()
+     */
     @Getter
-    private EventApiVersion cachedLatestEventApiVersion;
+    private EpDomainSnapshot domainSnapshot;
 
     /**
      * Constructs a new EventPortalApiClientGet Object and retrieves ApplicationDomain for appDomain name parameter passed
@@ -242,7 +320,7 @@ public class EventPortalClientApi {
     {
         ApplicationDomainsApi applicationDomainsApi = new ApplicationDomainsApi(apiClient);
         try {
-            ApplicationDomainResponse applicationDomainResponse = applicationDomainsApi.getApplicationDomain(appDomainId, null);
+            ApplicationDomainResponse applicationDomainResponse = callEp("getApplicationDomain", true, () -> applicationDomainsApi.getApplicationDomain(appDomainId, null));
             if (applicationDomainResponse.getData() != null) {
                 return applicationDomainResponse.getData();
             } else {
@@ -267,7 +345,7 @@ public class EventPortalClientApi {
         ApplicationDomainsApi applicationDomainsApi = new ApplicationDomainsApi(apiClient);
         
         try {
-            ApplicationDomainsResponse applicationDomainsResponse = applicationDomainsApi.getApplicationDomains(PAGE_SZ_OBJECT, 1, appDomainName, null, null);
+            ApplicationDomainsResponse applicationDomainsResponse = callEp("getApplicationDomains", true, () -> applicationDomainsApi.getApplicationDomains(PAGE_SZ_OBJECT, 1, appDomainName, null, null));
 
             if ( applicationDomainsResponse.getData().isEmpty()) {
                 log.error("Application domain name = [{}] not found", appDomainName);
@@ -287,12 +365,550 @@ public class EventPortalClientApi {
         }
     }
 
+    /**
+     * Set page size used to list objects; limited to 1..100 (Event Portal maximum)
+     * @param listPageSize
+     */
+    public void setListPageSize(final int listPageSize)
+    {
+        this.listPageSize = Math.max(1, Math.min(PAGE_SZ_MAX, listPageSize));
+    }
+
+    /**
+     * Set page size used to search object versions; limited to 1..100 (Event Portal maximum)
+     * @param versionPageSize
+     */
+    public void setVersionPageSize(final int versionPageSize)
+    {
+        this.versionPageSize = Math.max(1, Math.min(PAGE_SZ_MAX, versionPageSize));
+    }
+
+    /**
+     * Report latency and throttling of every REST call to the limiter, and bound the number of
+     * calls in flight from all threads (import tasks and paging threads alike) by its limit.
+     * Replaces call permits installed for a previously set limiter; set to null to remove.
+     * @param limiter
+     */
+    public synchronized void setConcurrencyLimiter(final EpConcurrencyLimiter limiter)
+    {
+        final EpCallPermits previousPermits = callPermits;
+        if (previousPermits != null && previousPermits.isFollowingLimiter()) {
+            previousPermits.detach();
+            callPermits = null;
+        }
+        concurrencyLimiter = limiter;
+        if (limiter != null) {
+            callPermits = EpCallPermits.forLimiter(limiter);
+        }
+    }
+
+    /**
+     * Returns the latest version of the schema found by the last lookup or created by this client
+     * @param schemaId
+     * @return SchemaVersion or null if not cached
+     */
+    public SchemaVersion getCachedLatestSchemaVersion(final String schemaId)
+    {
+        return schemaId == null ? null : latestSchemaVersions.get(schemaId);
+    }
+
+    public TopicAddressEnumVersion getCachedLatestEnumVersion(final String enumId)
+    {
+        return enumId == null ? null : latestEnumVersions.get(enumId);
+    }
+
+    public EventVersion getCachedLatestEventVersion(final String eventId)
+    {
+        return eventId == null ? null : latestEventVersions.get(eventId);
+    }
+
+    public ApplicationVersion getCachedLatestApplicationVersion(final String appId)
+    {
+        return appId == null ? null : latestApplicationVersions.get(appId);
+    }
+
+    public EventApiVersion getCachedLatestEventApiVersion(final String eventApiId)
+    {
+        return eventApiId == null ? null : latestEventApiVersions.get(eventApiId);
+    }
+
+    /**
+     * Record the latest version found for parentId and pair it with the match result
+     */
+    private static <V> EpMatchResult<V> matchResult(
+        final Map<String, V> latestVersions,
+        final String parentId,
+        final V latest,
+        final V match
+    )
+    {
+        if (latest != null) {
+            latestVersions.put(parentId, latest);
+        } else {
+            latestVersions.remove(parentId);
+        }
+        return new EpMatchResult<>(match, latest);
+    }
+
+    /**
+     * Bulk load all Schemas, Enums, Events, Applications, and Event APIs in the application domain
+     * along with all of their versions. Once loaded, lookup methods on this client are served
+     * from the in-memory snapshot instead of calling Event Portal for each object.
+     * Objects and versions created or updated through this client are recorded in the snapshot.
+     * Calls Event Portal REST API
+     * @return The loaded snapshot
+     * @throws Exception
+     */
+    public EpDomainSnapshot loadDomainSnapshot() throws Exception
+    {
+        return loadDomainSnapshot((EpDomainSnapshot) null);
+    }
+
+    /**
+     * Load the domain snapshot starting from a local cache file. Objects whose updatedTime
+     * and latest version are unchanged since the cache was written keep their cached versions;
+     * all versions are retrieved from Event Portal only for new and changed objects, and for
+     * objects with a cached Draft version. Objects no longer in the domain are dropped. The refreshed snapshot is written back to the cache file.
+     * Calls Event Portal REST API
+     * @param cache - cache file to read and update
+     * @param forceRefresh - ignore any existing cache file and load the full domain
+     * @return The loaded snapshot
+     * @throws Exception
+     */
+    public EpDomainSnapshot loadDomainSnapshot(final EpDomainSnapshotCache cache, final boolean forceRefresh) throws Exception
+    {
+        EpDomainSnapshotCache.CachedDomain cachedDomain = null;
+        if (forceRefresh) {
+            log.info("Domain cache refresh forced; loading full application domain");
+        } else {
+            cachedDomain = cache.read(baseUrlPath, appDomainId);
+        }
+        if (cachedDomain != null) {
+            schemaVersionContentHashes.putAll(cachedDomain.getSchemaContentHashes());
+        }
+        final EpDomainSnapshot snapshot = loadDomainSnapshot(cachedDomain != null ? cachedDomain.getSnapshot() : null);
+        saveDomainSnapshot(cache);
+        return snapshot;
+    }
+
+    /**
+     * Write the current domain snapshot, including objects created or updated through
+     * this client, to a local cache file. Failures are logged and do not throw.
+     * @param cache
+     */
+    public void saveDomainSnapshot(final EpDomainSnapshotCache cache)
+    {
+        if (domainSnapshot == null) {
+            return;
+        }
+        // Only persist hashes of schema versions still in the snapshot
+        final Map<String, String> schemaContentHashes = new HashMap<>();
+        for (SchemaVersion schemaVersion : domainSnapshot.getAllSchemaVersions()) {
+            final String contentHash = getSchemaVersionContentHash(schemaVersion);
+            if (!contentHash.isEmpty()) {
+                schemaContentHashes.put(schemaContentHashKey(schemaVersion), contentHash);
+            }
+        }
+        try {
+            cache.write(baseUrlPath, domainSnapshot, schemaContentHashes);
+        } catch (Exception exc) {
+            log.warn("Unable to write domain cache file [{}]: {}", cache.getCacheFile(), exc.getMessage());
+        }
+    }
+
+    /**
+     * Load all objects in the application domain. Versions are retrieved only for objects that
+     * are new, have a different updatedTime or latest version than in the previous snapshot, or
+     * had a Draft version in the previous snapshot; versions of other objects are copied from
+     * the previous snapshot.
+     * @param previous - previously loaded snapshot; null to load all versions
+     */
+    private EpDomainSnapshot loadDomainSnapshot(final EpDomainSnapshot previous) throws Exception
+    {
+        final long startMillis = System.currentTimeMillis();
+        final EpDomainSnapshot snapshot = new EpDomainSnapshot(appDomainId);
+        final EpDomainSnapshot reuse = previous != null ? previous : new EpDomainSnapshot(appDomainId);
+        int refreshedObjects = 0;
+
+        final SchemasApi schemasApi = new SchemasApi(apiClient);
+        final EnumsApi enumsApi = new EnumsApi(apiClient);
+        final EventsApi eventsApi = new EventsApi(apiClient);
+        final ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
+        final EventApisApi eventApisApi = new EventApisApi(apiClient);
+
+        try {
+            final List<SchemaObject> schemas = pagedIterator(
+                requestKey("getSchemas", listPageSize, null, null, appDomainId, null, null, null, null, null),
+                page -> schemasApi.getSchemas(listPageSize, page, null, null, appDomainId, null, null, null, null, null),
+                SchemasResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ).toList();
+            schemas.forEach( snapshot::putSchema );
+            final Function<Set<String>, EpPagedIterator<SchemaVersionsResponse, SchemaVersion>> schemaVersionsOf = ids -> pagedIterator(
+                requestKey("getSchemaVersions", listPageSize, ids, null, null),
+                page -> schemasApi.getSchemaVersions(listPageSize, page, ids, null, null),
+                SchemaVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            );
+            final List<SchemaObject> changedSchemas = reuseUnchangedVersions(
+                schemas, SchemaObject::getId, SchemaObject::getUpdatedTime, reuse::getSchemaById, reuse::getSchemaVersions, snapshot::addLoadedSchemaVersion,
+                SchemaVersion::getStateId, SchemaVersion::getId, SchemaVersion::getUpdatedTime,
+                ids -> queryLatestVersions(ids, SchemaVersion::getSchemaId, schemaVersionsOf));
+            refreshedObjects += changedSchemas.size();
+            for (Set<String> ids : chunkIds(changedSchemas, SchemaObject::getId)) {
+                schemaVersionsOf.apply(ids).toList().forEach( snapshot::addLoadedSchemaVersion );
+            }
+
+            final List<TopicAddressEnum> enums = pagedIterator(
+                requestKey("getEnums", listPageSize, null, appDomainId, null, null, null, null, null),
+                page -> enumsApi.getEnums(listPageSize, page, null, appDomainId, null, null, null, null, null),
+                TopicAddressEnumsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ).toList();
+            enums.forEach( snapshot::putEnum );
+            final Function<Set<String>, EpPagedIterator<TopicAddressEnumVersionsResponse, TopicAddressEnumVersion>> enumVersionsOf = ids -> pagedIterator(
+                requestKey("getEnumVersions", listPageSize, ids, null),
+                page -> enumsApi.getEnumVersions(listPageSize, page, ids, null),
+                TopicAddressEnumVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            );
+            final List<TopicAddressEnum> changedEnums = reuseUnchangedVersions(
+                enums, TopicAddressEnum::getId, TopicAddressEnum::getUpdatedTime, reuse::getEnumById, reuse::getEnumVersions, snapshot::addLoadedEnumVersion,
+                TopicAddressEnumVersion::getStateId, TopicAddressEnumVersion::getId, TopicAddressEnumVersion::getUpdatedTime,
+                ids -> queryLatestVersions(ids, TopicAddressEnumVersion::getEnumId, enumVersionsOf));
+            refreshedObjects += changedEnums.size();
+            for (Set<String> ids : chunkIds(changedEnums, TopicAddressEnum::getId)) {
+                enumVersionsOf.apply(ids).toList().forEach( snapshot::addLoadedEnumVersion );
+            }
+
+            final List<Event> events = pagedIterator(
+                requestKey("getEvents", listPageSize, null, null, null, appDomainId, null, null, null, null),
+                page -> eventsApi.getEvents(listPageSize, page, null, null, null, appDomainId, null, null, null, null),
+                EventsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ).toList();
+            events.forEach( snapshot::putEvent );
+            final Function<Set<String>, EpPagedIterator<EventVersionsResponse, EventVersion>> eventVersionsOf = ids -> pagedIterator(
+                requestKey("getEventVersions", listPageSize, ids, null, null, null, null),
+                page -> eventsApi.getEventVersions(listPageSize, page, ids, null, null, null, null),
+                EventVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            );
+            final List<Event> changedEvents = reuseUnchangedVersions(
+                events, Event::getId, Event::getUpdatedTime, reuse::getEventById, reuse::getEventVersions, snapshot::addLoadedEventVersion,
+                EventVersion::getStateId, EventVersion::getId, EventVersion::getUpdatedTime,
+                ids -> queryLatestVersions(ids, EventVersion::getEventId, eventVersionsOf));
+            refreshedObjects += changedEvents.size();
+            for (Set<String> ids : chunkIds(changedEvents, Event::getId)) {
+                eventVersionsOf.apply(ids).toList().forEach( snapshot::addLoadedEventVersion );
+            }
+
+            final List<Application> applications = pagedIterator(
+                requestKey("getApplications", listPageSize, null, appDomainId, null, null, null, null),
+                page -> applicationsApi.getApplications(listPageSize, page, null, appDomainId, null, null, null, null),
+                ApplicationsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ).toList();
+            applications.forEach( snapshot::putApplication );
+            final Function<Set<String>, EpPagedIterator<ApplicationVersionsResponse, ApplicationVersion>> applicationVersionsOf = ids -> pagedIterator(
+                requestKey("getApplicationVersions", listPageSize, ids, null, null, null),
+                page -> applicationsApi.getApplicationVersions(listPageSize, page, ids, null, null, null),
+                ApplicationVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            );
+            final List<Application> changedApplications = reuseUnchangedVersions(
+                applications, Application::getId, Application::getUpdatedTime, reuse::getApplicationById, reuse::getApplicationVersions, snapshot::addLoadedApplicationVersion,
+                ApplicationVersion::getStateId, ApplicationVersion::getId, ApplicationVersion::getUpdatedTime,
+                ids -> queryLatestVersions(ids, ApplicationVersion::getApplicationId, applicationVersionsOf));
+            refreshedObjects += changedApplications.size();
+            for (Set<String> ids : chunkIds(changedApplications, Application::getId)) {
+                applicationVersionsOf.apply(ids).toList().forEach( snapshot::addLoadedApplicationVersion );
+            }
+
+            final List<EventApi> eventApis = pagedIterator(
+                requestKey("getEventApis", listPageSize, null, null, appDomainId, null, null, null, null, null, null, null),
+                page -> eventApisApi.getEventApis(listPageSize, page, null, null, appDomainId, null, null, null, null, null, null, null),
+                EventApisResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ).toList();
+            eventApis.forEach( snapshot::putEventApi );
+            final Function<Set<String>, EpPagedIterator<EventApiVersionsResponse, EventApiVersion>> eventApiVersionsOf = ids -> pagedIterator(
+                requestKey("getEventApiVersions", listPageSize, ids, null, null, null, null),
+                page -> eventApisApi.getEventApiVersions(listPageSize, page, ids, null, null, null, null),
+                EventApiVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            );
+            final List<EventApi> changedEventApis = reuseUnchangedVersions(
+                eventApis, EventApi::getId, EventApi::getUpdatedTime, reuse::getEventApiById, reuse::getEventApiVersions, snapshot::addLoadedEventApiVersion,
+                EventApiVersion::getStateId, EventApiVersion::getId, EventApiVersion::getUpdatedTime,
+                ids -> queryLatestVersions(ids, EventApiVersion::getEventApiId, eventApiVersionsOf));
+            refreshedObjects += changedEventApis.size();
+            for (Set<String> ids : chunkIds(changedEventApis, EventApi::getId)) {
+                eventApiVersionsOf.apply(ids).toList().forEach( snapshot::addLoadedEventApiVersion );
+            }
+        } catch (Exception exc) {
+            log.error("EventPortalClientApi.loadDomainSnapshot - Error loading snapshot for appDomainId = [{}]", appDomainId, exc);
+            throw exc;
+        }
+
+        this.domainSnapshot = snapshot;
+        log.info("Loaded {} in {} ms; versions retrieved for {} new or changed objects",
+            snapshot, System.currentTimeMillis() - startMillis, refreshedObjects);
+        return snapshot;
+    }
+
+    /**
+     * Copy versions of objects unchanged since the previous snapshot into the new snapshot.
+     * Changing a version, e.g. releasing a Draft version, does not change the updatedTime of
+     * its parent object. Released versions cannot be edited, so objects with a Draft version in
+     * the previous snapshot are treated as changed and their versions retrieved again.
+     * Versions can also be created without changing the parent object, so the latest version of
+     * each remaining object is retrieved in batches and compared with the cached latest version;
+     * objects whose latest version ID or updatedTime differs are treated as changed.
+     * @return Objects that are new or changed, whose versions must be retrieved
+     */
+    private static <O, V> List<O> reuseUnchangedVersions(
+        final List<O> currentObjects,
+        final Function<O, String> idOf,
+        final Function<O, String> updatedTimeOf,
+        final Function<String, O> previousById,
+        final Function<String, List<V>> previousVersionsOf,
+        final Consumer<V> addVersion,
+        final Function<V, String> versionStateIdOf,
+        final Function<V, String> versionIdOf,
+        final Function<V, String> versionUpdatedTimeOf,
+        final Function<Collection<String>, Map<String, V>> latestVersionsOf
+    )
+    {
+        final List<O> changedObjects = new ArrayList<>();
+        final Map<String, O> unchangedObjects = new LinkedHashMap<>();
+        for (O current : currentObjects) {
+            final O previous = previousById.apply(idOf.apply(current));
+            if (previous == null || updatedTimeOf.apply(current) == null ||
+                    !updatedTimeOf.apply(current).equals(updatedTimeOf.apply(previous))) {
+                changedObjects.add(current);
+                continue;
+            }
+            final List<V> previousVersions = previousVersionsOf.apply(idOf.apply(current));
+            if (previousVersions.stream().anyMatch( v -> "1".equals(versionStateIdOf.apply(v)) )) {
+                changedObjects.add(current);
+            } else {
+                unchangedObjects.put(idOf.apply(current), current);
+            }
+        }
+        if (unchangedObjects.isEmpty()) {
+            return changedObjects;
+        }
+
+        final Map<String, V> latestVersions = latestVersionsOf.apply(unchangedObjects.keySet());
+        unchangedObjects.forEach( (id, current) -> {
+            final List<V> previousVersions = previousVersionsOf.apply(id);
+            final V previousLatest = previousVersions.isEmpty() ? null : previousVersions.get(0);
+            final V latest = latestVersions.get(id);
+            if (sameVersion(previousLatest, latest, versionIdOf, versionUpdatedTimeOf)) {
+                previousVersions.forEach( addVersion );
+            } else {
+                changedObjects.add(current);
+            }
+        });
+        return changedObjects;
+    }
+
+    private static <V> boolean sameVersion(
+        final V previous,
+        final V current,
+        final Function<V, String> versionIdOf,
+        final Function<V, String> versionUpdatedTimeOf
+    )
+    {
+        if (previous == null || current == null) {
+            return previous == current;
+        }
+        return Objects.equals(versionIdOf.apply(previous), versionIdOf.apply(current)) &&
+            Objects.equals(versionUpdatedTimeOf.apply(previous), versionUpdatedTimeOf.apply(current));
+    }
+
+    /**
+     * Discard the domain snapshot; lookups will call Event Portal directly
+     */
+    public void clearDomainSnapshot()
+    {
+        this.domainSnapshot = null;
+    }
+
+    /**
+     * Returns a lazy iterator over all pages of a list query.
+     * Pages after the first are requested concurrently, up to maxPagesInFlight at a time.
+     * Each page request is coalesced with an identical page request already in flight.
+     * @param requestKey - identifies the query, excluding the page number; see requestKey()
+     */
+    private <R, T> EpPagedIterator<R, T> pagedIterator(
+        final String requestKey,
+        final EpPagedIterator.PageFetcher<R> fetcher,
+        final Function<R, List<T>> dataOf,
+        final Function<R, Integer> totalPagesOf
+    )
+    {
+        return new EpPagedIterator<>(
+            page -> executeRead(requestKey + "|page=" + page, () -> fetcher.fetchPage(page)),
+            dataOf,
+            totalPagesOf,
+            getPagingExecutor(),
+            maxPagesInFlight
+        );
+    }
+
+    /**
+     * Execute an idempotent read, coalesced with an identical read already in flight
+     */
+    private <T> T executeRead(final String requestKey, final Callable<T> call) throws Exception
+    {
+        return requestCoalescer.execute(requestKey, () -> callEp(requestKey, true, call));
+    }
+
+    /**
+     * Execute an Event Portal REST call, retrying according to the retry policy if one is configured
+     * @param operation - name of the operation, used for logging
+     * @param idempotent - true for reads; writes are only retried if rejected by throttling
+     */
+    private <T> T callEp(final String operation, final boolean idempotent, final Callable<T> call) throws Exception
+    {
+        final EpRetryPolicy policy = retryPolicy;
+        if (policy == null) {
+            return timedCall(call);
+        }
+        return policy.execute(operation, idempotent, () -> timedCall(call));
+    }
+
+    /**
+     * Execute a single attempt of a REST call, waiting for a call permit if permits are configured
+     */
+    private <T> T timedCall(final Callable<T> call) throws Exception
+    {
+        final EpCallPermits permits = callPermits;
+        if (permits == null) {
+            return measuredCall(call);
+        }
+        permits.acquire();
+        try {
+            return measuredCall(call);
+        } finally {
+            permits.release();
+        }
+    }
+
+    /**
+     * Execute a single attempt of a REST call, reporting latency and throttling
+     * to the concurrency limiter if one is configured
+     */
+    private <T> T measuredCall(final Callable<T> call) throws Exception
+    {
+        final EpConcurrencyLimiter limiter = concurrencyLimiter;
+        if (limiter == null) {
+            return call.call();
+        }
+        final long startNanos = System.nanoTime();
+        try {
+            final T response = call.call();
+            limiter.recordResponse(System.nanoTime() - startNanos, false);
+            return response;
+        } catch (ApiException exc) {
+            limiter.recordResponse(System.nanoTime() - startNanos, exc.getCode());
+            throw exc;
+        }
+    }
+
+    /**
+     * Build the key used to coalesce identical read requests from the API operation
+     * name and every parameter passed to it
+     */
+    private static String requestKey(final String operation, final Object... params)
+    {
+        final StringBuilder key = new StringBuilder(operation);
+        for (Object param : params) {
+            key.append('|').append(param);
+        }
+        return key.toString();
+    }
+
+    /**
+     * Iterate versions of parentId in latest-first order until one matches.
+     * The first version returned is recorded as the latest version of the parent.
+     */
+    private static <V> EpMatchResult<V> findVersion(
+        final Map<String, V> latestVersions,
+        final String parentId,
+        final Iterator<V> versions,
+        final Predicate<V> matches
+    )
+    {
+        V latest = null;
+        V match = null;
+        try {
+            while (versions.hasNext()) {
+                final V version = versions.next();
+                if (latest == null) {
+                    latest = version;
+                }
+                if (matches.test(version)) {
+                    match = version;
+                    break;
+                }
+            }
+        } finally {
+            if (versions instanceof EpPagedIterator) {
+                ((EpPagedIterator<?, ?>) versions).close();
+            }
+        }
+        return matchResult(latestVersions, parentId, latest, match);
+    }
+
+    private ExecutorService getPagingExecutor()
+    {
+        if (pagingExecutor == null) {
+            synchronized (this) {
+                if (pagingExecutor == null) {
+                    // Unbounded threads; calls made from them are bounded by call permits when set
+                    pagingExecutor = Executors.newCachedThreadPool( r -> {
+                        Thread t = new Thread(r);
+                        t.setName("EpPager-" + t.getId());
+                        t.setDaemon(true);
+                        return t;
+                    });
+                }
+            }
+        }
+        return pagingExecutor;
+    }
+
+    /**
+     * Split the IDs of a list of objects into sets of at most ID_CHUNK_SZ
+     * to pass as parent ID filters when querying versions
+     */
+    private static <T> List<Set<String>> chunkIds( final List<T> objects, final Function<T, String> idOf )
+    {
+        final List<Set<String>> chunks = new ArrayList<>();
+        for (int idx = 0; idx < objects.size(); idx += ID_CHUNK_SZ) {
+            final Set<String> chunk = new LinkedHashSet<>();
+            objects.subList(idx, Math.min(idx + ID_CHUNK_SZ, objects.size())).forEach( o -> chunk.add(idOf.apply(o)) );
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
     public Application getApplicationByName(final String appName) throws Exception
     {
+        if (domainSnapshot != null) {
+            return domainSnapshot.getApplicationByName(appName);
+        }
+
         ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
 
         try {
-            ApplicationsResponse applicationsResponse = applicationsApi.getApplications(PAGE_SZ_OBJECT, 1, appName, appDomainId, null, null, null, null );
+            ApplicationsResponse applicationsResponse = executeRead(
+                requestKey("getApplications", PAGE_SZ_OBJECT, 1, appName, appDomainId, null, null, null, null),
+                () -> applicationsApi.getApplications(PAGE_SZ_OBJECT, 1, appName, appDomainId, null, null, null, null )
+            );
             if (applicationsResponse.getData().isEmpty()) {
                 log.debug("Application name = [{}] not found", appName);
                 return null;
@@ -324,37 +940,38 @@ public class EventPortalClientApi {
         final List<String> producedEventVersionIds
     ) throws Exception
     {
-        ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
+        return matchApplicationVersionByProducedEvents(appId, producedEventVersionIds).getMatch();
+    }
 
-        this.cachedLatestApplicationVersion = null;
+    /**
+     * Same lookup as getApplicationVersionByProducedEvents, returning the matched version together with
+     * the latest version of the parent object found by the same lookup
+     */
+    public EpMatchResult<ApplicationVersion> matchApplicationVersionByProducedEvents(
+        final String appId,
+        final List<String> producedEventVersionIds
+    ) throws Exception
+    {
+        final Predicate<ApplicationVersion> matches = appVersion ->
+            EventPortalModelUtils.valuesListsMatch(producedEventVersionIds, appVersion.getDeclaredProducedEventVersionIds());
 
-        try {
-            int maxPages = 1;
-            for (int page = 1; page <= maxPages; page++) {
-                ApplicationVersionsResponse response = applicationsApi.getApplicationVersions(PAGE_SZ_VERSION, page, Set.of(appId), null, null, null);  // EventPortalModelUtils.OPEN_OBJECT_STATES);
+        if (domainSnapshot != null) {
+            return findVersion(latestApplicationVersions, appId, domainSnapshot.getApplicationVersions(appId).iterator(), matches);
+        }
 
-                if (response.getData().isEmpty()) {
-                    break;
-                }
-                if (page == 1 && response.getMeta().getPagination().getNextPage() != null) {
-                    maxPages = response.getMeta().getPagination().getTotalPages();
-                }
-                if (page == 1 && ! response.getData().isEmpty() ) {
-                    this.cachedLatestApplicationVersion = response.getData().get(0);
-                }
+        ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
 
-                for (ApplicationVersion appVersion : response.getData()) {
-                    if (EventPortalModelUtils.valuesListsMatch(producedEventVersionIds, appVersion.getDeclaredProducedEventVersionIds())) {
-                        return appVersion;
-                    }
-                }
-            }
+        try {
+            return findVersion(latestApplicationVersions, appId, pagedIterator(
+                requestKey("getApplicationVersions", versionPageSize, Set.of(appId), null, null, null),
+                page -> applicationsApi.getApplicationVersions(versionPageSize, page, Set.of(appId), null, null, null),  // EventPortalModelUtils.OPEN_OBJECT_STATES);
+                ApplicationVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ), matches);
         } catch (Exception exc) {
             log.error("EventPortalClientApi.getApplicationVersionByProducedEvents", exc);
             throw exc;
         }
-
-        return null;
     }
 
     public ApplicationVersion getApplicationVersionByAllEvents(
@@ -363,46 +980,55 @@ public class EventPortalClientApi {
         final List<String> consumedEventVersionIds
     ) throws Exception
     {
-        ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
+        return matchApplicationVersionByAllEvents(appId, producedEventVersionIds, consumedEventVersionIds).getMatch();
+    }
 
-        this.cachedLatestApplicationVersion = null;
+    /**
+     * Same lookup as getApplicationVersionByAllEvents, returning the matched version together with
+     * the latest version of the parent object found by the same lookup
+     */
+    public EpMatchResult<ApplicationVersion> matchApplicationVersionByAllEvents(
+        final String appId,
+        final List<String> producedEventVersionIds,
+        final List<String> consumedEventVersionIds
+    ) throws Exception
+    {
+        final Predicate<ApplicationVersion> matches = appVersion ->
+            EventPortalModelUtils.valuesListsMatch(producedEventVersionIds, appVersion.getDeclaredProducedEventVersionIds())
+            && EventPortalModelUtils.valuesListsMatch(consumedEventVersionIds, appVersion.getDeclaredConsumedEventVersionIds());
 
-        try {
-            int maxPages = 1;
-            for (int page = 1; page <= maxPages; page++) {
-                ApplicationVersionsResponse response = applicationsApi.getApplicationVersions(PAGE_SZ_VERSION, page, Set.of(appId), null, null, null);  // EventPortalModelUtils.OPEN_OBJECT_STATES);
+        if (domainSnapshot != null) {
+            return findVersion(latestApplicationVersions, appId, domainSnapshot.getApplicationVersions(appId).iterator(), matches);
+        }
 
-                if (response.getData().isEmpty()) {
-                    break;
-                }
-                if (page == 1 && response.getMeta().getPagination().getNextPage() != null) {
-                    maxPages = response.getMeta().getPagination().getTotalPages();
-                }
-                if (page == 1 && ! response.getData().isEmpty() ) {
-                    this.cachedLatestApplicationVersion = response.getData().get(0);
-                }
+        ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
 
-                for (ApplicationVersion appVersion : response.getData()) {
-                    if (EventPortalModelUtils.valuesListsMatch(producedEventVersionIds, appVersion.getDeclaredProducedEventVersionIds())
-                        && EventPortalModelUtils.valuesListsMatch(consumedEventVersionIds, appVersion.getDeclaredConsumedEventVersionIds())) {
-                        return appVersion;
-                    }
-                }
-            }
+        try {
+            return findVersion(latestApplicationVersions, appId, pagedIterator(
+                requestKey("getApplicationVersions", versionPageSize, Set.of(appId), null, null, null),
+                page -> applicationsApi.getApplicationVersions(versionPageSize, page, Set.of(appId), null, null, null),  // EventPortalModelUtils.OPEN_OBJECT_STATES);
+                ApplicationVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ), matches);
         } catch (Exception exc) {
             log.error("EventPortalClientApi.getApplicationVersionByAllEvents", exc);
             throw exc;
         }
-
-        return null;
     }
 
     public EventApi getEventApiByName(final String eventApiName) throws Exception
     {
+        if (domainSnapshot != null) {
+            return domainSnapshot.getEventApiByName(eventApiName);
+        }
+
         EventApisApi eventApisApi = new EventApisApi(apiClient);
 
         try {
-            EventApisResponse eventApisResponse = eventApisApi.getEventApis(PAGE_SZ_OBJECT, 1, eventApiName, null, appDomainId, null, null, null, null, null, null, null);
+            EventApisResponse eventApisResponse = executeRead(
+                requestKey("getEventApis", PAGE_SZ_OBJECT, 1, eventApiName, null, appDomainId, null, null, null, null, null, null, null),
+                () -> eventApisApi.getEventApis(PAGE_SZ_OBJECT, 1, eventApiName, null, appDomainId, null, null, null, null, null, null, null)
+            );
             if (eventApisResponse.getData().isEmpty()) {
                 log.debug("Event API name = [{}] not found", eventApiName);
                 return null;
@@ -426,39 +1052,40 @@ public class EventPortalClientApi {
         final List<String> consumedEventVersionIds
     ) throws Exception
     {
+        return matchEventApiVersionByAllEvents(eventApiId, producedEventVersionIds, consumedEventVersionIds).getMatch();
+    }
 
-        EventApisApi eventApisApi = new EventApisApi(apiClient);
-
-        this.cachedLatestEventApiVersion = null;
+    /**
+     * Same lookup as getEventApiVersionByAllEvents, returning the matched version together with
+     * the latest version of the parent object found by the same lookup
+     */
+    public EpMatchResult<EventApiVersion> matchEventApiVersionByAllEvents(
+        final String eventApiId,
+        final List<String> producedEventVersionIds,
+        final List<String> consumedEventVersionIds
+    ) throws Exception
+    {
+        final Predicate<EventApiVersion> matches = eventApiVersion ->
+            EventPortalModelUtils.valuesListsMatch(producedEventVersionIds, eventApiVersion.getProducedEventVersionIds())
+            && EventPortalModelUtils.valuesListsMatch(consumedEventVersionIds, eventApiVersion.getConsumedEventVersionIds());
 
-        try {
-            int maxPages = 1;
-            for (int page = 1; page <= maxPages; page++) {
+        if (domainSnapshot != null) {
+            return findVersion(latestEventApiVersions, eventApiId, domainSnapshot.getEventApiVersions(eventApiId).iterator(), matches);
+        }
 
-                EventApiVersionsResponse response = eventApisApi.getEventApiVersions(PAGE_SZ_VERSION, page, Set.of(eventApiId), null, null, null, null);  // EventPortalModelUtils.OPEN_OBJECT_STATES);
-                if (response.getData().isEmpty()) {
-                    break;
-                }
-                if (page == 1 && response.getMeta().getPagination().getNextPage() != null) {
-                    maxPages = response.getMeta().getPagination().getTotalPages();
-                }
-                if (page == 1 && ! response.getData().isEmpty() ) {
-                    this.cachedLatestEventApiVersion = response.getData().get(0);
-                }
+        EventApisApi eventApisApi = new EventApisApi(apiClient);
 
-                for (EventApiVersion eventApiVersion : response.getData()) {
-                    if (EventPortalModelUtils.valuesListsMatch(producedEventVersionIds, eventApiVersion.getProducedEventVersionIds())
-                        && EventPortalModelUtils.valuesListsMatch(consumedEventVersionIds, eventApiVersion.getConsumedEventVersionIds())) {
-                        return eventApiVersion;
-                    }
-                }
-            }
+        try {
+            return findVersion(latestEventApiVersions, eventApiId, pagedIterator(
+                requestKey("getEventApiVersions", versionPageSize, Set.of(eventApiId), null, null, null, null),
+                page -> eventApisApi.getEventApiVersions(versionPageSize, page, Set.of(eventApiId), null, null, null, null),  // EventPortalModelUtils.OPEN_OBJECT_STATES);
+                EventApiVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ), matches);
         } catch (Exception exc) {
             log.error("EventPortalClientApi.getEventApiVersionByAllEvents", exc);
             throw exc;
         }
-
-        return null;
     }
 
     /**
@@ -469,24 +1096,28 @@ public class EventPortalClientApi {
      */
     public Map<String, String> getAllEventIds() throws Exception
     {
-        final EventsApi eventsApi = new EventsApi(apiClient);
         final Map<String, String> eventIds = new HashMap<>();
 
-        try {
-            int maxPages = 1;
-            for (int page = 1; page <= maxPages; page++) {
-                EventsResponse response = eventsApi.getEvents(PAGE_SZ_OBJECT, page, null, null, "solace", appDomainId, null, null, null, null);
-
-                if (response.getData().isEmpty()) {
-                    break;
-                }
-                if (page == 1 && response.getMeta().getPagination().getNextPage() != null) {
-                    maxPages = response.getMeta().getPagination().getTotalPages();
-                }
-                response.getData().forEach( event -> {
+        if (domainSnapshot != null) {
+            domainSnapshot.getEvents().forEach( event -> {
+                if ("solace".equalsIgnoreCase(String.valueOf(event.getBrokerType()))) {
                     eventIds.put(event.getId(), event.getName());
-                } );
-            }
+                }
+            } );
+            return eventIds;
+        }
+
+        final EventsApi eventsApi = new EventsApi(apiClient);
+
+        try {
+            pagedIterator(
+                requestKey("getEvents", listPageSize, null, null, "solace", appDomainId, null, null, null, null),
+                page -> eventsApi.getEvents(listPageSize, page, null, null, "solace", appDomainId, null, null, null, null),
+                EventsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ).forEachRemaining( event -> {
+                eventIds.put(event.getId(), event.getName());
+            } );
         } catch (Exception exc) {
             log.error("EventPortalClientApi.getAllEventIds", exc);
             throw exc;
@@ -505,124 +1136,576 @@ public class EventPortalClientApi {
         final String eventId
     ) throws Exception
     {
+        if (domainSnapshot != null) {
+            final List<EventVersion> eventVersions = domainSnapshot.getEventVersions(eventId);
+            return eventVersions.isEmpty() ? null : eventVersions.get(0);
+        }
+
         final EventsApi eventsApi = new EventsApi(apiClient);
 
-        try {
-            EventVersionsResponse response = eventsApi.getEventVersions(1, 1, Set.of(eventId), null, null, null, null);
-            if (response.getData().isEmpty()) {
-                return null;
-            } else {
-                return response.getData().get(0);
+        try {
+            EventVersionsResponse response = executeRead(
+                requestKey("getEventVersions", 1, 1, Set.of(eventId), null, null, null, null),
+                () -> eventsApi.getEventVersions(1, 1, Set.of(eventId), null, null, null, null)
+            );
+            if (response.getData().isEmpty()) {
+                return null;
+            } else {
+                return response.getData().get(0);
+            }
+        } catch (Exception exc) {
+            log.error("EventPortalClientApi.getLastEventVersion", exc);
+            throw exc;
+        }
+    }
+
+    /**
+     * Gets a map of all Application IDs --> Application Names in the application domain associated with this client instance.
+     * Calls Event Portal REST API
+     * @return
+     * @throws Exception
+     */
+    public Map<String, String> getAllApplicationIds() throws Exception
+    {
+        final Map<String, String> appIds = new HashMap<>();
+
+        if (domainSnapshot != null) {
+            domainSnapshot.getApplications().forEach( app -> {
+                appIds.put(app.getId(), app.getName());
+            } );
+            return appIds;
+        }
+
+        final ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
+
+        try {
+            pagedIterator(
+                requestKey("getApplications", listPageSize, null, appDomainId, null, null, null, null),
+                page -> applicationsApi.getApplications(listPageSize, page, null, appDomainId, null, null, null, null),
+                ApplicationsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ).forEachRemaining( app -> {
+                appIds.put(app.getId(), app.getName());
+            } );
+        } catch (Exception exc) {
+            log.error("EventPortalClientApi.getAllApplicationIds", exc);
+            throw exc;
+        }
+        return appIds;
+    }
+
+    public Map<String, String> getAllEventApiIds() throws Exception
+    {
+        final Map<String, String> eventApiIds = new HashMap<>();
+
+        if (domainSnapshot != null) {
+            domainSnapshot.getEventApis().forEach( api -> {
+                eventApiIds.put(api.getId(), api.getName());
+            } );
+            return eventApiIds;
+        }
+
+        final EventApisApi eventApisApi = new EventApisApi(apiClient);
+
+        try {
+            pagedIterator(
+                requestKey("getEventApis", listPageSize, null, null, appDomainId, null, null, null, null, null, null, null),
+                page -> eventApisApi.getEventApis(listPageSize, page, null, null, appDomainId, null, null, null, null, null, null, null),
+                EventApisResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ).forEachRemaining( api -> {
+                eventApiIds.put(api.getId(), api.getName());
+            } );
+        } catch (Exception exc) {
+            log.error("EventPortalClientApi.getAllEventApiIds", exc);
+            throw exc;
+        }
+        return eventApiIds;
+    }
+
+    /**
+     * Retrieve the last ApplicationVersion object associated with an applicationId
+     * Calls Event Portal REST API
+     * @param applicationId
+     * @return
+     * @throws Exception
+     */
+    public ApplicationVersion getLastApplicationVersion(
+        final String applicationId
+    ) throws Exception
+    {
+        if (domainSnapshot != null) {
+            final List<ApplicationVersion> appVersions = domainSnapshot.getApplicationVersions(applicationId);
+            return appVersions.isEmpty() ? null : appVersions.get(0);
+        }
+
+        final ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
+
+        try {
+            ApplicationVersionsResponse response = executeRead(
+                requestKey("getApplicationVersions", 1, 1, Set.of(applicationId), null, null, null),
+                () -> applicationsApi.getApplicationVersions(1, 1, Set.of(applicationId), null, null, null)
+            );
+            if (response.getData().isEmpty()) {
+                return null;
+            } else {
+                return response.getData().get(0);
+            }
+        } catch (Exception exc) {
+            log.error("EventPortalClientApi.getLastApplicationVersion", exc);
+            throw exc;
+        }
+    }
+
+    public EventApiVersion getLastEventApiVersion(
+        final String eventApiId
+    ) throws Exception
+    {
+        if (domainSnapshot != null) {
+            final List<EventApiVersion> eventApiVersions = domainSnapshot.getEventApiVersions(eventApiId);
+            return eventApiVersions.isEmpty() ? null : eventApiVersions.get(0);
+        }
+
+        final EventApisApi eventApisApi = new EventApisApi(apiClient);
+
+        try {
+            EventApiVersionsResponse response = executeRead(
+                requestKey("getEventApiVersions", 1, 1, Set.of(eventApiId), null, null, null, null),
+                () -> eventApisApi.getEventApiVersions(1, 1, Set.of(eventApiId), null, null, null, null)
+            );
+            if (response.getData().isEmpty()) {
+                return null;
+            } else {
+                return response.getData().get(0);
+            }
+        } catch (Exception exc) {
+            log.error("EventPortalClientApi.getLastEventApiVersion", exc);
+            throw exc;
+        }
+    }
+
+    /**
+     * Retrieve the latest EventVersion of each event in a collection of event IDs.
+     * Versions are queried for up to 50 events per request instead of one request per event.
+     * Calls Event Portal REST API if no domain snapshot is loaded
+     * @param eventIds
+     * @return Map of eventId --> latest EventVersion; events without versions are omitted
+     * @throws Exception
+     */
+    public Map<String, EventVersion> getLatestEventVersions(final Collection<String> eventIds) throws Exception
+    {
+        final EventsApi eventsApi = new EventsApi(apiClient);
+
+        try {
+            return getLatestVersions(
+                eventIds,
+                latestEventVersions,
+                id -> domainSnapshot.getEventVersions(id),
+                EventVersion::getEventId,
+                ids -> pagedIterator(
+                    requestKey("getEventVersions", listPageSize, ids, null, null, null, null),
+                    page -> eventsApi.getEventVersions(listPageSize, page, ids, null, null, null, null),
+                    EventVersionsResponse::getData,
+                    response -> response.getMeta().getPagination().getTotalPages()
+                )
+            );
+        } catch (Exception exc) {
+            log.error("EventPortalClientApi.getLatestEventVersions", exc);
+            throw exc;
+        }
+    }
+
+    /**
+     * Retrieve the latest ApplicationVersion of each application in a collection of application IDs.
+     * Versions are queried for up to 50 applications per request instead of one request per application.
+     * Calls Event Portal REST API if no domain snapshot is loaded
+     * @param applicationIds
+     * @return Map of applicationId --> latest ApplicationVersion; applications without versions are omitted
+     * @throws Exception
+     */
+    public Map<String, ApplicationVersion> getLatestApplicationVersions(final Collection<String> applicationIds) throws Exception
+    {
+        final ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
+
+        try {
+            return getLatestVersions(
+                applicationIds,
+                latestApplicationVersions,
+                id -> domainSnapshot.getApplicationVersions(id),
+                ApplicationVersion::getApplicationId,
+                ids -> pagedIterator(
+                    requestKey("getApplicationVersions", listPageSize, ids, null, null, null),
+                    page -> applicationsApi.getApplicationVersions(listPageSize, page, ids, null, null, null),
+                    ApplicationVersionsResponse::getData,
+                    response -> response.getMeta().getPagination().getTotalPages()
+                )
+            );
+        } catch (Exception exc) {
+            log.error("EventPortalClientApi.getLatestApplicationVersions", exc);
+            throw exc;
+        }
+    }
+
+    /**
+     * Retrieve the latest EventApiVersion of each event API in a collection of event API IDs.
+     * Versions are queried for up to 50 event APIs per request instead of one request per event API.
+     * Calls Event Portal REST API if no domain snapshot is loaded
+     * @param eventApiIds
+     * @return Map of eventApiId --> latest EventApiVersion; event APIs without versions are omitted
+     * @throws Exception
+     */
+    public Map<String, EventApiVersion> getLatestEventApiVersions(final Collection<String> eventApiIds) throws Exception
+    {
+        final EventApisApi eventApisApi = new EventApisApi(apiClient);
+
+        try {
+            return getLatestVersions(
+                eventApiIds,
+                latestEventApiVersions,
+                id -> domainSnapshot.getEventApiVersions(id),
+                EventApiVersion::getEventApiId,
+                ids -> pagedIterator(
+                    requestKey("getEventApiVersions", listPageSize, ids, null, null, null, null),
+                    page -> eventApisApi.getEventApiVersions(listPageSize, page, ids, null, null, null, null),
+                    EventApiVersionsResponse::getData,
+                    response -> response.getMeta().getPagination().getTotalPages()
+                )
+            );
+        } catch (Exception exc) {
+            log.error("EventPortalClientApi.getLatestEventApiVersions", exc);
+            throw exc;
+        }
+    }
+
+    /**
+     * Find the latest version of each event in the application domain that references any of the
+     * schema versions or enum versions, e.g. versions replaced by an import.
+     * Uses the domain snapshot if loaded. Otherwise only the referencing events are retrieved:
+     * they are found from the event version IDs Event Portal records on each schema and enum
+     * version (referencedByEventVersionIds), so unrelated objects in the domain are never read.
+     * Calls Event Portal REST API if no domain snapshot is loaded
+     * @param schemaVersions - as retrieved from Event Portal
+     * @param enumVersions - as retrieved from Event Portal
+     * @param eventNamesById - receives event ID --> event name for each version returned
+     * @return Latest event versions referencing the schema or enum versions
+     * @throws Exception
+     */
+    public List<EventVersion> getLatestEventVersionsReferencing(
+        final Collection<SchemaVersion> schemaVersions,
+        final Collection<TopicAddressEnumVersion> enumVersions,
+        final Map<String, String> eventNamesById
+    ) throws Exception
+    {
+        final List<EventVersion> referencing = new ArrayList<>();
+
+        if (domainSnapshot != null) {
+            final Set<String> schemaVersionIds = new HashSet<>();
+            schemaVersions.forEach( schemaVersion -> schemaVersionIds.add(schemaVersion.getId()) );
+            final Set<String> enumVersionIds = new HashSet<>();
+            enumVersions.forEach( enumVersion -> enumVersionIds.add(enumVersion.getId()) );
+            for (Event event : domainSnapshot.getEvents()) {
+                final List<EventVersion> eventVersions = domainSnapshot.getEventVersions(event.getId());
+                if ("solace".equalsIgnoreCase(String.valueOf(event.getBrokerType())) && !eventVersions.isEmpty() &&
+                        referencesAny(eventVersions.get(0), schemaVersionIds, enumVersionIds)) {
+                    referencing.add(eventVersions.get(0));
+                    eventNamesById.put(event.getId(), event.getName());
+                }
+            }
+            return referencing;
+        }
+
+        final Set<String> referencingIds = new LinkedHashSet<>();
+        schemaVersions.forEach( schemaVersion -> addIds(referencingIds, schemaVersion.getReferencedByEventVersionIds()) );
+        enumVersions.forEach( enumVersion -> addIds(referencingIds, enumVersion.getReferencedByEventVersionIds()) );
+
+        final EventsApi eventsApi = new EventsApi(apiClient);
+
+        try {
+            final Set<String> eventIds = new LinkedHashSet<>();
+            for (Set<String> ids : chunkIds(new ArrayList<>(referencingIds), Function.identity())) {
+                final List<String> idList = new ArrayList<>(ids);
+                pagedIterator(
+                    requestKey("getEventVersions", listPageSize, null, idList, null, null, null),
+                    page -> eventsApi.getEventVersions(listPageSize, page, null, idList, null, null, null),
+                    EventVersionsResponse::getData,
+                    response -> response.getMeta().getPagination().getTotalPages()
+                ).forEachRemaining( eventVersion -> eventIds.add(eventVersion.getEventId()) );
+            }
+
+            // Events may be shared from other domains; only events in this domain are updated
+            final Map<String, String> eventNames = new HashMap<>();
+            for (Set<String> ids : chunkIds(new ArrayList<>(eventIds), Function.identity())) {
+                final List<String> idList = new ArrayList<>(ids);
+                pagedIterator(
+                    requestKey("getEvents", listPageSize, null, idList, "solace", appDomainId, null, null, null, null),
+                    page -> eventsApi.getEvents(listPageSize, page, null, idList, "solace", appDomainId, null, null, null, null),
+                    EventsResponse::getData,
+                    response -> response.getMeta().getPagination().getTotalPages()
+                ).forEachRemaining( event -> eventNames.put(event.getId(), event.getName()) );
             }
+
+            // A referencing version is updated only if it is the latest version of its event
+            getLatestEventVersions(eventNames.keySet()).values().forEach( eventVersion -> {
+                if (referencingIds.contains(eventVersion.getId())) {
+                    referencing.add(eventVersion);
+                    eventNamesById.put(eventVersion.getEventId(), eventNames.get(eventVersion.getEventId()));
+                }
+            });
         } catch (Exception exc) {
-            log.error("EventPortalClientApi.getLastEventVersion", exc);
+            log.error("EventPortalClientApi.getLatestEventVersionsReferencing", exc);
             throw exc;
         }
+        return referencing;
     }
 
     /**
-     * Gets a map of all Application IDs --> Application Names in the application domain associated with this client instance.
-     * Calls Event Portal REST API
-     * @return
+     * Find the latest version of each application in the application domain that produces or
+     * consumes any of the event versions, e.g. versions replaced by an import.
+     * Uses the domain snapshot if loaded. Otherwise only the referencing applications are retrieved,
+     * found from the application version IDs Event Portal records on each event version.
+     * Calls Event Portal REST API if no domain snapshot is loaded
+     * @param eventVersions - as retrieved from Event Portal
+     * @param applicationNamesById - receives application ID --> application name for each version returned
+     * @return Latest application versions referencing the event versions
      * @throws Exception
      */
-    public Map<String, String> getAllApplicationIds() throws Exception
+    public List<ApplicationVersion> getLatestApplicationVersionsReferencing(
+        final Collection<EventVersion> eventVersions,
+        final Map<String, String> applicationNamesById
+    ) throws Exception
     {
+        final List<ApplicationVersion> referencing = new ArrayList<>();
+
+        if (domainSnapshot != null) {
+            final Set<String> eventVersionIds = new HashSet<>();
+            eventVersions.forEach( eventVersion -> eventVersionIds.add(eventVersion.getId()) );
+            for (Application application : domainSnapshot.getApplications()) {
+                final List<ApplicationVersion> appVersions = domainSnapshot.getApplicationVersions(application.getId());
+                if (!appVersions.isEmpty() && (
+                        containsAny(appVersions.get(0).getDeclaredProducedEventVersionIds(), eventVersionIds) ||
+                        containsAny(appVersions.get(0).getDeclaredConsumedEventVersionIds(), eventVersionIds))) {
+                    referencing.add(appVersions.get(0));
+                    applicationNamesById.put(application.getId(), application.getName());
+                }
+            }
+            return referencing;
+        }
+
+        final Set<String> referencingIds = new LinkedHashSet<>();
+        eventVersions.forEach( eventVersion -> {
+            addIds(referencingIds, eventVersion.getDeclaredProducingApplicationVersionIds());
+            addIds(referencingIds, eventVersion.getDeclaredConsumingApplicationVersionIds());
+        });
+
         final ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
-        final Map<String, String> appIds = new HashMap<>();
 
         try {
-            int maxPages = 1;
-            for (int page = 1; page <= maxPages; page++) {
-                ApplicationsResponse response = applicationsApi.getApplications(PAGE_SZ_OBJECT, page, null, appDomainId, null, null, null, null);
+            final Set<String> applicationIds = new LinkedHashSet<>();
+            for (Set<String> ids : chunkIds(new ArrayList<>(referencingIds), Function.identity())) {
+                pagedIterator(
+                    requestKey("getApplicationVersions", listPageSize, null, ids, null, null),
+                    page -> applicationsApi.getApplicationVersions(listPageSize, page, null, ids, null, null),
+                    ApplicationVersionsResponse::getData,
+                    response -> response.getMeta().getPagination().getTotalPages()
+                ).forEachRemaining( appVersion -> applicationIds.add(appVersion.getApplicationId()) );
+            }
 
-                if (response.getData().isEmpty()) {
-                    break;
-                }
-                if (page == 1 && response.getMeta().getPagination().getNextPage() != null) {
-                    maxPages = response.getMeta().getPagination().getTotalPages();
-                }
-                response.getData().forEach( app -> {
-                    appIds.put(app.getId(), app.getName());
-                } );
+            final Map<String, String> applicationNames = new HashMap<>();
+            for (Set<String> ids : chunkIds(new ArrayList<>(applicationIds), Function.identity())) {
+                final List<String> idList = new ArrayList<>(ids);
+                pagedIterator(
+                    requestKey("getApplications", listPageSize, null, appDomainId, idList, null, null, null),
+                    page -> applicationsApi.getApplications(listPageSize, page, null, appDomainId, idList, null, null, null),
+                    ApplicationsResponse::getData,
+                    response -> response.getMeta().getPagination().getTotalPages()
+                ).forEachRemaining( app -> applicationNames.put(app.getId(), app.getName()) );
             }
+
+            getLatestApplicationVersions(applicationNames.keySet()).values().forEach( appVersion -> {
+                if (referencingIds.contains(appVersion.getId())) {
+                    referencing.add(appVersion);
+                    applicationNamesById.put(appVersion.getApplicationId(), applicationNames.get(appVersion.getApplicationId()));
+                }
+            });
         } catch (Exception exc) {
-            log.error("EventPortalClientApi.getAllApplicationIds", exc);
+            log.error("EventPortalClientApi.getLatestApplicationVersionsReferencing", exc);
             throw exc;
         }
-        return appIds;
+        return referencing;
     }
 
-    public Map<String, String> getAllEventApiIds() throws Exception
+    /**
+     * Find the latest version of each event API in the application domain that produces or
+     * consumes any of the event versions, e.g. versions replaced by an import.
+     * Uses the domain snapshot if loaded. Otherwise only the referencing event APIs are retrieved,
+     * found from the event API version IDs Event Portal records on each event version.
+     * Calls Event Portal REST API if no domain snapshot is loaded
+     * @param eventVersions - as retrieved from Event Portal
+     * @param eventApiNamesById - receives event API ID --> event API name for each version returned
+     * @return Latest event API versions referencing the event versions
+     * @throws Exception
+     */
+    public List<EventApiVersion> getLatestEventApiVersionsReferencing(
+        final Collection<EventVersion> eventVersions,
+        final Map<String, String> eventApiNamesById
+    ) throws Exception
     {
+        final List<EventApiVersion> referencing = new ArrayList<>();
+
+        if (domainSnapshot != null) {
+            final Set<String> eventVersionIds = new HashSet<>();
+            eventVersions.forEach( eventVersion -> eventVersionIds.add(eventVersion.getId()) );
+            for (EventApi eventApi : domainSnapshot.getEventApis()) {
+                final List<EventApiVersion> apiVersions = domainSnapshot.getEventApiVersions(eventApi.getId());
+                if (!apiVersions.isEmpty() && (
+                        containsAny(apiVersions.get(0).getProducedEventVersionIds(), eventVersionIds) ||
+                        containsAny(apiVersions.get(0).getConsumedEventVersionIds(), eventVersionIds))) {
+                    referencing.add(apiVersions.get(0));
+                    eventApiNamesById.put(eventApi.getId(), eventApi.getName());
+                }
+            }
+            return referencing;
+        }
+
+        final Set<String> referencingIds = new LinkedHashSet<>();
+        eventVersions.forEach( eventVersion -> {
+            addIds(referencingIds, eventVersion.getProducingEventApiVersionIds());
+            addIds(referencingIds, eventVersion.getConsumingEventApiVersionIds());
+        });
+
         final EventApisApi eventApisApi = new EventApisApi(apiClient);
-        final Map<String, String> eventApiIds = new HashMap<>();
 
         try {
-            int maxPages = 1;
-            for (int page = 1; page <= maxPages; page++) {
-                EventApisResponse response = eventApisApi.getEventApis(PAGE_SZ_OBJECT, page, null, null, appDomainId, null, null, null, null, null, null, null);
+            final Set<String> eventApiIds = new LinkedHashSet<>();
+            for (Set<String> ids : chunkIds(new ArrayList<>(referencingIds), Function.identity())) {
+                final String idList = String.join(",", ids);
+                pagedIterator(
+                    requestKey("getEventApiVersions", listPageSize, null, idList, null, null, null),
+                    page -> eventApisApi.getEventApiVersions(listPageSize, page, null, idList, null, null, null),
+                    EventApiVersionsResponse::getData,
+                    response -> response.getMeta().getPagination().getTotalPages()
+                ).forEachRemaining( apiVersion -> eventApiIds.add(apiVersion.getEventApiId()) );
+            }
 
-                if (response.getData().isEmpty()) {
-                    break;
-                }
-                if (page == 1 && response.getMeta().getPagination().getNextPage() != null) {
-                    maxPages = response.getMeta().getPagination().getTotalPages();
-                }
-                response.getData().forEach( api -> {
-                    eventApiIds.put(api.getId(), api.getName());
-                } );
+            final Map<String, String> eventApiNames = new HashMap<>();
+            for (Set<String> ids : chunkIds(new ArrayList<>(eventApiIds), Function.identity())) {
+                final String idList = String.join(",", ids);
+                pagedIterator(
+                    requestKey("getEventApis", listPageSize, null, idList, appDomainId, null, null, null, null, null, null, null),
+                    page -> eventApisApi.getEventApis(listPageSize, page, null, idList, appDomainId, null, null, null, null, null, null, null),
+                    EventApisResponse::getData,
+                    response -> response.getMeta().getPagination().getTotalPages()
+                ).forEachRemaining( api -> eventApiNames.put(api.getId(), api.getName()) );
             }
+
+            getLatestEventApiVersions(eventApiNames.keySet()).values().forEach( apiVersion -> {
+                if (referencingIds.contains(apiVersion.getId())) {
+                    referencing.add(apiVersion);
+                    eventApiNamesById.put(apiVersion.getEventApiId(), eventApiNames.get(apiVersion.getEventApiId()));
+                }
+            });
         } catch (Exception exc) {
-            log.error("EventPortalClientApi.getAllEventApiIds", exc);
+            log.error("EventPortalClientApi.getLatestEventApiVersionsReferencing", exc);
             throw exc;
         }
-        return eventApiIds;
+        return referencing;
     }
 
-    /**
-     * Retrieve the last ApplicationVersion object associated with an applicationId
-     * Calls Event Portal REST API
-     * @param applicationId
-     * @return
-     * @throws Exception
-     */
-    public ApplicationVersion getLastApplicationVersion(
-        final String applicationId
-    ) throws Exception
+    private static boolean referencesAny(
+        final EventVersion eventVersion,
+        final Set<String> schemaVersionIds,
+        final Set<String> enumVersionIds
+    )
     {
-        final ApplicationsApi applicationsApi = new ApplicationsApi(apiClient);
+        if (eventVersion.getSchemaVersionId() != null && schemaVersionIds.contains(eventVersion.getSchemaVersionId())) {
+            return true;
+        }
+        if (eventVersion.getDeliveryDescriptor() == null ||
+                eventVersion.getDeliveryDescriptor().getAddress() == null ||
+                eventVersion.getDeliveryDescriptor().getAddress().getAddressLevels() == null) {
+            return false;
+        }
+        for (AddressLevel level : eventVersion.getDeliveryDescriptor().getAddress().getAddressLevels()) {
+            if (level.getEnumVersionId() != null && enumVersionIds.contains(level.getEnumVersionId())) {
+                return true;
+            }
+        }
+        return false;
+    }
 
-        try {
-            ApplicationVersionsResponse response = applicationsApi.getApplicationVersions(1, 1, Set.of(applicationId), null, null, null);
-            if (response.getData().isEmpty()) {
-                return null;
-            } else {
-                return response.getData().get(0);
+    private static boolean containsAny( final List<String> ids, final Set<String> candidates )
+    {
+        if (ids != null) {
+            for (String id : ids) {
+                if (candidates.contains(id)) {
+                    return true;
+                }
             }
-        } catch (Exception exc) {
-            log.error("EventPortalClientApi.getLastApplicationVersion", exc);
-            throw exc;
         }
+        return false;
     }
 
-    public EventApiVersion getLastEventApiVersion(
-        final String eventApiId
-    ) throws Exception
+    private static void addIds( final Set<String> ids, final List<String> idsToAdd )
     {
-        final EventApisApi eventApisApi = new EventApisApi(apiClient);
+        if (idsToAdd != null) {
+            ids.addAll(idsToAdd);
+        }
+    }
 
-        try {
-            EventApiVersionsResponse response = eventApisApi.getEventApiVersions(1, 1, Set.of(eventApiId), null, null, null, null);
-            if (response.getData().isEmpty()) {
-                return null;
-            } else {
-                return response.getData().get(0);
+    /**
+     * Find the latest version of each parent ID, from the domain snapshot if loaded or else by
+     * querying versions of up to ID_CHUNK_SZ parents at a time. Versions are returned by Event Portal
+     * latest first, so the first version seen for each parent is its latest.
+     * Found versions are recorded in latestVersions.
+     */
+    private <V> Map<String, V> getLatestVersions(
+        final Collection<String> parentIds,
+        final Map<String, V> latestVersions,
+        final Function<String, List<V>> snapshotVersionsOf,
+        final Function<V, String> parentIdOf,
+        final Function<Set<String>, ? extends EpPagedIterator<?, V>> versionsOf
+    )
+    {
+        final Map<String, V> latestByParentId;
+        if (domainSnapshot != null) {
+            latestByParentId = new HashMap<>();
+            for (String parentId : parentIds) {
+                final List<V> versions = snapshotVersionsOf.apply(parentId);
+                if (!versions.isEmpty()) {
+                    latestByParentId.put(parentId, versions.get(0));
+                }
+            }
+        } else {
+            latestByParentId = queryLatestVersions(parentIds, parentIdOf, versionsOf);
+        }
+        latestVersions.putAll(latestByParentId);
+        return latestByParentId;
+    }
+
+    /**
+     * Query versions of up to ID_CHUNK_SZ parents at a time and keep the first version seen for
+     * each parent, which is its latest. Stops reading a chunk once every parent in it has been seen.
+     * @return Map of parent ID --> latest version; parents without versions are omitted
+     */
+    private static <V> Map<String, V> queryLatestVersions(
+        final Collection<String> parentIds,
+        final Function<V, String> parentIdOf,
+        final Function<Set<String>, ? extends EpPagedIterator<?, V>> versionsOf
+    )
+    {
+        final Map<String, V> latestByParentId = new HashMap<>();
+        for (Set<String> ids : chunkIds(new ArrayList<>(parentIds), Function.identity())) {
+            try (EpPagedIterator<?, V> versions = versionsOf.apply(ids)) {
+                int found = 0;
+                while (found < ids.size() && versions.hasNext()) {
+                    final V version = versions.next();
+                    if (latestByParentId.putIfAbsent(parentIdOf.apply(version), version) == null) {
+                        found++;
+                    }
+                }
             }
-        } catch (Exception exc) {
-            log.error("EventPortalClientApi.getLastEventApiVersion", exc);
-            throw exc;
         }
+        return latestByParentId;
     }
 
     /**
@@ -634,10 +1717,17 @@ public class EventPortalClientApi {
      */
     public Event getEventByName(final String eventName) throws Exception
     {
+        if (domainSnapshot != null) {
+            return domainSnapshot.getEventByName(eventName);
+        }
+
         final EventsApi eventsApi = new EventsApi(apiClient);
 
         try {
-            EventsResponse response = eventsApi.getEvents(PAGE_SZ_OBJECT, 1, eventName, null, null, appDomainId, null, null, null, null);
+            EventsResponse response = executeRead(
+                requestKey("getEvents", PAGE_SZ_OBJECT, 1, eventName, null, null, appDomainId, null, null, null, null),
+                () -> eventsApi.getEvents(PAGE_SZ_OBJECT, 1, eventName, null, null, appDomainId, null, null, null, null)
+            );
             if (response.getData().isEmpty()) {
                 return null;
             }
@@ -679,42 +1769,46 @@ public class EventPortalClientApi {
         final EventVersionDto.DeliveryDescriptor deliveryDescriptor
     ) throws Exception
     {
-        EventsApi eventsApi = new EventsApi(apiClient);
-
-        this.cachedLatestEventVersion = null;
+        return matchEventVersionBySchemaIdAndDeliveryDescriptor(eventId, schemaVersionId, deliveryDescriptor).getMatch();
+    }
 
-        try {
-            int maxPages = 1;
-            for (int page = 1; page <= maxPages; page++) {
-                EventVersionsResponse response = eventsApi.getEventVersions(PAGE_SZ_VERSION, page, Set.of(eventId), null, null, null, null);
+    /**
+     * Same lookup as getEventVersionBySchemaIdAndDeliveryDescriptor, returning the matched version together with
+     * the latest version of the parent object found by the same lookup
+     */
+    public EpMatchResult<EventVersion> matchEventVersionBySchemaIdAndDeliveryDescriptor(
+        final String eventId,
+        final String schemaVersionId,
+        final EventVersionDto.DeliveryDescriptor deliveryDescriptor
+    ) throws Exception
+    {
+        final Predicate<EventVersion> matches = eventVersion -> {
+            if ( eventVersion.getEventId() != null && eventVersion.getEventId().contentEquals(eventId) &&
+                eventVersion.getSchemaVersionId() != null && eventVersion.getSchemaVersionId().contentEquals(schemaVersionId) )
+            {
+                EventVersionDto.DeliveryDescriptor responseDeliveryDescriptor = EventPortalModelUtils.mapEpEventVersionToDtoDeliveryDescriptor(eventVersion.getDeliveryDescriptor());
+                return EventPortalModelUtils.deliveryDescriptorsMatch(responseDeliveryDescriptor, deliveryDescriptor);
+            }
+            return false;
+        };
 
-                if (response.getData().isEmpty()) {
-                    break;
-                }
-                if (page == 1 && response.getMeta().getPagination().getNextPage() != null) {
-                    maxPages = response.getMeta().getPagination().getTotalPages();
-                }
-                if (page == 1 && ! response.getData().isEmpty() ) {
-                    this.cachedLatestEventVersion = response.getData().get(0);
-                }
+        if (domainSnapshot != null) {
+            return findVersion(latestEventVersions, eventId, domainSnapshot.getEventVersions(eventId).iterator(), matches);
+        }
 
-                for ( EventVersion eventVersion : response.getData() ) {
-                    if ( eventVersion.getEventId().contentEquals(eventId) &&
-                        eventVersion.getSchemaVersionId().contentEquals(schemaVersionId) )
-                    {
-                        EventVersionDto.DeliveryDescriptor responseDeliveryDescriptor = EventPortalModelUtils.mapEpEventVersionToDtoDeliveryDescriptor(eventVersion.getDeliveryDescriptor());
-                        if ( EventPortalModelUtils.deliveryDescriptorsMatch(responseDeliveryDescriptor, deliveryDescriptor)) {
-                            return eventVersion;
-                        }
-                    }
-                }
-            }
+        EventsApi eventsApi = new EventsApi(apiClient);
 
+        try {
+            return findVersion(latestEventVersions, eventId, pagedIterator(
+                requestKey("getEventVersions", versionPageSize, Set.of(eventId), null, null, null, null),
+                page -> eventsApi.getEventVersions(versionPageSize, page, Set.of(eventId), null, null, null, null),
+                EventVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ), matches);
         } catch (Exception exc) {
             log.error("EventPortalClientApi.getEventVersionBySchemaIdAndDeliveryDescriptor", exc);
             throw exc;
         }
-        return null;
     }
 
     /**
@@ -725,10 +1819,17 @@ public class EventPortalClientApi {
      * @throws Exception
      */
     public SchemaObject getSchemaObjectByName(final String schemaName) throws Exception {
+        if (domainSnapshot != null) {
+            return domainSnapshot.getSchemaByName(schemaName);
+        }
+
         SchemasApi schemasApi = new SchemasApi(apiClient);
 
         try {
-            SchemasResponse schemasResponse = schemasApi.getSchemas(PAGE_SZ_OBJECT, 1, schemaName, null, appDomainId, null, null, null, null, null);
+            SchemasResponse schemasResponse = executeRead(
+                requestKey("getSchemas", PAGE_SZ_OBJECT, 1, schemaName, null, appDomainId, null, null, null, null, null),
+                () -> schemasApi.getSchemas(PAGE_SZ_OBJECT, 1, schemaName, null, appDomainId, null, null, null, null, null)
+            );
             if (schemasResponse.getData().isEmpty()) {
                 // TODO - not an error
                 log.debug("Schema name = [{}] not found in appDomainId = [{}]", schemaName, appDomainId);
@@ -746,42 +1847,146 @@ public class EventPortalClientApi {
         }
     }
 
+    /**
+     * Find a version of schemaId with content matching schemaContent after reserialization.
+     * Calls Event Portal REST API unless a domain snapshot is loaded
+     * @param schemaId
+     * @param schemaContent
+     * @return Matching SchemaVersion or null if not found
+     * @throws Exception
+     */
     public SchemaVersion getSchemaVersionByContent(final String schemaId, final String schemaContent) throws Exception
     {
-        SchemasApi schemasApi = new SchemasApi(apiClient);
+        final String contentHash = EventPortalModelUtils.computeSchemaContentHashOrNull(schemaContent);
+        if (contentHash == null) {
+            return matchSchemaVersionByContent(schemaId, schemaContent).getMatch();
+        }
+        return getSchemaVersionByContentHash(schemaId, contentHash);
+    }
+
+    /**
+     * Find a version of schemaId by comparing its reserialized content to schemaContent.
+     * Slower than matching by content hash; used when the content hash of schemaContent
+     * cannot be computed, e.g. if it is not valid JSON.
+     * Calls Event Portal REST API unless a domain snapshot is loaded
+     * @param schemaId
+     * @param schemaContent
+     * @return Matched version, if any, and the latest version of schemaId
+     * @throws Exception
+     */
+    public EpMatchResult<SchemaVersion> matchSchemaVersionByContent(final String schemaId, final String schemaContent) throws Exception
+    {
+        final Predicate<SchemaVersion> matches = schemaVersion -> schemaContentEquals(schemaVersion, schemaContent);
+        if (domainSnapshot != null) {
+            final List<SchemaVersion> schemaVersions = domainSnapshot.getSchemaVersions(schemaId);
+            return matchResult(latestSchemaVersions, schemaId, schemaVersions.isEmpty() ? null : schemaVersions.get(0),
+                schemaVersions.stream().filter(matches).findFirst().orElse(null));
+        }
 
-        this.cachedLatestSchemaVersion = null;
+        SchemasApi schemasApi = new SchemasApi(apiClient);
 
         try {
-            int maxPages = 1;
-            for (int page = 1; page <= maxPages; page++ ) {
-                log.debug("Preparing to execute call #{} to retrieve schema versions for schemaId = {}", page, schemaId);
-                SchemaVersionsResponse schemaVersionsResponse = schemasApi.getSchemaVersions(PAGE_SZ_VERSION, page, Set.of(schemaId), null, null);
-                log.debug("Retrieved {} versions for schemaId = {}", schemaVersionsResponse != null ? schemaVersionsResponse.getData().size() : "null", schemaId);
+            return findVersion(latestSchemaVersions, schemaId, pagedIterator(
+                requestKey("getSchemaVersions", versionPageSize, Set.of(schemaId), null, null),
+                page -> {
+                    log.debug("Preparing to execute call #{} to retrieve schema versions for schemaId = {}", page, schemaId);
+                    return schemasApi.getSchemaVersions(versionPageSize, page, Set.of(schemaId), null, null);
+                },
+                SchemaVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ), matches);
+        } catch (Exception exc) {
+            log.error("Error in EventPortalClientApi.matchSchemaVersionByContent", exc);
+            throw exc;
+        }
+    }
 
-                if (schemaVersionsResponse.getData().isEmpty()) {
-                    break;
-                }
-                if ( page == 1 && schemaVersionsResponse.getMeta().getPagination().getNextPage() != null ) {
-                    maxPages = schemaVersionsResponse.getMeta().getPagination().getTotalPages();
-                }
-                if ( page == 1 && ! schemaVersionsResponse.getData().isEmpty()) {
-                    this.cachedLatestSchemaVersion = schemaVersionsResponse.getData().get(0);
-                }
+    /**
+     * Find a version of schemaId with content hash matching contentHash.
+     * See EventPortalModelUtils.computeSchemaContentHash
+     * Calls Event Portal REST API unless a domain snapshot is loaded
+     * @param schemaId
+     * @param contentHash
+     * @return Matching SchemaVersion or null if not found
+     * @throws Exception
+     */
+    public SchemaVersion getSchemaVersionByContentHash(final String schemaId, final String contentHash) throws Exception
+    {
+        return matchSchemaVersionByContentHash(schemaId, contentHash).getMatch();
+    }
 
-                // TODO - Is whitespace in schemas content a problem?
-                for ( SchemaVersion schemaVersion : schemaVersionsResponse.getData()) {
-                    if (EventPortalModelUtils.reserializeJsonSchema(schemaVersion.getContent()).contentEquals(schemaContent)) {
-                        return schemaVersion;
-                    }
-                }
-            }
+    /**
+     * Same lookup as getSchemaVersionByContentHash, returning the matched version together with
+     * the latest version of the parent object found by the same lookup
+     */
+    public EpMatchResult<SchemaVersion> matchSchemaVersionByContentHash(final String schemaId, final String contentHash) throws Exception
+    {
+        if (domainSnapshot != null) {
+            final List<SchemaVersion> schemaVersions = domainSnapshot.getSchemaVersions(schemaId);
+            return matchResult(latestSchemaVersions, schemaId, schemaVersions.isEmpty() ? null : schemaVersions.get(0),
+                domainSnapshot.getSchemaVersionByContentHash(schemaId, contentHash, this::getSchemaVersionContentHash));
+        }
+
+        SchemasApi schemasApi = new SchemasApi(apiClient);
+
+        try {
+            return findVersion(latestSchemaVersions, schemaId, pagedIterator(
+                requestKey("getSchemaVersions", versionPageSize, Set.of(schemaId), null, null),
+                page -> {
+                    log.debug("Preparing to execute call #{} to retrieve schema versions for schemaId = {}", page, schemaId);
+                    return schemasApi.getSchemaVersions(versionPageSize, page, Set.of(schemaId), null, null);
+                },
+                SchemaVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ), schemaVersion -> getSchemaVersionContentHash(schemaVersion).contentEquals(contentHash));
         } catch (Exception exc) {
             log.error("Error in EventPortalClientApi.getSchemaVersionByContent", exc);
             throw exc;
         }
+    }
+
+    // Key of the content hash cache; content of a schema version cannot change without changing updatedTime
+    private static String schemaContentHashKey(final SchemaVersion schemaVersion)
+    {
+        return schemaVersion.getId() + ":" + schemaVersion.getUpdatedTime();
+    }
+
+    /**
+     * Content comparison used before content hashes: EP content is reserialized, import content is not.
+     * EP content that is not valid JSON is compared as is.
+     */
+    private static boolean schemaContentEquals(final SchemaVersion schemaVersion, final String schemaContent)
+    {
+        if (schemaContent == null || schemaVersion.getContent() == null) {
+            return false;
+        }
+        try {
+            return EventPortalModelUtils.reserializeJsonSchema(schemaVersion.getContent()).contentEquals(schemaContent);
+        } catch (Exception exc) {
+            return schemaVersion.getContent().contentEquals(schemaContent);
+        }
+    }
 
-        return null;
+    /**
+     * Returns the content hash of an EP schema version, computed once per version ID and update time.
+     * Returns an empty string if the content cannot be parsed as JSON, which will not match any content hash.
+     * @param schemaVersion
+     * @return
+     */
+    private String getSchemaVersionContentHash(final SchemaVersion schemaVersion)
+    {
+        final String key = schemaContentHashKey(schemaVersion);
+        String contentHash = schemaVersionContentHashes.get(key);
+        if (contentHash == null) {
+            try {
+                contentHash = EventPortalModelUtils.computeSchemaContentHash(schemaVersion.getContent());
+            } catch (Exception exc) {
+                log.warn("Unable to compute content hash for schema version id = [{}]: {}", schemaVersion.getId(), exc.getMessage());
+                contentHash = "";
+            }
+            schemaVersionContentHashes.put(key, contentHash);
+        }
+        return contentHash;
     }
 
     /**
@@ -793,10 +1998,22 @@ public class EventPortalClientApi {
      */
     public TopicAddressEnum getTopicAddressEnumByName(final String topicAddressEnumName) throws Exception
     {
+        if (domainSnapshot != null) {
+            final TopicAddressEnum snapshotEnum = domainSnapshot.getEnumByName(topicAddressEnumName);
+            if (snapshotEnum != null) {
+                return snapshotEnum;
+            }
+            // Not in the target domain; Enum names are unique across the account
+            // so the lookup must still go to Event Portal to check other domains
+        }
+
         EnumsApi enumsApi = new EnumsApi(apiClient);
 
         try {
-            TopicAddressEnumsResponse topicAddressEnumsResponse = enumsApi.getEnums(PAGE_SZ_OBJECT, 1, null, null, null, List.of(topicAddressEnumName), null, null, null);
+            TopicAddressEnumsResponse topicAddressEnumsResponse = executeRead(
+                requestKey("getEnums", PAGE_SZ_OBJECT, 1, null, null, null, List.of(topicAddressEnumName), null, null, null),
+                () -> enumsApi.getEnums(PAGE_SZ_OBJECT, 1, null, null, null, List.of(topicAddressEnumName), null, null, null)
+            );
             if (topicAddressEnumsResponse.getData().isEmpty()) {
                 return null;
             }
@@ -808,6 +2025,9 @@ public class EventPortalClientApi {
             if ( ! appDomainIdInReturnedEnum.contentEquals( this.appDomainId )) {
                 throw new Exception( "Topic Parameter Enum [" + topicAddressEnumName + "] was found to exist outside of the target app domain for import [" + appDomainName + "]" );
             }
+            if (domainSnapshot != null) {
+                domainSnapshot.putEnum(topicAddressEnumsResponse.getData().get(0));
+            }
             return topicAddressEnumsResponse.getData().get(0);
         } catch (Exception exc) {
             log.error("Error in EventPortalClientApi.getTopicAddressByEnumName", exc);
@@ -815,45 +2035,130 @@ public class EventPortalClientApi {
         }
     }
 
+    /**
+     * Retrieve TopicAddressEnums for a collection of names using multi-name queries of
+     * up to 50 names each, instead of one request per name.
+     * Names not found in Event Portal are omitted from the result.
+     * Calls Event Portal REST API for names not found in the domain snapshot
+     * @param topicAddressEnumNames
+     * @return Map of enum name --> TopicAddressEnum for enums found in the target domain
+     * @throws Exception if an enum is found in an application domain other than the target domain,
+     * as getTopicAddressEnumByName does
+     */
+    public Map<String, TopicAddressEnum> getTopicAddressEnumsByName(final Collection<String> topicAddressEnumNames) throws Exception
+    {
+        final Map<String, Exception> errorsByName = new LinkedHashMap<>();
+        final Map<String, TopicAddressEnum> enumsByName = getTopicAddressEnumsByName(topicAddressEnumNames, errorsByName);
+        if (!errorsByName.isEmpty()) {
+            throw errorsByName.values().iterator().next();
+        }
+        return enumsByName;
+    }
+
+    /**
+     * Same lookup as getTopicAddressEnumsByName, recording an error for each name that cannot be
+     * used by the import instead of failing the whole lookup: an enum found in an application
+     * domain other than the target domain is omitted from the result and its error recorded,
+     * so that only the objects referencing that enum fail.
+     * @param topicAddressEnumNames
+     * @param errorsByName - receives enum name --> error for each enum that cannot be used
+     * @return Map of enum name --> TopicAddressEnum for enums found in the target domain
+     * @throws Exception
+     */
+    public Map<String, TopicAddressEnum> getTopicAddressEnumsByName(
+        final Collection<String> topicAddressEnumNames,
+        final Map<String, Exception> errorsByName
+    ) throws Exception
+    {
+        final Map<String, TopicAddressEnum> enumsByName = new HashMap<>();
+        final List<String> namesToQuery = new ArrayList<>();
+        for (String enumName : new LinkedHashSet<>(topicAddressEnumNames)) {
+            final TopicAddressEnum snapshotEnum = domainSnapshot != null ? domainSnapshot.getEnumByName(enumName) : null;
+            if (snapshotEnum != null) {
+                enumsByName.put(enumName, snapshotEnum);
+            } else {
+                // Enum names are unique across the account; names not in the snapshot
+                // must still be checked in Event Portal to detect enums in other domains
+                namesToQuery.add(enumName);
+            }
+        }
+
+        EnumsApi enumsApi = new EnumsApi(apiClient);
+
+        try {
+            for (Set<String> nameChunk : chunkIds(namesToQuery, Function.identity())) {
+                final List<String> names = new ArrayList<>(nameChunk);
+                pagedIterator(
+                    requestKey("getEnums", listPageSize, null, null, null, names, null, null, null),
+                    page -> enumsApi.getEnums(listPageSize, page, null, null, null, names, null, null, null),
+                    TopicAddressEnumsResponse::getData,
+                    response -> response.getMeta().getPagination().getTotalPages()
+                ).forEachRemaining( topicAddressEnum -> {
+                    if ( ! nameChunk.contains(topicAddressEnum.getName()) ) {
+                        return;
+                    }
+                    if ( ! topicAddressEnum.getApplicationDomainId().contentEquals( this.appDomainId )) {
+                        log.error( "Topic Parameter Enum [{}] was found to exist outside of the target app domain for import [{}]",
+                            topicAddressEnum.getName(), appDomainName );
+                        errorsByName.put(topicAddressEnum.getName(), new Exception(
+                            "Topic Parameter Enum [" + topicAddressEnum.getName() + "] was found to exist outside of the target app domain for import [" + appDomainName + "]" ));
+                        return;
+                    }
+                    if (domainSnapshot != null) {
+                        domainSnapshot.putEnum(topicAddressEnum);
+                    }
+                    enumsByName.put(topicAddressEnum.getName(), topicAddressEnum);
+                });
+            }
+        } catch (Exception exc) {
+            log.error("Error in EventPortalClientApi.getTopicAddressEnumsByName", exc);
+            throw exc;
+        }
+        log.debug("Resolved {} of {} enum names with {} names queried in Event Portal",
+            enumsByName.size(), topicAddressEnumNames.size(), namesToQuery.size());
+        return enumsByName;
+    }
+
     public TopicAddressEnumVersion getTopicAddressEnumVersionByContent(
         final String topicAddressEnumId, 
         List<String> values) throws Exception
     {
-        EnumsApi enumsApi = new EnumsApi(apiClient);
-
-        this.cachedLatestEnumVersion = null;
+        return matchTopicAddressEnumVersionByContent(topicAddressEnumId, values).getMatch();
+    }
 
-        try {
-            int maxPages = 1;
-            for (int page = 1; page <= maxPages; page++) {
-                log.debug("Preparing to execute call #{} to retrieve enum versions for enumId = {}", page, topicAddressEnumId);
-                TopicAddressEnumVersionsResponse response = enumsApi.getEnumVersions(PAGE_SZ_VERSION, page, Set.of(topicAddressEnumId), null);
-                log.debug("Retrieved {} versions for enumId = {}", response != null ? response.getData().size() : "null", topicAddressEnumId);
+    /**
+     * Same lookup as getTopicAddressEnumVersionByContent, returning the matched version together with
+     * the latest version of the parent object found by the same lookup
+     */
+    public EpMatchResult<TopicAddressEnumVersion> matchTopicAddressEnumVersionByContent(
+        final String topicAddressEnumId, 
+        List<String> values) throws Exception
+    {
+        final Predicate<TopicAddressEnumVersion> matches = enumVersion ->
+            EventPortalModelUtils.valuesListsMatch(EventPortalModelUtils.getValuesListFromTopicAddressEnumVersion(enumVersion), values);
 
-                if (response.getData().isEmpty()) {
-                    break;
-                }
-                if ( page == 1 && response.getMeta().getPagination().getNextPage() != null ) {
-                    maxPages = response.getMeta().getPagination().getTotalPages();
-                }
-                if ( page == 1 && ! response.getData().isEmpty()) {
-                    this.cachedLatestEnumVersion = response.getData().get(0);
-                }
+        // An enum found outside of the snapshot by name lookup has no versions loaded;
+        // fall through to Event Portal in that case
+        if (domainSnapshot != null && ! domainSnapshot.getEnumVersions(topicAddressEnumId).isEmpty()) {
+            return findVersion(latestEnumVersions, topicAddressEnumId, domainSnapshot.getEnumVersions(topicAddressEnumId).iterator(), matches);
+        }
 
-                for ( TopicAddressEnumVersion enumVersion : response.getData() ) {
-                    List<String> epVersionValues = EventPortalModelUtils.getValuesListFromTopicAddressEnumVersion(enumVersion);
-                    if ( EventPortalModelUtils.valuesListsMatch(epVersionValues, values) ) {
-                        return enumVersion;
-                    }
-                }
+        EnumsApi enumsApi = new EnumsApi(apiClient);
 
-            }
+        try {
+            return findVersion(latestEnumVersions, topicAddressEnumId, pagedIterator(
+                requestKey("getEnumVersions", versionPageSize, Set.of(topicAddressEnumId), null),
+                page -> {
+                    log.debug("Preparing to execute call #{} to retrieve enum versions for enumId = {}", page, topicAddressEnumId);
+                    return enumsApi.getEnumVersions(versionPageSize, page, Set.of(topicAddressEnumId), null);
+                },
+                TopicAddressEnumVersionsResponse::getData,
+                response -> response.getMeta().getPagination().getTotalPages()
+            ), matches);
         } catch (Exception exc) {
             log.error("Error in EventPortalClientApi.getTopicAddressEnumVersionByContent", exc);
             throw exc;
         }
-
-        return null;
     }
 
     public SchemaObject createSchemaObject( 
@@ -869,7 +2174,10 @@ public class EventPortalClientApi {
         schemaObject.setShared(true);
 
         try {
-            SchemaResponse response = schemasApi.createSchema(schemaObject);
+            SchemaResponse response = callEp("createSchema", false, () -> schemasApi.createSchema(schemaObject));
+            if (domainSnapshot != null) {
+                domainSnapshot.putSchema(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             log.error("Error in EventPortalClientApi.createSchemaObject", exc);
@@ -894,7 +2202,13 @@ public class EventPortalClientApi {
         schemaVersion.setVersion(incrementSemVer(lastSemVer));
 
         try {
-            SchemaVersionResponse response = schemasApi.createSchemaVersion(schemaVersion);
+            SchemaVersionResponse response = callEp("createSchemaVersion", false, () -> schemasApi.createSchemaVersion(schemaVersion));
+            if (response.getData() != null) {
+                latestSchemaVersions.put(response.getData().getSchemaId(), response.getData());
+            }
+            if (domainSnapshot != null) {
+                domainSnapshot.putSchemaVersion(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             final String msg = "EventPortalClientApi.createSchemaVersion";
@@ -922,7 +2236,10 @@ public class EventPortalClientApi {
         schemaVersion.setContent(EventPortalModelUtils.reserializeJsonAsPretty(schemaContent));
 
         try {
-            SchemaVersionResponse response = schemasApi.updateSchemaVersion(schemaVersionId, schemaVersion);
+            SchemaVersionResponse response = callEp("updateSchemaVersion", false, () -> schemasApi.updateSchemaVersion(schemaVersionId, schemaVersion));
+            if (domainSnapshot != null) {
+                domainSnapshot.putSchemaVersion(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             final String msg = "EventPortalClientApi.updateSchemaVersion";
@@ -943,7 +2260,10 @@ public class EventPortalClientApi {
         topicAddressEnum.setApplicationDomainId(appDomainId);
         
         try {
-            TopicAddressEnumResponse response = enumsApi.createEnum(topicAddressEnum);
+            TopicAddressEnumResponse response = callEp("createEnum", false, () -> enumsApi.createEnum(topicAddressEnum));
+            if (domainSnapshot != null) {
+                domainSnapshot.putEnum(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             final String msg = "EventPortalClientApi.createEnumObject";
@@ -975,7 +2295,13 @@ public class EventPortalClientApi {
         enumVersion.setVersion(incrementSemVer(lastSemVer));
 
         try {
-            TopicAddressEnumVersionResponse response = enumsApi.createEnumVersion(enumVersion);
+            TopicAddressEnumVersionResponse response = callEp("createEnumVersion", false, () -> enumsApi.createEnumVersion(enumVersion));
+            if (response.getData() != null) {
+                latestEnumVersions.put(response.getData().getEnumId(), response.getData());
+            }
+            if (domainSnapshot != null) {
+                domainSnapshot.putEnumVersion(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             final String msg = "EventPortalClientApi.createEnumVersion";
@@ -1001,7 +2327,10 @@ public class EventPortalClientApi {
         enumVersionUpdate.setValues(enumValues);
 
         try {
-            TopicAddressEnumVersionResponse response = enumsApi.updateEnumVersion(enumVersionId, enumVersionUpdate);
+            TopicAddressEnumVersionResponse response = callEp("updateEnumVersion", false, () -> enumsApi.updateEnumVersion(enumVersionId, enumVersionUpdate));
+            if (domainSnapshot != null) {
+                domainSnapshot.putEnumVersion(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             final String msg = "EventPortalClientApi.updateEnumVersion";
@@ -1022,7 +2351,10 @@ public class EventPortalClientApi {
         event.setShared(true);
 
         try {
-            EventResponse response = eventsApi.createEvent(event);
+            EventResponse response = callEp("createEvent", false, () -> eventsApi.createEvent(event));
+            if (domainSnapshot != null) {
+                domainSnapshot.putEvent(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             log.error("EventPortalClientApi.createEventObject - Error creating event {}", eventName, exc);
@@ -1050,7 +2382,13 @@ public class EventPortalClientApi {
         );
         
         try {
-            EventVersionResponse response = eventsApi.createEventVersion(eventVersion);
+            EventVersionResponse response = callEp("createEventVersion", false, () -> eventsApi.createEventVersion(eventVersion));
+            if (response.getData() != null) {
+                latestEventVersions.put(response.getData().getEventId(), response.getData());
+            }
+            if (domainSnapshot != null) {
+                domainSnapshot.putEventVersion(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             log.error("EventPortalClientApi.createEventVersion - Error creating event version for event {}", eventName, exc);
@@ -1073,7 +2411,10 @@ public class EventPortalClientApi {
         );
 
         try {
-            EventVersionResponse response = eventsApi.updateEventVersion(eventVersionId, eventVersion);
+            EventVersionResponse response = callEp("updateEventVersion", false, () -> eventsApi.updateEventVersion(eventVersionId, eventVersion));
+            if (domainSnapshot != null) {
+                domainSnapshot.putEventVersion(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             log.error("EventPortalClientApi.updateEventVersion - Error updating event version {}", eventVersionId, exc);
@@ -1094,7 +2435,10 @@ public class EventPortalClientApi {
         app.setApplicationType("standard");
 
         try {
-            ApplicationResponse response = appApi.createApplication(app);
+            ApplicationResponse response = callEp("createApplication", false, () -> appApi.createApplication(app));
+            if (domainSnapshot != null) {
+                domainSnapshot.putApplication(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             log.error("EventPortalClientApi.createApplicationObject - Error creating application: {}", appName, exc);
@@ -1114,7 +2458,10 @@ public class EventPortalClientApi {
         eventApiObject.setBrokerType(EventApi.BrokerTypeEnum.SOLACE);
 
         try {
-            EventApiResponse response = eventApi.createEventApi(eventApiObject);
+            EventApiResponse response = callEp("createEventApi", false, () -> eventApi.createEventApi(eventApiObject));
+            if (domainSnapshot != null) {
+                domainSnapshot.putEventApi(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             log.error("EventPortalClientApi.createEventApiObject - Error creating EventApi: {}", appName, exc);
@@ -1150,7 +2497,13 @@ public class EventPortalClientApi {
         appVersion.setEndOfLifeDate(null);
 
         try {
-            ApplicationVersionResponse response = appApi.createApplicationVersion(appVersion);
+            ApplicationVersionResponse response = callEp("createApplicationVersion", false, () -> appApi.createApplicationVersion(appVersion));
+            if (response.getData() != null) {
+                latestApplicationVersions.put(response.getData().getApplicationId(), response.getData());
+            }
+            if (domainSnapshot != null) {
+                domainSnapshot.putApplicationVersion(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             log.error("EventPortalClientApi.createApplicationVersion - Error creating application version for App: {}", appName, exc);
@@ -1176,7 +2529,13 @@ public class EventPortalClientApi {
         eventApiVersion.setVersion(incrementSemVer(lastSemVer));
 
         try {
-            EventApiVersionResponse response = eventApi.createEventApiVersion(eventApiVersion);
+            EventApiVersionResponse response = callEp("createEventApiVersion", false, () -> eventApi.createEventApiVersion(eventApiVersion));
+            if (response.getData() != null) {
+                latestEventApiVersions.put(response.getData().getEventApiId(), response.getData());
+            }
+            if (domainSnapshot != null) {
+                domainSnapshot.putEventApiVersion(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             log.error("EventPortalClientApi.createEventApiVersion - Error creating application version for EventApi: {}", eventApiName, exc);
@@ -1208,7 +2567,10 @@ public class EventPortalClientApi {
         });
 
         try {
-            ApplicationVersionResponse response = appApi.updateApplicationVersion(appVersionId, appVersion, null, null);
+            ApplicationVersionResponse response = callEp("updateApplicationVersion", false, () -> appApi.updateApplicationVersion(appVersionId, appVersion, null, null));
+            if (domainSnapshot != null) {
+                domainSnapshot.putApplicationVersion(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             log.error("EventPortalClientApi.updateApplicationVersion - Error updating application version", exc);
@@ -1233,7 +2595,10 @@ public class EventPortalClientApi {
         });
 
         try {
-            EventApiVersionResponse response = eventApi.updateEventApiVersion(eventApiVersionId, eventApiVersion);
+            EventApiVersionResponse response = callEp("updateEventApiVersion", false, () -> eventApi.updateEventApiVersion(eventApiVersionId, eventApiVersion));
+            if (domainSnapshot != null) {
+                domainSnapshot.putEventApiVersion(response.getData());
+            }
             return response.getData();
         } catch (Exception exc) {
             log.error("EventPortalClientApi.updateEventApiVersion - Error updating event API version", exc);
@@ -17,15 +17,26 @@
 
 package com.solace.ep.asyncapi.importer.mapper;
 
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.StringTokenizer;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
 import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
 import com.solace.ep.asyncapi.accessor.v2.AsyncApiAccessor;
 import com.solace.ep.asyncapi.accessor.v2.AsyncApiChannel;
 import com.solace.ep.asyncapi.accessor.v2.AsyncApiMessage;
+import com.solace.ep.asyncapi.accessor.v2.AsyncApiStreamReader;
 import com.solace.ep.asyncapi.importer.model.dto.ApplicationDomainDto;
 import com.solace.ep.asyncapi.importer.model.dto.ApplicationDto;
 import com.solace.ep.asyncapi.importer.model.dto.ApplicationVersionDto;
@@ -41,6 +52,7 @@ import com.solace.ep.asyncapi.importer.model.dto.SchemaVersionDto;
 import com.solace.ep.asyncapi.importer.model.dto.EnumVersionDto.EnumValue;
 import com.solace.ep.asyncapi.importer.util.EventPortalModelUtils;
 
+import lombok.Setter;
 import lombok.extern.slf4j.Slf4j;
 
 /**
@@ -58,7 +70,19 @@ public class AsyncApiV2ToDto {
 
     private ApplicationDomainDto mapApplicationDomain;
 
-    // TODO - Concurrent - Change to ConcurrentHashMaps
+    /**
+     * Number of threads used to read channels when mapping a spec held in memory.
+     * Above 1, channel messages, payloads, and schema content hashes are read on a fork/join
+     * pool, then merged into the mapped objects in the same channel order as serial mapping,
+     * so the results are identical. Not used when channels are streamed from a file.
+     */
+    @Setter
+    private int mappingParallelism = 1;
+
+    // Schema payload --> content hash, computed while channels are read in parallel
+    private final Map<String, String> schemaContentHashes = new ConcurrentHashMap<>();
+
+    // Mapped objects are only modified by the thread merging channels
     private Map<String, EnumDto> mapEnums = new HashMap<>();
 
     private Map<String, SchemaDto> mapSchemas = new HashMap<>();
@@ -89,6 +113,38 @@ public class AsyncApiV2ToDto {
         return mapper.mapAsyncApiToDto();
     }
 
+    /**
+     * Map an AsyncApi file channel by channel without holding the whole document in memory
+     * @param asyncApiFile
+     * @param applicationDomainId
+     * @param applicationDomainName
+     * @return
+     * @throws Exception
+     */
+    public static DtoResultSet mapAsyncApiToDto(
+        final Path asyncApiFile,
+        final String applicationDomainId,
+        final String applicationDomainName
+    ) throws Exception {
+        final AsyncApiStreamReader streamReader = new AsyncApiStreamReader(asyncApiFile);
+        AsyncApiV2ToDto mapper = new AsyncApiV2ToDto(streamReader.readAccessor(), applicationDomainId, applicationDomainName);
+        return mapper.mapAsyncApiToDto(streamReader);
+    }
+
+    /**
+     * Map channels read from a stream reader one at a time. The accessor of this mapper
+     * must be the one returned by streamReader.readAccessor(), so that references from
+     * the channels are resolved in the same document.
+     * @param streamReader
+     * @return
+     * @throws Exception
+     */
+    public DtoResultSet mapAsyncApiToDto(final AsyncApiStreamReader streamReader) throws Exception {
+        final int channelCount = streamReader.forEachChannel(this::mapAsyncApiChannelToDto);
+        log.debug("Mapped {} channels streamed from the AsyncApi file", channelCount);
+        return mapResultSet();
+    }
+
     public DtoResultSet mapAsyncApiToDto() throws Exception {
 
         final Map<String, AsyncApiChannel> importChannels = new HashMap<>();
@@ -107,12 +163,26 @@ public class AsyncApiV2ToDto {
         }
 
         // Now map the channels
-        for ( Map.Entry<String, AsyncApiChannel> entry : importChannels.entrySet() ) {
-            final String channelName = entry.getKey();
-            final AsyncApiChannel channel = entry.getValue();
-            mapAsyncApiChannelToDto(channelName, channel);
+        if ( mappingParallelism > 1 && importChannels.size() > 1 ) {
+            for ( ChannelContent channelContent : readChannelsInParallel(importChannels) ) {
+                mapChannelContentToDto(channelContent);
+            }
+        } else {
+            for ( Map.Entry<String, AsyncApiChannel> entry : importChannels.entrySet() ) {
+                final String channelName = entry.getKey();
+                final AsyncApiChannel channel = entry.getValue();
+                mapAsyncApiChannelToDto(channelName, channel);
+            }
         }
 
+        return mapResultSet();
+    }
+
+    /**
+     * Map the application domain, application, and event API once all channels are mapped
+     */
+    private DtoResultSet mapResultSet() throws Exception {
+
         mapApplicationDomain = new ApplicationDomainDto();
         mapApplicationDomain.setId(applicationDomainId);
         mapApplicationDomain.setName(applicationDomainName);
@@ -154,53 +224,123 @@ public class AsyncApiV2ToDto {
         return resultSet;
     }
 
+    private void mapAsyncApiChannelToDto(
+        final String channelName,
+        final JsonObject channelObject
+    ) throws Exception
+    {
+        mapAsyncApiChannelToDto(channelName, new AsyncApiChannel(channelObject, asyncApiAccessor));
+    }
+
     private void mapAsyncApiChannelToDto(
         final String channelName, 
         final AsyncApiChannel channel
     ) throws Exception
     {
-        final Map<String, EnumVersionDto> enumVersionsInThisChannel = new HashMap<>();  // indexed by param/enum name - this works because only one version can be present per channel
+        mapChannelContentToDto(readChannelContent(channelName, channel, false));
+    }
 
-        // SchemaVersionDto schemaVersionInThisChannel = null;   // TODO - null or empty string?
+    /**
+     * Read the content of all channels on a fork/join pool. The returned list is in
+     * the iteration order of the channels map.
+     */
+    private List<ChannelContent> readChannelsInParallel(
+        final Map<String, AsyncApiChannel> channels
+    ) throws Exception
+    {
+        final List<Callable<ChannelContent>> readTasks = new ArrayList<>(channels.size());
+        for ( Map.Entry<String, AsyncApiChannel> entry : channels.entrySet() ) {
+            readTasks.add(() -> readChannelContent(entry.getKey(), entry.getValue(), true));
+        }
+
+        final ForkJoinPool mappingPool = new ForkJoinPool(mappingParallelism);
+        try {
+            final List<ChannelContent> channelContents = new ArrayList<>(readTasks.size());
+            for ( Future<ChannelContent> readResult : mappingPool.invokeAll(readTasks) ) {
+                channelContents.add(readResult.get());
+            }
+            return channelContents;
+        } catch ( ExecutionException exc ) {
+            log.error("Error reading AsyncApi channels: {}", exc.getCause().getMessage());
+            throw exc.getCause() instanceof Exception ? (Exception) exc.getCause() : exc;
+        } finally {
+            mappingPool.shutdown();
+        }
+    }
+
+    /**
+     * Read the enums and messages of a channel. Does not modify the mapped objects,
+     * so it may be called for many channels concurrently.
+     * @param computeContentHashes - Set to TRUE to compute schema content hashes while reading
+     */
+    private ChannelContent readChannelContent(
+        final String channelName,
+        final AsyncApiChannel channel,
+        final boolean computeContentHashes
+    ) throws Exception
+    {
+        final ChannelContent channelContent = new ChannelContent(channelName);
 
-        // Map Enums
         for ( Map.Entry<String, AsyncApiChannel.ParameterObject> entry : channel.getParameterObjects().entrySet()) {
-            final String enumName = entry.getKey();
-            final List<String> valueSet = entry.getValue().getEnumValues();
-            EnumVersionDto ev = mapEnumDto(enumName, valueSet);
-            enumVersionsInThisChannel.put(enumName, ev);
+            channelContent.enumValues.put(entry.getKey(), entry.getValue().getEnumValues());
         }
 
-        // Map Schemas and Events
-        // There should only be one message in this list
+        // One message per operation, or one per entry of a oneOf
         for ( AsyncApiMessage msg : channel.getSubscribeOpMessages() ) {
-            mapAsyncApiMessageToDto(channelName, channel, msg, enumVersionsInThisChannel, false);
+            channelContent.messages.add(readMessageContent(channel, msg, false, computeContentHashes));
         }
 
         for ( AsyncApiMessage msg : channel.getPublishOpMessages() ) {
-            mapAsyncApiMessageToDto(channelName, channel, msg, enumVersionsInThisChannel, true);
+            channelContent.messages.add(readMessageContent(channel, msg, true, computeContentHashes));
         }
+        return channelContent;
     }
 
-    private void mapAsyncApiMessageToDto(
-        final String channelName, 
+    private MessageContent readMessageContent(
         final AsyncApiChannel channel,
         final AsyncApiMessage msg,
-        final Map<String, EnumVersionDto> enumVersionsInThisChannel,
-        final boolean publishOp
+        final boolean publishOp,
+        final boolean computeContentHash
     ) throws Exception 
     {
-        final String contentType = ( msg.getContentType() != null ? msg.getContentType() : asyncApiAccessor.getDefaultContentType() );
-        final String payload = msg.getPayloadAsString();
-        final String schemaName = msg.getSchemaName();
-        final String messageName = msg.getMessageName();
+        final MessageContent messageContent = new MessageContent();
+        messageContent.contentType = ( msg.getContentType() != null ? msg.getContentType() : asyncApiAccessor.getDefaultContentType() );
+        messageContent.payload = msg.getPayloadAsString();
+        messageContent.schemaName = msg.getSchemaName();
         // channel.getEventPortalEventNameFromChannel() added for ASAPIO imports
-        final String eventName = channel.getEventPortalEventNameFromChannel() != null ? channel.getEventPortalEventNameFromChannel() : messageName;
-        
-        // Map the schema, return the object representing the schema version
-        SchemaVersionDto schemaVersionInThisChannel = mapSchemaDto(schemaName, contentType, payload);
+        messageContent.eventName = channel.getEventPortalEventNameFromChannel() != null ? channel.getEventPortalEventNameFromChannel() : msg.getMessageName();
+        messageContent.publishOp = publishOp;
+
+        if ( computeContentHash && messageContent.payload != null && !schemaContentHashes.containsKey(messageContent.payload) ) {
+            final String contentHash = EventPortalModelUtils.computeSchemaContentHashOrNull(messageContent.payload);
+            if ( contentHash != null ) {
+                schemaContentHashes.putIfAbsent(messageContent.payload, contentHash);
+            }
+        }
+        return messageContent;
+    }
+
+    /**
+     * Add the enums, schemas, and events read from a channel to the mapped objects
+     */
+    private void mapChannelContentToDto( final ChannelContent channelContent ) throws Exception
+    {
+        final Map<String, EnumVersionDto> enumVersionsInThisChannel = new HashMap<>();  // indexed by param/enum name - this works because only one version can be present per channel
+
+        // Map Enums
+        for ( Map.Entry<String, List<String>> entry : channelContent.enumValues.entrySet() ) {
+            final String enumName = entry.getKey();
+            EnumVersionDto ev = mapEnumDto(enumName, entry.getValue());
+            enumVersionsInThisChannel.put(enumName, ev);
+        }
 
-        mapEventDto(channelName, eventName, schemaVersionInThisChannel, enumVersionsInThisChannel, publishOp);
+        // Map Schemas and Events
+        for ( MessageContent msg : channelContent.messages ) {
+            // Map the schema, return the object representing the schema version
+            SchemaVersionDto schemaVersionInThisChannel = mapSchemaDto(msg.schemaName, msg.contentType, msg.payload);
+
+            mapEventDto(channelContent.channelName, msg.eventName, schemaVersionInThisChannel, enumVersionsInThisChannel, msg.publishOp);
+        }
     }
 
     private void mapEventDto(
@@ -275,7 +415,7 @@ public class AsyncApiV2ToDto {
     private SchemaVersionDto mapSchemaDto(
         final String schemaName, 
         final String contentType, 
-        final String payload ) 
+        final String payload ) throws Exception
     {
         SchemaVersionDto schemaVersionDtoToReturn = null;
 
@@ -288,7 +428,7 @@ public class AsyncApiV2ToDto {
         }
         boolean foundSchemaVersion = false;
         for ( SchemaVersionDto sv : schemaDto.getSchemaVersions() ) {
-            if ( sv.getContent().contentEquals(payload) ) {
+            if ( Objects.equals(sv.getContent(), payload) ) {
                 schemaVersionDtoToReturn = sv;
                 foundSchemaVersion = true;
                 break;
@@ -301,10 +441,13 @@ public class AsyncApiV2ToDto {
         return schemaVersionDtoToReturn;
     }
 
-    private SchemaVersionDto createSchemaVersionDto( final String schemaContent ) {
+    private SchemaVersionDto createSchemaVersionDto( final String schemaContent ) throws Exception {
 
         SchemaVersionDto schemaVersionDto = new SchemaVersionDto();
         schemaVersionDto.setContent(schemaContent);
+        // Content hash is left null for missing or non-JSON content, which is then matched by content
+        final String contentHash = schemaContent != null ? schemaContentHashes.get(schemaContent) : null;
+        schemaVersionDto.setContentHash(contentHash != null ? contentHash : EventPortalModelUtils.computeSchemaContentHashOrNull(schemaContent));
         return schemaVersionDto;
     }
 
@@ -355,4 +498,35 @@ public class AsyncApiV2ToDto {
         return enumVersionDto;
     }
 
+    /**
+     * Enums and messages read from one channel
+     */
+    private static class ChannelContent {
+
+        private final String channelName;
+
+        // Parameter name --> enum values, in channel parameter order
+        private final Map<String, List<String>> enumValues = new LinkedHashMap<>();
+
+        // Subscribe messages followed by publish messages
+        private final List<MessageContent> messages = new ArrayList<>();
+
+        private ChannelContent( final String channelName ) {
+            this.channelName = channelName;
+        }
+    }
+
+    private static class MessageContent {
+
+        private String contentType;
+
+        private String payload;
+
+        private String schemaName;
+
+        private String eventName;
+
+        private boolean publishOp;
+    }
+
 }
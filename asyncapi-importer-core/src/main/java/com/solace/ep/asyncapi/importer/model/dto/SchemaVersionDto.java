@@ -35,6 +35,12 @@ public class SchemaVersionDto extends AbstractVersionDto {
 
     private String content;
 
+    /**
+     * SHA-256 of reserialized content, see EventPortalModelUtils.computeSchemaContentHash;
+     * null if content is missing or not valid JSON
+     */
+    private String contentHash;
+
     private String type = "schemaVersion";
 
     private SchemaVersion epSchemaVersion;
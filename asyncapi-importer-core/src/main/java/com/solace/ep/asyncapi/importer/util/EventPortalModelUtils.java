@@ -17,7 +17,10 @@
 
 package com.solace.ep.asyncapi.importer.util;
 
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
 import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Map;
 
@@ -59,6 +62,42 @@ public class EventPortalModelUtils {
         return gson.toJson(jsonElement);
     }
 
+    /**
+     * Computes a fingerprint of JSON schema content: SHA-256 (hex) of the schema after
+     * reserialization with reserializeJsonSchema(). Two schemas that would match by
+     * reserialized content comparison have the same content hash.
+     * @param jsonSchema
+     * @return Lower-case hex SHA-256 of the reserialized schema
+     * @throws Exception
+     */
+    public static String computeSchemaContentHash(
+        final String jsonSchema
+    ) throws Exception
+    {
+        final MessageDigest digest = MessageDigest.getInstance("SHA-256");
+        final byte[] hash = digest.digest(reserializeJsonSchema(jsonSchema).getBytes(StandardCharsets.UTF_8));
+        return HexFormat.of().formatHex(hash);
+    }
+
+    /**
+     * Same as computeSchemaContentHash, for content that may be missing or not JSON
+     * @param jsonSchema
+     * @return Content hash, or null if jsonSchema is null or cannot be parsed as JSON
+     */
+    public static String computeSchemaContentHashOrNull(
+        final String jsonSchema
+    )
+    {
+        if (jsonSchema == null) {
+            return null;
+        }
+        try {
+            return computeSchemaContentHash(jsonSchema);
+        } catch (Exception exc) {
+            return null;
+        }
+    }
+
     /**
      * The purpose of this function is to reserialize JSON schemas with formatting
      * for presentation in Event Portal
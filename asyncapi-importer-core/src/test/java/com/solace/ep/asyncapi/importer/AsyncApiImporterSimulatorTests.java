@@ -0,0 +1,555 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+import com.solace.cloud.ep.designer.ApiException;
+import com.solace.ep.asyncapi.accessor.v2.AsyncApiAccessor;
+import com.solace.ep.asyncapi.importer.client.EpDomainSnapshot;
+import com.solace.ep.asyncapi.importer.client.EpDomainSnapshotCache;
+import com.solace.ep.asyncapi.importer.client.EpRetryPolicy;
+import com.solace.ep.asyncapi.importer.client.EventPortalClientApi;
+import com.solace.ep.asyncapi.importer.mapper.AsyncApiV2ToDto;
+import com.solace.ep.asyncapi.importer.model.dto.DtoResultSet;
+import com.solace.ep.asyncapi.testkit.AsyncApiSpecGenerator;
+import com.solace.ep.asyncapi.testkit.EpSimulator;
+import com.solace.ep.asyncapi.testkit.EpSimulatorConfig;
+import com.solace.ep.asyncapi.testkit.EpSimulatorStore;
+import com.solace.ep.asyncapi.testkit.EpSimulatorStore.ObjectType;
+
+/**
+ * Import operations against an in-process Event Portal simulator
+ */
+public class AsyncApiImporterSimulatorTests {
+
+    private static final String APP_DOMAIN_NAME = "Importer Simulator Tests";
+
+    private static final String BEARER_TOKEN = "simulator-token";
+
+    private static final String SPEC_TITLE = "Generated Spec";
+
+    private static final int CHANNELS = 4;
+
+    /**
+     * Import into an empty application domain creates every object of the spec
+     */
+    @Test
+    public void testFreshImport() throws Exception {
+
+        try (EpSimulator simulator = new EpSimulator().start()) {
+            simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+            final AsyncApiImporter importer = newImporter(generateSpec(CHANNELS, 2), simulator, true);
+            importer.execImportOperation();
+
+            assertTrue(importer.getImportErrors().isEmpty());
+            assertFullyImported(simulator.getStore());
+            assertEquals(0L, simulator.getFailedCount());
+        }
+    }
+
+    /**
+     * Importing the same spec again matches every object and makes no write
+     */
+    @Test
+    public void testReimportWithoutChangesMakesNoWrites() throws Exception {
+
+        try (EpSimulator simulator = new EpSimulator().start()) {
+            simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+            final String spec = generateSpec(CHANNELS, 2);
+            newImporter(spec, simulator, true).execImportOperation();
+
+            simulator.resetStats();
+            newImporter(spec, simulator, true).execImportOperation();
+
+            for (String route : simulator.getRequestCountsByRoute().keySet()) {
+                assertTrue(route.startsWith("GET "), "Unexpected write on re-import: " + route);
+            }
+            assertFullyImported(simulator.getStore());
+        }
+    }
+
+    /**
+     * Event Portal throttles some requests with HTTP 429: they are retried and the import
+     * creates every object exactly once
+     */
+    @Test
+    public void testImportRetriesThrottledRequests() throws Exception {
+
+        final EpSimulatorConfig config = new EpSimulatorConfig();
+        config.setThrottleRate(0.1);
+        config.setRetryAfterSeconds(1);
+
+        try (EpSimulator simulator = new EpSimulator(config).start()) {
+            simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+            final AsyncApiImporter importer = newImporter(generateSpec(CHANNELS, 2), simulator, true);
+            importer.execImportOperation();
+
+            assertTrue(simulator.getThrottledCount() > 0);
+            assertTrue(importer.getImportErrors().isEmpty());
+            assertFullyImported(simulator.getStore());
+        }
+    }
+
+    /**
+     * Creating one event fails: the import reports the event and the application that
+     * references it, and imports every other object
+     */
+    @Test
+    public void testEventFailureSkipsOnlyObjectsReferencingIt() throws Exception {
+
+        final EpSimulatorConfig config = new EpSimulatorConfig();
+        config.setFailRequestIf( (route, body) ->
+            "POST events".equals(route) && body.has("name") && "Event1".equals(body.get("name").getAsString()) );
+
+        try (EpSimulator simulator = new EpSimulator(config).start()) {
+            simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+            final AsyncApiImporter importer = newImporter(generateSpec(CHANNELS, 2), simulator, true);
+
+            try {
+                importer.execImportOperation();
+                fail("Expected the import to fail");
+            } catch (Exception exc) {
+                assertTrue(exc.getMessage().contains("event Event1"), exc.getMessage());
+            }
+            assertEquals(Set.of("event Event1", "application " + SPEC_TITLE), importer.getImportErrors().keySet());
+
+            // Schemas, enums, and the events that do not depend on Event1 are imported
+            assertEquals(CHANNELS - 1, simulator.getStore().count(ObjectType.EVENTS));
+            assertEquals(CHANNELS - 1, simulator.getStore().count(ObjectType.EVENT_VERSIONS));
+            assertEquals(CHANNELS, simulator.getStore().count(ObjectType.SCHEMAS));
+            assertEquals(2, simulator.getStore().count(ObjectType.ENUMS));
+            assertEquals(0, simulator.getStore().count(ObjectType.APPLICATIONS));
+            assertEquals(1L, simulator.getFailedCount());
+        }
+    }
+
+    /**
+     * Objects matched and imported one phase at a time: a schema that fails to import is
+     * recorded in the import errors instead of only being logged
+     */
+    @Test
+    public void testPhaseFailureRecordedInImportErrors() throws Exception {
+
+        final EpSimulatorConfig config = new EpSimulatorConfig();
+        config.setFailRequestIf( (route, body) ->
+            "POST schemas".equals(route) && body.has("name") && "Schema1".equals(body.get("name").getAsString()) );
+
+        try (EpSimulator simulator = new EpSimulator(config).start()) {
+            final String domainId = simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+            final EventPortalClientApi client = newClient(simulator, domainId);
+            final DtoResultSet dtoResultSet = new AsyncApiV2ToDto(
+                new AsyncApiAccessor(AsyncApiAccessor.parseAsyncApi(generateSpec(CHANNELS, 1))), domainId, APP_DOMAIN_NAME
+            ).mapAsyncApiToDto();
+
+            final EpImportOperator importOperator = new EpImportOperator(dtoResultSet, client, null, 2);
+            try {
+                importOperator.matchEpSchemas();
+                importOperator.importSchemas();
+            } finally {
+                importOperator.shutdown();
+            }
+
+            assertEquals(Set.of("import schema Schema1"), importOperator.getImportErrors().keySet());
+            assertEquals(CHANNELS - 1, simulator.getStore().count(ObjectType.SCHEMAS));
+        }
+    }
+
+    /**
+     * Event Portal fails every schema lookup: once the retry budget is spent the lookups fail
+     * fast, and every schema is recorded in the import errors with the last error returned
+     */
+    @Test
+    public void testRetryExhaustionRecordedInImportErrors() throws Exception {
+
+        final EpSimulatorConfig config = new EpSimulatorConfig();
+        config.setFailRequestIf( (route, body) -> "GET schemas".equals(route) );
+
+        try (EpSimulator simulator = new EpSimulator(config).start()) {
+            final String domainId = simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+            final EventPortalClientApi client = newClient(simulator, domainId);
+            final EpRetryPolicy retryPolicy = new EpRetryPolicy(3, 1, 1, 2, 0.0);
+            client.setRetryPolicy(retryPolicy);
+            final DtoResultSet dtoResultSet = new AsyncApiV2ToDto(
+                new AsyncApiAccessor(AsyncApiAccessor.parseAsyncApi(generateSpec(CHANNELS, 1))), domainId, APP_DOMAIN_NAME
+            ).mapAsyncApiToDto();
+
+            final EpImportOperator importOperator = new EpImportOperator(dtoResultSet, client, null, 1);
+            try {
+                importOperator.matchEpSchemas();
+            } finally {
+                importOperator.shutdown();
+            }
+
+            final Map<String, Throwable> importErrors = importOperator.getImportErrors();
+            assertEquals(CHANNELS, importErrors.size());
+            for (int i = 0; i < CHANNELS; i++) {
+                assertTrue(importErrors.get("match schema Schema" + i) instanceof ApiException);
+            }
+            assertEquals(2L, retryPolicy.getRetryCount());
+            assertTrue(retryPolicy.getBudgetExhaustedCount() > 0);
+        }
+    }
+
+    /**
+     * An enum of the spec exists in another application domain: the enum and the events and
+     * application referencing it fail, and every other object is imported
+     */
+    @Test
+    public void testEnumInOtherDomainFailsReferencingEvents() throws Exception {
+
+        try (EpSimulator simulator = new EpSimulator().start()) {
+            simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+            final JsonObject otherDomainEnum = new JsonObject();
+            otherDomainEnum.addProperty("name", "enumParam0");
+            otherDomainEnum.addProperty("applicationDomainId", simulator.getStore().createApplicationDomain("Other Domain"));
+            simulator.getStore().create(ObjectType.ENUMS, otherDomainEnum);
+
+            // One parameter per topic: Event0 and Event2 use enumParam0, Event1 and Event3 use enumParam1
+            final AsyncApiImporter importer = newImporter(generateSpec(CHANNELS, 1), simulator, true);
+            try {
+                importer.execImportOperation();
+                fail("Expected the import to fail");
+            } catch (Exception exc) {
+                assertTrue(exc.getMessage().contains("enum enumParam0"), exc.getMessage());
+            }
+            assertEquals(
+                Set.of("enum enumParam0", "event Event0", "event Event2", "application " + SPEC_TITLE),
+                importer.getImportErrors().keySet());
+            assertTrue(importer.getImportErrors().get("enum enumParam0").getMessage().contains("outside of the target app domain"));
+
+            assertEquals(2, simulator.getStore().count(ObjectType.EVENTS));
+            assertEquals(CHANNELS, simulator.getStore().count(ObjectType.SCHEMAS));
+            // The enum in the other domain is not modified and no version is added to it
+            assertEquals(2, simulator.getStore().count(ObjectType.ENUMS));
+            assertEquals(1, simulator.getStore().count(ObjectType.ENUM_VERSIONS));
+        }
+    }
+
+    /**
+     * A released schema changes: the cascade update creates a new version of an event outside the
+     * spec that references the schema, and never reads events or applications unrelated to the change
+     */
+    @Test
+    public void testCascadeUpdateReadsOnlyReferencingObjects() throws Exception {
+
+        try (EpSimulator simulator = new EpSimulator().start()) {
+            final EpSimulatorStore store = simulator.getStore();
+            final String domainId = store.createApplicationDomain(APP_DOMAIN_NAME);
+            final String spec = generateSpec(CHANNELS, 1);
+            newImporter(spec, simulator, false, false).execImportOperation();
+            releaseAll(store, ObjectType.SCHEMA_VERSIONS);
+            releaseAll(store, ObjectType.ENUM_VERSIONS);
+            releaseAll(store, ObjectType.EVENT_VERSIONS);
+
+            // Event outside the spec referencing Schema0, the schema that will change
+            final String schema0VersionId = latestVersionId(store, ObjectType.SCHEMA_VERSIONS, "schemaId", objectId(store, ObjectType.SCHEMAS, "Schema0"));
+            final String referencingEventId = createEvent(store, domainId, "Referencing Event", schema0VersionId);
+
+            // Objects unrelated to the change: an event referencing Schema1, which does not change,
+            // and an application producing it
+            final String schema1VersionId = latestVersionId(store, ObjectType.SCHEMA_VERSIONS, "schemaId", objectId(store, ObjectType.SCHEMAS, "Schema1"));
+            final String unrelatedEventId = createEvent(store, domainId, "Unrelated Event", schema1VersionId);
+            final String unrelatedEventVersionId = latestVersionId(store, ObjectType.EVENT_VERSIONS, "eventId", unrelatedEventId);
+            final String unrelatedApplicationId = createApplication(store, domainId, "Unrelated Application", unrelatedEventVersionId);
+
+            simulator.resetStats();
+            final String changedSpec = spec.replace("\"title\": \"Schema0\",", "\"title\": \"Schema0\", \"description\": \"Changed\",");
+            final AsyncApiImporter importer = newImporter(changedSpec, simulator, false, true);
+            importer.execImportOperation();
+
+            // The referencing event has a new version referencing the new version of Schema0
+            final List<JsonObject> referencingVersions = store.query(ObjectType.EVENT_VERSIONS, Map.of("eventId", Set.of(referencingEventId)));
+            assertEquals(2, referencingVersions.size());
+            final String newSchema0VersionId = latestVersionId(store, ObjectType.SCHEMA_VERSIONS, "schemaId", objectId(store, ObjectType.SCHEMAS, "Schema0"));
+            assertFalse(schema0VersionId.equals(newSchema0VersionId));
+            assertEquals(newSchema0VersionId, referencingVersions.get(0).get("schemaVersionId").getAsString());
+
+            // Unrelated objects are neither read nor changed
+            assertFalse(simulator.getReadObjectIds(ObjectType.EVENTS).contains(unrelatedEventId));
+            assertFalse(simulator.getReadObjectIds(ObjectType.EVENT_VERSIONS).contains(unrelatedEventVersionId));
+            assertFalse(simulator.getReadObjectIds(ObjectType.APPLICATIONS).contains(unrelatedApplicationId));
+            assertTrue(simulator.getReadObjectIds(ObjectType.APPLICATION_VERSIONS).isEmpty());
+            assertEquals(1, store.query(ObjectType.EVENT_VERSIONS, Map.of("eventId", Set.of(unrelatedEventId))).size());
+        }
+    }
+
+    /**
+     * Events and applications cascade updated by separate calls: the application update
+     * follows the event versions replaced by the earlier event update
+     */
+    @Test
+    public void testCascadeUpdateApplicationsAfterEvents() throws Exception {
+
+        try (EpSimulator simulator = new EpSimulator().start()) {
+            final EpSimulatorStore store = simulator.getStore();
+            final String domainId = store.createApplicationDomain(APP_DOMAIN_NAME);
+            final String spec = generateSpec(CHANNELS, 1);
+            newImporter(spec, simulator, false, false).execImportOperation();
+            releaseAll(store, ObjectType.SCHEMA_VERSIONS);
+            releaseAll(store, ObjectType.ENUM_VERSIONS);
+            releaseAll(store, ObjectType.EVENT_VERSIONS);
+
+            // Event outside the spec referencing Schema0 and an application producing it
+            final String schema0VersionId = latestVersionId(store, ObjectType.SCHEMA_VERSIONS, "schemaId", objectId(store, ObjectType.SCHEMAS, "Schema0"));
+            final String referencingEventId = createEvent(store, domainId, "Referencing Event", schema0VersionId);
+            final String referencingEventVersionId = latestVersionId(store, ObjectType.EVENT_VERSIONS, "eventId", referencingEventId);
+            final String applicationId = createApplication(store, domainId, "Referencing Application", referencingEventVersionId);
+
+            final String changedSpec = spec.replace("\"title\": \"Schema0\",", "\"title\": \"Schema0\", \"description\": \"Changed\",");
+            final EventPortalClientApi client = newClient(simulator, domainId);
+            final DtoResultSet dtoResultSet = new AsyncApiV2ToDto(
+                new AsyncApiAccessor(AsyncApiAccessor.parseAsyncApi(changedSpec)), domainId, APP_DOMAIN_NAME
+            ).mapAsyncApiToDto();
+            final EpImportOperator importOperator = new EpImportOperator(dtoResultSet, client, null, 2);
+            try {
+                importOperator.importByDependencyGraph(false, false);
+                importOperator.cascadeUpdateEvents();
+                importOperator.cascadeUpdateApplications();
+            } finally {
+                importOperator.shutdown();
+            }
+            assertTrue(importOperator.getImportErrors().isEmpty());
+
+            // The referencing event has a new version, and the application a new version producing it
+            final String newReferencingEventVersionId = latestVersionId(store, ObjectType.EVENT_VERSIONS, "eventId", referencingEventId);
+            assertFalse(referencingEventVersionId.equals(newReferencingEventVersionId));
+            final List<JsonObject> applicationVersions = store.query(ObjectType.APPLICATION_VERSIONS, Map.of("applicationId", Set.of(applicationId)));
+            assertEquals(2, applicationVersions.size());
+            final JsonArray produced = applicationVersions.get(0).getAsJsonArray("declaredProducedEventVersionIds");
+            assertEquals(1, produced.size());
+            assertEquals(newReferencingEventVersionId, produced.get(0).getAsString());
+        }
+    }
+
+    /**
+     * A Draft version held in the domain cache file is released in Event Portal, which does not
+     * change the updatedTime of its parent: the next import must create a new version instead of
+     * updating the released one
+     */
+    @Test
+    public void testDraftReleasedSinceCacheWrittenGetsNewVersion() throws Exception {
+
+        final Path cacheFile = Files.createTempDirectory("importer-sim-test").resolve("domain.json.gz");
+        try (EpSimulator simulator = new EpSimulator().start()) {
+            final EpSimulatorStore store = simulator.getStore();
+            store.createApplicationDomain(APP_DOMAIN_NAME);
+            final String spec = generateSpec(CHANNELS, 1);
+            final AsyncApiImporter firstImport = newImporter(spec, simulator, false);
+            firstImport.setDomainCacheFile(cacheFile.toString());
+            firstImport.execImportOperation();
+
+            final String schemaId = objectId(store, ObjectType.SCHEMAS, "Schema0");
+            final String draftSchemaVersionId = latestVersionId(store, ObjectType.SCHEMA_VERSIONS, "schemaId", schemaId);
+            final JsonObject released = store.changeVersionState(ObjectType.SCHEMA_VERSIONS, draftSchemaVersionId, "2");
+
+            final String changedSpec = spec.replace("\"title\": \"Schema0\",", "\"title\": \"Schema0\", \"description\": \"Changed\",");
+            final AsyncApiImporter secondImport = newImporter(changedSpec, simulator, false);
+            secondImport.setDomainCacheFile(cacheFile.toString());
+            secondImport.execImportOperation();
+
+            // The released version is unchanged and a new version holds the changed content
+            assertEquals(released.get("content"), store.get(ObjectType.SCHEMA_VERSIONS, draftSchemaVersionId).get("content"));
+            assertEquals(2, store.query(ObjectType.SCHEMA_VERSIONS, Map.of("schemaId", Set.of(schemaId))).size());
+            assertTrue(latestVersionContent(store, schemaId).contains("Changed"));
+        } finally {
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+
+    /**
+     * A version is created in Event Portal after the cache file was written and the updatedTime of
+     * its parent does not change: the latest version check finds it and the versions are read again
+     */
+    @Test
+    public void testVersionCreatedSinceCacheWrittenIsLoaded() throws Exception {
+
+        final Path cacheFile = Files.createTempDirectory("importer-sim-test").resolve("domain.json.gz");
+        try (EpSimulator simulator = new EpSimulator().start()) {
+            final EpSimulatorStore store = simulator.getStore();
+            final String domainId = store.createApplicationDomain(APP_DOMAIN_NAME);
+            final AsyncApiImporter firstImport = newImporter(generateSpec(CHANNELS, 1), simulator, false);
+            firstImport.setDomainCacheFile(cacheFile.toString());
+            firstImport.execImportOperation();
+            releaseAll(store, ObjectType.SCHEMA_VERSIONS);
+            final EpDomainSnapshotCache cache = new EpDomainSnapshotCache(cacheFile);
+            newClient(simulator, domainId).loadDomainSnapshot(cache, false);
+
+            final String schemaId = objectId(store, ObjectType.SCHEMAS, "Schema0");
+            final String schemaUpdatedTime = store.get(ObjectType.SCHEMAS, schemaId).get("updatedTime").getAsString();
+            final JsonObject newVersion = new JsonObject();
+            newVersion.addProperty("schemaId", schemaId);
+            newVersion.addProperty("version", "2.0.0");
+            newVersion.addProperty("stateId", "2");
+            newVersion.addProperty("content", "{\"type\":\"object\",\"description\":\"Created elsewhere\"}");
+            final String newVersionId = store.create(ObjectType.SCHEMA_VERSIONS, newVersion).get("id").getAsString();
+            store.setUpdatedTime(ObjectType.SCHEMAS, schemaId, schemaUpdatedTime);
+
+            simulator.resetStats();
+            final EpDomainSnapshot snapshot = newClient(simulator, domainId).loadDomainSnapshot(cache, false);
+
+            assertEquals(2, snapshot.getSchemaVersions(schemaId).size());
+            assertEquals(newVersionId, snapshot.getSchemaVersions(schemaId).get(0).getId());
+            // Other schemas keep their cached versions
+            assertEquals(1, snapshot.getSchemaVersions(objectId(store, ObjectType.SCHEMAS, "Schema1")).size());
+        } finally {
+            Files.deleteIfExists(cacheFile);
+        }
+    }
+
+    /**
+     * @param channels - number of channels, each with one event and its own schema
+     * @param parametersPerChannel - enum parameters in each topic, taken in turn from two enums
+     */
+    static String generateSpec(final int channels, final int parametersPerChannel) throws Exception {
+        final AsyncApiSpecGenerator generator = new AsyncApiSpecGenerator();
+        generator.setTitle(SPEC_TITLE);
+        generator.setChannels(channels);
+        generator.setSchemas(channels);
+        generator.setEnums(2);
+        generator.setParametersPerChannel(parametersPerChannel);
+        return generator.generate();
+    }
+
+    private static EventPortalClientApi newClient(final EpSimulator simulator, final String domainId) throws Exception {
+        return new EventPortalClientApi(BEARER_TOKEN, EpNewVersionStrategy.MAJOR, simulator.getBaseUrl(), domainId);
+    }
+
+    static AsyncApiImporter newImporter(
+        final String spec,
+        final EpSimulator simulator,
+        final boolean importApplication
+    ) throws Exception
+    {
+        return newImporter(spec, simulator, importApplication, false);
+    }
+
+    static AsyncApiImporter newImporter(
+        final String spec,
+        final EpSimulator simulator,
+        final boolean importApplication,
+        final boolean cascadeUpdate
+    ) throws Exception
+    {
+        return new AsyncApiImporter(
+            null, APP_DOMAIN_NAME, BEARER_TOKEN, spec, simulator.getBaseUrl(), "MAJOR",
+            cascadeUpdate, importApplication, false
+        );
+    }
+
+    /**
+     * Every object of generateSpec(CHANNELS, n) and its application exists once, with one version
+     */
+    private static void assertFullyImported(final EpSimulatorStore store) {
+        assertEquals(CHANNELS, store.count(ObjectType.SCHEMAS));
+        assertEquals(CHANNELS, store.count(ObjectType.SCHEMA_VERSIONS));
+        assertEquals(2, store.count(ObjectType.ENUMS));
+        assertEquals(2, store.count(ObjectType.ENUM_VERSIONS));
+        assertEquals(CHANNELS, store.count(ObjectType.EVENTS));
+        assertEquals(CHANNELS, store.count(ObjectType.EVENT_VERSIONS));
+        assertEquals(1, store.count(ObjectType.APPLICATIONS));
+        assertEquals(1, store.count(ObjectType.APPLICATION_VERSIONS));
+        assertEquals(SPEC_TITLE, store.query(ObjectType.APPLICATIONS, Map.of()).get(0).get("name").getAsString());
+        final JsonObject applicationVersion = store.query(ObjectType.APPLICATION_VERSIONS, Map.of()).get(0);
+        assertEquals(CHANNELS, sizeOf(applicationVersion, "declaredProducedEventVersionIds") + sizeOf(applicationVersion, "declaredConsumedEventVersionIds"));
+    }
+
+    private static int sizeOf(final JsonObject object, final String arrayField) {
+        final JsonArray array = object.getAsJsonArray(arrayField);
+        return array == null ? 0 : array.size();
+    }
+
+    /**
+     * Set every version in the collection to Released
+     */
+    private static void releaseAll(final EpSimulatorStore store, final ObjectType versionType) {
+        final JsonObject released = new JsonObject();
+        released.addProperty("stateId", "2");
+        for (JsonObject version : store.query(versionType, Map.of())) {
+            store.update(versionType, version.get("id").getAsString(), released);
+        }
+    }
+
+    private static String objectId(final EpSimulatorStore store, final ObjectType objectType, final String name) {
+        return store.query(objectType, Map.of("name", Set.of(name))).get(0).get("id").getAsString();
+    }
+
+    private static String latestVersionContent(final EpSimulatorStore store, final String schemaId) {
+        return store.query(ObjectType.SCHEMA_VERSIONS, Map.of("schemaId", Set.of(schemaId))).get(0).get("content").getAsString();
+    }
+
+    private static String latestVersionId(final EpSimulatorStore store, final ObjectType versionType, final String parentIdField, final String parentId) {
+        // Versions are returned newest first
+        return store.query(versionType, Map.of(parentIdField, Set.of(parentId))).get(0).get("id").getAsString();
+    }
+
+    /**
+     * Create a solace event with one released version referencing a schema version
+     * @return Event ID
+     */
+    private static String createEvent(final EpSimulatorStore store, final String domainId, final String name, final String schemaVersionId) {
+        final JsonObject event = new JsonObject();
+        event.addProperty("name", name);
+        event.addProperty("applicationDomainId", domainId);
+        event.addProperty("brokerType", "solace");
+        final String eventId = store.create(ObjectType.EVENTS, event).get("id").getAsString();
+
+        final JsonObject eventVersion = new JsonObject();
+        eventVersion.addProperty("eventId", eventId);
+        eventVersion.addProperty("version", "1.0.0");
+        eventVersion.addProperty("stateId", "2");
+        eventVersion.addProperty("schemaVersionId", schemaVersionId);
+        store.create(ObjectType.EVENT_VERSIONS, eventVersion);
+        return eventId;
+    }
+
+    /**
+     * Create an application with one released version producing an event version
+     * @return Application ID
+     */
+    private static String createApplication(final EpSimulatorStore store, final String domainId, final String name, final String eventVersionId) {
+        final JsonObject application = new JsonObject();
+        application.addProperty("name", name);
+        application.addProperty("applicationDomainId", domainId);
+        application.addProperty("brokerType", "solace");
+        final String applicationId = store.create(ObjectType.APPLICATIONS, application).get("id").getAsString();
+
+        final JsonObject applicationVersion = new JsonObject();
+        applicationVersion.addProperty("applicationId", applicationId);
+        applicationVersion.addProperty("version", "1.0.0");
+        applicationVersion.addProperty("stateId", "2");
+        final JsonArray produced = new JsonArray();
+        produced.add(eventVersionId);
+        applicationVersion.add("declaredProducedEventVersionIds", produced);
+        store.create(ObjectType.APPLICATION_VERSIONS, applicationVersion);
+        return applicationId;
+    }
+}
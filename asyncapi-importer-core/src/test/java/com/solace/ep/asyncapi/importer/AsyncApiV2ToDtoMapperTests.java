@@ -17,6 +17,8 @@
 
 package com.solace.ep.asyncapi.importer;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -29,7 +31,12 @@ import org.junit.jupiter.api.Test;
 
 import com.solace.ep.asyncapi.importer.mapper.AsyncApiV2ToDto;
 import com.solace.ep.asyncapi.accessor.v2.AsyncApiAccessor;
+import com.solace.ep.asyncapi.accessor.v2.AsyncApiChannel;
 import com.solace.ep.asyncapi.importer.model.dto.DtoResultSet;
+import com.solace.ep.asyncapi.importer.model.dto.EventDto;
+import com.solace.ep.asyncapi.importer.model.dto.SchemaDto;
+import com.solace.ep.asyncapi.importer.model.dto.SchemaVersionDto;
+import com.solace.ep.asyncapi.importer.util.EventPortalModelUtils;
 
 /**
  * Test
@@ -74,6 +81,188 @@ public class AsyncApiV2ToDtoMapperTests {
         }
     }
 
+    @Test
+    public void testSchemaContentHash() {
+
+        try {
+            AsyncApiAccessor asyncApiAccessor = new AsyncApiAccessor( AsyncApiAccessor.parseAsyncApi(getAsyncApiFile(ASYNCAPI_SHIPPING_SVC_0_1_0)) );
+            AsyncApiV2ToDto mapper = new AsyncApiV2ToDto(asyncApiAccessor, "fictionalId", "FictionalDomain" );
+            DtoResultSet resultSet = mapper.mapAsyncApiToDto();
+
+            assertTrue(resultSet.getMapSchemas().size() > 0);
+            for (SchemaDto schemaDto : resultSet.getMapSchemas().values()) {
+                for (SchemaVersionDto schemaVersionDto : schemaDto.getSchemaVersions()) {
+                    // Pretty-printed content as stored in Event Portal must hash to the same value
+                    final String epContent = EventPortalModelUtils.reserializeJsonAsPretty(schemaVersionDto.getContent());
+                    assertEquals(schemaVersionDto.getContentHash(), EventPortalModelUtils.computeSchemaContentHash(epContent));
+                }
+            }
+        } catch (Exception exc) {
+            fail(exc.getLocalizedMessage());
+        }
+    }
+
+    @Test
+    public void testMapMessageWithoutPayload() {
+
+        final String spec = specWithMessage("{ \"name\": \"OrderCreated\" }");
+
+        try {
+            AsyncApiAccessor asyncApiAccessor = new AsyncApiAccessor( AsyncApiAccessor.parseAsyncApi(spec) );
+            AsyncApiV2ToDto mapper = new AsyncApiV2ToDto(asyncApiAccessor, "fictionalId", "FictionalDomain" );
+            DtoResultSet resultSet = mapper.mapAsyncApiToDto();
+
+            assertEquals(1, resultSet.getMapEvents().size());
+            for (SchemaDto schemaDto : resultSet.getMapSchemas().values()) {
+                for (SchemaVersionDto schemaVersionDto : schemaDto.getSchemaVersions()) {
+                    assertNull(schemaVersionDto.getContent());
+                    assertNull(schemaVersionDto.getContentHash());
+                }
+            }
+        } catch (Exception exc) {
+            fail(exc.getLocalizedMessage());
+        }
+    }
+
+    @Test
+    public void testMapNonJsonPayload() {
+
+        final String xsd = "<xs:schema xmlns:xs=\\\"http://www.w3.org/2001/XMLSchema\\\"><xs:element name=\\\"order\\\"/></xs:schema>";
+        final String spec = specWithMessage(
+            "{ \"name\": \"OrderCreated\", \"contentType\": \"application/xml\", " +
+            "\"schemaFormat\": \"application/xml\", \"payload\": \"" + xsd + "\" }");
+
+        try {
+            AsyncApiAccessor asyncApiAccessor = new AsyncApiAccessor( AsyncApiAccessor.parseAsyncApi(spec) );
+            AsyncApiV2ToDto mapper = new AsyncApiV2ToDto(asyncApiAccessor, "fictionalId", "FictionalDomain" );
+            DtoResultSet resultSet = mapper.mapAsyncApiToDto();
+
+            assertEquals(1, resultSet.getMapEvents().size());
+            assertEquals(1, resultSet.getMapSchemas().size());
+            for (SchemaDto schemaDto : resultSet.getMapSchemas().values()) {
+                assertEquals(1, schemaDto.getSchemaVersions().size());
+                SchemaVersionDto schemaVersionDto = schemaDto.getSchemaVersions().get(0);
+                assertTrue(schemaVersionDto.getContent().startsWith("<xs:schema"));
+                // Not JSON: no content hash, matched in Event Portal by content comparison
+                assertNull(schemaVersionDto.getContentHash());
+            }
+        } catch (Exception exc) {
+            fail(exc.getLocalizedMessage());
+        }
+    }
+
+    @Test
+    public void testMapOneOfChannelMessages() {
+
+        final String spec = "{ \"asyncapi\": \"2.5.0\", \"info\": { \"title\": \"Orders\", \"version\": \"1.0.0\" }, " +
+            "\"channels\": { \"acme/orders/{orderId}\": { " +
+                "\"parameters\": { \"orderId\": { \"schema\": { \"type\": \"string\" } } }, " +
+                "\"publish\": { \"message\": { \"oneOf\": [ " +
+                    "{ \"$ref\": \"#/components/messages/OrderCreated\" }, " +
+                    "{ \"$ref\": \"#/components/messages/OrderCancelled\" } ] } } } }, " +
+            "\"components\": { " +
+                "\"messages\": { " +
+                    "\"OrderCreated\": { \"payload\": { \"$ref\": \"#/components/schemas/OrderCreated\" } }, " +
+                    "\"OrderCancelled\": { \"payload\": { \"$ref\": \"#/components/schemas/OrderCancelled\" } } }, " +
+                "\"schemas\": { " +
+                    "\"OrderCreated\": { \"type\": \"object\", \"properties\": { \"total\": { \"type\": \"number\" } } }, " +
+                    "\"OrderCancelled\": { \"type\": \"object\", \"properties\": { \"reason\": { \"type\": \"string\" } } } } } }";
+
+        try {
+            AsyncApiAccessor asyncApiAccessor = new AsyncApiAccessor( AsyncApiAccessor.parseAsyncApi(spec) );
+            AsyncApiChannel channel = new AsyncApiChannel(asyncApiAccessor.getChannels().get("acme/orders/{orderId}").getAsJsonObject(), asyncApiAccessor);
+            assertEquals(2, channel.getPublishOpMessages().size());
+
+            AsyncApiV2ToDto mapper = new AsyncApiV2ToDto(asyncApiAccessor, "fictionalId", "FictionalDomain" );
+            DtoResultSet resultSet = mapper.mapAsyncApiToDto();
+
+            // One event and schema per message of the oneOf, all on the same topic
+            assertEquals(2, resultSet.getMapEvents().size());
+            assertTrue(resultSet.getMapEvents().containsKey("OrderCreated"));
+            assertTrue(resultSet.getMapEvents().containsKey("OrderCancelled"));
+            assertEquals(2, resultSet.getMapSchemas().size());
+            for (EventDto eventDto : resultSet.getMapEvents().values()) {
+                assertEquals(1, eventDto.getEventVersions().size());
+                assertEquals("acme/orders/{orderId}", eventDto.getEventVersions().get(0).getTopicAddressPattern());
+            }
+        } catch (Exception exc) {
+            fail(exc.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Inline messages of a oneOf are mapped by their name; up to 1.1.1 the channel mapped to a
+     * single DefaultMessageName event
+     */
+    @Test
+    public void testMapOneOfInlineMessages() {
+
+        final String spec = "{ \"asyncapi\": \"2.5.0\", \"info\": { \"title\": \"Orders\", \"version\": \"1.0.0\" }, " +
+            "\"channels\": { \"acme/orders\": { " +
+                "\"subscribe\": { \"message\": { \"oneOf\": [ " +
+                    "{ \"name\": \"OrderShipped\", \"payload\": { \"type\": \"object\", \"properties\": { \"carrier\": { \"type\": \"string\" } } } }, " +
+                    "{ \"$ref\": \"#/components/messages/OrderCreated\" } ] } } } }, " +
+            "\"components\": { " +
+                "\"messages\": { " +
+                    "\"OrderCreated\": { \"payload\": { \"$ref\": \"#/components/schemas/OrderCreated\" } } }, " +
+                "\"schemas\": { " +
+                    "\"OrderCreated\": { \"type\": \"object\", \"properties\": { \"total\": { \"type\": \"number\" } } } } } }";
+
+        try {
+            AsyncApiAccessor asyncApiAccessor = new AsyncApiAccessor( AsyncApiAccessor.parseAsyncApi(spec) );
+            AsyncApiChannel channel = new AsyncApiChannel(asyncApiAccessor.getChannels().get("acme/orders").getAsJsonObject(), asyncApiAccessor);
+            assertEquals(2, channel.getSubscribeOpMessages().size());
+            assertEquals("OrderShipped", channel.getSubscribeOpMessages().get(0).getMessageName());
+
+            DtoResultSet resultSet = new AsyncApiV2ToDto(asyncApiAccessor, "fictionalId", "FictionalDomain" ).mapAsyncApiToDto();
+
+            assertEquals(2, resultSet.getMapEvents().size());
+            assertTrue(resultSet.getMapEvents().containsKey("OrderShipped"));
+            assertTrue(resultSet.getMapEvents().containsKey("OrderCreated"));
+            assertEquals(false, resultSet.getMapEvents().containsKey("DefaultMessageName"));
+        } catch (Exception exc) {
+            fail(exc.getLocalizedMessage());
+        }
+    }
+
+    @Test
+    public void testParallelMappingMatchesSerial() {
+
+        final String[] specFiles = {
+            ASYNCAPI_SHIPPING_SVC_0_1_0,
+            "src/test/resources/asyncapi/FlightSvc-0.2.1.yaml",
+            "src/test/resources/asyncapi/gen-by-ep/FlightSvc-1.0.0.yaml",
+            "src/test/resources/asyncapi/test-importer/OnlineStore-02.yaml",
+            "src/test/resources/asyncapi/asapio/sales-order.json"
+        };
+
+        try {
+            for (String specFile : specFiles) {
+                final String spec = getAsyncApiFile(specFile);
+
+                AsyncApiV2ToDto serialMapper = new AsyncApiV2ToDto(new AsyncApiAccessor( AsyncApiAccessor.parseAsyncApi(spec) ), "fictionalId", "FictionalDomain" );
+                DtoResultSet serialResultSet = serialMapper.mapAsyncApiToDto();
+
+                AsyncApiV2ToDto parallelMapper = new AsyncApiV2ToDto(new AsyncApiAccessor( AsyncApiAccessor.parseAsyncApi(spec) ), "fictionalId", "FictionalDomain" );
+                parallelMapper.setMappingParallelism(4);
+                DtoResultSet parallelResultSet = parallelMapper.mapAsyncApiToDto();
+
+                assertTrue(serialResultSet.getMapEvents().size() > 0, specFile);
+                assertEquals(serialResultSet, parallelResultSet, specFile);
+            }
+        } catch (Exception exc) {
+            fail(exc.getLocalizedMessage());
+        }
+    }
+
+    /**
+     * Minimal AsyncAPI 2 spec with one channel publishing the given message
+     */
+    private static String specWithMessage(final String messageJson) {
+        return "{ \"asyncapi\": \"2.5.0\", \"info\": { \"title\": \"Orders\", \"version\": \"1.0.0\" }, " +
+            "\"channels\": { \"acme/orders/created\": { \"publish\": { \"message\": " + messageJson + " } } } }";
+    }
+
     public static String getAsyncApiFile(final String fileName) {
 
         Path path = Paths.get( fileName );  // Path to your file
@@ -0,0 +1,160 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test
+ */
+public class EpConcurrencyLimiterTests {
+
+    private static final long LATENCY_NANOS = TimeUnit.MILLISECONDS.toNanos(20);
+
+    @Test
+    public void testThrottleHalvesLimitAndCallsInFlight() throws Exception {
+
+        final EpConcurrencyLimiter limiter = new EpConcurrencyLimiter(8, 1, 64, 1.5);
+        final EpCallPermits permits = EpCallPermits.forLimiter(limiter);
+        assertEquals(8, permits.getPermits());
+
+        // 8 calls in flight when Event Portal responds with 429
+        for (int i = 0; i < 8; i++) {
+            permits.acquire();
+        }
+        limiter.recordResponse(LATENCY_NANOS, 429);
+        assertEquals(4, limiter.getLimit());
+        assertEquals(4, permits.getPermits());
+        assertEquals(-4, permits.getAvailablePermits());
+
+        // Calls in flight complete normally; afterwards at most 4 run at once
+        for (int i = 0; i < 8; i++) {
+            permits.release();
+        }
+        assertEquals(4, permits.getAvailablePermits());
+        assertTrue(peakConcurrency(permits, 16) <= 4);
+
+        // A second 429 within the cooldown window does not halve the limit again
+        limiter.recordResponse(LATENCY_NANOS, 429);
+        assertEquals(4, limiter.getLimit());
+        assertEquals(1, limiter.getAdjustmentHistory().size());
+    }
+
+    @Test
+    public void testFlatLatencyIncreasesLimit() {
+
+        final EpConcurrencyLimiter limiter = new EpConcurrencyLimiter(4, 1, 64, 1.5);
+        final EpCallPermits permits = EpCallPermits.forLimiter(limiter);
+
+        // One full window of responses at the same latency
+        for (int i = 0; i < 4; i++) {
+            limiter.recordResponse(LATENCY_NANOS, 200);
+        }
+        assertEquals(5, limiter.getLimit());
+        assertEquals(5, permits.getPermits());
+    }
+
+    @Test
+    public void testDetachedPermitsNoLongerFollowLimit() {
+
+        final EpConcurrencyLimiter limiter = new EpConcurrencyLimiter(8, 1, 64, 1.5);
+        final EpCallPermits permits = EpCallPermits.forLimiter(limiter);
+        assertTrue(permits.isFollowingLimiter());
+
+        permits.detach();
+        assertFalse(permits.isFollowingLimiter());
+        limiter.recordResponse(LATENCY_NANOS, 503);
+        assertEquals(4, limiter.getLimit());
+        assertEquals(8, permits.getPermits());
+    }
+
+    /**
+     * Adjustments made concurrently on many threads leave the permits at the final limit
+     */
+    @Test
+    public void testConcurrentAdjustmentsEndAtFinalLimit() throws Exception {
+
+        final EpConcurrencyLimiter limiter = new EpConcurrencyLimiter(32, 1, 64, 1.5);
+        final EpCallPermits permits = EpCallPermits.forLimiter(limiter);
+        final ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                final int thread = t;
+                futures.add(executor.submit(() -> {
+                    for (int i = 0; i < 2000; i++) {
+                        limiter.recordResponse(LATENCY_NANOS, (i + thread) % 97 == 0 ? 429 : 200);
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(10, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        assertTrue(limiter.getAdjustmentHistory().size() > 1);
+        assertEquals(limiter.getLimit(), permits.getPermits());
+    }
+
+    /**
+     * Run calls on more threads than permits
+     * @return Highest number of calls holding a permit at the same time
+     */
+    private static int peakConcurrency(final EpCallPermits permits, final int calls) throws Exception {
+
+        final AtomicInteger inFlight = new AtomicInteger();
+        final AtomicInteger peak = new AtomicInteger();
+        final ExecutorService executor = Executors.newFixedThreadPool(calls);
+        try {
+            final List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < calls; i++) {
+                futures.add(executor.submit(() -> {
+                    permits.acquire();
+                    try {
+                        peak.accumulateAndGet(inFlight.incrementAndGet(), Math::max);
+                        TimeUnit.MILLISECONDS.sleep(10);
+                        inFlight.decrementAndGet();
+                    } finally {
+                        permits.release();
+                    }
+                    return null;
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        return peak.get();
+    }
+}
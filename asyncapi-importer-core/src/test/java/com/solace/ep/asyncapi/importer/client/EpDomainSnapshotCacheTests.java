@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+
+import org.junit.jupiter.api.Test;
+
+import com.solace.cloud.ep.designer.model.Address;
+import com.solace.cloud.ep.designer.model.AddressLevel;
+import com.solace.cloud.ep.designer.model.Application;
+import com.solace.cloud.ep.designer.model.ApplicationVersion;
+import com.solace.cloud.ep.designer.model.DeliveryDescriptor;
+import com.solace.cloud.ep.designer.model.Event;
+import com.solace.cloud.ep.designer.model.EventApi;
+import com.solace.cloud.ep.designer.model.EventApiVersion;
+import com.solace.cloud.ep.designer.model.EventVersion;
+import com.solace.cloud.ep.designer.model.SchemaObject;
+import com.solace.cloud.ep.designer.model.SchemaVersion;
+import com.solace.cloud.ep.designer.model.TopicAddressEnum;
+import com.solace.cloud.ep.designer.model.TopicAddressEnumValue;
+import com.solace.cloud.ep.designer.model.TopicAddressEnumVersion;
+
+/**
+ * Test
+ */
+public class EpDomainSnapshotCacheTests {
+
+    private static final String BASE_URL = "https://api.solace.cloud";
+
+    private static final String APP_DOMAIN_ID = "domain1";
+
+    private static final String UPDATED_TIME = "2024-05-01T10:15:30.123Z";
+
+    /**
+     * SDK models are serialized with plain Gson; every field the importer reads from a cached
+     * snapshot must survive a write and read of the cache file
+     */
+    @Test
+    public void testSdkModelsRoundTrip() throws Exception {
+
+        final Path cacheFile = Files.createTempDirectory("ep-cache-test").resolve("domain.json.gz");
+        final EpDomainSnapshotCache cache = new EpDomainSnapshotCache(cacheFile);
+        try {
+            cache.write(BASE_URL, newSnapshot(), Map.of("sv1:" + UPDATED_TIME, "hash1"));
+
+            final EpDomainSnapshotCache.CachedDomain cached = cache.read(BASE_URL, APP_DOMAIN_ID);
+            assertNotNull(cached);
+            assertEquals(Map.of("sv1:" + UPDATED_TIME, "hash1"), cached.getSchemaContentHashes());
+            final EpDomainSnapshot snapshot = cached.getSnapshot();
+
+            final SchemaObject schema = snapshot.getSchemaByName("Schema1");
+            assertEquals("s1", schema.getId());
+            assertEquals("jsonSchema", schema.getSchemaType());
+            assertEquals(UPDATED_TIME, schema.getUpdatedTime());
+            final SchemaVersion schemaVersion = snapshot.getSchemaVersions("s1").get(0);
+            assertEquals("sv1", schemaVersion.getId());
+            assertEquals("1.0.0", schemaVersion.getVersion());
+            assertEquals("1", schemaVersion.getStateId());
+            assertEquals("{\"type\":\"object\"}", schemaVersion.getContent());
+            assertEquals(UPDATED_TIME, schemaVersion.getUpdatedTime());
+
+            final TopicAddressEnumVersion enumVersion = snapshot.getEnumVersions("en1").get(0);
+            assertEquals("Enum1", snapshot.getEnumById("en1").getName());
+            assertEquals("2", enumVersion.getStateId());
+            assertEquals(2, enumVersion.getValues().size());
+            assertEquals("B", enumVersion.getValues().get(1).getValue());
+
+            final EventVersion eventVersion = snapshot.getEventVersions("e1").get(0);
+            assertEquals("solace", snapshot.getEventByName("Event1").getBrokerType());
+            assertEquals("sv1", eventVersion.getSchemaVersionId());
+            final List<AddressLevel> levels = eventVersion.getDeliveryDescriptor().getAddress().getAddressLevels();
+            assertEquals(2, levels.size());
+            assertEquals(AddressLevel.AddressLevelTypeEnum.LITERAL, levels.get(0).getAddressLevelType());
+            assertEquals(AddressLevel.AddressLevelTypeEnum.VARIABLE, levels.get(1).getAddressLevelType());
+            assertEquals("env1", levels.get(1).getEnumVersionId());
+
+            final ApplicationVersion applicationVersion = snapshot.getApplicationVersions("a1").get(0);
+            assertEquals("App1", snapshot.getApplicationById("a1").getName());
+            assertEquals(List.of("ev1"), applicationVersion.getDeclaredProducedEventVersionIds());
+            assertEquals(List.of(), applicationVersion.getDeclaredConsumedEventVersionIds());
+
+            final EventApiVersion eventApiVersion = snapshot.getEventApiVersions("ea1").get(0);
+            assertEquals("Api1", snapshot.getEventApiById("ea1").getName());
+            assertEquals(List.of("ev1"), eventApiVersion.getConsumedEventVersionIds());
+        } finally {
+            cache.invalidate();
+        }
+    }
+
+    @Test
+    public void testCacheForOtherDomainIgnored() throws Exception {
+
+        final Path cacheFile = Files.createTempDirectory("ep-cache-test").resolve("domain.json.gz");
+        final EpDomainSnapshotCache cache = new EpDomainSnapshotCache(cacheFile);
+        try {
+            cache.write(BASE_URL, newSnapshot(), Map.of());
+            assertNull(cache.read(BASE_URL, "domain2"));
+            assertNull(cache.read("https://api.solacecloud.eu", APP_DOMAIN_ID));
+            assertNotNull(cache.read(BASE_URL, APP_DOMAIN_ID));
+        } finally {
+            cache.invalidate();
+        }
+    }
+
+    private static EpDomainSnapshot newSnapshot() {
+
+        final EpDomainSnapshot snapshot = new EpDomainSnapshot(APP_DOMAIN_ID);
+
+        final SchemaObject schema = new SchemaObject();
+        schema.setId("s1");
+        schema.setName("Schema1");
+        schema.setApplicationDomainId(APP_DOMAIN_ID);
+        schema.setSchemaType("jsonSchema");
+        schema.setUpdatedTime(UPDATED_TIME);
+        snapshot.putSchema(schema);
+        final SchemaVersion schemaVersion = new SchemaVersion();
+        schemaVersion.setId("sv1");
+        schemaVersion.setSchemaId("s1");
+        schemaVersion.setVersion("1.0.0");
+        schemaVersion.setStateId("1");
+        schemaVersion.setContent("{\"type\":\"object\"}");
+        schemaVersion.setUpdatedTime(UPDATED_TIME);
+        snapshot.addLoadedSchemaVersion(schemaVersion);
+
+        final TopicAddressEnum topicAddressEnum = new TopicAddressEnum();
+        topicAddressEnum.setId("en1");
+        topicAddressEnum.setName("Enum1");
+        topicAddressEnum.setApplicationDomainId(APP_DOMAIN_ID);
+        snapshot.putEnum(topicAddressEnum);
+        final TopicAddressEnumVersion enumVersion = new TopicAddressEnumVersion();
+        enumVersion.setId("env1");
+        enumVersion.setEnumId("en1");
+        enumVersion.setVersion("1.0.0");
+        enumVersion.setStateId("2");
+        enumVersion.setValues(List.of(enumValue("A"), enumValue("B")));
+        snapshot.addLoadedEnumVersion(enumVersion);
+
+        final Event event = new Event();
+        event.setId("e1");
+        event.setName("Event1");
+        event.setApplicationDomainId(APP_DOMAIN_ID);
+        event.setBrokerType("solace");
+        snapshot.putEvent(event);
+        final AddressLevel literal = new AddressLevel();
+        literal.setName("orders");
+        literal.setAddressLevelType(AddressLevel.AddressLevelTypeEnum.LITERAL);
+        final AddressLevel variable = new AddressLevel();
+        variable.setName("Enum1");
+        variable.setAddressLevelType(AddressLevel.AddressLevelTypeEnum.VARIABLE);
+        variable.setEnumVersionId("env1");
+        final Address address = new Address();
+        address.setAddressType(Address.AddressTypeEnum.TOPIC);
+        address.setAddressLevels(List.of(literal, variable));
+        final DeliveryDescriptor deliveryDescriptor = new DeliveryDescriptor();
+        deliveryDescriptor.setBrokerType("solace");
+        deliveryDescriptor.setAddress(address);
+        final EventVersion eventVersion = new EventVersion();
+        eventVersion.setId("ev1");
+        eventVersion.setEventId("e1");
+        eventVersion.setVersion("1.0.0");
+        eventVersion.setStateId("1");
+        eventVersion.setSchemaVersionId("sv1");
+        eventVersion.setDeliveryDescriptor(deliveryDescriptor);
+        snapshot.addLoadedEventVersion(eventVersion);
+
+        final Application application = new Application();
+        application.setId("a1");
+        application.setName("App1");
+        application.setApplicationDomainId(APP_DOMAIN_ID);
+        snapshot.putApplication(application);
+        final ApplicationVersion applicationVersion = new ApplicationVersion();
+        applicationVersion.setId("av1");
+        applicationVersion.setApplicationId("a1");
+        applicationVersion.setVersion("1.0.0");
+        applicationVersion.setStateId("1");
+        applicationVersion.setDeclaredProducedEventVersionIds(List.of("ev1"));
+        applicationVersion.setDeclaredConsumedEventVersionIds(List.of());
+        snapshot.addLoadedApplicationVersion(applicationVersion);
+
+        final EventApi eventApi = new EventApi();
+        eventApi.setId("ea1");
+        eventApi.setName("Api1");
+        eventApi.setApplicationDomainId(APP_DOMAIN_ID);
+        snapshot.putEventApi(eventApi);
+        final EventApiVersion eventApiVersion = new EventApiVersion();
+        eventApiVersion.setId("eav1");
+        eventApiVersion.setEventApiId("ea1");
+        eventApiVersion.setVersion("1.0.0");
+        eventApiVersion.setStateId("1");
+        eventApiVersion.setConsumedEventVersionIds(List.of("ev1"));
+        snapshot.addLoadedEventApiVersion(eventApiVersion);
+
+        return snapshot;
+    }
+
+    private static TopicAddressEnumValue enumValue(final String value) {
+        final TopicAddressEnumValue enumValue = new TopicAddressEnumValue();
+        enumValue.setValue(value);
+        return enumValue;
+    }
+}
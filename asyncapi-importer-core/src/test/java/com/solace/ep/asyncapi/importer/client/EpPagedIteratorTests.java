@@ -0,0 +1,121 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test
+ */
+public class EpPagedIteratorTests {
+
+    private static final int TOTAL_PAGES = 3;
+
+    @Test
+    public void testPagesReturnedInOrder() throws Exception {
+
+        final ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            final EpPagedIterator<List<String>, String> iterator = new EpPagedIterator<>(
+                pageNumber -> {
+                    // Later pages complete first
+                    TimeUnit.MILLISECONDS.sleep(10 * (TOTAL_PAGES - pageNumber));
+                    return page(pageNumber);
+                },
+                page -> page, page -> TOTAL_PAGES, executor, 4
+            );
+            assertEquals(List.of("p1-a", "p1-b", "p2-a", "p2-b", "p3-a", "p3-b"), iterator.toList());
+            assertEquals(TOTAL_PAGES, iterator.getTotalPages());
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * Two iterators share the request for page 2 through a coalescer. Closing the first iterator
+     * while page 2 is in flight must not interrupt the shared request or fail the second iterator.
+     */
+    @Test
+    public void testCloseDoesNotInterruptSharedPage() throws Exception {
+
+        final EpRequestCoalescer coalescer = new EpRequestCoalescer();
+        final ExecutorService executor = Executors.newCachedThreadPool();
+        final CountDownLatch releasePage2 = new CountDownLatch(1);
+        final AtomicBoolean page2Interrupted = new AtomicBoolean(false);
+        final AtomicInteger page2Calls = new AtomicInteger();
+
+        final EpPagedIterator.PageFetcher<List<String>> fetcher = pageNumber -> coalescer.execute("page-" + pageNumber, () -> {
+            if (pageNumber == 2) {
+                page2Calls.incrementAndGet();
+                try {
+                    releasePage2.await();
+                } catch (InterruptedException exc) {
+                    page2Interrupted.set(true);
+                    throw exc;
+                }
+            }
+            return page(pageNumber);
+        });
+
+        try {
+            final EpPagedIterator<List<String>, String> first = new EpPagedIterator<>(fetcher, page -> page, page -> TOTAL_PAGES, executor, 1);
+            final EpPagedIterator<List<String>, String> second = new EpPagedIterator<>(fetcher, page -> page, page -> TOTAL_PAGES, executor, 1);
+
+            // Both iterators consume page 1 and request page 2; the second joins the first's request
+            assertEquals("p1-a", first.next());
+            assertEquals("p1-a", second.next());
+            waitFor( () -> coalescer.getCoalescedCount() == 1 );
+
+            first.close();
+            assertFalse(first.hasNext());
+            releasePage2.countDown();
+
+            assertEquals(List.of("p1-b", "p2-a", "p2-b", "p3-a", "p3-b"), second.toList());
+            assertFalse(page2Interrupted.get());
+            assertEquals(1, page2Calls.get());
+        } finally {
+            releasePage2.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<String> page(final int pageNumber) {
+        return List.of("p" + pageNumber + "-a", "p" + pageNumber + "-b");
+    }
+
+    private static void waitFor(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for condition");
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}
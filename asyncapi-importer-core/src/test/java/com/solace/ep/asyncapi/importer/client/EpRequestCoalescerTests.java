@@ -0,0 +1,182 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Test
+ */
+public class EpRequestCoalescerTests {
+
+    private static final int CALLERS = 8;
+
+    private static final String KEY = "getSchemas|domain1|page=1";
+
+    @Test
+    public void testConcurrentIdenticalReadsExecuteOnce() throws Exception {
+
+        final EpRequestCoalescer coalescer = new EpRequestCoalescer();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final Object response = new Object();
+
+        final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            final List<Future<Object>> results = submitAll(executor, () -> coalescer.execute(KEY, () -> {
+                calls.incrementAndGet();
+                release.await();
+                return response;
+            }));
+            waitFor( () -> coalescer.getCoalescedCount() == CALLERS - 1 );
+            release.countDown();
+
+            for (Future<Object> result : results) {
+                assertSame(response, result.get(5, TimeUnit.SECONDS));
+            }
+            assertEquals(1, calls.get());
+            assertEquals(1, coalescer.getRequestCount());
+            assertEquals(CALLERS - 1, coalescer.getCoalescedCount());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    public void testFailureSharedWithWaiters() throws Exception {
+
+        final EpRequestCoalescer coalescer = new EpRequestCoalescer();
+        final CountDownLatch release = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final IOException failure = new IOException("Connection reset");
+
+        final ExecutorService executor = Executors.newFixedThreadPool(CALLERS);
+        try {
+            final List<Future<Object>> results = submitAll(executor, () -> coalescer.execute(KEY, () -> {
+                calls.incrementAndGet();
+                release.await();
+                throw failure;
+            }));
+            waitFor( () -> coalescer.getCoalescedCount() == CALLERS - 1 );
+            release.countDown();
+
+            for (Future<Object> result : results) {
+                try {
+                    result.get(5, TimeUnit.SECONDS);
+                    fail("Expected the failure of the shared request");
+                } catch (ExecutionException exc) {
+                    assertSame(failure, exc.getCause());
+                }
+            }
+            assertEquals(1, calls.get());
+        } finally {
+            release.countDown();
+            executor.shutdownNow();
+        }
+    }
+
+    /**
+     * The caller executing the request is interrupted; callers waiting on it must execute
+     * the request themselves instead of failing with the interruption
+     */
+    @Test
+    public void testOwnerInterruptNotSharedWithWaiters() throws Exception {
+
+        final EpRequestCoalescer coalescer = new EpRequestCoalescer();
+        final CountDownLatch ownerStarted = new CountDownLatch(1);
+        final AtomicInteger calls = new AtomicInteger();
+        final AtomicReference<Throwable> ownerFailure = new AtomicReference<>();
+        final Object response = new Object();
+
+        final Callable<Object> request = () -> {
+            if (calls.incrementAndGet() == 1) {
+                ownerStarted.countDown();
+                // Blocks until interrupted
+                new CountDownLatch(1).await();
+            }
+            return response;
+        };
+
+        final Thread owner = new Thread( () -> {
+            try {
+                coalescer.execute(KEY, request);
+            } catch (Throwable t) {
+                ownerFailure.set(t);
+            }
+        });
+        owner.start();
+        assertTrue(ownerStarted.await(5, TimeUnit.SECONDS));
+
+        final ExecutorService executor = Executors.newFixedThreadPool(CALLERS - 1);
+        try {
+            final List<Future<Object>> results = new ArrayList<>();
+            for (int i = 1; i < CALLERS; i++) {
+                results.add(executor.submit(() -> coalescer.execute(KEY, request)));
+            }
+            waitFor( () -> coalescer.getCoalescedCount() == CALLERS - 1 );
+
+            owner.interrupt();
+            owner.join(5000L);
+
+            assertTrue(ownerFailure.get() instanceof InterruptedException);
+            for (Future<Object> result : results) {
+                assertSame(response, result.get(5, TimeUnit.SECONDS));
+            }
+            assertTrue(calls.get() >= 2);
+        } finally {
+            owner.interrupt();
+            executor.shutdownNow();
+        }
+    }
+
+    private static List<Future<Object>> submitAll(final ExecutorService executor, final Callable<Object> call) {
+        final List<Future<Object>> results = new ArrayList<>();
+        for (int i = 0; i < CALLERS; i++) {
+            results.add(executor.submit(call));
+        }
+        return results;
+    }
+
+    private static void waitFor(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for condition");
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}
@@ -0,0 +1,264 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assertions.fail;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.net.SocketTimeoutException;
+import java.time.ZoneOffset;
+import java.time.ZonedDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+import com.solace.cloud.ep.designer.ApiException;
+
+/**
+ * Test
+ */
+public class EpRetryPolicyTests {
+
+    @Test
+    public void testIsRetryableReadsAndWrites() {
+
+        // Throttled: rejected without processing, safe to retry reads and writes
+        assertTrue(EpRetryPolicy.isRetryable(apiException(429), true));
+        assertTrue(EpRetryPolicy.isRetryable(apiException(429), false));
+
+        // Server errors and lost responses: reads only
+        assertTrue(EpRetryPolicy.isRetryable(apiException(503), true));
+        assertFalse(EpRetryPolicy.isRetryable(apiException(503), false));
+        final ApiException noResponse = new ApiException("timeout", new SocketTimeoutException("timeout"), 0, null);
+        assertTrue(EpRetryPolicy.isRetryable(noResponse, true));
+        assertFalse(EpRetryPolicy.isRetryable(noResponse, false));
+        assertTrue(EpRetryPolicy.isRetryable(new IOException("Connection reset"), true));
+        assertFalse(EpRetryPolicy.isRetryable(new IOException("Connection reset"), false));
+
+        // Client errors are never retried
+        assertFalse(EpRetryPolicy.isRetryable(apiException(400), true));
+        assertFalse(EpRetryPolicy.isRetryable(apiException(404), true));
+        assertFalse(EpRetryPolicy.isRetryable(apiException(409), false));
+        assertFalse(EpRetryPolicy.isRetryable(new ApiException(0, "no cause"), true));
+        assertFalse(EpRetryPolicy.isRetryable(new IllegalStateException(), true));
+    }
+
+    @Test
+    public void testParseRetryAfterSeconds() {
+
+        assertEquals(3000L, EpRetryPolicy.parseRetryAfterMillis(throttled("3")));
+        assertEquals(0L, EpRetryPolicy.parseRetryAfterMillis(throttled(" 0 ")));
+        // Header names are case-insensitive
+        assertEquals(2000L, EpRetryPolicy.parseRetryAfterMillis(new ApiException(429, "throttled", Map.of("retry-after", List.of("2")), null)));
+    }
+
+    /**
+     * Delay-seconds too large to express in milliseconds wait maxDelay, not a negative or tiny delay
+     */
+    @Test
+    public void testRetryAfterOverflowCappedAtMaxDelay() {
+
+        assertEquals(Long.MAX_VALUE, EpRetryPolicy.parseRetryAfterMillis(throttled(String.valueOf(Long.MAX_VALUE / 100))));
+        assertEquals(Long.MAX_VALUE, EpRetryPolicy.parseRetryAfterMillis(throttled("99999999999999999999")));
+        final EpRetryPolicy policy = new EpRetryPolicy(5, 1, 2000, 20, 0.0);
+        assertEquals(2000L, policy.computeDelayMillis(throttled(String.valueOf(Long.MAX_VALUE / 100)), 1));
+    }
+
+    @Test
+    public void testParseRetryAfterHttpDate() {
+
+        final String inTenSeconds = DateTimeFormatter.RFC_1123_DATE_TIME.format(ZonedDateTime.now(ZoneOffset.UTC).plusSeconds(10));
+        final Long delayMillis = EpRetryPolicy.parseRetryAfterMillis(throttled(inTenSeconds));
+        // HTTP-date has a resolution of one second
+        assertTrue(delayMillis > 8000L && delayMillis <= 10000L, "Unexpected delay " + delayMillis);
+    }
+
+    @Test
+    public void testParseRetryAfterMissingOrInvalid() {
+
+        assertNull(EpRetryPolicy.parseRetryAfterMillis(apiException(429)));
+        assertNull(EpRetryPolicy.parseRetryAfterMillis(throttled("")));
+        assertNull(EpRetryPolicy.parseRetryAfterMillis(throttled("soon")));
+    }
+
+    @Test
+    public void testRetriesUntilSuccess() throws Exception {
+
+        final EpRetryPolicy policy = new EpRetryPolicy(5, 1, 1, 20, 0.0);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final String response = policy.execute("getSchemas", true, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw apiException(503);
+            }
+            return "ok";
+        });
+        assertEquals("ok", response);
+        assertEquals(3, attempts.get());
+        assertEquals(2, policy.getRetryCount());
+    }
+
+    @Test
+    public void testWriteNotRetriedAfterServerError() throws Exception {
+
+        final EpRetryPolicy policy = new EpRetryPolicy(5, 1, 1, 20, 0.0);
+        final AtomicInteger attempts = new AtomicInteger();
+        final ApiException failure = apiException(503);
+
+        try {
+            policy.execute("createSchema", false, () -> {
+                attempts.incrementAndGet();
+                throw failure;
+            });
+            fail("Expected the write to fail");
+        } catch (ApiException exc) {
+            assertSame(failure, exc);
+        }
+        assertEquals(1, attempts.get());
+        assertEquals(0, policy.getRetryCount());
+    }
+
+    @Test
+    public void testRetryBudgetSharedAcrossCalls() throws Exception {
+
+        // Budget of 2 retries in total, regardless of the number of requests
+        final EpRetryPolicy policy = new EpRetryPolicy(5, 1, 1, 2, 0.0);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        for (int call = 0; call < 2; call++) {
+            try {
+                policy.execute("getEvents", true, () -> {
+                    attempts.incrementAndGet();
+                    throw apiException(503);
+                });
+                fail("Expected the read to fail");
+            } catch (ApiException exc) {
+                assertEquals(503, exc.getCode());
+            }
+        }
+        // First call: 1 attempt + 2 retries; second call: budget exhausted after 1 attempt
+        assertEquals(4, attempts.get());
+        assertEquals(2, policy.getRetryCount());
+        assertEquals(2, policy.getBudgetExhaustedCount());
+        assertEquals(2, policy.getRequestCount());
+    }
+
+    @Test
+    public void testInterruptedCallNotRetried() throws Exception {
+
+        final EpRetryPolicy policy = new EpRetryPolicy(5, 1, 1, 20, 0.0);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        Thread.currentThread().interrupt();
+        try {
+            policy.execute("getEvents", true, () -> {
+                attempts.incrementAndGet();
+                throw new ApiException("interrupted", new InterruptedIOException("interrupted"), 0, null);
+            });
+            fail("Expected the read to fail");
+        } catch (ApiException exc) {
+            assertEquals(1, attempts.get());
+            assertEquals(0, policy.getRetryCount());
+        } finally {
+            Thread.interrupted();
+        }
+    }
+
+    @Test
+    public void testExecuteAsyncRetriesUntilSuccess() throws Exception {
+
+        final EpRetryPolicy policy = new EpRetryPolicy(5, 1, 1, 20, 0.0);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final CompletableFuture<String> result = policy.executeAsync("getEvents", true, () -> {
+            if (attempts.incrementAndGet() < 3) {
+                return CompletableFuture.failedFuture(apiException(429));
+            }
+            return CompletableFuture.completedFuture("ok");
+        });
+        assertEquals("ok", result.get(5, TimeUnit.SECONDS));
+        assertEquals(3, attempts.get());
+        assertEquals(2, policy.getRetryCount());
+    }
+
+    @Test
+    public void testExecuteAsyncFailsWithLastError() throws Exception {
+
+        final EpRetryPolicy policy = new EpRetryPolicy(3, 1, 1, 20, 0.0);
+        final AtomicInteger attempts = new AtomicInteger();
+
+        final CompletableFuture<String> result = policy.executeAsync("getEvents", true, () -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(apiException(502));
+        });
+        try {
+            result.get(5, TimeUnit.SECONDS);
+            fail("Expected the read to fail");
+        } catch (ExecutionException exc) {
+            assertTrue(exc.getCause() instanceof ApiException);
+            assertEquals(502, ((ApiException) exc.getCause()).getCode());
+        }
+        // Stops at maxAttempts
+        assertEquals(3, attempts.get());
+
+        // Writes are not retried after a server error
+        attempts.set(0);
+        final CompletableFuture<String> write = policy.executeAsync("createEvent", false, () -> {
+            attempts.incrementAndGet();
+            return CompletableFuture.failedFuture(apiException(500));
+        });
+        try {
+            write.get(5, TimeUnit.SECONDS);
+            fail("Expected the write to fail");
+        } catch (ExecutionException exc) {
+            assertEquals(500, ((ApiException) exc.getCause()).getCode());
+        }
+        assertEquals(1, attempts.get());
+    }
+
+    @Test
+    public void testExecuteAsyncCancelCancelsAttempt() throws Exception {
+
+        final EpRetryPolicy policy = new EpRetryPolicy(3, 1, 1, 20, 0.0);
+        final CompletableFuture<String> attempt = new CompletableFuture<>();
+
+        final CompletableFuture<String> result = policy.executeAsync("getEvents", true, () -> attempt);
+        assertTrue(result.cancel(true));
+        assertTrue(attempt.isCancelled());
+    }
+
+    private static ApiException apiException(final int code) {
+        return new ApiException(code, "HTTP " + code);
+    }
+
+    private static ApiException throttled(final String retryAfter) {
+        return new ApiException(429, "Too many requests", Map.of("Retry-After", List.of(retryAfter)), null);
+    }
+}
@@ -0,0 +1,156 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.importer.client;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import org.junit.jupiter.api.Test;
+
+import com.google.gson.JsonObject;
+import com.solace.cloud.ep.designer.model.SchemaObject;
+import com.solace.cloud.ep.designer.model.SchemaVersion;
+import com.solace.ep.asyncapi.importer.EpNewVersionStrategy;
+import com.solace.ep.asyncapi.testkit.EpSimulator;
+import com.solace.ep.asyncapi.testkit.EpSimulatorConfig;
+import com.solace.ep.asyncapi.testkit.EpSimulatorStore;
+import com.solace.ep.asyncapi.testkit.EpSimulatorStore.ObjectType;
+import com.solace.ep.asyncapi.testkit.LatencyDistribution;
+
+import okhttp3.Call;
+import okhttp3.Dispatcher;
+
+/**
+ * Test
+ */
+public class EventPortalAsyncClientApiTests {
+
+    private static final String APP_DOMAIN_NAME = "Async Client Tests";
+
+    private static final String SCHEMA_NAME = "Order";
+
+    /**
+     * Look up a schema by name, then its versions, in one composed future
+     */
+    @Test
+    public void testComposedLookup() throws Exception {
+
+        try (EpSimulator simulator = new EpSimulator().start()) {
+            final String domainId = simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+            createSchema(simulator.getStore(), domainId, 3);
+            final EventPortalAsyncClientApi asyncClient = newAsyncClient(simulator, domainId);
+
+            final List<SchemaVersion> versions = asyncClient.getSchemaObjectByName(SCHEMA_NAME)
+                .thenCompose( schema -> asyncClient.getSchemaVersions(schema.getId()) )
+                .get(5, TimeUnit.SECONDS);
+
+            // Newest first
+            assertEquals(List.of("3.0.0", "2.0.0", "1.0.0"), versions.stream().map(SchemaVersion::getVersion).toList());
+            assertNull(asyncClient.getSchemaObjectByName("Missing").get(5, TimeUnit.SECONDS));
+        }
+    }
+
+    /**
+     * Event Portal reports one more page than holds data: the empty page ends the result
+     */
+    @Test
+    public void testEmptyTrailingPage() throws Exception {
+
+        final EpSimulatorConfig config = new EpSimulatorConfig();
+        config.setExtraEmptyPages(1);
+
+        try (EpSimulator simulator = new EpSimulator(config).start()) {
+            final String domainId = simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+            final String schemaId = createSchema(simulator.getStore(), domainId, 5);
+            final EventPortalAsyncClientApi asyncClient = newAsyncClient(simulator, domainId);
+            asyncClient.getClient().setListPageSize(2);
+
+            simulator.resetStats();
+            final List<SchemaVersion> versions = asyncClient.getSchemaVersions(schemaId).get(5, TimeUnit.SECONDS);
+
+            assertEquals(5, versions.size());
+            assertEquals("5.0.0", versions.get(0).getVersion());
+            assertEquals("1.0.0", versions.get(4).getVersion());
+            // Pages 1-3 hold the versions; page 4 is reported and empty
+            assertEquals(4L, simulator.getRequestCountsByRoute().get("GET schemaVersions"));
+        }
+    }
+
+    /**
+     * Cancelling the future of a lookup in flight cancels its HTTP call
+     */
+    @Test
+    public void testCancelCancelsHttpCall() throws Exception {
+
+        final EpSimulatorConfig config = new EpSimulatorConfig();
+
+        try (EpSimulator simulator = new EpSimulator(config).start()) {
+            final String domainId = simulator.getStore().createApplicationDomain(APP_DOMAIN_NAME);
+            final EventPortalAsyncClientApi asyncClient = newAsyncClient(simulator, domainId);
+            final Dispatcher dispatcher = asyncClient.getClient().getApiClient().getHttpClient().dispatcher();
+            config.setReadLatency(LatencyDistribution.fixed(10_000));
+
+            final CompletableFuture<SchemaObject> lookup = asyncClient.getSchemaObjectByName(SCHEMA_NAME);
+            waitFor( () -> dispatcher.runningCallsCount() == 1 );
+            final Call httpCall = dispatcher.runningCalls().get(0);
+
+            assertTrue(lookup.cancel(true));
+            assertTrue(httpCall.isCanceled());
+            waitFor( () -> dispatcher.runningCallsCount() == 0 );
+        }
+    }
+
+    private static EventPortalAsyncClientApi newAsyncClient(final EpSimulator simulator, final String domainId) throws Exception {
+        final EventPortalClientApi client = new EventPortalClientApi("simulator-token", EpNewVersionStrategy.MAJOR, simulator.getBaseUrl(), domainId);
+        return new EventPortalAsyncClientApi(client);
+    }
+
+    /**
+     * Create a schema with versions 1.0.0 to n.0.0
+     * @return Schema ID
+     */
+    private static String createSchema(final EpSimulatorStore store, final String domainId, final int versions) {
+        final JsonObject schema = new JsonObject();
+        schema.addProperty("name", SCHEMA_NAME);
+        schema.addProperty("applicationDomainId", domainId);
+        schema.addProperty("schemaType", "jsonSchema");
+        final String schemaId = store.create(ObjectType.SCHEMAS, schema).get("id").getAsString();
+        for (int i = 1; i <= versions; i++) {
+            final JsonObject schemaVersion = new JsonObject();
+            schemaVersion.addProperty("schemaId", schemaId);
+            schemaVersion.addProperty("version", i + ".0.0");
+            schemaVersion.addProperty("content", "{\"type\":\"object\"}");
+            store.create(ObjectType.SCHEMA_VERSIONS, schemaVersion);
+        }
+        return schemaId;
+    }
+
+    private static void waitFor(final BooleanSupplier condition) throws InterruptedException {
+        final long deadline = System.currentTimeMillis() + 5000L;
+        while (!condition.getAsBoolean()) {
+            assertTrue(System.currentTimeMillis() < deadline, "Timed out waiting for condition");
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+    }
+}
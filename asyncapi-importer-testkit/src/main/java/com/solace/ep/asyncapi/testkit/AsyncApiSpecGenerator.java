@@ -0,0 +1,319 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.testkit;
+
+import java.util.Random;
+import java.util.TreeSet;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonObject;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Generates AsyncApi 2.6 or 3.0 specs of a given size and shape for load and regression tests
+ * of the importer, in JSON or YAML.
+ *
+ * Channel i carries messagesPerChannel messages: Event{i}, then Event{i}M1, Event{i}M2, ...
+ * (more than one message is published as oneOf in 2.x). Each message payload is either one of
+ * the shared schemas Schema{n}, or, for a fraction of the messages, a schema of its own. Schemas
+ * reference refDepth levels of nested component schemas. Each topic has topicDepth literal levels
+ * followed by up to parametersPerChannel parameters, taken in turn from a set of enums shared by
+ * all channels.
+ *
+ * The content of each channel, message, schema and enum depends only on the seed and its index,
+ * so a spec generated with fewer channels is a prefix of one generated with more: import the
+ * smaller spec first to pre-populate an application domain with part of the larger one.
+ */
+@Getter
+@Setter
+public class AsyncApiSpecGenerator {
+
+    public static final String ASYNCAPI_V2 = "2.6.0";
+
+    public static final String ASYNCAPI_V3 = "3.0.0";
+
+    private static final String SCHEMAS_REF = "#/components/schemas/";
+
+    private static final String MESSAGES_REF = "#/components/messages/";
+
+    /**
+     * Seed for generated content
+     */
+    private long seed = 1L;
+
+    /**
+     * AsyncApi version of the spec: ASYNCAPI_V2 or ASYNCAPI_V3
+     */
+    private String asyncApiVersion = ASYNCAPI_V2;
+
+    /**
+     * Text form returned by generate()
+     */
+    private SpecFormat format = SpecFormat.JSON;
+
+    /**
+     * info.title; imported as the application and event API name
+     */
+    private String title = "Generated Spec";
+
+    /**
+     * Number of channels
+     */
+    private int channels = 10;
+
+    /**
+     * Number of messages on each channel, at least 1; each message is a distinct event
+     */
+    private int messagesPerChannel = 1;
+
+    /**
+     * Number of shared schemas, at least 1; message payloads use them in turn
+     */
+    private int schemas = 10;
+
+    /**
+     * Fraction of messages, between 0 and 1, whose payload is a schema of their own
+     * instead of a shared schema
+     */
+    private double uniqueSchemaFraction = 0.0;
+
+    /**
+     * Number of top level properties in each schema
+     */
+    private int schemaProperties = 10;
+
+    /**
+     * Levels of nested component schemas below each payload schema, each referenced with $ref
+     * from a property of the level above; 0 for flat schemas
+     */
+    private int refDepth = 0;
+
+    /**
+     * Number of literal levels in each topic before the parameters, at least 3
+     */
+    private int topicDepth = 4;
+
+    /**
+     * Number of distinct enums used as topic parameters; 0 for no parameters
+     */
+    private int enums = 2;
+
+    /**
+     * Number of enum parameters in each topic; limited to the number of enums
+     */
+    private int parametersPerChannel = 2;
+
+    /**
+     * Number of values of each enum
+     */
+    private int enumCardinality = 10;
+
+    /**
+     * @return Generated spec as JSON or YAML text, depending on format
+     * @throws Exception
+     */
+    public String generate() throws Exception
+    {
+        return format.write(generateTree());
+    }
+
+    /**
+     * @return Generated spec as a Gson tree
+     */
+    public JsonObject generateTree()
+    {
+        final boolean v3 = asyncApiVersion.startsWith("3");
+        final JsonObject spec = new JsonObject();
+        spec.addProperty("asyncapi", asyncApiVersion);
+        final JsonObject info = new JsonObject();
+        info.addProperty("title", title);
+        info.addProperty("version", "1.0.0");
+        spec.add("info", info);
+        spec.addProperty("defaultContentType", "application/json");
+
+        final JsonObject channelsObject = new JsonObject();
+        final JsonObject operationsObject = new JsonObject();
+        final JsonObject messagesObject = new JsonObject();
+        final JsonObject schemasObject = new JsonObject();
+        final TreeSet<Integer> sharedSchemasUsed = new TreeSet<>();
+        for (int i = 0; i < channels; i++) {
+            addChannel(i, v3, channelsObject, operationsObject, messagesObject, schemasObject, sharedSchemasUsed);
+        }
+        for (int s : sharedSchemasUsed) {
+            addSchema(schemasObject, "Schema" + s, seed * 7_000_003L + s);
+        }
+        spec.add("channels", channelsObject);
+        if (v3) {
+            spec.add("operations", operationsObject);
+        }
+        final JsonObject components = new JsonObject();
+        components.add("messages", messagesObject);
+        components.add("schemas", schemasObject);
+        spec.add("components", components);
+        return spec;
+    }
+
+    private void addChannel(
+        final int index,
+        final boolean v3,
+        final JsonObject channelsObject,
+        final JsonObject operationsObject,
+        final JsonObject messagesObject,
+        final JsonObject schemasObject,
+        final TreeSet<Integer> sharedSchemasUsed
+    )
+    {
+        final Random random = new Random(seed * 1_000_003L + index);
+        final StringBuilder topic = new StringBuilder("generated");
+        for (int level = 1; level <= Math.max(3, topicDepth) - 3; level++) {
+            topic.append(level == 1 ? "/area" : "/level" + level + "-").append(random.nextInt(10));
+        }
+        topic.append("/Event").append(index).append("/v1");
+
+        final JsonObject parameters = new JsonObject();
+        final int parameterCount = Math.min(parametersPerChannel, enums);
+        for (int p = 0; p < parameterCount; p++) {
+            final int enumIndex = (index + p) % enums;
+            final String name = "enumParam" + enumIndex;
+            topic.append("/{").append(name).append('}');
+            parameters.add(name, enumParameter(enumIndex, v3));
+        }
+
+        final JsonObject channel = new JsonObject();
+        if (v3) {
+            channel.addProperty("address", topic.toString());
+        }
+        if (parameterCount > 0) {
+            channel.add("parameters", parameters);
+        }
+
+        final String channelName = v3 ? "channel" + index : topic.toString();
+        final JsonObject channelMessages = new JsonObject();
+        final JsonArray operationMessages = new JsonArray();
+        for (int m = 0; m < Math.max(1, messagesPerChannel); m++) {
+            final String messageName = "Event" + index + (m == 0 ? "" : "M" + m);
+            final String schemaName;
+            if (random.nextDouble() < uniqueSchemaFraction) {
+                schemaName = messageName + "Payload";
+                addSchema(schemasObject, schemaName, seed * 7_000_003L + 1_000_000_007L * (m + 1) + index);
+            } else {
+                final int shared = (index * Math.max(1, messagesPerChannel) + m) % Math.max(1, schemas);
+                sharedSchemasUsed.add(shared);
+                schemaName = "Schema" + shared;
+            }
+            final JsonObject message = new JsonObject();
+            message.addProperty("contentType", "application/json");
+            message.add("payload", ref(SCHEMAS_REF + schemaName));
+            messagesObject.add(messageName, message);
+
+            channelMessages.add(messageName, ref(MESSAGES_REF + messageName));
+            operationMessages.add(v3 ? ref("#/channels/" + channelName + "/messages/" + messageName) : ref(MESSAGES_REF + messageName));
+        }
+
+        if (v3) {
+            channel.add("messages", channelMessages);
+            final JsonObject operation = new JsonObject();
+            operation.addProperty("action", "receive");
+            operation.add("channel", ref("#/channels/" + channelName));
+            operation.add("messages", operationMessages);
+            operationsObject.add("receiveEvent" + index, operation);
+        } else {
+            final JsonObject message;
+            if (operationMessages.size() == 1) {
+                message = operationMessages.get(0).getAsJsonObject();
+            } else {
+                message = new JsonObject();
+                message.add("oneOf", operationMessages);
+            }
+            final JsonObject subscribe = new JsonObject();
+            subscribe.add("message", message);
+            channel.add("subscribe", subscribe);
+        }
+        channelsObject.add(channelName, channel);
+    }
+
+    private JsonObject enumParameter(final int enumIndex, final boolean v3)
+    {
+        final JsonArray values = new JsonArray();
+        for (int v = 0; v < enumCardinality; v++) {
+            values.add("E" + enumIndex + "V" + v);
+        }
+        final JsonObject parameter = new JsonObject();
+        if (v3) {
+            // 3.0 parameters hold enum values directly
+            parameter.add("enum", values);
+            return parameter;
+        }
+        final JsonObject schema = new JsonObject();
+        schema.addProperty("type", "string");
+        schema.add("enum", values);
+        parameter.add("schema", schema);
+        return parameter;
+    }
+
+    /**
+     * Add a schema and its nested levels (name + "L1", "L2", ...) to the component schemas
+     */
+    private void addSchema(final JsonObject schemasObject, final String name, final long schemaSeed)
+    {
+        for (int level = 0; level <= refDepth; level++) {
+            final String levelName = level == 0 ? name : name + "L" + level;
+            final JsonObject schema = schema(levelName, new Random(schemaSeed * 31L + level));
+            if (level < refDepth) {
+                schema.getAsJsonObject("properties").add("detail", ref(SCHEMAS_REF + name + "L" + (level + 1)));
+            }
+            schemasObject.add(levelName, schema);
+        }
+    }
+
+    private JsonObject schema(final String title, final Random random)
+    {
+        final JsonObject properties = new JsonObject();
+        for (int p = 0; p < schemaProperties; p++) {
+            final JsonObject property = new JsonObject();
+            switch (random.nextInt(3)) {
+                case 0:
+                    property.addProperty("type", "string");
+                    property.addProperty("maxLength", 16 + random.nextInt(240));
+                    break;
+                case 1:
+                    property.addProperty("type", "integer");
+                    break;
+                default:
+                    property.addProperty("type", "number");
+                    break;
+            }
+            properties.add("field" + p, property);
+        }
+        final JsonObject schema = new JsonObject();
+        schema.addProperty("$schema", "http://json-schema.org/draft-07/schema#");
+        schema.addProperty("title", title);
+        schema.addProperty("type", "object");
+        schema.add("properties", properties);
+        return schema;
+    }
+
+    private static JsonObject ref(final String path)
+    {
+        final JsonObject ref = new JsonObject();
+        ref.addProperty("$ref", path);
+        return ref;
+    }
+}
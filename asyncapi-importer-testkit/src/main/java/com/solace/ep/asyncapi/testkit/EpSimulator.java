@@ -0,0 +1,562 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.testkit;
+
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BiPredicate;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+import com.google.gson.JsonParseException;
+import com.google.gson.JsonParser;
+import com.solace.ep.asyncapi.testkit.EpSimulatorStore.EpSimulatorException;
+import com.solace.ep.asyncapi.testkit.EpSimulatorStore.ObjectType;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import lombok.Getter;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * In-process stand-in for the subset of the Event Portal designer REST API (v2) used by the
+ * importer: application domains, schemas, enums, events, applications, event APIs, and their
+ * versions. Runs on the JDK HTTP server bound to the loopback interface, so the importer can be
+ * load and latency tested without access to Event Portal.
+ *
+ * Point EventPortalClientApi at getBaseUrl() with any bearer token. Latency, page size limits,
+ * throttling (HTTP 429), failures (HTTP 503), failures of chosen requests (HTTP 500), and dropped
+ * connections are set in EpSimulatorConfig.
+ * Latency and faults are sampled from a seeded random source, so a serial run is reproducible.
+ *
+ *   try (EpSimulator simulator = new EpSimulator(config).start()) {
+ *       String domainId = simulator.getStore().createApplicationDomain("Load Test");
+ *       ... import using simulator.getBaseUrl() ...
+ *   }
+ */
+@Slf4j
+public class EpSimulator implements AutoCloseable {
+
+    public static final String API_PATH = "/api/v2/architecture/";
+
+    // Query parameters --> object field filtered on
+    private static final Map<String, String> FILTER_PARAMS = new HashMap<>();
+
+    // Query parameters accepted but not simulated
+    private static final Set<String> IGNORED_PARAMS = Set.of(
+        "pageSize", "pageNumber", "sort", "customAttributes", "include", "messagingServiceIds",
+        "clientAppIds", "eventApiVersionIds", "availability", "relationsBrokerType"
+    );
+
+    static {
+        FILTER_PARAMS.put("ids", "id");
+        FILTER_PARAMS.put("name", "name");
+        FILTER_PARAMS.put("names", "name");
+        FILTER_PARAMS.put("applicationDomainId", "applicationDomainId");
+        FILTER_PARAMS.put("applicationDomainIds", "applicationDomainId");
+        FILTER_PARAMS.put("brokerType", "brokerType");
+        FILTER_PARAMS.put("applicationType", "applicationType");
+        FILTER_PARAMS.put("schemaType", "schemaType");
+        FILTER_PARAMS.put("shared", "shared");
+        FILTER_PARAMS.put("stateId", "stateId");
+        FILTER_PARAMS.put("stateIds", "stateId");
+        FILTER_PARAMS.put("schemaIds", "schemaId");
+        FILTER_PARAMS.put("enumIds", "enumId");
+        FILTER_PARAMS.put("eventIds", "eventId");
+        FILTER_PARAMS.put("applicationIds", "applicationId");
+        FILTER_PARAMS.put("eventApiIds", "eventApiId");
+    }
+
+    private static final Gson GSON = new Gson();
+
+    @Getter
+    private final EpSimulatorConfig config;
+
+    @Getter
+    private final EpSimulatorStore store;
+
+    private final Random random;
+
+    private HttpServer server;
+
+    private ExecutorService serverExecutor;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private final AtomicInteger peakInFlight = new AtomicInteger();
+
+    private final AtomicLong requestCount = new AtomicLong();
+
+    private final AtomicLong throttledCount = new AtomicLong();
+
+    private final AtomicLong failedCount = new AtomicLong();
+
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private final Map<String, AtomicLong> requestCountsByRoute = new ConcurrentHashMap<>();
+
+    private final Map<ObjectType, Set<String>> readObjectIds = new ConcurrentHashMap<>();
+
+    public EpSimulator()
+    {
+        this(new EpSimulatorConfig());
+    }
+
+    public EpSimulator(final EpSimulatorConfig config)
+    {
+        this(config, new EpSimulatorStore());
+    }
+
+    /**
+     * @param config - latency, paging, and fault settings
+     * @param store - data to serve; may be pre-loaded and shared between simulators
+     */
+    public EpSimulator(final EpSimulatorConfig config, final EpSimulatorStore store)
+    {
+        this.config = config;
+        this.store = store;
+        this.random = new Random(config.getSeed());
+    }
+
+    /**
+     * Start listening on an ephemeral port of the loopback interface
+     * @return this simulator
+     * @throws IOException
+     */
+    public EpSimulator start() throws IOException
+    {
+        return start(0);
+    }
+
+    /**
+     * Start listening on the loopback interface
+     * @param port - port number, or 0 for an ephemeral port
+     * @return this simulator
+     * @throws IOException
+     */
+    public synchronized EpSimulator start(final int port) throws IOException
+    {
+        if (server != null) {
+            throw new IllegalStateException("EpSimulator is already running");
+        }
+        serverExecutor = Executors.newCachedThreadPool( r -> {
+            final Thread t = new Thread(r);
+            t.setName("EpSimulator-" + t.getId());
+            t.setDaemon(true);
+            return t;
+        });
+        server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), port), 512);
+        server.createContext(API_PATH, this::handle);
+        server.setExecutor(serverExecutor);
+        server.start();
+        log.info("EpSimulator listening at {}", getBaseUrl());
+        return this;
+    }
+
+    /**
+     * Stop the simulator; requests in progress are abandoned
+     */
+    public synchronized void stop()
+    {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        serverExecutor.shutdownNow();
+        server = null;
+        serverExecutor = null;
+    }
+
+    @Override
+    public void close()
+    {
+        stop();
+    }
+
+    /**
+     * @return Base URL to pass to EventPortalClientApi, e.g. http://127.0.0.1:41234
+     */
+    public String getBaseUrl()
+    {
+        if (server == null) {
+            throw new IllegalStateException("EpSimulator is not running");
+        }
+        return "http://" + server.getAddress().getHostString() + ":" + server.getAddress().getPort();
+    }
+
+    /**
+     * @return Total number of requests received
+     */
+    public long getRequestCount()
+    {
+        return requestCount.get();
+    }
+
+    /**
+     * @return Number of requests rejected with HTTP 429
+     */
+    public long getThrottledCount()
+    {
+        return throttledCount.get();
+    }
+
+    /**
+     * @return Number of requests failed with HTTP 503, or with HTTP 500 by failRequestIf
+     */
+    public long getFailedCount()
+    {
+        return failedCount.get();
+    }
+
+    /**
+     * @return Number of requests closed without a response
+     */
+    public long getDroppedCount()
+    {
+        return droppedCount.get();
+    }
+
+    /**
+     * @return Highest number of requests in progress at the same time
+     */
+    public int getPeakConcurrency()
+    {
+        return peakInFlight.get();
+    }
+
+    /**
+     * @return Number of requests received by method and collection, e.g. "GET schemaVersions"
+     */
+    public Map<String, Long> getRequestCountsByRoute()
+    {
+        final Map<String, Long> counts = new LinkedHashMap<>();
+        requestCountsByRoute.entrySet().stream()
+            .sorted(Map.Entry.comparingByKey())
+            .forEach( e -> counts.put(e.getKey(), e.getValue().get()) );
+        return counts;
+    }
+
+    /**
+     * @return IDs of the objects of a type returned by GET requests, one at a time or in a list
+     */
+    public Set<String> getReadObjectIds(final ObjectType objectType)
+    {
+        final Set<String> ids = readObjectIds.get(objectType);
+        return ids == null ? Set.of() : Set.copyOf(ids);
+    }
+
+    /**
+     * Reset request counters and read object IDs; stored data is kept
+     */
+    public void resetStats()
+    {
+        requestCount.set(0);
+        throttledCount.set(0);
+        failedCount.set(0);
+        droppedCount.set(0);
+        peakInFlight.set(inFlight.get());
+        requestCountsByRoute.clear();
+        readObjectIds.clear();
+    }
+
+    @Override
+    public String toString()
+    {
+        return String.format("requests=%d, throttled=%d, failed=%d, dropped=%d, peakConcurrency=%d",
+            getRequestCount(), getThrottledCount(), getFailedCount(), getDroppedCount(), getPeakConcurrency());
+    }
+
+    private void handle(final HttpExchange exchange) throws IOException
+    {
+        final int concurrent = inFlight.incrementAndGet();
+        peakInFlight.accumulateAndGet(concurrent, Math::max);
+        requestCount.incrementAndGet();
+        try {
+            handleRequest(exchange, concurrent);
+        } catch (EpSimulatorException exc) {
+            sendError(exchange, exc.getStatusCode(), exc.getMessage());
+        } catch (JsonParseException | IllegalStateException | NumberFormatException exc) {
+            sendError(exchange, 400, exc.getMessage());
+        } catch (InterruptedException exc) {
+            Thread.currentThread().interrupt();
+            exchange.close();
+        } catch (RuntimeException exc) {
+            log.error("EpSimulator failed to handle {} {}", exchange.getRequestMethod(), exchange.getRequestURI(), exc);
+            sendError(exchange, 500, exc.toString());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void handleRequest(final HttpExchange exchange, final int concurrent) throws IOException, InterruptedException
+    {
+        final String method = exchange.getRequestMethod();
+        final String[] segments = exchange.getRequestURI().getPath().substring(API_PATH.length()).split("/");
+        final ObjectType objectType = ObjectType.fromPath(segments[0]);
+        final String id = segments.length > 1 ? segments[1] : null;
+        final String route = method + " " + segments[0];
+        requestCountsByRoute.computeIfAbsent(route, k -> new AtomicLong()).incrementAndGet();
+
+        if (!isAuthorized(exchange)) {
+            sendError(exchange, 401, "Missing or invalid bearer token");
+            return;
+        }
+        if (objectType == null || segments.length > 2) {
+            sendError(exchange, 404, "Not simulated: " + exchange.getRequestURI().getPath());
+            return;
+        }
+
+        // Sample all random values up front so the sequence does not depend on the route
+        final boolean isRead = "GET".equals(method);
+        final double throttleSample, failureSample, dropSample;
+        final long latencyMillis;
+        synchronized (random) {
+            throttleSample = random.nextDouble();
+            failureSample = random.nextDouble();
+            dropSample = random.nextDouble();
+            latencyMillis = (isRead ? config.getReadLatency() : config.getWriteLatency()).sampleMillis(random);
+        }
+
+        final int concurrencyLimit = config.getThrottleAboveConcurrency();
+        if (throttleSample < config.getThrottleRate() || (concurrencyLimit > 0 && concurrent > concurrencyLimit)) {
+            throttledCount.incrementAndGet();
+            if (config.getRetryAfterSeconds() > 0) {
+                exchange.getResponseHeaders().add("Retry-After", Integer.toString(config.getRetryAfterSeconds()));
+            }
+            sendError(exchange, 429, "Too many requests");
+            return;
+        }
+        if (failureSample < config.getFailureRate()) {
+            failedCount.incrementAndGet();
+            sendError(exchange, 503, "Service unavailable");
+            return;
+        }
+        final boolean hasBody = "POST".equals(method) || "PATCH".equals(method) || "PUT".equals(method);
+        final JsonObject body = hasBody ? readBody(exchange) : null;
+        final BiPredicate<String, JsonObject> failRequestIf = config.getFailRequestIf();
+        if (failRequestIf != null && failRequestIf.test(route, body)) {
+            failedCount.incrementAndGet();
+            sendError(exchange, 500, "Injected failure");
+            return;
+        }
+        if (latencyMillis > 0) {
+            TimeUnit.MILLISECONDS.sleep(latencyMillis);
+        }
+
+        final int status;
+        final JsonObject response;
+        switch (method) {
+            case "GET":
+                status = 200;
+                response = id == null ? list(objectType, parseQuery(exchange.getRequestURI().getRawQuery())) : single(getOrThrow(objectType, id));
+                break;
+            case "POST":
+                if (id != null) {
+                    sendError(exchange, 405, "POST is not supported for " + exchange.getRequestURI().getPath());
+                    return;
+                }
+                status = 201;
+                response = single(store.create(objectType, body));
+                break;
+            case "PATCH":
+            case "PUT":
+                if (id == null) {
+                    sendError(exchange, 405, method + " requires an object id");
+                    return;
+                }
+                status = 200;
+                response = single(store.update(objectType, id, body));
+                break;
+            case "DELETE":
+                if (id == null || !store.delete(objectType, id)) {
+                    sendError(exchange, 404, "No " + segments[0] + " object with id " + id);
+                    return;
+                }
+                exchange.sendResponseHeaders(204, -1);
+                exchange.close();
+                return;
+            default:
+                sendError(exchange, 405, "Method not supported: " + method);
+                return;
+        }
+
+        if (dropSample < config.getDropRate()) {
+            // Request was processed but the response is lost
+            droppedCount.incrementAndGet();
+            exchange.close();
+            return;
+        }
+        sendJson(exchange, status, response);
+    }
+
+    private JsonObject list(final ObjectType objectType, final Map<String, Set<String>> query)
+    {
+        final Map<String, Set<String>> filters = new HashMap<>();
+        for (Map.Entry<String, Set<String>> param : query.entrySet()) {
+            final String field = FILTER_PARAMS.get(param.getKey());
+            if (field != null) {
+                filters.merge(field, param.getValue(), (a, b) -> {
+                    final Set<String> both = new HashSet<>(a);
+                    both.retainAll(b);
+                    return both;
+                });
+            } else if (!IGNORED_PARAMS.contains(param.getKey())) {
+                throw new EpSimulatorException(400, "Unsupported query parameter: " + param.getKey());
+            }
+        }
+        final List<JsonObject> matches = store.query(objectType, filters);
+
+        final int pageSize = Math.max(1, Math.min(intParam(query, "pageSize", 20), config.getMaxPageSize()));
+        final int pageNumber = Math.max(1, intParam(query, "pageNumber", 1));
+        final int totalPages = Math.max(1, (matches.size() + pageSize - 1) / pageSize) + Math.max(0, config.getExtraEmptyPages());
+        final int from = Math.min(matches.size(), (pageNumber - 1) * pageSize);
+        final int to = Math.min(matches.size(), from + pageSize);
+
+        final JsonArray data = new JsonArray();
+        matches.subList(from, to).forEach(data::add);
+        recordRead(objectType, matches.subList(from, to));
+
+        final JsonObject pagination = new JsonObject();
+        pagination.addProperty("pageNumber", pageNumber);
+        pagination.addProperty("count", matches.size());
+        pagination.addProperty("pageSize", pageSize);
+        pagination.addProperty("totalPages", totalPages);
+        if (pageNumber < totalPages) {
+            pagination.addProperty("nextPage", pageNumber + 1);
+        }
+        final JsonObject meta = new JsonObject();
+        meta.add("pagination", pagination);
+
+        final JsonObject response = new JsonObject();
+        response.add("data", data);
+        response.add("meta", meta);
+        return response;
+    }
+
+    private JsonObject getOrThrow(final ObjectType objectType, final String id)
+    {
+        final JsonObject object = store.get(objectType, id);
+        if (object == null) {
+            throw new EpSimulatorException(404, "No " + objectType.getPath() + " object with id " + id);
+        }
+        recordRead(objectType, List.of(object));
+        return object;
+    }
+
+    private void recordRead(final ObjectType objectType, final List<JsonObject> objects)
+    {
+        final Set<String> ids = readObjectIds.computeIfAbsent(objectType, k -> ConcurrentHashMap.newKeySet());
+        objects.forEach( o -> ids.add(EpSimulatorStore.stringField(o, "id")) );
+    }
+
+    private static JsonObject single(final JsonObject object)
+    {
+        final JsonObject response = new JsonObject();
+        response.add("data", object);
+        response.add("meta", new JsonObject());
+        return response;
+    }
+
+    private boolean isAuthorized(final HttpExchange exchange)
+    {
+        final String authorization = exchange.getRequestHeaders().getFirst("Authorization");
+        if (authorization == null || !authorization.startsWith("Bearer ") || authorization.length() <= 7) {
+            return false;
+        }
+        final String requiredToken = config.getBearerToken();
+        return requiredToken == null || requiredToken.equals(authorization.substring(7));
+    }
+
+    private static JsonObject readBody(final HttpExchange exchange) throws IOException
+    {
+        try (InputStreamReader reader = new InputStreamReader(exchange.getRequestBody(), StandardCharsets.UTF_8)) {
+            final JsonElement body = JsonParser.parseReader(reader);
+            if (!body.isJsonObject()) {
+                throw new EpSimulatorException(400, "Request body must be a JSON object");
+            }
+            return body.getAsJsonObject();
+        }
+    }
+
+    /**
+     * Parse query string; repeated parameters and comma separated values are combined
+     */
+    private static Map<String, Set<String>> parseQuery(final String rawQuery)
+    {
+        final Map<String, Set<String>> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            final int eq = pair.indexOf('=');
+            final String name = URLDecoder.decode(eq < 0 ? pair : pair.substring(0, eq), StandardCharsets.UTF_8);
+            final String value = eq < 0 ? "" : URLDecoder.decode(pair.substring(eq + 1), StandardCharsets.UTF_8);
+            final Set<String> values = params.computeIfAbsent(name, k -> new HashSet<>());
+            for (String v : value.split(",")) {
+                if (!v.isEmpty()) {
+                    values.add(v);
+                }
+            }
+        }
+        return params;
+    }
+
+    private static int intParam(final Map<String, Set<String>> query, final String name, final int defaultValue)
+    {
+        final Set<String> values = query.get(name);
+        return values == null || values.isEmpty() ? defaultValue : Integer.parseInt(values.iterator().next());
+    }
+
+    private static void sendError(final HttpExchange exchange, final int status, final String message) throws IOException
+    {
+        final JsonObject error = new JsonObject();
+        error.addProperty("message", message);
+        error.addProperty("statusCode", status);
+        sendJson(exchange, status, error);
+    }
+
+    private static void sendJson(final HttpExchange exchange, final int status, final JsonObject body) throws IOException
+    {
+        final byte[] bytes = GSON.toJson(body).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", "application/json");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
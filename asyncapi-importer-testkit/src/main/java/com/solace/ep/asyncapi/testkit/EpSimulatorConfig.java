@@ -0,0 +1,102 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.testkit;
+
+import java.util.function.BiPredicate;
+
+import com.google.gson.JsonObject;
+
+import lombok.Getter;
+import lombok.Setter;
+
+/**
+ * Behaviour of an EpSimulator: latency, paging, and injected faults.
+ * Settings may be changed while the simulator is running.
+ */
+@Getter
+@Setter
+public class EpSimulatorConfig {
+
+    public static final int DEFAULT_MAX_PAGE_SIZE = 100;
+
+    /**
+     * Seed for latency and fault sampling; the same seed and request sequence give the same responses
+     */
+    private long seed = 1L;
+
+    /**
+     * Latency added to GET requests
+     */
+    private volatile LatencyDistribution readLatency = LatencyDistribution.none();
+
+    /**
+     * Latency added to POST, PATCH, and DELETE requests
+     */
+    private volatile LatencyDistribution writeLatency = LatencyDistribution.none();
+
+    /**
+     * Largest page returned by list queries; larger pageSize values are reduced to this size.
+     * Event Portal allows at most 100.
+     */
+    private volatile int maxPageSize = DEFAULT_MAX_PAGE_SIZE;
+
+    /**
+     * Number of empty pages reported in totalPages after the last page with data, as Event Portal
+     * sometimes does; requesting one returns no data
+     */
+    private volatile int extraEmptyPages = 0;
+
+    /**
+     * Fraction of requests rejected with HTTP 429, between 0 and 1
+     */
+    private volatile double throttleRate = 0.0;
+
+    /**
+     * Requests received while more than this number are in progress are rejected with HTTP 429;
+     * 0 disables the limit
+     */
+    private volatile int throttleAboveConcurrency = 0;
+
+    /**
+     * Value of the Retry-After header sent with HTTP 429 responses, in seconds; 0 omits the header
+     */
+    private volatile int retryAfterSeconds = 0;
+
+    /**
+     * Fraction of requests that fail with HTTP 503 without being processed, between 0 and 1
+     */
+    private volatile double failureRate = 0.0;
+
+    /**
+     * Fraction of requests whose connection is closed without a response, between 0 and 1.
+     * Writes are processed before the connection is dropped, as when a response is lost in transit.
+     */
+    private volatile double dropRate = 0.0;
+
+    /**
+     * Requests for which this returns true fail with HTTP 500 without being processed, e.g. to fail
+     * the import of one object. Called with the method and collection, e.g. "POST events", and the
+     * request body, which is null for GET and DELETE. Null fails no requests.
+     */
+    private volatile BiPredicate<String, JsonObject> failRequestIf = null;
+
+    /**
+     * Bearer token required on every request; null accepts any bearer token
+     */
+    private volatile String bearerToken = null;
+}
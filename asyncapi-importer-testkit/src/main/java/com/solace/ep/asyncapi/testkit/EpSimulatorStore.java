@@ -0,0 +1,514 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.testkit;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Predicate;
+
+import com.google.gson.JsonArray;
+import com.google.gson.JsonElement;
+import com.google.gson.JsonObject;
+
+/**
+ * In-memory Event Portal designer data held by an EpSimulator.
+ *
+ * Objects are stored as JSON in the form exchanged with the REST API, in collections named
+ * after the API paths (schemas, schemaVersions, enums, ...). The store assigns IDs and
+ * timestamps and enforces the uniqueness rules the importer depends on:
+ * object names are unique per application domain (enum names per account) and
+ * versions are unique per parent object.
+ * Versions are returned with the reverse references Event Portal derives on read:
+ * referencedByEventVersionIds of schema and enum versions, and the application and event API
+ * versions producing or consuming an event version.
+ *
+ * All methods are thread-safe.
+ */
+public class EpSimulatorStore {
+
+    /**
+     * Type of object stored, named as in REST API paths. Version types know their parent type
+     * and the field linking a version to its parent object.
+     */
+    public enum ObjectType {
+        APPLICATION_DOMAINS ("applicationDomains", null, null),
+        SCHEMAS             ("schemas", null, null),
+        SCHEMA_VERSIONS     ("schemaVersions", SCHEMAS, "schemaId"),
+        ENUMS               ("enums", null, null),
+        ENUM_VERSIONS       ("enumVersions", ENUMS, "enumId"),
+        EVENTS              ("events", null, null),
+        EVENT_VERSIONS      ("eventVersions", EVENTS, "eventId"),
+        APPLICATIONS        ("applications", null, null),
+        APPLICATION_VERSIONS("applicationVersions", APPLICATIONS, "applicationId"),
+        EVENT_APIS          ("eventApis", null, null),
+        EVENT_API_VERSIONS  ("eventApiVersions", EVENT_APIS, "eventApiId");
+
+        private final String path;
+
+        private final ObjectType parent;
+
+        private final String parentIdField;
+
+        ObjectType(final String path, final ObjectType parent, final String parentIdField)
+        {
+            this.path = path;
+            this.parent = parent;
+            this.parentIdField = parentIdField;
+        }
+
+        /**
+         * @return Name of the collection in REST API paths
+         */
+        public String getPath()
+        {
+            return path;
+        }
+
+        /**
+         * @return Type of the parent objects, or null if this is not a version type
+         */
+        public ObjectType getParent()
+        {
+            return parent;
+        }
+
+        /**
+         * @return Field of a version holding the ID of its parent object
+         */
+        public String getParentIdField()
+        {
+            return parentIdField;
+        }
+
+        public boolean isVersionCollection()
+        {
+            return parent != null;
+        }
+
+        /**
+         * @return Object type for the REST API path segment, or null if not simulated
+         */
+        public static ObjectType fromPath(final String path)
+        {
+            for (ObjectType collection : values()) {
+                if (collection.path.equals(path)) {
+                    return collection;
+                }
+            }
+            return null;
+        }
+    }
+
+    /**
+     * Request rejected because it conflicts with stored data or references missing data
+     */
+    public static class EpSimulatorException extends RuntimeException {
+
+        private final int statusCode;
+
+        public EpSimulatorException(final int statusCode, final String message)
+        {
+            super(message);
+            this.statusCode = statusCode;
+        }
+
+        public int getStatusCode()
+        {
+            return statusCode;
+        }
+    }
+
+    private final Map<ObjectType, Map<String, JsonObject>> collections = new LinkedHashMap<>();
+
+    private final AtomicLong idSequence = new AtomicLong();
+
+    private long lastTimestampMillis = 0L;
+
+    public EpSimulatorStore()
+    {
+        for (ObjectType collection : ObjectType.values()) {
+            collections.put(collection, new LinkedHashMap<>());
+        }
+    }
+
+    /**
+     * Create an application domain to import into
+     * @param name
+     * @return ID of the new application domain
+     */
+    public String createApplicationDomain(final String name)
+    {
+        final JsonObject domain = new JsonObject();
+        domain.addProperty("name", name);
+        return create(ObjectType.APPLICATION_DOMAINS, domain).get("id").getAsString();
+    }
+
+    /**
+     * Store a new object; the ID, type, and timestamps are assigned by the store
+     * @param collection
+     * @param body - object in REST API form; not modified
+     * @return Stored object
+     * @throws EpSimulatorException if the object violates a uniqueness rule or its parent does not exist
+     */
+    public synchronized JsonObject create(final ObjectType collection, final JsonObject body)
+    {
+        final JsonObject object = body.deepCopy();
+        validateCreate(collection, object);
+
+        final String timestamp = nextTimestamp();
+        final String id = nextId();
+        object.addProperty("id", id);
+        object.addProperty("type", typeOf(collection));
+        object.addProperty("createdTime", timestamp);
+        object.addProperty("updatedTime", timestamp);
+        object.addProperty("createdBy", "ep-simulator");
+        object.addProperty("changedBy", "ep-simulator");
+        if (collection.isVersionCollection() && !object.has("stateId")) {
+            object.addProperty("stateId", "1");
+        }
+        collections.get(collection).put(id, object);
+        touchParent(collection, object, timestamp);
+        return object.deepCopy();
+    }
+
+    /**
+     * Change the state of a version, e.g. release a Draft version ("1") by setting "2".
+     * As in Event Portal, the updatedTime of the parent object does not change.
+     * @param versionType - a version collection
+     * @param id
+     * @param stateId
+     * @return Updated version
+     * @throws EpSimulatorException if the version does not exist
+     */
+    public synchronized JsonObject changeVersionState(final ObjectType versionType, final String id, final String stateId)
+    {
+        final JsonObject version = versionType.isVersionCollection() ? collections.get(versionType).get(id) : null;
+        if (version == null) {
+            throw new EpSimulatorException(404, "No " + versionType.getPath() + " version with id " + id);
+        }
+        version.addProperty("stateId", stateId);
+        version.addProperty("updatedTime", nextTimestamp());
+        version.addProperty("changedBy", "ep-simulator");
+        return withReferences(versionType, version.deepCopy());
+    }
+
+    /**
+     * Overwrite the updatedTime of a stored object, e.g. to model a version created in Event Portal
+     * without a change to the updatedTime of its parent
+     * @param collection
+     * @param id
+     * @param updatedTime
+     * @throws EpSimulatorException if the object does not exist
+     */
+    public synchronized void setUpdatedTime(final ObjectType collection, final String id, final String updatedTime)
+    {
+        final JsonObject object = collections.get(collection).get(id);
+        if (object == null) {
+            throw new EpSimulatorException(404, "No " + collection.getPath() + " object with id " + id);
+        }
+        object.addProperty("updatedTime", updatedTime);
+    }
+
+    /**
+     * Apply fields of the request body to a stored object
+     * @param collection
+     * @param id
+     * @param body - fields to replace; id, type, and timestamps are ignored
+     * @return Updated object
+     * @throws EpSimulatorException if the object does not exist
+     */
+    public synchronized JsonObject update(final ObjectType collection, final String id, final JsonObject body)
+    {
+        final JsonObject object = collections.get(collection).get(id);
+        if (object == null) {
+            throw new EpSimulatorException(404, "No " + collection.getPath() + " object with id " + id);
+        }
+        for (Map.Entry<String, JsonElement> field : body.entrySet()) {
+            switch (field.getKey()) {
+                case "id":
+                case "type":
+                case "createdTime":
+                case "updatedTime":
+                case "createdBy":
+                    break;
+                default:
+                    object.add(field.getKey(), field.getValue().deepCopy());
+            }
+        }
+        final String timestamp = nextTimestamp();
+        object.addProperty("updatedTime", timestamp);
+        object.addProperty("changedBy", "ep-simulator");
+        touchParent(collection, object, timestamp);
+        return object.deepCopy();
+    }
+
+    /**
+     * Remove an object, and its versions if it has any
+     * @return True if the object existed
+     */
+    public synchronized boolean delete(final ObjectType collection, final String id)
+    {
+        final JsonObject removed = collections.get(collection).remove(id);
+        if (removed == null) {
+            return false;
+        }
+        for (ObjectType versions : ObjectType.values()) {
+            if (versions.getParent() == collection) {
+                collections.get(versions).values().removeIf( v -> id.equals(stringField(v, versions.getParentIdField())) );
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Copy of the object, or null if it does not exist
+     */
+    public synchronized JsonObject get(final ObjectType collection, final String id)
+    {
+        final JsonObject object = collections.get(collection).get(id);
+        return object == null ? null : withReferences(collection, object.deepCopy());
+    }
+
+    /**
+     * Find objects where every filtered field has one of the allowed values.
+     * Objects are returned oldest first; versions newest first, as Event Portal does.
+     * @param collection
+     * @param filters - field name to allowed values; a field missing from an object never matches
+     * @return Copies of matching objects
+     */
+    public synchronized List<JsonObject> query(final ObjectType collection, final Map<String, Set<String>> filters)
+    {
+        final List<JsonObject> results = new ArrayList<>();
+        for (JsonObject object : collections.get(collection).values()) {
+            if (matches(object, filters)) {
+                results.add(withReferences(collection, object.deepCopy()));
+            }
+        }
+        if (collection.isVersionCollection()) {
+            Collections.reverse(results);
+        }
+        return results;
+    }
+
+    /**
+     * @return Number of objects in the collection
+     */
+    public synchronized int count(final ObjectType collection)
+    {
+        return collections.get(collection).size();
+    }
+
+    /**
+     * Remove all data
+     */
+    public synchronized void clear()
+    {
+        collections.values().forEach(Map::clear);
+    }
+
+    private void validateCreate(final ObjectType collection, final JsonObject object)
+    {
+        if (collection.isVersionCollection()) {
+            final String parentId = stringField(object, collection.getParentIdField());
+            if (parentId == null || !collections.get(collection.getParent()).containsKey(parentId)) {
+                throw new EpSimulatorException(400, collection.getParentIdField() + " [" + parentId + "] does not exist");
+            }
+            final String version = stringField(object, "version");
+            if (version == null || version.isBlank()) {
+                throw new EpSimulatorException(400, "version is required");
+            }
+            for (JsonObject existing : collections.get(collection).values()) {
+                if (parentId.equals(stringField(existing, collection.getParentIdField())) && version.equals(stringField(existing, "version"))) {
+                    throw new EpSimulatorException(409, "Version " + version + " already exists for " + collection.getParentIdField() + " " + parentId);
+                }
+            }
+            return;
+        }
+        final String name = stringField(object, "name");
+        if (name == null || name.isBlank()) {
+            throw new EpSimulatorException(400, "name is required");
+        }
+        if (collection == ObjectType.APPLICATION_DOMAINS) {
+            checkUniqueName(collection, name, null);
+            return;
+        }
+        final String applicationDomainId = stringField(object, "applicationDomainId");
+        if (applicationDomainId == null || !collections.get(ObjectType.APPLICATION_DOMAINS).containsKey(applicationDomainId)) {
+            throw new EpSimulatorException(400, "applicationDomainId [" + applicationDomainId + "] does not exist");
+        }
+        // Enum names are unique across the account; other names are unique per application domain
+        checkUniqueName(collection, name, collection == ObjectType.ENUMS ? null : applicationDomainId);
+    }
+
+    private void checkUniqueName(final ObjectType collection, final String name, final String applicationDomainId)
+    {
+        for (JsonObject existing : collections.get(collection).values()) {
+            if (name.equals(stringField(existing, "name")) &&
+                (applicationDomainId == null || applicationDomainId.equals(stringField(existing, "applicationDomainId")))) {
+                throw new EpSimulatorException(409, collection.getPath() + " name [" + name + "] already exists");
+            }
+        }
+    }
+
+    private void touchParent(final ObjectType collection, final JsonObject version, final String timestamp)
+    {
+        if (collection.isVersionCollection()) {
+            final JsonObject parent = collections.get(collection.getParent()).get(stringField(version, collection.getParentIdField()));
+            if (parent != null) {
+                parent.addProperty("updatedTime", timestamp);
+            }
+        }
+    }
+
+    /**
+     * Add the reverse references of a version, computed from the versions referencing it
+     */
+    private JsonObject withReferences(final ObjectType collection, final JsonObject copy)
+    {
+        final String id = stringField(copy, "id");
+        switch (collection) {
+            case SCHEMA_VERSIONS:
+                copy.add("referencedByEventVersionIds", idsReferencing(ObjectType.EVENT_VERSIONS,
+                    v -> id.equals(stringField(v, "schemaVersionId"))));
+                break;
+            case ENUM_VERSIONS:
+                copy.add("referencedByEventVersionIds", idsReferencing(ObjectType.EVENT_VERSIONS,
+                    v -> enumVersionIdsOf(v).contains(id)));
+                break;
+            case EVENT_VERSIONS:
+                copy.add("declaredProducingApplicationVersionIds", idsReferencing(ObjectType.APPLICATION_VERSIONS,
+                    v -> containsString(v, "declaredProducedEventVersionIds", id)));
+                copy.add("declaredConsumingApplicationVersionIds", idsReferencing(ObjectType.APPLICATION_VERSIONS,
+                    v -> containsString(v, "declaredConsumedEventVersionIds", id)));
+                copy.add("producingEventApiVersionIds", idsReferencing(ObjectType.EVENT_API_VERSIONS,
+                    v -> containsString(v, "producedEventVersionIds", id)));
+                copy.add("consumingEventApiVersionIds", idsReferencing(ObjectType.EVENT_API_VERSIONS,
+                    v -> containsString(v, "consumedEventVersionIds", id)));
+                break;
+            default:
+                break;
+        }
+        return copy;
+    }
+
+    private JsonArray idsReferencing(final ObjectType collection, final Predicate<JsonObject> references)
+    {
+        final JsonArray ids = new JsonArray();
+        for (JsonObject object : collections.get(collection).values()) {
+            if (references.test(object)) {
+                ids.add(stringField(object, "id"));
+            }
+        }
+        return ids;
+    }
+
+    private static Set<String> enumVersionIdsOf(final JsonObject eventVersion)
+    {
+        final Set<String> enumVersionIds = new HashSet<>();
+        final JsonElement descriptor = eventVersion.get("deliveryDescriptor");
+        if (descriptor == null || !descriptor.isJsonObject()) {
+            return enumVersionIds;
+        }
+        final JsonElement address = descriptor.getAsJsonObject().get("address");
+        if (address == null || !address.isJsonObject()) {
+            return enumVersionIds;
+        }
+        final JsonElement levels = address.getAsJsonObject().get("addressLevels");
+        if (levels == null || !levels.isJsonArray()) {
+            return enumVersionIds;
+        }
+        for (JsonElement level : levels.getAsJsonArray()) {
+            if (level.isJsonObject()) {
+                final String enumVersionId = stringField(level.getAsJsonObject(), "enumVersionId");
+                if (enumVersionId != null) {
+                    enumVersionIds.add(enumVersionId);
+                }
+            }
+        }
+        return enumVersionIds;
+    }
+
+    private static boolean containsString(final JsonObject object, final String field, final String value)
+    {
+        final JsonElement element = object.get(field);
+        if (element == null || !element.isJsonArray()) {
+            return false;
+        }
+        for (JsonElement item : element.getAsJsonArray()) {
+            if (item.isJsonPrimitive() && value.equals(item.getAsString())) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean matches(final JsonObject object, final Map<String, Set<String>> filters)
+    {
+        for (Map.Entry<String, Set<String>> filter : filters.entrySet()) {
+            final String value = stringField(object, filter.getKey());
+            if (value == null || !filter.getValue().contains(value)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    static String stringField(final JsonObject object, final String field)
+    {
+        final JsonElement element = object.get(field);
+        return element == null || element.isJsonNull() || !element.isJsonPrimitive() ? null : element.getAsString();
+    }
+
+    private static String typeOf(final ObjectType collection)
+    {
+        switch (collection) {
+            case APPLICATION_DOMAINS:   return "application_domain";
+            case SCHEMAS:               return "schema";
+            case SCHEMA_VERSIONS:       return "schemaVersion";
+            case ENUMS:                 return "enum";
+            case ENUM_VERSIONS:         return "enumVersion";
+            case EVENTS:                return "event";
+            case EVENT_VERSIONS:        return "eventVersion";
+            case APPLICATIONS:          return "application";
+            case APPLICATION_VERSIONS:  return "applicationVersion";
+            case EVENT_APIS:            return "eventApi";
+            default:                    return "eventApiVersion";
+        }
+    }
+
+    private String nextId()
+    {
+        return String.format("sim%09d", idSequence.incrementAndGet());
+    }
+
+    /**
+     * Strictly increasing timestamps, so that every change is visible as a new updatedTime
+     */
+    private String nextTimestamp()
+    {
+        lastTimestampMillis = Math.max(lastTimestampMillis + 1, System.currentTimeMillis());
+        return Instant.ofEpochMilli(lastTimestampMillis).toString();
+    }
+}
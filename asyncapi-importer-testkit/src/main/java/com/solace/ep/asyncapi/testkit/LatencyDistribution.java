@@ -0,0 +1,76 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.testkit;
+
+import java.util.Random;
+
+/**
+ * Distribution of simulated response latencies in milliseconds
+ */
+@FunctionalInterface
+public interface LatencyDistribution {
+
+    /**
+     * @param random - source of randomness; seeded by the simulator for reproducible runs
+     * @return Latency in milliseconds; never negative
+     */
+    long sampleMillis(Random random);
+
+    /**
+     * No added latency
+     */
+    static LatencyDistribution none()
+    {
+        return random -> 0L;
+    }
+
+    /**
+     * Every response takes the same time
+     * @param millis
+     */
+    static LatencyDistribution fixed(final long millis)
+    {
+        final long latency = Math.max(0, millis);
+        return random -> latency;
+    }
+
+    /**
+     * Latency uniformly distributed between minMillis and maxMillis, inclusive
+     * @param minMillis
+     * @param maxMillis
+     */
+    static LatencyDistribution uniform(final long minMillis, final long maxMillis)
+    {
+        final long min = Math.max(0, Math.min(minMillis, maxMillis));
+        final long max = Math.max(min, maxMillis);
+        return random -> min + (long) (random.nextDouble() * (max - min + 1));
+    }
+
+    /**
+     * Log-normal latency, the usual shape of REST API response times: most responses close
+     * to the median with a long tail of slow responses.
+     * @param medianMillis - median latency
+     * @param sigma - standard deviation of the underlying normal distribution; 0.5 gives a p99 of about 3.2 x median
+     * @param maxMillis - cap applied to the tail
+     */
+    static LatencyDistribution logNormal(final double medianMillis, final double sigma, final long maxMillis)
+    {
+        final double mu = Math.log(Math.max(medianMillis, 0.001));
+        return random -> Math.min(maxMillis, Math.max(0L, Math.round(Math.exp(mu + sigma * random.nextGaussian()))));
+    }
+}
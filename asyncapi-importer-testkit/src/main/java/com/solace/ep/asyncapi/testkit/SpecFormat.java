@@ -0,0 +1,52 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *    http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package com.solace.ep.asyncapi.testkit;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+import com.google.gson.JsonObject;
+
+/**
+ * Text form of an AsyncApi spec
+ */
+public enum SpecFormat {
+    JSON,
+    YAML;
+
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().disableHtmlEscaping().create();
+
+    /**
+     * Write a spec in this format
+     * @param spec
+     * @return Spec as indented JSON or YAML text
+     * @throws JsonProcessingException
+     */
+    public String write(final JsonObject spec) throws JsonProcessingException
+    {
+        final String json = GSON.toJson(spec);
+        if (this == JSON) {
+            return json;
+        }
+        final ObjectMapper jsonReader = new ObjectMapper();
+        final ObjectMapper yamlWriter = new ObjectMapper(new YAMLFactory());
+        return yamlWriter.writeValueAsString(jsonReader.readTree(json));
+    }
+}